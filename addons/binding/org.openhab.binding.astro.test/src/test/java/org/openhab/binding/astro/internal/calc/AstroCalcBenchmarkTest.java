@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.astro.internal.calc;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import org.junit.Test;
+import org.openhab.binding.astro.internal.model.Moon;
+import org.openhab.binding.astro.internal.model.Position;
+import org.openhab.binding.astro.internal.model.Sun;
+import org.openhab.binding.astro.internal.util.DateTimeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the daily and the positional calculations of {@link SunCalc} and {@link MoonCalc} over a multi-year sweep
+ * and logs the time per calculation. The positional calculations are measured with the {@link Calendar} based and
+ * with the primitive julian date API. Each sweep runs once to warm up before it is measured.
+ *
+ * @author agent - Initial contribution
+ * @since 2.1.0
+ */
+public class AstroCalcBenchmarkTest {
+    private static final double LATITUDE = 48.2082;
+    private static final double LONGITUDE = 16.3738;
+    private static final int ALTITUDE = 170;
+    private static final TimeZone TIME_ZONE = TimeZone.getTimeZone("Europe/Vienna");
+    private static final int START_YEAR = 2016;
+    private static final int DAILY_YEARS = 4;
+    private static final int POSITIONAL_YEARS = 1;
+    private static final int POSITIONAL_STEP_MINUTES = 5;
+
+    private final Logger logger = LoggerFactory.getLogger(AstroCalcBenchmarkTest.class);
+
+    private final SunCalc sunCalc = new SunCalc();
+    private final MoonCalc moonCalc = new MoonCalc();
+
+    // keeps the results alive, so the calculations can't be optimized away
+    private double sink;
+
+    @Test
+    public void benchmarkDailyCalculations() {
+        sweepDaily();
+        long start = System.nanoTime();
+        int days = sweepDaily();
+        log("daily sun and moon", days, System.nanoTime() - start);
+    }
+
+    @Test
+    public void benchmarkPositionalCalculations() {
+        sweepPositionalCalendar();
+        long start = System.nanoTime();
+        int steps = sweepPositionalCalendar();
+        log("positional (Calendar API)", steps, System.nanoTime() - start);
+
+        sweepPositionalPrimitive();
+        start = System.nanoTime();
+        steps = sweepPositionalPrimitive();
+        log("positional (julian date API)", steps, System.nanoTime() - start);
+    }
+
+    private int sweepDaily() {
+        int days = 0;
+        Calendar end = start(DAILY_YEARS);
+        for (Calendar calendar = start(0); calendar.before(end); calendar.add(Calendar.DAY_OF_MONTH, 1)) {
+            Sun sun = sunCalc.getSunInfo(calendar, LATITUDE, LONGITUDE, ALTITUDE);
+            Moon moon = moonCalc.getMoonInfo(calendar, LATITUDE, LONGITUDE);
+            sink += sun.getNoon().getStart().getTimeInMillis() + moon.getPhase().getIllumination();
+            days++;
+        }
+        return days;
+    }
+
+    private int sweepPositionalCalendar() {
+        int steps = 0;
+        Sun sun = new Sun();
+        Moon moon = new Moon();
+        Calendar end = start(POSITIONAL_YEARS);
+        for (Calendar calendar = start(0); calendar.before(end); calendar.add(Calendar.MINUTE,
+                POSITIONAL_STEP_MINUTES)) {
+            sunCalc.setPositionalInfo(calendar, LATITUDE, LONGITUDE, ALTITUDE, sun);
+            moonCalc.setPositionalInfo(calendar, LATITUDE, LONGITUDE, moon);
+            sink += sun.getRadiation().getTotal() + moon.getPosition().getElevation();
+            steps++;
+        }
+        return steps;
+    }
+
+    private int sweepPositionalPrimitive() {
+        int steps = 0;
+        Position sunPosition = new Position();
+        Position moonPosition = new Position();
+        long millis = start(0).getTimeInMillis();
+        long end = start(POSITIONAL_YEARS).getTimeInMillis();
+        for (; millis < end; millis += POSITIONAL_STEP_MINUTES * 60000L) {
+            double julianDate = DateTimeUtils.millisToJulianDate(millis);
+            sunCalc.setPosition(julianDate, LATITUDE, LONGITUDE, sunPosition);
+            moonCalc.setPosition(julianDate, LATITUDE, LONGITUDE, moonPosition);
+            sink += sunPosition.getElevation() + moonPosition.getElevation() + moonCalc.getIllumination(julianDate)
+                    + moonCalc.getDistance(julianDate);
+            steps++;
+        }
+        return steps;
+    }
+
+    private void log(String calculation, int count, long nanos) {
+        assertTrue(count > 0);
+        logger.info("{}: {} calculations in {} ms, {} us per calculation ({})", calculation, count, nanos / 1000000,
+                nanos / 1000 / count, sink);
+    }
+
+    private static Calendar start(int years) {
+        Calendar calendar = Calendar.getInstance(TIME_ZONE);
+        calendar.clear();
+        calendar.set(START_YEAR + years, Calendar.JANUARY, 1);
+        return calendar;
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.astro.internal.calc;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import org.junit.Test;
+import org.openhab.binding.astro.internal.model.Moon;
+import org.openhab.binding.astro.internal.model.Position;
+import org.openhab.binding.astro.internal.model.Radiation;
+import org.openhab.binding.astro.internal.model.Sun;
+import org.openhab.binding.astro.internal.util.DateTimeUtils;
+
+/**
+ * Compares the primitive julian date API of {@link SunCalc} and {@link MoonCalc} with the {@link Calendar} based API
+ * over a multi-year sweep at locations in both hemispheres and north of the polar circle.
+ *
+ * @author agent - Initial contribution
+ * @since 2.1.0
+ */
+public class AstroCalcSweepTest {
+    private static final double DELTA = 1e-9;
+    private static final int START_YEAR = 2016;
+    private static final int YEARS = 4;
+    // not a divisor of 24, so all hours of the day are visited
+    private static final int STEP_HOURS = 7;
+
+    // latitude, longitude, altitude
+    private static final double[][] LOCATIONS = { { 48.2082, 16.3738, 170 }, { -33.8688, 151.2093, 58 },
+            { 69.6492, 18.9553, 10 } };
+    private static final String[] TIME_ZONES = { "Europe/Vienna", "Australia/Sydney", "Europe/Oslo" };
+
+    private final SunCalc sunCalc = new SunCalc();
+    private final MoonCalc moonCalc = new MoonCalc();
+
+    @Test
+    public void testSunPositionAndRadiation() {
+        Position position = new Position();
+        Radiation radiation = new Radiation();
+        for (int l = 0; l < LOCATIONS.length; l++) {
+            double latitude = LOCATIONS[l][0];
+            double longitude = LOCATIONS[l][1];
+            int altitude = (int) LOCATIONS[l][2];
+            for (Calendar calendar = start(l); calendar.before(end(l)); calendar.add(Calendar.HOUR_OF_DAY,
+                    STEP_HOURS)) {
+                Sun sun = new Sun();
+                sunCalc.setPositionalInfo(calendar, latitude, longitude, altitude, sun);
+
+                double julianDate = DateTimeUtils.millisToJulianDate(calendar.getTimeInMillis());
+                sunCalc.setPosition(julianDate, latitude, longitude, position);
+                sunCalc.setRadiation(calendar.get(Calendar.DAY_OF_YEAR),
+                        calendar.getActualMaximum(Calendar.DAY_OF_YEAR), position.getElevation(), altitude,
+                        radiation);
+
+                String at = at(calendar, l);
+                assertEquals(at, sun.getPosition().getAzimuth(), position.getAzimuth(), DELTA);
+                assertEquals(at, sun.getPosition().getElevation(), position.getElevation(), DELTA);
+                assertEquals(at, sun.getPosition().getElevation(),
+                        sunCalc.getElevation(julianDate, latitude, longitude), DELTA);
+                assertEquals(at, sun.getRadiation().getDirect(), radiation.getDirect(), DELTA);
+                assertEquals(at, sun.getRadiation().getDiffuse(), radiation.getDiffuse(), DELTA);
+                assertEquals(at, sun.getRadiation().getTotal(), radiation.getTotal(), DELTA);
+            }
+        }
+    }
+
+    @Test
+    public void testMoonPositionIlluminationAndDistance() {
+        Position position = new Position();
+        double[] decRa = new double[2];
+        for (int l = 0; l < LOCATIONS.length; l++) {
+            double latitude = LOCATIONS[l][0];
+            double longitude = LOCATIONS[l][1];
+            for (Calendar calendar = start(l); calendar.before(end(l)); calendar.add(Calendar.HOUR_OF_DAY,
+                    STEP_HOURS)) {
+                Moon moon = new Moon();
+                moonCalc.setPositionalInfo(calendar, latitude, longitude, moon);
+
+                double julianDate = DateTimeUtils.millisToJulianDate(calendar.getTimeInMillis());
+                moonCalc.setPosition(julianDate, latitude, longitude, position);
+
+                String at = at(calendar, l);
+                assertEquals(at, moon.getPosition().getAzimuth(), position.getAzimuth(), DELTA);
+                assertEquals(at, moon.getPosition().getElevation(), position.getElevation(), DELTA);
+                assertEquals(at, moon.getPhase().getIllumination(), moonCalc.getIllumination(julianDate), DELTA);
+                assertEquals(at, moon.getDistance().getKilometer(), moonCalc.getDistance(julianDate), DELTA);
+
+                // the allocation free variant of the declination and right ascension
+                double t = (julianDate - 2451545.0) / 36525.0;
+                double[] expected = moonCalc.calcMoon(t);
+                moonCalc.calcMoon(t, decRa);
+                assertEquals(at, expected[0], decRa[0], DELTA);
+                assertEquals(at, expected[1], decRa[1], DELTA);
+            }
+        }
+    }
+
+    private static Calendar start(int location) {
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone(TIME_ZONES[location]));
+        calendar.clear();
+        calendar.set(START_YEAR, Calendar.JANUARY, 1);
+        return calendar;
+    }
+
+    private static Calendar end(int location) {
+        Calendar calendar = start(location);
+        calendar.add(Calendar.YEAR, YEARS);
+        return calendar;
+    }
+
+    private static String at(Calendar calendar, int location) {
+        return String.format("%tF %<tR %s", calendar, TIME_ZONES[location]);
+    }
+}
@@ -8,12 +8,8 @@
  */
 package org.openhab.binding.astro.handler;
 
-import static org.quartz.JobBuilder.newJob;
-import static org.quartz.SimpleScheduleBuilder.simpleSchedule;
-import static org.quartz.TriggerBuilder.newTrigger;
-import static org.quartz.impl.matchers.GroupMatcher.jobGroupEquals;
-
-import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -30,19 +26,12 @@ import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
 import org.openhab.binding.astro.internal.config.AstroChannelConfig;
 import org.openhab.binding.astro.internal.config.AstroThingConfig;
-import org.openhab.binding.astro.internal.job.AbstractBaseJob;
 import org.openhab.binding.astro.internal.job.AbstractDailyJob;
+import org.openhab.binding.astro.internal.job.EventTimeline;
 import org.openhab.binding.astro.internal.job.PositionalJob;
 import org.openhab.binding.astro.internal.model.Planet;
+import org.openhab.binding.astro.internal.util.PropertyAccessor;
 import org.openhab.binding.astro.internal.util.PropertyUtils;
-import org.quartz.CronScheduleBuilder;
-import org.quartz.JobDataMap;
-import org.quartz.JobDetail;
-import org.quartz.JobKey;
-import org.quartz.Scheduler;
-import org.quartz.SchedulerException;
-import org.quartz.Trigger;
-import org.quartz.impl.StdSchedulerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,14 +42,17 @@ import org.slf4j.LoggerFactory;
  */
 public abstract class AstroThingHandler extends BaseThingHandler {
     private final Logger logger = LoggerFactory.getLogger(AstroThingHandler.class);
-    private Scheduler quartzScheduler;
+    private final EventTimeline timeline;
     private ScheduledFuture<?> schedulerFuture;
     private int linkedPositionalChannels = 0;
     protected AstroThingConfig thingConfig;
-    private Object schedulerLock = new Object();
+    private final Map<String, PropertyAccessor> channelAccessors = new ConcurrentHashMap<String, PropertyAccessor>();
+    private final Map<String, AstroChannelConfig> channelConfigs = new ConcurrentHashMap<String, AstroChannelConfig>();
+    private final Map<String, State> publishedStates = new ConcurrentHashMap<String, State>();
 
-    public AstroThingHandler(Thing thing) {
+    public AstroThingHandler(Thing thing, EventTimeline timeline) {
         super(thing);
+        this.timeline = timeline;
     }
 
     /**
@@ -95,6 +87,7 @@ public abstract class AstroThingHandler extends BaseThingHandler {
 
         if (validConfig) {
             logger.debug("{}", thingConfig);
+            initializeChannelAccessors();
             updateStatus(ThingStatus.ONLINE);
             restartJobs();
         } else {
@@ -114,7 +107,9 @@ public abstract class AstroThingHandler extends BaseThingHandler {
             schedulerFuture = null;
         }
         stopJobs();
-        quartzScheduler = null;
+        channelAccessors.clear();
+        channelConfigs.clear();
+        publishedStates.clear();
         logger.debug("Thing {} disposed", getThing().getUID());
     }
 
@@ -141,13 +136,34 @@ public abstract class AstroThingHandler extends BaseThingHandler {
     }
 
     /**
-     * Iterates all channels of the thing and updates their states.
+     * Resolves the property accessor and the configuration of all state channels once.
+     */
+    private void initializeChannelAccessors() {
+        channelAccessors.clear();
+        channelConfigs.clear();
+        publishedStates.clear();
+        for (Channel channel : getThing().getChannels()) {
+            if (channel.getKind() != ChannelKind.TRIGGER) {
+                String channelId = channel.getUID().getId();
+                try {
+                    channelAccessors.put(channelId, PropertyAccessor.compile(getPlanetClass(), channelId));
+                    channelConfigs.put(channelId, channel.getConfiguration().as(AstroChannelConfig.class));
+                } catch (Exception ex) {
+                    logger.error("Can't resolve channel {} for thing {}: {}", channelId, getThing().getUID(),
+                            ex.getMessage(), ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Iterates all channels of the thing and updates the states which have changed since the last publish.
      */
     public void publishPlanet() {
         logger.debug("Publishing planet {} for thing {}", getPlanet().getClass().getSimpleName(), getThing().getUID());
         for (Channel channel : getThing().getChannels()) {
             if (channel.getKind() != ChannelKind.TRIGGER) {
-                publishChannelIfLinked(channel.getUID());
+                publishChannelIfLinked(channel.getUID(), false);
             }
         }
     }
@@ -156,11 +172,29 @@ public abstract class AstroThingHandler extends BaseThingHandler {
      * Publishes the channel with data if it's linked.
      */
     public void publishChannelIfLinked(ChannelUID channelUID) {
-        if (isLinked(channelUID.getId()) && getPlanet() != null) {
+        publishChannelIfLinked(channelUID, true);
+    }
+
+    /**
+     * Publishes the channel with data if it's linked. If force is false, the state is only published if it has
+     * changed since the last publish.
+     */
+    private void publishChannelIfLinked(ChannelUID channelUID, boolean force) {
+        String channelId = channelUID.getId();
+        Planet planet = getPlanet();
+        if (planet != null && isLinked(channelId)) {
+            PropertyAccessor accessor = channelAccessors.get(channelId);
+            AstroChannelConfig config = channelConfigs.get(channelId);
+            if (accessor == null || config == null) {
+                logger.debug("Channel {} is not resolved, skipping publish", channelUID);
+                return;
+            }
             try {
-                AstroChannelConfig config = getThing().getChannel(channelUID.getId()).getConfiguration()
-                        .as(AstroChannelConfig.class);
-                updateState(channelUID, PropertyUtils.getState(channelUID, config, getPlanet()));
+                State state = PropertyUtils.getState(accessor.getValue(planet), config);
+                State previousState = publishedStates.put(channelId, state);
+                if (force || !state.equals(previousState)) {
+                    updateState(channelUID, state);
+                }
             } catch (Exception ex) {
                 logger.error("Can't update state for channel {} : {}", channelUID, ex.getMessage(), ex);
             }
@@ -168,8 +202,8 @@ public abstract class AstroThingHandler extends BaseThingHandler {
     }
 
     /**
-     * Schedules a positional and a daily job at midnight for astro calculation and starts it immediately too. Removes
-     * already scheduled jobs first.
+     * Registers the daily job at midnight and a positional job for astro calculation and starts the daily job
+     * immediately too. Removes already scheduled jobs first.
      */
     private void restartJobs() {
         logger.debug("Restarting jobs for thing {}", getThing().getUID());
@@ -183,55 +217,25 @@ public abstract class AstroThingHandler extends BaseThingHandler {
             public void run() {
                 stopJobs();
 
-                try {
-                    synchronized (schedulerLock) {
-                        if (quartzScheduler == null) {
-                            quartzScheduler = StdSchedulerFactory.getDefaultScheduler();
-                        }
-
-                        if (getThing().getStatus() == ThingStatus.ONLINE) {
-                            String thingUid = getThing().getUID().toString();
-                            String typeId = getThing().getThingTypeUID().getId();
-                            JobDataMap jobDataMap = new JobDataMap();
-                            jobDataMap.put(AbstractBaseJob.KEY_THING_UID, thingUid);
-                            jobDataMap.put(AbstractBaseJob.KEY_JOB_NAME, "job-daily");
-
-                            // dailyJob
-                            Trigger trigger = newTrigger().withIdentity("trigger-daily-" + typeId, thingUid)
-                                    .withSchedule(CronScheduleBuilder.cronSchedule("0 0 0 * * ?")).build();
-                            JobDetail jobDetail = newJob(getDailyJobClass())
-                                    .withIdentity("job-daily-" + typeId, thingUid).usingJobData(jobDataMap).build();
-                            quartzScheduler.scheduleJob(jobDetail, trigger);
-                            logger.info("Scheduled astro job-daily-{} at midnight for thing {}", typeId, thingUid);
-
-                            // startupJob
-                            trigger = newTrigger().withIdentity("trigger-daily-startup-" + typeId, thingUid).startNow()
-                                    .build();
-                            jobDetail = newJob(getDailyJobClass()).withIdentity("job-daily-startup-" + typeId, thingUid)
-                                    .usingJobData(jobDataMap).build();
-                            quartzScheduler.scheduleJob(jobDetail, trigger);
-
-                            if (isPositionalChannelLinked()) {
-                                // positional intervalJob
-                                jobDataMap = new JobDataMap();
-                                jobDataMap.put(AbstractBaseJob.KEY_THING_UID, thingUid);
-                                jobDataMap.put(AbstractBaseJob.KEY_JOB_NAME, "job-positional");
-
-                                Date start = new Date(System.currentTimeMillis() + (thingConfig.getInterval()) * 1000);
-                                trigger = newTrigger().withIdentity("trigger-positional", thingUid).startAt(start)
-                                        .withSchedule(simpleSchedule().repeatForever()
-                                                .withIntervalInSeconds(thingConfig.getInterval()))
-                                        .build();
-                                jobDetail = newJob(PositionalJob.class).withIdentity("job-positional", thingUid)
-                                        .usingJobData(jobDataMap).build();
-                                quartzScheduler.scheduleJob(jobDetail, trigger);
-                                logger.info("Scheduled astro job-positional with interval of {} seconds for thing {}",
-                                        thingConfig.getInterval(), thingUid);
-                            }
-                        }
+                if (getThing().getStatus() == ThingStatus.ONLINE) {
+                    String thingUid = getThing().getUID().toString();
+
+                    // dailyJob
+                    AbstractDailyJob dailyJob = createDailyJob();
+                    timeline.registerDailyJob(thingUid, dailyJob);
+                    logger.info("Scheduled astro job-daily at midnight for thing {}", thingUid);
+
+                    // startupJob
+                    timeline.schedule(thingUid, "daily-startup", System.currentTimeMillis(), dailyJob);
+
+                    if (isPositionalChannelLinked()) {
+                        // positional intervalJob
+                        long interval = thingConfig.getInterval() * 1000L;
+                        timeline.scheduleRepeating(thingUid, "positional", System.currentTimeMillis() + interval,
+                                interval, new PositionalJob(AstroThingHandler.this));
+                        logger.info("Scheduled astro job-positional with interval of {} seconds for thing {}",
+                                thingConfig.getInterval(), thingUid);
                     }
-                } catch (SchedulerException ex) {
-                    logger.error("{}", ex.getMessage(), ex);
                 }
             }
         }, 2000, TimeUnit.MILLISECONDS);
@@ -242,19 +246,7 @@ public abstract class AstroThingHandler extends BaseThingHandler {
      */
     private void stopJobs() {
         logger.debug("Stopping jobs for thing {}", getThing().getUID());
-        synchronized (schedulerLock) {
-            if (quartzScheduler != null) {
-                try {
-                    String thingUid = getThing().getUID().toString();
-                    for (JobKey jobKey : quartzScheduler.getJobKeys(jobGroupEquals(thingUid))) {
-                        logger.debug("Deleting astro {} for thing '{}'", jobKey.getName(), thingUid);
-                        quartzScheduler.deleteJob(jobKey);
-                    }
-                } catch (SchedulerException ex) {
-                    logger.error("{}", ex.getMessage(), ex);
-                }
-            }
-        }
+        timeline.cancel(getThing().getUID().toString());
     }
 
     /**
@@ -312,10 +304,10 @@ public abstract class AstroThingHandler extends BaseThingHandler {
     }
 
     /**
-     * Returns the scheduler for the astro jobs.
+     * Returns the timeline for the astro jobs.
      */
-    public Scheduler getScheduler() {
-        return quartzScheduler;
+    public EventTimeline getTimeline() {
+        return timeline;
     }
 
     /**
@@ -333,13 +325,18 @@ public abstract class AstroThingHandler extends BaseThingHandler {
      */
     public abstract Planet getPlanet();
 
+    /**
+     * Returns the class of the planet, used to resolve the channel properties.
+     */
+    protected abstract Class<? extends Planet> getPlanetClass();
+
     /**
      * Returns the channelIds for positional calculation.
      */
     protected abstract String[] getPositionalChannelIds();
 
     /**
-     * Returns the class for the daily calculation job.
+     * Creates the daily calculation job.
      */
-    protected abstract Class<? extends AbstractDailyJob> getDailyJobClass();
+    protected abstract AbstractDailyJob createDailyJob();
 }
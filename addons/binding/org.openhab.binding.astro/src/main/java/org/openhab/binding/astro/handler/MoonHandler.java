@@ -15,9 +15,11 @@ import java.util.Set;
 
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
+import org.openhab.binding.astro.internal.calc.EphemerisCache;
 import org.openhab.binding.astro.internal.calc.MoonCalc;
 import org.openhab.binding.astro.internal.job.AbstractDailyJob;
 import org.openhab.binding.astro.internal.job.DailyJobMoon;
+import org.openhab.binding.astro.internal.job.EventTimeline;
 import org.openhab.binding.astro.internal.model.Moon;
 import org.openhab.binding.astro.internal.model.Planet;
 
@@ -34,10 +36,12 @@ public class MoonHandler extends AstroThingHandler {
     private String[] positionalChannelIds = new String[] { "phase#name", "phase#age", "phase#illumination",
             "position#azimuth", "position#elevation", "zodiac#sign" };
     private MoonCalc moonCalc = new MoonCalc();
+    private EphemerisCache ephemerisCache;
     private Moon moon;
 
-    public MoonHandler(Thing thing) {
-        super(thing);
+    public MoonHandler(Thing thing, EphemerisCache ephemerisCache, EventTimeline timeline) {
+        super(thing, timeline);
+        this.ephemerisCache = ephemerisCache;
     }
 
     /**
@@ -45,7 +49,7 @@ public class MoonHandler extends AstroThingHandler {
      */
     @Override
     public void publishDailyInfo() {
-        moon = moonCalc.getMoonInfo(Calendar.getInstance(), thingConfig.getLatitude(), thingConfig.getLongitude());
+        moon = ephemerisCache.getMoon(Calendar.getInstance(), thingConfig.getLatitude(), thingConfig.getLongitude());
         publishPositionalInfo();
     }
 
@@ -66,6 +70,14 @@ public class MoonHandler extends AstroThingHandler {
         return moon;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Class<? extends Planet> getPlanetClass() {
+        return Moon.class;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -87,8 +99,8 @@ public class MoonHandler extends AstroThingHandler {
      * {@inheritDoc}
      */
     @Override
-    protected Class<? extends AbstractDailyJob> getDailyJobClass() {
-        return DailyJobMoon.class;
+    protected AbstractDailyJob createDailyJob() {
+        return new DailyJobMoon(this);
     }
 
 }
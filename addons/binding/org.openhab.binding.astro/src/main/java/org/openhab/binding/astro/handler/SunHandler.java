@@ -15,9 +15,11 @@ import java.util.Set;
 
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
+import org.openhab.binding.astro.internal.calc.EphemerisCache;
 import org.openhab.binding.astro.internal.calc.SunCalc;
 import org.openhab.binding.astro.internal.job.AbstractDailyJob;
 import org.openhab.binding.astro.internal.job.DailyJobSun;
+import org.openhab.binding.astro.internal.job.EventTimeline;
 import org.openhab.binding.astro.internal.model.Planet;
 import org.openhab.binding.astro.internal.model.Sun;
 
@@ -34,10 +36,12 @@ public class SunHandler extends AstroThingHandler {
     private String[] positionalChannelIds = new String[] { "position#azimuth", "position#elevation", "radiation#direct",
             "radiation#diffuse", "radiation#total" };
     private SunCalc sunCalc = new SunCalc();
+    private EphemerisCache ephemerisCache;
     private Sun sun;
 
-    public SunHandler(Thing thing) {
-        super(thing);
+    public SunHandler(Thing thing, EphemerisCache ephemerisCache, EventTimeline timeline) {
+        super(thing, timeline);
+        this.ephemerisCache = ephemerisCache;
     }
 
     /**
@@ -45,8 +49,10 @@ public class SunHandler extends AstroThingHandler {
      */
     @Override
     public void publishDailyInfo() {
-        sun = sunCalc.getSunInfo(Calendar.getInstance(), thingConfig.getLatitude(), thingConfig.getLongitude(),
+        Calendar now = Calendar.getInstance();
+        sun = ephemerisCache.getSun(now, thingConfig.getLatitude(), thingConfig.getLongitude(),
                 thingConfig.getAltitude());
+        sunCalc.setPhaseInfo(now, sun);
         publishPositionalInfo();
     }
 
@@ -68,6 +74,14 @@ public class SunHandler extends AstroThingHandler {
         return sun;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Class<? extends Planet> getPlanetClass() {
+        return Sun.class;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -89,8 +103,8 @@ public class SunHandler extends AstroThingHandler {
      * {@inheritDoc}
      */
     @Override
-    protected Class<? extends AbstractDailyJob> getDailyJobClass() {
-        return DailyJobSun.class;
+    protected AbstractDailyJob createDailyJob() {
+        return new DailyJobSun(this);
     }
 
 }
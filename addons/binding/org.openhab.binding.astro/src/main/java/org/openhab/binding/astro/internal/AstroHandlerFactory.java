@@ -10,17 +10,17 @@ package org.openhab.binding.astro.internal;
 
 import static org.openhab.binding.astro.AstroBindingConstants.*;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Set;
 
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandlerFactory;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
-import org.openhab.binding.astro.handler.AstroThingHandler;
 import org.openhab.binding.astro.handler.MoonHandler;
 import org.openhab.binding.astro.handler.SunHandler;
+import org.openhab.binding.astro.internal.calc.EphemerisCache;
+import org.openhab.binding.astro.internal.job.EventTimeline;
 
 import com.google.common.collect.Sets;
 
@@ -32,7 +32,10 @@ import com.google.common.collect.Sets;
 public class AstroHandlerFactory extends BaseThingHandlerFactory {
     public static final Set<ThingTypeUID> SUPPORTED_THING_TYPES = Sets.union(SunHandler.SUPPORTED_THING_TYPES,
             MoonHandler.SUPPORTED_THING_TYPES);
-    private static final Map<String, AstroThingHandler> astroThingHandlers = new HashMap<String, AstroThingHandler>();
+    private static final String THREADPOOL_NAME = "astro";
+    private final EphemerisCache ephemerisCache = new EphemerisCache(
+            ThreadPoolManager.getScheduledPool(THREADPOOL_NAME));
+    private final EventTimeline eventTimeline = new EventTimeline(ThreadPoolManager.getScheduledPool(THREADPOOL_NAME));
 
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
@@ -43,25 +46,11 @@ public class AstroHandlerFactory extends BaseThingHandlerFactory {
     protected ThingHandler createHandler(Thing thing) {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
-        AstroThingHandler thingHandler = null;
         if (thingTypeUID.equals(THING_TYPE_SUN)) {
-            thingHandler = new SunHandler(thing);
+            return new SunHandler(thing, ephemerisCache, eventTimeline);
         } else if (thingTypeUID.equals(THING_TYPE_MOON)) {
-            thingHandler = new MoonHandler(thing);
+            return new MoonHandler(thing, ephemerisCache, eventTimeline);
         }
-        if (thingHandler != null) {
-            astroThingHandlers.put(thing.getUID().toString(), thingHandler);
-        }
-        return thingHandler;
-    }
-
-    @Override
-    public void unregisterHandler(Thing thing) {
-        super.unregisterHandler(thing);
-        astroThingHandlers.remove(thing.getUID().toString());
-    }
-
-    public static AstroThingHandler getHandler(String thingUid) {
-        return astroThingHandlers.get(thingUid);
+        return null;
     }
 }
@@ -0,0 +1,293 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.astro.internal.calc;
+
+import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openhab.binding.astro.internal.model.Moon;
+import org.openhab.binding.astro.internal.model.MoonPhase;
+import org.openhab.binding.astro.internal.model.Planet;
+import org.openhab.binding.astro.internal.model.Position;
+import org.openhab.binding.astro.internal.model.Radiation;
+import org.openhab.binding.astro.internal.model.Sun;
+import org.openhab.binding.astro.internal.util.DateTimeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the daily sun and moon data of a location, so that things at the same location share one calculation.
+ * Entries are keyed by the rounded coordinates, the local date and the timezone. After each lookup the data of the
+ * following days is calculated in the background, so the daily jobs at midnight read from memory.
+ * <p>
+ * Every lookup returns a copy with its own positional data (position, radiation, phase, distance), which the jobs of
+ * the thing update. The daily data is shared between the copies and must not be changed.
+ *
+ * @author agent - Initial contribution
+ */
+public class EphemerisCache {
+    private final Logger logger = LoggerFactory.getLogger(EphemerisCache.class);
+
+    private static final int MAX_ENTRIES = 64;
+    private static final int PRECOMPUTE_DAYS = 2;
+    // four decimal places, about 11 meters
+    private static final double COORDINATE_PRECISION = 10000;
+
+    private final SunCalc sunCalc = new SunCalc();
+    private final MoonCalc moonCalc = new MoonCalc();
+    private final ExecutorService executor;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private final Map<EphemerisKey, FutureTask<Planet>> entries = new LinkedHashMap<EphemerisKey, FutureTask<Planet>>(
+            16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<EphemerisKey, FutureTask<Planet>> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public EphemerisCache(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the sun data for the day of the calendar at the specified coordinates.
+     */
+    public Sun getSun(Calendar calendar, double latitude, double longitude, Integer altitude) {
+        double lat = round(latitude);
+        double lon = round(longitude);
+        Sun sun = (Sun) get(Sun.class, calendar, lat, lon, altitude);
+        precompute(Sun.class, calendar, lat, lon, altitude);
+        return copy(sun);
+    }
+
+    /**
+     * Returns the moon data for the day of the calendar at the specified coordinates.
+     */
+    public Moon getMoon(Calendar calendar, double latitude, double longitude) {
+        double lat = round(latitude);
+        double lon = round(longitude);
+        Moon moon = (Moon) get(Moon.class, calendar, lat, lon, null);
+        precompute(Moon.class, calendar, lat, lon, null);
+        return copy(moon);
+    }
+
+    /**
+     * Returns the number of lookups served from the cache.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of lookups which had to be calculated.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Removes all cached data.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the cached planet or calculates it in the calling thread. Concurrent lookups of the same entry wait for
+     * the running calculation.
+     */
+    private Planet get(Class<? extends Planet> planetClass, Calendar calendar, double latitude, double longitude,
+            Integer altitude) {
+        EphemerisKey key = new EphemerisKey(planetClass, calendar, latitude, longitude, altitude);
+        FutureTask<Planet> task;
+        boolean hit;
+        synchronized (this) {
+            task = entries.get(key);
+            hit = task != null;
+            if (!hit) {
+                task = new FutureTask<Planet>(
+                        createCalculation(planetClass, DateTimeUtils.truncateToMidnight(calendar), latitude,
+                                longitude, altitude));
+                entries.put(key, task);
+            }
+        }
+        long hitCount = hit ? hits.incrementAndGet() : hits.get();
+        long missCount = hit ? misses.get() : misses.incrementAndGet();
+        logger.debug("Ephemeris cache {} for {}, hit rate {}% ({} hits, {} misses)", hit ? "hit" : "miss", key,
+                hitCount * 100 / (hitCount + missCount), hitCount, missCount);
+
+        // runs the calculation in this thread if it is not already running or done
+        task.run();
+        try {
+            return task.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the calculation of " + key, ex);
+        } catch (ExecutionException ex) {
+            synchronized (this) {
+                entries.remove(key, task);
+            }
+            throw new IllegalStateException("Can't calculate " + key, ex.getCause());
+        }
+    }
+
+    /**
+     * Calculates the data of the following days in the background, if not already cached.
+     */
+    private void precompute(Class<? extends Planet> planetClass, Calendar calendar, double latitude, double longitude,
+            Integer altitude) {
+        for (int day = 1; day <= PRECOMPUTE_DAYS; day++) {
+            Calendar cal = DateTimeUtils.truncateToMidnight(calendar);
+            cal.add(Calendar.DAY_OF_MONTH, day);
+            EphemerisKey key = new EphemerisKey(planetClass, cal, latitude, longitude, altitude);
+            FutureTask<Planet> task;
+            synchronized (this) {
+                if (entries.containsKey(key)) {
+                    continue;
+                }
+                task = new FutureTask<Planet>(createCalculation(planetClass, cal, latitude, longitude, altitude));
+                entries.put(key, task);
+            }
+            logger.debug("Precalculating {}", key);
+            executor.execute(task);
+        }
+    }
+
+    private Callable<Planet> createCalculation(final Class<? extends Planet> planetClass, final Calendar calendar,
+            final double latitude, final double longitude, final Integer altitude) {
+        return new Callable<Planet>() {
+            @Override
+            public Planet call() throws Exception {
+                if (planetClass == Sun.class) {
+                    return sunCalc.getSunInfo(calendar, latitude, longitude, altitude);
+                }
+                return moonCalc.getMoonInfo(calendar, latitude, longitude);
+            }
+        };
+    }
+
+    /**
+     * Copies the sun, the positional data is copied, the daily data is shared.
+     */
+    private static Sun copy(Sun sun) {
+        Sun copy = new Sun();
+        copy.setRise(sun.getRise());
+        copy.setSet(sun.getSet());
+        copy.getAllRanges().putAll(sun.getAllRanges());
+        copy.setZodiac(sun.getZodiac());
+        copy.setSeason(sun.getSeason());
+        copy.setEclipse(sun.getEclipse());
+        copy.setPosition(new Position(sun.getPosition().getAzimuth(), sun.getPosition().getElevation()));
+        Radiation radiation = sun.getRadiation();
+        copy.getRadiation().setDirect(radiation.getDirect());
+        copy.getRadiation().setDiffuse(radiation.getDiffuse());
+        copy.getRadiation().setTotal(radiation.getTotal());
+        copy.getPhase().setName(sun.getPhase().getName());
+        return copy;
+    }
+
+    /**
+     * Copies the moon, the positional data is copied, the daily data is shared.
+     */
+    private static Moon copy(Moon moon) {
+        Moon copy = new Moon();
+        copy.setRise(moon.getRise());
+        copy.setSet(moon.getSet());
+        copy.setApogee(moon.getApogee());
+        copy.setPerigee(moon.getPerigee());
+        copy.setEclipse(moon.getEclipse());
+        // replaced, not changed by the positional calculation
+        copy.setZodiac(moon.getZodiac());
+        copy.setPosition(new Position(moon.getPosition().getAzimuth(), moon.getPosition().getElevation()));
+        MoonPhase phase = moon.getPhase();
+        MoonPhase phaseCopy = copy.getPhase();
+        phaseCopy.setFirstQuarter(phase.getFirstQuarter());
+        phaseCopy.setFull(phase.getFull());
+        phaseCopy.setThirdQuarter(phase.getThirdQuarter());
+        phaseCopy.setNew(phase.getNew());
+        phaseCopy.setAge(phase.getAge());
+        phaseCopy.setIllumination(phase.getIllumination());
+        phaseCopy.setName(phase.getName());
+        copy.getDistance().setDate(moon.getDistance().getDate());
+        copy.getDistance().setKilometer(moon.getDistance().getKilometer());
+        return copy;
+    }
+
+    private static double round(double coordinate) {
+        return Math.round(coordinate * COORDINATE_PRECISION) / COORDINATE_PRECISION;
+    }
+
+    /**
+     * Identifies the daily data of a planet at a location.
+     */
+    private static class EphemerisKey {
+        private final Class<? extends Planet> planetClass;
+        private final double latitude;
+        private final double longitude;
+        private final Integer altitude;
+        private final int year;
+        private final int dayOfYear;
+        private final String timeZone;
+
+        public EphemerisKey(Class<? extends Planet> planetClass, Calendar calendar, double latitude, double longitude,
+                Integer altitude) {
+            this.planetClass = planetClass;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.altitude = altitude;
+            this.year = calendar.get(Calendar.YEAR);
+            this.dayOfYear = calendar.get(Calendar.DAY_OF_YEAR);
+            this.timeZone = calendar.getTimeZone().getID();
+        }
+
+        @Override
+        public int hashCode() {
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + planetClass.hashCode();
+            result = prime * result + Double.hashCode(latitude);
+            result = prime * result + Double.hashCode(longitude);
+            result = prime * result + ((altitude == null) ? 0 : altitude.hashCode());
+            result = prime * result + year;
+            result = prime * result + dayOfYear;
+            result = prime * result + timeZone.hashCode();
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof EphemerisKey)) {
+                return false;
+            }
+            EphemerisKey other = (EphemerisKey) obj;
+            return planetClass == other.planetClass && latitude == other.latitude && longitude == other.longitude
+                    && (altitude == null ? other.altitude == null : altitude.equals(other.altitude))
+                    && year == other.year && dayOfYear == other.dayOfYear && timeZone.equals(other.timeZone);
+        }
+
+        @Override
+        public String toString() {
+            return planetClass.getSimpleName() + " " + year + "/" + dayOfYear + " " + timeZone + " at " + latitude
+                    + "," + longitude + (altitude == null ? "" : "," + altitude);
+        }
+    }
+}
@@ -44,6 +44,26 @@ public class MoonCalc {
     protected static final int ECLIPSE_MODE_TOTAL = 1;
     protected static final int ECLIPSE_MODE_RING = 2;
 
+    private static final ZodiacSign[] ZODIAC_SIGNS = ZodiacSign.values();
+
+    // coefficients for the distance calculation
+    private static final int[] KD = new int[] { 0, 2, 2, 0, 0, 0, 2, 2, 2, 2, 0, 1, 0, 2, 0, 0, 4, 0, 4, 2, 2, 1, 1, 2,
+            2, 4, 2, 0, 2, 2, 1, 2, 0, 0, 2, 2, 2, 4, 0, 3, 2, 4, 0, 2, 2, 2, 4, 0, 4, 1, 2, 0, 1, 3, 4, 2, 0, 1, 2,
+            2 };
+    private static final int[] KM = new int[] { 0, 0, 0, 0, 1, 0, 0, -1, 0, -1, 1, 0, 1, 0, 0, 0, 0, 0, 0, 1, 1, 0, 1,
+            -1, 0, 0, 0, 1, 0, -1, 0, -2, 1, 2, -2, 0, 0, -1, 0, 0, 1, -1, 2, 2, 1, -1, 0, 0, -1, 0, 1, 0, 1, 0, 0, -1,
+            2, 1, 0, 0 };
+    private static final int[] KM1 = new int[] { 1, -1, 0, 2, 0, 0, -2, -1, 1, 0, -1, 0, 1, 0, 1, 1, -1, 3, -2, -1, 0,
+            -1, 0, 1, 2, 0, -3, -2, -1, -2, 1, 0, 2, 0, -1, 1, 0, -1, 2, -1, 1, -2, -1, -1, -2, 0, 1, 4, 0, -2, 0, 2, 1,
+            -2, -3, 2, 1, -1, 3, -1 };
+    private static final int[] KF = new int[] { 0, 0, 0, 0, 0, 2, 0, 0, 0, 0, 0, 0, 0, -2, 2, -2, 0, 0, 0, 0, 0, 0, 0,
+            0, 0, 0, 0, 0, 2, 0, 0, 0, 0, 0, 0, -2, 2, 0, 2, 0, 0, 0, 0, 0, 0, -2, 0, 0, 0, 0, -2, -2, 0, 0, 0, 0, 0, 0,
+            0, -2 };
+    private static final int[] KR = new int[] { -20905355, -3699111, -2955968, -569925, 48888, -3149, 246158, -152138,
+            -170733, -204586, -129620, 108743, 104755, 10321, 0, 79661, -34782, -23210, -21636, 24208, 30824, -8379,
+            -16675, -12831, -10445, -11650, 14403, -7003, 0, 10056, 6322, -9884, 5751, 0, -4950, 4130, 0, -3958, 0,
+            3258, 2616, -1897, -2117, 2354, 0, 0, -1423, -1117, -1571, -1739, 0, -4421, 0, 0, 0, 0, 1165, 0, 0, 8752 };
+
     /**
      * Calculates all moon data at the specified coordinates
      */
@@ -105,7 +125,7 @@ public class MoonCalc {
     public void setPositionalInfo(Calendar calendar, double latitude, double longitude, Moon moon) {
         double julianDate = DateTimeUtils.dateToJulianDate(calendar);
         setMoonPhase(calendar, moon);
-        setAzimuthElevationZodiac(julianDate, latitude, longitude, moon);
+        setPositionAndZodiac(julianDate, latitude, longitude, moon);
 
         MoonDistance distance = moon.getDistance();
         distance.setDate(Calendar.getInstance());
@@ -159,15 +179,17 @@ public class MoonCalc {
         double sphi = SN(phi);
         double cphi = CS(phi);
         double sinho = SN(8.0 / 60.0);
+        double[] decRa = new double[2];
+        double[] quadRet = new double[4];
 
         int hour = 1;
         double utrise = -1;
         double utset = -1;
         do {
-            double yminus = SINALT(moonJd, hour - 1, lambda, cphi, sphi) - sinho;
-            double yo = SINALT(moonJd, hour, lambda, cphi, sphi) - sinho;
-            double yplus = SINALT(moonJd, hour + 1, lambda, cphi, sphi) - sinho;
-            double[] quadRet = QUAD(yminus, yo, yplus);
+            double yminus = SINALT(moonJd, hour - 1, lambda, cphi, sphi, decRa) - sinho;
+            double yo = SINALT(moonJd, hour, lambda, cphi, sphi, decRa) - sinho;
+            double yplus = SINALT(moonJd, hour + 1, lambda, cphi, sphi, decRa) - sinho;
+            QUAD(yminus, yo, yplus, quadRet);
             if (quadRet[3] == 1) {
                 if (yminus < 0) {
                     utrise = hour + quadRet[1];
@@ -351,9 +373,9 @@ public class MoonCalc {
     }
 
     /**
-     * Calculates the illumination.
+     * Calculates the illumination in percent at the julian date.
      */
-    private double getIllumination(double jd) {
+    public double getIllumination(double jd) {
         double t = (jd - 2451545) / 36525;
         double d = 297.8502042 + 445267.11151686 * t - .00163 * t * t + t * t * t / 545868 - t * t * t * t / 113065000;
         double m = 357.5291092 + 35999.0502909 * t - .0001536 * t * t + t * t * t / 24490000;
@@ -470,9 +492,9 @@ public class MoonCalc {
     }
 
     /**
-     * Calculates the distance from the moon to earth.
+     * Calculates the distance from the moon to earth in kilometers at the julian date.
      */
-    private double getDistance(double jd) {
+    public double getDistance(double jd) {
         double t = (jd - 2451545) / 36525;
         double d = 297.8502042 + 445267.11151686 * t - .00163 * t * t + t * t * t / 545868 - t * t * t * t / 113065000;
         double m = 357.5291092 + 35999.0502909 * t - .0001536 * t * t + t * t * t / 24490000;
@@ -483,7 +505,19 @@ public class MoonCalc {
         return sr;
     }
 
+    /**
+     * Calculates the declination and right ascension of the moon at the julian century.
+     */
     public double[] calcMoon(double t) {
+        double[] decRa = new double[2];
+        calcMoon(t, decRa);
+        return decRa;
+    }
+
+    /**
+     * Calculates the declination and right ascension of the moon at the julian century into the given array.
+     */
+    public void calcMoon(double t, double[] decRa) {
         double p2 = 6.283185307;
         double arc = 206264.8062;
         double coseps = .91748;
@@ -515,7 +549,8 @@ public class MoonCalc {
         if (ra < 0) {
             ra += 24;
         }
-        return new double[] { dec, ra };
+        decRa[0] = dec;
+        decRa[1] = ra;
     }
 
     private double CS(double x) {
@@ -526,12 +561,12 @@ public class MoonCalc {
         return Math.sin(x * SunCalc.DEG2RAD);
     }
 
-    private double SINALT(double moonJd, int hour, double lambda, double cphi, double sphi) {
+    private double SINALT(double moonJd, int hour, double lambda, double cphi, double sphi, double[] decRa) {
         double jdo = moonJd + hour / 24.0;
         double t = (jdo - 51544.5) / 36525.0;
-        double decra[] = calcMoon(t);
-        double tau = 15.0 * (LMST(jdo, lambda) - decra[1]);
-        return sphi * SN(decra[0]) + cphi * CS(decra[0]) * CS(tau);
+        calcMoon(t, decRa);
+        double tau = 15.0 * (LMST(jdo, lambda) - decRa[1]);
+        return sphi * SN(decRa[0]) + cphi * CS(decRa[0]) * CS(tau);
     }
 
     private double LMST(double moonJd, double lambda) {
@@ -550,7 +585,7 @@ public class MoonCalc {
         return x;
     }
 
-    private double[] QUAD(double yminus, double yo, double yplus) {
+    private void QUAD(double yminus, double yo, double yplus, double[] result) {
         double nz = 0;
         double a = .5 * (yminus + yplus) - yo;
         double b = .5 * (yplus - yminus);
@@ -574,7 +609,10 @@ public class MoonCalc {
                 zero1 = zero2;
             }
         }
-        return new double[] { ye, zero1, zero2, nz };
+        result[0] = ye;
+        result[1] = zero1;
+        result[2] = zero2;
+        result[3] = nz;
     }
 
     private double var_o(double k, double t) {
@@ -619,22 +657,9 @@ public class MoonCalc {
     }
 
     private double getCoefficient(double d, double m, double m1, double f) {
-        int[] kd = new int[] { 0, 2, 2, 0, 0, 0, 2, 2, 2, 2, 0, 1, 0, 2, 0, 0, 4, 0, 4, 2, 2, 1, 1, 2, 2, 4, 2, 0, 2, 2,
-                1, 2, 0, 0, 2, 2, 2, 4, 0, 3, 2, 4, 0, 2, 2, 2, 4, 0, 4, 1, 2, 0, 1, 3, 4, 2, 0, 1, 2, 2 };
-        int[] km = new int[] { 0, 0, 0, 0, 1, 0, 0, -1, 0, -1, 1, 0, 1, 0, 0, 0, 0, 0, 0, 1, 1, 0, 1, -1, 0, 0, 0, 1, 0,
-                -1, 0, -2, 1, 2, -2, 0, 0, -1, 0, 0, 1, -1, 2, 2, 1, -1, 0, 0, -1, 0, 1, 0, 1, 0, 0, -1, 2, 1, 0, 0 };
-        int[] km1 = new int[] { 1, -1, 0, 2, 0, 0, -2, -1, 1, 0, -1, 0, 1, 0, 1, 1, -1, 3, -2, -1, 0, -1, 0, 1, 2, 0,
-                -3, -2, -1, -2, 1, 0, 2, 0, -1, 1, 0, -1, 2, -1, 1, -2, -1, -1, -2, 0, 1, 4, 0, -2, 0, 2, 1, -2, -3, 2,
-                1, -1, 3, -1 };
-        int[] kf = new int[] { 0, 0, 0, 0, 0, 2, 0, 0, 0, 0, 0, 0, 0, -2, 2, -2, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 2,
-                0, 0, 0, 0, 0, 0, -2, 2, 0, 2, 0, 0, 0, 0, 0, 0, -2, 0, 0, 0, 0, -2, -2, 0, 0, 0, 0, 0, 0, 0, -2 };
-        int[] kr = new int[] { -20905355, -3699111, -2955968, -569925, 48888, -3149, 246158, -152138, -170733, -204586,
-                -129620, 108743, 104755, 10321, 0, 79661, -34782, -23210, -21636, 24208, 30824, -8379, -16675, -12831,
-                -10445, -11650, 14403, -7003, 0, 10056, 6322, -9884, 5751, 0, -4950, 4130, 0, -3958, 0, 3258, 2616,
-                -1897, -2117, 2354, 0, 0, -1423, -1117, -1571, -1739, 0, -4421, 0, 0, 0, 0, 1165, 0, 0, 8752 };
         double sr = 0;
         for (int t = 0; t < 60; t++) {
-            sr += kr[t] * CS(kd[t] * d + km[t] * m + km1[t] * m1 + kf[t] * f);
+            sr += KR[t] * CS(KD[t] * d + KM[t] * m + KM1[t] * m1 + KF[t] * f);
         }
         return sr;
     }
@@ -642,7 +667,37 @@ public class MoonCalc {
     /**
      * Sets the azimuth, elevation and zodiac in the moon object.
      */
-    private void setAzimuthElevationZodiac(double julianDate, double latitude, double longitude, Moon moon) {
+    private void setPositionAndZodiac(double julianDate, double latitude, double longitude, Moon moon) {
+        double moonLon = calcPosition(julianDate, latitude, longitude, moon.getPosition());
+
+        // zodiac
+        double idxd = Math.floor(moonLon * SunCalc.RAD2DEG / 30);
+        int idx = 0;
+        if (idxd < 0) {
+            idx = (int) (Math.ceil(idxd));
+        } else {
+            idx = (int) (Math.floor(idxd));
+        }
+
+        if (idx >= 0 || idx <= ZODIAC_SIGNS.length) {
+            ZodiacSign sign = ZODIAC_SIGNS[idx];
+            if (moon.getZodiac() == null || moon.getZodiac().getSign() != sign) {
+                moon.setZodiac(new Zodiac(sign));
+            }
+        }
+    }
+
+    /**
+     * Calculates the moon position (azimuth and elevation) at the julian date into the given position.
+     */
+    public void setPosition(double julianDate, double latitude, double longitude, Position position) {
+        calcPosition(julianDate, latitude, longitude, position);
+    }
+
+    /**
+     * Calculates the azimuth and elevation into the given position and returns the ecliptic longitude of the moon.
+     */
+    private double calcPosition(double julianDate, double latitude, double longitude, Position position) {
         double lat = latitude * SunCalc.DEG2RAD;
         double lon = longitude * SunCalc.DEG2RAD;
 
@@ -676,29 +731,17 @@ public class MoonCalc {
         double moonLon = mod2Pi(n2 + Math.atan2(Math.sin(l3 - n2) * Math.cos(i), Math.cos(l3 - n2)));
         double moonLat = Math.asin(Math.sin(l3 - n2) * Math.sin(i));
 
-        double raDec[] = ecl2Equ(moonLat, moonLon, julianDate);
+        double[] coordinates = new double[2];
+        ecl2Equ(moonLat, moonLon, julianDate, coordinates);
 
         double distance = (1 - 0.00301401) / (1 + 0.054900 * Math.cos(mMoon2 + ec)) * 384401;
 
-        double raDecTopo[] = geoEqu2TopoEqu(raDec, distance, lat, lmst);
-        double azAlt[] = equ2AzAlt(raDecTopo[0], raDecTopo[1], lat, lmst);
+        geoEqu2TopoEqu(coordinates, distance, lat, lmst);
+        equ2AzAlt(coordinates, lat, lmst);
 
-        Position position = moon.getPosition();
-        position.setAzimuth(azAlt[0] * SunCalc.RAD2DEG);
-        position.setElevation(azAlt[1] * SunCalc.RAD2DEG + refraction(azAlt[1]));
-
-        // zodiac
-        double idxd = Math.floor(moonLon * SunCalc.RAD2DEG / 30);
-        int idx = 0;
-        if (idxd < 0) {
-            idx = (int) (Math.ceil(idxd));
-        } else {
-            idx = (int) (Math.floor(idxd));
-        }
-
-        if (idx >= 0 || idx <= ZodiacSign.values().length) {
-            moon.setZodiac(new Zodiac(ZodiacSign.values()[idx]));
-        }
+        position.setAzimuth(coordinates[0] * SunCalc.RAD2DEG);
+        position.setElevation(coordinates[1] * SunCalc.RAD2DEG + refraction(coordinates[1]));
+        return moonLon;
     }
 
     private double mod2Pi(double x) {
@@ -711,9 +754,11 @@ public class MoonCalc {
 
     /**
      * Transform equatorial coordinates (ra/dec) to horizonal coordinates
-     * (azimuth/altitude).
+     * (azimuth/altitude) in place.
      */
-    private double[] equ2AzAlt(double ra, double dec, double geolat, double lmst) {
+    private void equ2AzAlt(double[] coordinates, double geolat, double lmst) {
+        double ra = coordinates[0];
+        double dec = coordinates[1];
         double cosdec = Math.cos(dec);
         double sindec = Math.sin(dec);
         double lha = lmst - ra;
@@ -727,14 +772,15 @@ public class MoonCalc {
         double az = mod2Pi(Math.atan2(n, d));
         double alt = Math.asin(sindec * sinlat + cosdec * coslha * coslat);
 
-        return new double[] { az, alt };
+        coordinates[0] = az;
+        coordinates[1] = alt;
     }
 
     /**
      * Transform ecliptical coordinates (lon/lat) to equatorial coordinates
-     * (ra/dec)
+     * (ra/dec) into the given array
      */
-    private double[] ecl2Equ(double lat, double lon, double jd) {
+    private void ecl2Equ(double lat, double lon, double jd, double[] raDec) {
         double t = (jd - 2451545.0) / 36525.0;
         double eps = (23. + (26 + 21.45 / 60.) / 60. + t * (-46.815 + t * (-0.0006 + t * 0.00181)) / 3600.)
                 * SunCalc.DEG2RAD;
@@ -745,14 +791,15 @@ public class MoonCalc {
         double ra = mod2Pi(Math.atan2((sinlon * coseps - Math.tan(lat) * sineps), Math.cos(lon)));
         double dec = Math.asin(Math.sin(lat) * coseps + Math.cos(lat) * sineps * sinlon);
 
-        return new double[] { ra, dec };
+        raDec[0] = ra;
+        raDec[1] = dec;
     }
 
     /**
      * Transform geocentric equatorial coordinates (rA/dec) to topocentric
-     * equatorial coordinates.
+     * equatorial coordinates in place.
      */
-    private double[] geoEqu2TopoEqu(double[] raDec, double distance, double observerLat, double lmst) {
+    private void geoEqu2TopoEqu(double[] raDec, double distance, double observerLat, double lmst) {
         double cosdec = Math.cos(raDec[1]);
         double sindec = Math.sin(raDec[1]);
         double coslst = Math.cos(lmst);
@@ -769,7 +816,8 @@ public class MoonCalc {
         double raTopo = mod2Pi(Math.atan2(y, x));
         double decTopo = Math.asin(z / distanceTopocentric);
 
-        return new double[] { raTopo, decTopo };
+        raDec[0] = raTopo;
+        raDec[1] = decTopo;
     }
 
     /**
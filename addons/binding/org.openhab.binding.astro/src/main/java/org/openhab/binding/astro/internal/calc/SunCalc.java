@@ -59,35 +59,60 @@ public class SunCalc {
      * Calculates the sun position (azimuth and elevation).
      */
     public void setPositionalInfo(Calendar calendar, double latitude, double longitude, Integer altitude, Sun sun) {
+        Position position = sun.getPosition();
+        setPosition(DateTimeUtils.dateToJulianDate(calendar), latitude, longitude, position);
+
+        setRadiationInfo(calendar, position.getElevation(), altitude, sun);
+    }
+
+    /**
+     * Calculates the sun position (azimuth and elevation) at the julian date into the given position.
+     */
+    public void setPosition(double julianDate, double latitude, double longitude, Position position) {
         double lw = -longitude * DEG2RAD;
         double phi = latitude * DEG2RAD;
 
-        double j = DateTimeUtils.dateToJulianDate(calendar);
-        double m = getSolarMeanAnomaly(j);
+        double m = getSolarMeanAnomaly(julianDate);
         double c = getEquationOfCenter(m);
         double lsun = getEclipticLongitude(m, c);
         double d = getSunDeclination(lsun);
         double a = getRightAscension(lsun);
-        double th = getSiderealTime(j, lw);
+        double th = getSiderealTime(julianDate, lw);
 
-        double azimuth = getAzimuth(th, a, phi, d) / DEG2RAD;
-        double elevation = getElevation(th, a, phi, d) / DEG2RAD;
+        position.setAzimuth(getAzimuth(th, a, phi, d) / DEG2RAD + 180);
+        position.setElevation(getElevation(th, a, phi, d) / DEG2RAD);
+    }
 
-        Position position = sun.getPosition();
-        position.setAzimuth(azimuth + 180);
-        position.setElevation(elevation);
+    /**
+     * Calculates the sun elevation in degrees at the julian date.
+     */
+    public double getElevation(double julianDate, double latitude, double longitude) {
+        double lw = -longitude * DEG2RAD;
+        double phi = latitude * DEG2RAD;
 
-        setRadiationInfo(calendar, elevation, altitude, sun);
+        double m = getSolarMeanAnomaly(julianDate);
+        double c = getEquationOfCenter(m);
+        double lsun = getEclipticLongitude(m, c);
+        double d = getSunDeclination(lsun);
+        double a = getRightAscension(lsun);
+        double th = getSiderealTime(julianDate, lw);
+
+        return getElevation(th, a, phi, d) / DEG2RAD;
     }
 
     /**
      * Calculates sun radiation data.
      */
     public void setRadiationInfo(Calendar calendar, double elevation, Integer altitude, Sun sun) {
-        double sinAlpha = Math.sin(DEG2RAD * elevation);
+        setRadiation(calendar.get(Calendar.DAY_OF_YEAR), calendar.getActualMaximum(Calendar.DAY_OF_YEAR), elevation,
+                altitude, sun.getRadiation());
+    }
 
-        int dayOfYear = calendar.get(Calendar.DAY_OF_YEAR);
-        int daysInYear = calendar.getActualMaximum(Calendar.DAY_OF_YEAR);
+    /**
+     * Calculates sun radiation data for the day of the year and the sun elevation into the given radiation.
+     */
+    public void setRadiation(int dayOfYear, int daysInYear, double elevation, Integer altitude, Radiation radiation) {
+        double sinAlpha = Math.sin(DEG2RAD * elevation);
 
         // Direct Solar Radiation (in W/m²) at the atmosphere entry
         // At sunrise/sunset - calculations limits are reached
@@ -103,7 +128,6 @@ public class SunCalc {
         double rDiff = rOut * (0.271 - 0.294 * Math.pow(0.6, M)) * sinAlpha;
         double rTot = rDir + rDiff;
 
-        Radiation radiation = sun.getRadiation();
         radiation.setDirect(rDir);
         radiation.setDiffuse(rDiff);
         radiation.setTotal(rTot);
@@ -112,15 +136,12 @@ public class SunCalc {
     /**
      * Returns true, if the sun is up all day (no rise and set).
      */
-    private boolean isSunUpAllDay(Calendar calendar, double latitude, double longitude, Integer altitude) {
-        Calendar cal = DateTimeUtils.truncateToMidnight(calendar);
-        Sun sun = new Sun();
+    private boolean isSunUpAllDay(Calendar calendar, double latitude, double longitude) {
+        double julianDate = DateTimeUtils.midnightDateToJulianDate(calendar);
         for (int minutes = 0; minutes <= MINUTES_PER_DAY; minutes += CURVE_TIME_INTERVAL) {
-            setPositionalInfo(cal, latitude, longitude, altitude, sun);
-            if (sun.getPosition().getElevation() < SUN_ANGLE) {
+            if (getElevation(julianDate + minutes * JD_ONE_MINUTE_FRACTION, latitude, longitude) < SUN_ANGLE) {
                 return false;
             }
-            cal.add(Calendar.MINUTE, CURVE_TIME_INTERVAL);
         }
         return true;
     }
@@ -179,7 +200,7 @@ public class SunCalc {
         sun.setNauticDawn(new Range(DateTimeUtils.toCalendar(jnau2), DateTimeUtils.toCalendar(Jciv2)));
         sun.setNauticDusk(new Range(DateTimeUtils.toCalendar(jnau), DateTimeUtils.toCalendar(jastro)));
 
-        boolean isSunUpAllDay = isSunUpAllDay(calendar, latitude, longitude, altitude);
+        boolean isSunUpAllDay = isSunUpAllDay(calendar, latitude, longitude);
 
         // daylight
         Range daylightRange = new Range();
@@ -241,17 +262,23 @@ public class SunCalc {
         SeasonCalc seasonCalc = new SeasonCalc();
         sun.setSeason(seasonCalc.getSeason(calendar, latitude));
 
-        // phase
+        setPhaseInfo(Calendar.getInstance(), sun);
+
+        return sun;
+    }
+
+    /**
+     * Sets the name of the sun phase the calendar is in.
+     */
+    public void setPhaseInfo(Calendar calendar, Sun sun) {
         for (Entry<SunPhaseName, Range> rangeEntry : sun.getAllRanges().entrySet()) {
             SunPhaseName entryPhase = rangeEntry.getKey();
             if (entryPhase != SunPhaseName.MORNING_NIGHT && entryPhase != SunPhaseName.EVENING_NIGHT) {
-                if (rangeEntry.getValue().matches(Calendar.getInstance())) {
+                if (rangeEntry.getValue().matches(calendar)) {
                     sun.getPhase().setName(entryPhase);
                 }
             }
         }
-
-        return sun;
     }
 
     /**
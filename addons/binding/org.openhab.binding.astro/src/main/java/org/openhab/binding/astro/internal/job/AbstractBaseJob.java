@@ -8,41 +8,28 @@
  */
 package org.openhab.binding.astro.internal.job;
 
-import org.quartz.Job;
-import org.quartz.JobDataMap;
-import org.quartz.JobExecutionContext;
-import org.quartz.JobExecutionException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.openhab.binding.astro.handler.AstroThingHandler;
 
 /**
  * Baseclass for all jobs with common methods.
  *
  * @author Gerhard Riegler - Initial contribution
  */
-public abstract class AbstractBaseJob implements Job {
-    private final Logger logger = LoggerFactory.getLogger(AbstractBaseJob.class);
-    public static final String KEY_THING_UID = "thingUid";
-    public static final String KEY_CHANNEL_ID = "channelId";
-    public static final String KEY_JOB_NAME = "jobName";
-    public static final String KEY_PHASE_NAME = "phaseName";
+public abstract class AbstractBaseJob implements Runnable {
+    protected final AstroThingHandler handler;
 
-    @Override
-    public void execute(JobExecutionContext jobContext) throws JobExecutionException {
-        JobDataMap jobDataMap = jobContext.getJobDetail().getJobDataMap();
-
-        String thingUid = jobDataMap.getString(KEY_THING_UID);
-        String jobName = jobDataMap.getString(KEY_JOB_NAME);
-        if (logger.isDebugEnabled()) {
-            logger.debug("Starting astro {} for thing {}", jobName, thingUid);
-        }
+    public AbstractBaseJob(AstroThingHandler handler) {
+        this.handler = handler;
+    }
 
-        executeJob(thingUid, jobDataMap);
+    @Override
+    public void run() {
+        executeJob();
     }
 
     /**
      * Method to override by the different jobs to be executed.
      */
-    protected abstract void executeJob(String thingUid, JobDataMap jobDataMap);
+    protected abstract void executeJob();
 
 }
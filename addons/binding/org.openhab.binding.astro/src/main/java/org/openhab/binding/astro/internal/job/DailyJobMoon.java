@@ -23,29 +23,31 @@ import org.openhab.binding.astro.internal.model.Planet;
  */
 public class DailyJobMoon extends AbstractDailyJob {
 
+    public DailyJobMoon(AstroThingHandler handler) {
+        super(handler);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
-    protected void schedulePlanetEvents(String thingUid, AstroThingHandler handler, Planet planet) {
+    protected void schedulePlanetEvents(Planet planet) {
         Moon moon = (Moon) planet;
-        scheduleEvent(thingUid, handler, moon.getRise().getStart(), EVENT_START, EVENT_CHANNEL_ID_RISE);
-        scheduleEvent(thingUid, handler, moon.getSet().getEnd(), EVENT_END, EVENT_CHANNEL_ID_SET);
+        scheduleEvent(moon.getRise().getStart(), EVENT_START, EVENT_CHANNEL_ID_RISE);
+        scheduleEvent(moon.getSet().getEnd(), EVENT_END, EVENT_CHANNEL_ID_SET);
 
         MoonPhase moonPhase = moon.getPhase();
-        scheduleEvent(thingUid, handler, moonPhase.getFirstQuarter(), EVENT_PHASE_FIRST_QUARTER,
-                EVENT_CHANNEL_ID_MOON_PHASE);
-        scheduleEvent(thingUid, handler, moonPhase.getThirdQuarter(), EVENT_PHASE_THIRD_QUARTER,
-                EVENT_CHANNEL_ID_MOON_PHASE);
-        scheduleEvent(thingUid, handler, moonPhase.getFull(), EVENT_PHASE_FULL, EVENT_CHANNEL_ID_MOON_PHASE);
-        scheduleEvent(thingUid, handler, moonPhase.getNew(), EVENT_PHASE_NEW, EVENT_CHANNEL_ID_MOON_PHASE);
+        scheduleEvent(moonPhase.getFirstQuarter(), EVENT_PHASE_FIRST_QUARTER, EVENT_CHANNEL_ID_MOON_PHASE);
+        scheduleEvent(moonPhase.getThirdQuarter(), EVENT_PHASE_THIRD_QUARTER, EVENT_CHANNEL_ID_MOON_PHASE);
+        scheduleEvent(moonPhase.getFull(), EVENT_PHASE_FULL, EVENT_CHANNEL_ID_MOON_PHASE);
+        scheduleEvent(moonPhase.getNew(), EVENT_PHASE_NEW, EVENT_CHANNEL_ID_MOON_PHASE);
 
         Eclipse eclipse = moon.getEclipse();
-        scheduleEvent(thingUid, handler, eclipse.getPartial(), EVENT_ECLIPSE_PARTIAL, EVENT_CHANNEL_ID_ECLIPSE);
-        scheduleEvent(thingUid, handler, eclipse.getTotal(), EVENT_ECLIPSE_TOTAL, EVENT_CHANNEL_ID_ECLIPSE);
+        scheduleEvent(eclipse.getPartial(), EVENT_ECLIPSE_PARTIAL, EVENT_CHANNEL_ID_ECLIPSE);
+        scheduleEvent(eclipse.getTotal(), EVENT_ECLIPSE_TOTAL, EVENT_CHANNEL_ID_ECLIPSE);
 
-        scheduleEvent(thingUid, handler, moon.getPerigee().getDate(), EVENT_PERIGEE, EVENT_CHANNEL_ID_PERIGEE);
-        scheduleEvent(thingUid, handler, moon.getApogee().getDate(), EVENT_APOGEE, EVENT_CHANNEL_ID_APOGEE);
+        scheduleEvent(moon.getPerigee().getDate(), EVENT_PERIGEE, EVENT_CHANNEL_ID_PERIGEE);
+        scheduleEvent(moon.getApogee().getDate(), EVENT_APOGEE, EVENT_CHANNEL_ID_APOGEE);
     }
 
 }
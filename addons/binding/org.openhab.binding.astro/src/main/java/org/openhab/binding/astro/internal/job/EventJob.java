@@ -9,8 +9,6 @@
 package org.openhab.binding.astro.internal.job;
 
 import org.openhab.binding.astro.handler.AstroThingHandler;
-import org.openhab.binding.astro.internal.AstroHandlerFactory;
-import org.quartz.JobDataMap;
 
 /**
  * Job to trigger a event.
@@ -18,19 +16,21 @@ import org.quartz.JobDataMap;
  * @author Gerhard Riegler - Initial contribution
  */
 public class EventJob extends AbstractBaseJob {
-    public static final String KEY_EVENT = "event";
+    private final String channelId;
+    private final String event;
+
+    public EventJob(AstroThingHandler handler, String channelId, String event) {
+        super(handler);
+        this.channelId = channelId;
+        this.event = event;
+    }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected void executeJob(String thingUid, JobDataMap jobDataMap) {
-        AstroThingHandler astroHandler = AstroHandlerFactory.getHandler(thingUid);
-        if (astroHandler != null) {
-            String event = jobDataMap.getString(KEY_EVENT);
-            String channelId = jobDataMap.getString(KEY_CHANNEL_ID);
-            astroHandler.triggerEvent(channelId, event);
-        }
+    protected void executeJob() {
+        handler.triggerEvent(channelId, event);
     }
 
 }
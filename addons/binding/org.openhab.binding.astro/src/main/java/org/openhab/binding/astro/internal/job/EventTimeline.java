@@ -0,0 +1,310 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.astro.internal.job;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang.time.DateFormatUtils;
+import org.openhab.binding.astro.internal.util.DateTimeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the upcoming astro jobs of all things in one queue ordered by time, driven by a single timer which is always
+ * set to the next job. The daily jobs of all things are run together at midnight.
+ *
+ * @author agent - Initial contribution
+ */
+public class EventTimeline {
+    private final Logger logger = LoggerFactory.getLogger(EventTimeline.class);
+
+    private static final String MIDNIGHT_JOB_KEY = "daily";
+    private static final int DIAGNOSTIC_EVENT_COUNT = 10;
+
+    private final ScheduledExecutorService scheduler;
+    private final PriorityQueue<TimelineEvent> events = new PriorityQueue<TimelineEvent>();
+    private final Map<String, Runnable> dailyJobs = new LinkedHashMap<String, Runnable>();
+    private final List<TimelineEvent> dueEvents = new ArrayList<TimelineEvent>();
+    private ScheduledFuture<?> timer;
+    private long timerAt = Long.MAX_VALUE;
+    private long sequence;
+
+    public EventTimeline(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Schedules a job of a thing to run once at the given time, replacing a job of the thing with the same key.
+     */
+    public synchronized void schedule(String thingUid, String jobKey, long at, Runnable job) {
+        add(new TimelineEvent(thingUid, jobKey, at, 0, job));
+    }
+
+    /**
+     * Schedules a job of a thing to run at the given time and then repeatedly with the interval, replacing a job of the
+     * thing with the same key.
+     */
+    public synchronized void scheduleRepeating(String thingUid, String jobKey, long at, long interval, Runnable job) {
+        add(new TimelineEvent(thingUid, jobKey, at, interval, job));
+    }
+
+    /**
+     * Registers the daily job of a thing, which is run at every midnight together with the daily jobs of all other
+     * things.
+     */
+    public synchronized void registerDailyJob(String thingUid, Runnable job) {
+        dailyJobs.put(thingUid, job);
+        if (dailyJobs.size() == 1) {
+            scheduleMidnight();
+        }
+    }
+
+    /**
+     * Removes all jobs of the thing, including the daily job.
+     */
+    public synchronized void cancel(String thingUid) {
+        for (Iterator<TimelineEvent> it = events.iterator(); it.hasNext();) {
+            TimelineEvent event = it.next();
+            if (thingUid.equals(event.getThingUid())) {
+                logger.debug("Deleting astro job-{} for thing '{}'", event.getJobKey(), thingUid);
+                event.cancelled = true;
+                it.remove();
+            }
+        }
+        for (TimelineEvent event : dueEvents) {
+            if (thingUid.equals(event.getThingUid())) {
+                event.cancelled = true;
+            }
+        }
+        if (dailyJobs.remove(thingUid) != null && dailyJobs.isEmpty()) {
+            removeEvent(null, MIDNIGHT_JOB_KEY);
+        }
+        updateTimer();
+    }
+
+    /**
+     * Returns the next jobs of all things ordered by time.
+     */
+    public synchronized List<TimelineEvent> getNextEvents(int count) {
+        List<TimelineEvent> nextEvents = new ArrayList<TimelineEvent>(events);
+        Collections.sort(nextEvents);
+        return nextEvents.subList(0, Math.min(count, nextEvents.size()));
+    }
+
+    /**
+     * Returns the number of scheduled jobs.
+     */
+    public synchronized int size() {
+        return events.size();
+    }
+
+    private void add(TimelineEvent event) {
+        removeEvent(event.getThingUid(), event.getJobKey());
+        event.sequence = sequence++;
+        events.add(event);
+        logger.debug("Scheduled astro job-{} for thing {} at {}", event.getJobKey(), event.getThingUid(),
+                DateFormatUtils.ISO_DATETIME_FORMAT.format(event.getTime()));
+        updateTimer();
+    }
+
+    private void removeEvent(String thingUid, String jobKey) {
+        for (Iterator<TimelineEvent> it = events.iterator(); it.hasNext();) {
+            TimelineEvent event = it.next();
+            if (jobKey.equals(event.getJobKey())
+                    && (thingUid == null ? event.getThingUid() == null : thingUid.equals(event.getThingUid()))) {
+                event.cancelled = true;
+                it.remove();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sets the timer to the time of the next job.
+     */
+    private void updateTimer() {
+        TimelineEvent next = events.peek();
+        long nextAt = next == null ? Long.MAX_VALUE : next.getTime();
+        if (nextAt == timerAt) {
+            return;
+        }
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+        timerAt = nextAt;
+        if (next != null) {
+            long delay = Math.max(0, nextAt - System.currentTimeMillis());
+            timer = scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    runDueEvents();
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Runs all jobs which are due and sets the timer to the next job.
+     */
+    private void runDueEvents() {
+        List<TimelineEvent> jobsToRun = new ArrayList<TimelineEvent>();
+        synchronized (this) {
+            timer = null;
+            timerAt = Long.MAX_VALUE;
+            long now = System.currentTimeMillis();
+            while (!events.isEmpty() && events.peek().getTime() <= now) {
+                TimelineEvent event = events.poll();
+                jobsToRun.add(event);
+                if (event.getInterval() > 0) {
+                    long nextAt = event.getTime() + event.getInterval();
+                    if (nextAt <= now) {
+                        // skip the runs missed while the system was busy or suspended
+                        nextAt = now + event.getInterval();
+                    }
+                    TimelineEvent nextEvent = new TimelineEvent(event.getThingUid(), event.getJobKey(), nextAt,
+                            event.getInterval(), event.job);
+                    nextEvent.sequence = sequence++;
+                    events.add(nextEvent);
+                }
+            }
+            // remembered to skip them if their thing is cancelled while running
+            dueEvents.addAll(jobsToRun);
+        }
+
+        for (TimelineEvent event : jobsToRun) {
+            if (event.cancelled) {
+                continue;
+            }
+            logger.debug("Starting astro job-{} for thing {}", event.getJobKey(), event.getThingUid());
+            try {
+                event.job.run();
+            } catch (Exception ex) {
+                logger.error("Astro job-{} for thing {} failed: {}", event.getJobKey(), event.getThingUid(),
+                        ex.getMessage(), ex);
+            }
+        }
+
+        synchronized (this) {
+            dueEvents.removeAll(jobsToRun);
+            updateTimer();
+        }
+    }
+
+    /**
+     * Schedules the run of all daily jobs at the next midnight.
+     */
+    private void scheduleMidnight() {
+        Calendar midnight = DateTimeUtils.truncateToMidnight(Calendar.getInstance());
+        midnight.add(Calendar.DAY_OF_MONTH, 1);
+        add(new TimelineEvent(null, MIDNIGHT_JOB_KEY, midnight.getTimeInMillis(), 0, new Runnable() {
+            @Override
+            public void run() {
+                runDailyJobs();
+            }
+        }));
+    }
+
+    /**
+     * Runs the daily jobs of all things and schedules the next midnight.
+     */
+    private void runDailyJobs() {
+        List<Runnable> jobs;
+        synchronized (this) {
+            jobs = new ArrayList<Runnable>(dailyJobs.values());
+            if (!jobs.isEmpty()) {
+                scheduleMidnight();
+            }
+        }
+        logger.debug("Running {} daily astro jobs", jobs.size());
+        for (Runnable job : jobs) {
+            try {
+                job.run();
+            } catch (Exception ex) {
+                logger.error("Daily astro job failed: {}", ex.getMessage(), ex);
+            }
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Next astro jobs: {}", getNextEvents(DIAGNOSTIC_EVENT_COUNT));
+        }
+    }
+
+    /**
+     * A scheduled job of a thing.
+     */
+    public static class TimelineEvent implements Comparable<TimelineEvent> {
+        private final String thingUid;
+        private final String jobKey;
+        private final long time;
+        private final long interval;
+        private final Runnable job;
+        private long sequence;
+        private volatile boolean cancelled;
+
+        private TimelineEvent(String thingUid, String jobKey, long time, long interval, Runnable job) {
+            this.thingUid = thingUid;
+            this.jobKey = jobKey;
+            this.time = time;
+            this.interval = interval;
+            this.job = job;
+        }
+
+        /**
+         * Returns the uid of the thing, null for the midnight job of all things.
+         */
+        public String getThingUid() {
+            return thingUid;
+        }
+
+        /**
+         * Returns the key of the job.
+         */
+        public String getJobKey() {
+            return jobKey;
+        }
+
+        /**
+         * Returns the time of the next run in milliseconds.
+         */
+        public long getTime() {
+            return time;
+        }
+
+        /**
+         * Returns the interval of a repeating job in milliseconds, 0 otherwise.
+         */
+        public long getInterval() {
+            return interval;
+        }
+
+        @Override
+        public int compareTo(TimelineEvent other) {
+            if (time != other.time) {
+                return time < other.time ? -1 : 1;
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+
+        @Override
+        public String toString() {
+            return DateFormatUtils.ISO_DATETIME_FORMAT.format(time) + " job-" + jobKey
+                    + (thingUid == null ? "" : " (" + thingUid + ")");
+        }
+    }
+}
@@ -9,8 +9,6 @@
 package org.openhab.binding.astro.internal.job;
 
 import org.openhab.binding.astro.handler.AstroThingHandler;
-import org.openhab.binding.astro.internal.AstroHandlerFactory;
-import org.quartz.JobDataMap;
 
 /**
  * Calculates and publishes astro positional data.
@@ -19,11 +17,12 @@ import org.quartz.JobDataMap;
  */
 public class PositionalJob extends AbstractBaseJob {
 
+    public PositionalJob(AstroThingHandler handler) {
+        super(handler);
+    }
+
     @Override
-    protected void executeJob(String thingUid, JobDataMap jobDataMap) {
-        AstroThingHandler astroHandler = AstroHandlerFactory.getHandler(thingUid);
-        if (astroHandler != null) {
-            astroHandler.publishPositionalInfo();
-        }
+    protected void executeJob() {
+        handler.publishPositionalInfo();
     }
 }
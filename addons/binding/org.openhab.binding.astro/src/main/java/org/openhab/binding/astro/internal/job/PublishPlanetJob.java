@@ -9,8 +9,6 @@
 package org.openhab.binding.astro.internal.job;
 
 import org.openhab.binding.astro.handler.AstroThingHandler;
-import org.openhab.binding.astro.internal.AstroHandlerFactory;
-import org.quartz.JobDataMap;
 
 /**
  * Simple job that publishes the daily info for a planet.
@@ -19,15 +17,16 @@ import org.quartz.JobDataMap;
  */
 public class PublishPlanetJob extends AbstractBaseJob {
 
+    public PublishPlanetJob(AstroThingHandler handler) {
+        super(handler);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
-    protected void executeJob(String thingUid, JobDataMap jobDataMap) {
-        AstroThingHandler astroHandler = AstroHandlerFactory.getHandler(thingUid);
-        if (astroHandler != null) {
-            astroHandler.publishDailyInfo();
-        }
+    protected void executeJob() {
+        handler.publishDailyInfo();
     }
 
 }
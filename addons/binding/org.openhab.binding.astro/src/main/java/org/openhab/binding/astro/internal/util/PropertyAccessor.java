@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.astro.internal.util;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * A compiled chain of getters to read a nested property of an object. The getters are resolved once and invoked
+ * without reflection afterwards. If the propertyPath is for example rise#start, the methods getRise().getStart() are
+ * called.
+ *
+ * @author agent - Initial contribution
+ */
+public class PropertyAccessor {
+    private final String propertyPath;
+    private final Function<Object, Object>[] getters;
+
+    private PropertyAccessor(String propertyPath, Function<Object, Object>[] getters) {
+        this.propertyPath = propertyPath;
+        this.getters = getters;
+    }
+
+    /**
+     * Resolves the getters of the propertyPath, starting at the given class.
+     */
+    @SuppressWarnings("unchecked")
+    public static PropertyAccessor compile(Class<?> type, String propertyPath) throws Exception {
+        String[] properties = StringUtils.split(propertyPath, "#");
+        Function<Object, Object>[] getters = new Function[properties.length];
+        Class<?> currentType = type;
+        for (int i = 0; i < properties.length; i++) {
+            Method method = currentType.getMethod(toGetterString(properties[i]));
+            getters[i] = createGetter(method);
+            currentType = method.getReturnType();
+        }
+        return new PropertyAccessor(propertyPath, getters);
+    }
+
+    /**
+     * Returns the property value from the object instance or null, if a property in the chain is null.
+     */
+    public Object getValue(Object instance) {
+        Object result = instance;
+        for (Function<Object, Object> getter : getters) {
+            if (result == null) {
+                return null;
+            }
+            result = getter.apply(result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the property path of this accessor.
+     */
+    public String getPropertyPath() {
+        return propertyPath;
+    }
+
+    /**
+     * Creates a function which calls the getter directly.
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> createGetter(Method method) throws Exception {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle handle = lookup.unreflect(method);
+        MethodType getterType = MethodType.methodType(wrap(method.getReturnType()), method.getDeclaringClass());
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class), handle, getterType);
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable ex) {
+            throw new Exception("Can't compile getter " + method.getName() + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Returns the wrapper class for primitive types.
+     */
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    /**
+     * Converts the string to a getter property.
+     */
+    private static String toGetterString(String str) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("get");
+        sb.append(Character.toTitleCase(str.charAt(0)));
+        sb.append(str.substring(1));
+        return sb.toString();
+    }
+}
@@ -33,7 +33,13 @@ public class PropertyUtils {
      * Returns the state of the channel.
      */
     public static State getState(ChannelUID channelUID, AstroChannelConfig config, Object instance) throws Exception {
-        Object value = getPropertyValue(channelUID, instance);
+        return getState(getPropertyValue(channelUID, instance), config);
+    }
+
+    /**
+     * Converts a property value to the state of a channel.
+     */
+    public static State getState(Object value, AstroChannelConfig config) {
         if (value == null) {
             return UnDefType.UNDEF;
         } else if (value instanceof Calendar) {
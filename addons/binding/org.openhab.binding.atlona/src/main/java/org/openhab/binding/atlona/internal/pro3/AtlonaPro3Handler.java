@@ -9,6 +9,7 @@
 package org.openhab.binding.atlona.internal.pro3;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
@@ -27,8 +28,11 @@ import org.eclipse.smarthome.core.types.State;
 import org.openhab.binding.atlona.handler.AtlonaHandler;
 import org.openhab.binding.atlona.internal.AtlonaHandlerCallback;
 import org.openhab.binding.atlona.internal.StatefulHandlerCallback;
-import org.openhab.binding.atlona.internal.net.SocketChannelSession;
-import org.openhab.binding.atlona.internal.net.SocketSession;
+import org.openhab.io.transport.socket.LineFramer;
+import org.openhab.io.transport.socket.ReconnectBackoff;
+import org.openhab.io.transport.socket.ResponseFramer;
+import org.openhab.io.transport.socket.SocketChannelSession;
+import org.openhab.io.transport.socket.SocketSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +47,17 @@ public class AtlonaPro3Handler extends AtlonaHandler<AtlonaPro3Capabilities> {
 
     private Logger logger = LoggerFactory.getLogger(AtlonaPro3Handler.class);
 
+    /**
+     * The framer of the responses - lines ending with a carriage-return/newline combo and the login prompts
+     */
+    private static final ResponseFramer FRAMER = new LineFramer(LineFramer.CRLF, LineFramer.CRLF, "Login: ",
+            "Password: ");
+
+    /**
+     * The maximum delay (in seconds) between connection attempts
+     */
+    private static final int MAX_RETRY_POLLING = 300;
+
     /**
      * The {@link AtlonaPro3PortocolHandler} protocol handler
      */
@@ -63,6 +78,12 @@ public class AtlonaPro3Handler extends AtlonaHandler<AtlonaPro3Capabilities> {
      */
     private ScheduledFuture<?> _retryConnection;
 
+    /**
+     * The delays between the connection attempts - starts at {@link AtlonaPro3Config#getRetryPolling()} and doubles
+     * with every failed attempt
+     */
+    private ReconnectBackoff _backoff;
+
     /**
      * The ping event
      */
@@ -450,7 +471,9 @@ public class AtlonaPro3Handler extends AtlonaHandler<AtlonaPro3Capabilities> {
             return;
         }
 
-        _session = new SocketChannelSession(config.getIpAddress(), 23);
+        _session = new SocketChannelSession(config.getIpAddress(), 23, FRAMER, "atlona");
+        _backoff = new ReconnectBackoff(Math.max(1, config.getRetryPolling()),
+                Math.max(config.getRetryPolling(), MAX_RETRY_POLLING));
         _atlonaHandler = new AtlonaPro3PortocolHandler(_session, config, getCapabilities(),
                 new StatefulHandlerCallback(new AtlonaHandlerCallback() {
                     @Override
@@ -516,7 +539,7 @@ public class AtlonaPro3Handler extends AtlonaHandler<AtlonaPro3Capabilities> {
                             } else if (status == ThingStatus.OFFLINE) {
                                 disconnect(true);
                             }
-
+                            updateSessionProperties();
                         }
                     }, config.getPolling(), config.getPolling(), TimeUnit.SECONDS);
 
@@ -533,6 +556,7 @@ public class AtlonaPro3Handler extends AtlonaHandler<AtlonaPro3Capabilities> {
                         }
                     }, config.getPing(), config.getPing(), TimeUnit.SECONDS);
 
+                    _backoff.reset();
                     updateStatus(ThingStatus.ONLINE);
                     return;
                 }
@@ -571,6 +595,7 @@ public class AtlonaPro3Handler extends AtlonaHandler<AtlonaPro3Capabilities> {
         } catch (IOException e) {
             // ignore - we don't care
         }
+        updateSessionProperties();
 
         if (retryConnection) {
             retryConnect();
@@ -578,16 +603,27 @@ public class AtlonaPro3Handler extends AtlonaHandler<AtlonaPro3Capabilities> {
     }
 
     /**
-     * Retries the connection attempt - schedules a job in {@link AtlonaPro3Config#getRetryPolling()} seconds to call
-     * the
-     * {@link #connect()} method. If a retry attempt is pending, the request is ignored.
+     * Copies the counters of the {@link #_session} to the properties of the thing. Called by the {@link #_polling} job
+     * and on disconnect.
+     */
+    private void updateSessionProperties() {
+        final Map<String, String> properties = editProperties();
+        properties.putAll(_session.getMetrics().toProperties());
+        updateProperties(properties);
+    }
+
+    /**
+     * Retries the connection attempt - schedules a job to call the {@link #connect()} method. The first attempt is made
+     * in {@link AtlonaPro3Config#getRetryPolling()} seconds, the delay doubles with every failed attempt up to
+     * {@link #MAX_RETRY_POLLING} seconds. If a retry attempt is pending, the request is ignored.
      */
     private void retryConnect() {
         if (_retryConnection == null) {
             final AtlonaPro3Config config = getAtlonaConfig();
             if (config != null) {
 
-                logger.info("Will try to reconnect in {} seconds", config.getRetryPolling());
+                final long delay = _backoff.nextDelay();
+                logger.info("Will try to reconnect in {} seconds", delay);
                 _retryConnection = this.scheduler.schedule(new Runnable() {
                     @Override
                     public void run() {
@@ -595,7 +631,7 @@ public class AtlonaPro3Handler extends AtlonaHandler<AtlonaPro3Capabilities> {
                         connect();
                     }
 
-                }, config.getRetryPolling(), TimeUnit.SECONDS);
+                }, delay, TimeUnit.SECONDS);
             }
         } else {
             logger.debug("RetryConnection called when a retry connection is pending - ignoring request");
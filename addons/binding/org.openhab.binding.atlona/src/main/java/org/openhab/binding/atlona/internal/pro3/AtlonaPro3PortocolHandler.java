@@ -21,8 +21,8 @@ import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.openhab.binding.atlona.internal.AtlonaHandlerCallback;
-import org.openhab.binding.atlona.internal.net.SocketSession;
-import org.openhab.binding.atlona.internal.net.SocketSessionListener;
+import org.openhab.io.transport.socket.SocketSession;
+import org.openhab.io.transport.socket.SocketSessionListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
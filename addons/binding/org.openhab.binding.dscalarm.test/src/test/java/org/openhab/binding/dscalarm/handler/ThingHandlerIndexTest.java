@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.dscalarm.handler;
+
+import static org.junit.Assert.*;
+import static org.openhab.binding.dscalarm.DSCAlarmBindingConstants.*;
+
+import org.eclipse.smarthome.core.thing.Bridge;
+import org.eclipse.smarthome.core.thing.Thing;
+import org.eclipse.smarthome.core.thing.ThingTypeUID;
+import org.eclipse.smarthome.core.thing.ThingUID;
+import org.eclipse.smarthome.core.thing.binding.builder.BridgeBuilder;
+import org.eclipse.smarthome.core.thing.binding.builder.ThingBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the thing handler index of the bridge: the handlers are found by their thing type and partition or zone
+ * number, a handler is moved when its number changes and is gone after it has been removed.
+ *
+ * @author agent - Initial contribution
+ */
+public class ThingHandlerIndexTest {
+    private Bridge bridge;
+    private DSCAlarmBaseBridgeHandler bridgeHandler;
+
+    @Before
+    public void setUp() {
+        bridge = BridgeBuilder.create(IT100BRIDGE_THING_TYPE, "test").build();
+        bridgeHandler = new IT100BridgeHandler(bridge);
+    }
+
+    @Test
+    public void testHandlersAreFoundByTypeAndNumber() {
+        DSCAlarmBaseThingHandler panel = new PanelThingHandler(createThing(PANEL_THING_TYPE, "panel"));
+        DSCAlarmBaseThingHandler keypad = new KeypadThingHandler(createThing(KEYPAD_THING_TYPE, "keypad"));
+        DSCAlarmBaseThingHandler partition = new PartitionThingHandler(createThing(PARTITION_THING_TYPE, "p2"));
+        partition.setPartitionNumber(2);
+        DSCAlarmBaseThingHandler zone = new ZoneThingHandler(createThing(ZONE_THING_TYPE, "z7"));
+        zone.setPartitionNumber(1);
+        zone.setZoneNumber(7);
+        bridgeHandler.updateThingHandlerIndex(panel);
+        bridgeHandler.updateThingHandlerIndex(keypad);
+        bridgeHandler.updateThingHandlerIndex(partition);
+        bridgeHandler.updateThingHandlerIndex(zone);
+
+        assertSame(panel, bridgeHandler.findThingHandler(DSCAlarmThingType.PANEL, 0, 0));
+        assertSame(keypad, bridgeHandler.findThingHandler(DSCAlarmThingType.KEYPAD, 0, 0));
+        assertSame(partition, bridgeHandler.findThingHandler(DSCAlarmThingType.PARTITION, 2, 0));
+        assertNull(bridgeHandler.findThingHandler(DSCAlarmThingType.PARTITION, 1, 0));
+        // zones are found by the zone number only, the partition of a zone message is not taken into account
+        assertSame(zone, bridgeHandler.findThingHandler(DSCAlarmThingType.ZONE, 0, 7));
+        assertSame(zone, bridgeHandler.findThingHandler(DSCAlarmThingType.ZONE, 3, 7));
+        assertNull(bridgeHandler.findThingHandler(DSCAlarmThingType.ZONE, 0, 2));
+    }
+
+    @Test
+    public void testHandlerIsMovedAfterReconfiguration() {
+        DSCAlarmBaseThingHandler zone = new ZoneThingHandler(createThing(ZONE_THING_TYPE, "zone"));
+        zone.setZoneNumber(3);
+        bridgeHandler.updateThingHandlerIndex(zone);
+        assertSame(zone, bridgeHandler.findThingHandler(DSCAlarmThingType.ZONE, 0, 3));
+
+        // the thing handler is initialized again with the changed configuration
+        zone.setZoneNumber(5);
+        bridgeHandler.updateThingHandlerIndex(zone);
+
+        assertNull(bridgeHandler.findThingHandler(DSCAlarmThingType.ZONE, 0, 3));
+        assertSame(zone, bridgeHandler.findThingHandler(DSCAlarmThingType.ZONE, 0, 5));
+
+        bridgeHandler.removeFromThingHandlerIndex(zone);
+        assertNull(bridgeHandler.findThingHandler(DSCAlarmThingType.ZONE, 0, 5));
+    }
+
+    @Test
+    public void testMovedHandlerKeepsTheHandlerThatTookItsPlace() {
+        DSCAlarmBaseThingHandler first = new ZoneThingHandler(createThing(ZONE_THING_TYPE, "first"));
+        first.setZoneNumber(3);
+        bridgeHandler.updateThingHandlerIndex(first);
+        DSCAlarmBaseThingHandler second = new ZoneThingHandler(createThing(ZONE_THING_TYPE, "second"));
+        second.setZoneNumber(3);
+        bridgeHandler.updateThingHandlerIndex(second);
+
+        first.setZoneNumber(4);
+        bridgeHandler.updateThingHandlerIndex(first);
+
+        assertSame(second, bridgeHandler.findThingHandler(DSCAlarmThingType.ZONE, 0, 3));
+        assertSame(first, bridgeHandler.findThingHandler(DSCAlarmThingType.ZONE, 0, 4));
+    }
+
+    private Thing createThing(ThingTypeUID thingTypeUID, String id) {
+        return ThingBuilder.create(thingTypeUID, new ThingUID(thingTypeUID, bridge.getUID(), id))
+                .withBridge(bridge.getUID()).build();
+    }
+}
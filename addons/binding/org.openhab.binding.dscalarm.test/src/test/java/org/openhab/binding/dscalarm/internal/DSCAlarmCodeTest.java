@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.dscalarm.internal;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Tests the lookup table of {@link DSCAlarmCode}: every code is found by its string and at an offset of a message,
+ * invalid and unknown codes are reported as 'UnknownCode'.
+ *
+ * @author agent - Initial contribution
+ */
+public class DSCAlarmCodeTest {
+
+    @Test
+    public void testEveryCodeIsFound() {
+        for (DSCAlarmCode code : DSCAlarmCode.values()) {
+            if (code != DSCAlarmCode.UnknownCode) {
+                assertSame(code, DSCAlarmCode.getDSCAlarmCodeValue(code.getCode()));
+                assertSame(code, DSCAlarmCode.getDSCAlarmCodeValue("12:30:05 " + code.getCode() + "1C5", 9));
+            }
+        }
+    }
+
+    @Test
+    public void testCodeAtOffset() {
+        assertSame(DSCAlarmCode.ZoneOpen, DSCAlarmCode.getDSCAlarmCodeValue("609001", 0));
+        assertSame(DSCAlarmCode.PartitionReady, DSCAlarmCode.getDSCAlarmCodeValue("xx650", 2));
+        assertSame(DSCAlarmCode.UnknownCode, DSCAlarmCode.getDSCAlarmCodeValue("xx65", 2));
+        assertSame(DSCAlarmCode.UnknownCode, DSCAlarmCode.getDSCAlarmCodeValue("609", -1));
+        assertSame(DSCAlarmCode.UnknownCode, DSCAlarmCode.getDSCAlarmCodeValue("609", 4));
+    }
+
+    @Test
+    public void testInvalidCodes() {
+        assertSame(DSCAlarmCode.UnknownCode, DSCAlarmCode.getDSCAlarmCodeValue(null));
+        assertSame(DSCAlarmCode.UnknownCode, DSCAlarmCode.getDSCAlarmCodeValue(""));
+        assertSame(DSCAlarmCode.UnknownCode, DSCAlarmCode.getDSCAlarmCodeValue("60"));
+        assertSame(DSCAlarmCode.UnknownCode, DSCAlarmCode.getDSCAlarmCodeValue("6090"));
+        assertSame(DSCAlarmCode.UnknownCode, DSCAlarmCode.getDSCAlarmCodeValue("6x9"));
+        assertSame(DSCAlarmCode.UnknownCode, DSCAlarmCode.getDSCAlarmCodeValue("-1"));
+        assertSame(DSCAlarmCode.UnknownCode, DSCAlarmCode.getDSCAlarmCodeValue("999"));
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.dscalarm.internal;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.openhab.binding.dscalarm.internal.DSCAlarmMessage.DSCAlarmMessageInfoType;
+import org.openhab.binding.dscalarm.internal.DSCAlarmMessage.DSCAlarmMessageType;
+
+/**
+ * Tests the fields read from the lines received from the IT-100/Envisalink: messages with and without time stamp,
+ * partition and zone numbers, the arming mode and lines that are too short to hold a code.
+ *
+ * @author agent - Initial contribution
+ */
+public class DSCAlarmMessageTest {
+
+    @Test
+    public void testZoneMessageWithTimeStamp() {
+        DSCAlarmMessage message = new DSCAlarmMessage("12:30:05 " + withChecksum("609001"));
+
+        assertEquals(DSCAlarmCode.ZoneOpen, message.getDSCAlarmCode());
+        assertEquals(DSCAlarmMessageType.ZONE_EVENT, message.getDSCAlarmMessageType());
+        assertEquals(0, message.getPartition());
+        assertEquals(1, message.getZone());
+        assertEquals("12:30:05", message.getMessageInfo(DSCAlarmMessageInfoType.TIME_STAMP));
+        assertEquals("609001", message.getMessageInfo(DSCAlarmMessageInfoType.MESSAGE));
+        assertEquals("609", message.getMessageInfo(DSCAlarmMessageInfoType.CODE));
+        assertEquals("001", message.getMessageInfo(DSCAlarmMessageInfoType.DATA));
+        assertEquals(DSCAlarmCode.ZoneOpen.getName(), message.getMessageInfo(DSCAlarmMessageInfoType.NAME));
+    }
+
+    @Test
+    public void testZoneMessageWithPartition() {
+        DSCAlarmMessage message = new DSCAlarmMessage(withChecksum("6011064"));
+
+        assertEquals(DSCAlarmCode.ZoneAlarm, message.getDSCAlarmCode());
+        assertEquals(DSCAlarmMessageType.ZONE_EVENT, message.getDSCAlarmMessageType());
+        assertEquals(1, message.getPartition());
+        assertEquals(64, message.getZone());
+        assertEquals("", message.getMessageInfo(DSCAlarmMessageInfoType.TIME_STAMP));
+        assertEquals("6011064", message.getMessageInfo(DSCAlarmMessageInfoType.MESSAGE));
+    }
+
+    @Test
+    public void testPartitionMessages() {
+        DSCAlarmMessage ready = new DSCAlarmMessage(withChecksum("6502"));
+        assertEquals(DSCAlarmCode.PartitionReady, ready.getDSCAlarmCode());
+        assertEquals(DSCAlarmMessageType.PARTITION_EVENT, ready.getDSCAlarmMessageType());
+        assertEquals(2, ready.getPartition());
+        assertEquals(0, ready.getZone());
+
+        DSCAlarmMessage armed = new DSCAlarmMessage(withChecksum("65211"));
+        assertEquals(DSCAlarmCode.PartitionArmed, armed.getDSCAlarmCode());
+        assertEquals(1, armed.getPartition());
+        assertEquals("1", armed.getMessageInfo(DSCAlarmMessageInfoType.MODE));
+        assertEquals(DSCAlarmCode.PartitionArmed.getName() + " (Stay)",
+                armed.getMessageInfo(DSCAlarmMessageInfoType.NAME));
+    }
+
+    @Test
+    public void testPanelMessageWithoutData() {
+        DSCAlarmMessage message = new DSCAlarmMessage(withChecksum("500"));
+
+        assertEquals(DSCAlarmCode.CommandAcknowledge, message.getDSCAlarmCode());
+        assertEquals(DSCAlarmMessageType.PANEL_EVENT, message.getDSCAlarmMessageType());
+        assertEquals("500", message.getMessageInfo(DSCAlarmMessageInfoType.CODE));
+        assertEquals("", message.getMessageInfo(DSCAlarmMessageInfoType.DATA));
+    }
+
+    @Test
+    public void testUnknownCode() {
+        DSCAlarmMessage message = new DSCAlarmMessage(withChecksum("999001"));
+
+        assertEquals(DSCAlarmCode.UnknownCode, message.getDSCAlarmCode());
+        assertEquals(DSCAlarmMessageType.PANEL_EVENT, message.getDSCAlarmMessageType());
+        assertEquals("999", message.getMessageInfo(DSCAlarmMessageInfoType.CODE));
+        assertEquals("001", message.getMessageInfo(DSCAlarmMessageInfoType.DATA));
+    }
+
+    @Test
+    public void testShortLines() {
+        DSCAlarmMessage tooShort = new DSCAlarmMessage(withChecksum("50"));
+        assertEquals(DSCAlarmCode.UnknownCode, tooShort.getDSCAlarmCode());
+        assertEquals("50", tooShort.getMessageInfo(DSCAlarmMessageInfoType.MESSAGE));
+        assertEquals("", tooShort.getMessageInfo(DSCAlarmMessageInfoType.CODE));
+        assertEquals("", tooShort.getMessageInfo(DSCAlarmMessageInfoType.DATA));
+
+        DSCAlarmMessage timeStampOnly = new DSCAlarmMessage("12:30:05 " + withChecksum("5"));
+        assertEquals(DSCAlarmCode.UnknownCode, timeStampOnly.getDSCAlarmCode());
+        assertEquals("12:30:05", timeStampOnly.getMessageInfo(DSCAlarmMessageInfoType.TIME_STAMP));
+        assertEquals("5", timeStampOnly.getMessageInfo(DSCAlarmMessageInfoType.MESSAGE));
+
+        DSCAlarmMessage invalid = new DSCAlarmMessage("50");
+        assertEquals(DSCAlarmCode.UnknownCode, invalid.getDSCAlarmCode());
+        assertEquals("-1", invalid.getMessageInfo(DSCAlarmMessageInfoType.CODE));
+        assertEquals("50", invalid.getMessageInfo(DSCAlarmMessageInfoType.MESSAGE));
+        assertEquals(0, invalid.getPartition());
+        assertEquals(0, invalid.getZone());
+    }
+
+    // The checksum is the sum of all characters, the last two hex digits of it are appended
+    private static String withChecksum(String message) {
+        int sum = 0;
+        for (int i = 0; i < message.length(); i++) {
+            sum += message.charAt(i);
+        }
+        return message + String.format("%02X", sum & 0xFF);
+    }
+}
@@ -0,0 +1,256 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.dscalarm.test;
+
+import static org.junit.Assert.*;
+import static org.openhab.binding.dscalarm.DSCAlarmBindingConstants.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.smarthome.config.core.Configuration;
+import org.eclipse.smarthome.core.thing.Bridge;
+import org.eclipse.smarthome.core.thing.Thing;
+import org.eclipse.smarthome.core.thing.ThingTypeUID;
+import org.eclipse.smarthome.core.thing.ThingUID;
+import org.eclipse.smarthome.core.thing.binding.builder.BridgeBuilder;
+import org.eclipse.smarthome.core.thing.binding.builder.ThingBuilder;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.dscalarm.config.DSCAlarmPartitionConfiguration;
+import org.openhab.binding.dscalarm.config.DSCAlarmZoneConfiguration;
+import org.openhab.binding.dscalarm.handler.DSCAlarmBaseBridgeHandler;
+import org.openhab.binding.dscalarm.handler.DSCAlarmBaseThingHandler;
+import org.openhab.binding.dscalarm.handler.DSCAlarmThingType;
+import org.openhab.binding.dscalarm.handler.IT100BridgeHandler;
+import org.openhab.binding.dscalarm.handler.KeypadThingHandler;
+import org.openhab.binding.dscalarm.handler.PanelThingHandler;
+import org.openhab.binding.dscalarm.handler.PartitionThingHandler;
+import org.openhab.binding.dscalarm.handler.ZoneThingHandler;
+import org.openhab.binding.dscalarm.internal.DSCAlarmCode;
+import org.openhab.binding.dscalarm.internal.DSCAlarmMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Replays a recorded stream of panel messages the way the bridge handles incoming messages and reports how many
+ * messages per second are handled. Each message is decoded, the thing type, partition and zone are derived from it
+ * and the thing handler is looked up. The bridge has a panel, a keypad, 8 partitions and 64 zones.
+ *
+ * The lookup is measured twice: through the thing handler index of the bridge
+ * ({@link DSCAlarmBaseBridgeHandler#findThingHandler}) and, as baseline, by scanning all child things and reading
+ * the partition or zone number from their configuration like the bridge did before it had the index. Both use the
+ * same decoding, so the difference is the cost of the lookup. The thing handlers are not notified, that needs a
+ * running framework.
+ *
+ * The results are logged. The system property {@value #MESSAGES_PROPERTY} can name a file with one message per line
+ * as received from the IT-100/Envisalink (including the checksum), without it a walk test on a 64 zone panel is
+ * replayed.
+ *
+ * @author agent - Initial contribution
+ */
+public class MessageReplayBenchmark {
+    private final Logger logger = LoggerFactory.getLogger(MessageReplayBenchmark.class);
+
+    public static final String MESSAGES_PROPERTY = "dscalarm.benchmark.messages";
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final long ITERATION_TIME_MS = 1000;
+    private static final int PARTITIONS = 8;
+    private static final int ZONES = 64;
+
+    private List<String> messages;
+    private DSCAlarmBaseBridgeHandler bridgeHandler;
+    private final List<DSCAlarmBaseThingHandler> thingHandlers = new ArrayList<>();
+
+    // Prevents the JIT from removing the lookups
+    private long sink = 0;
+
+    @Before
+    public void setUp() throws IOException {
+        String file = System.getProperty(MESSAGES_PROPERTY);
+        messages = (file != null) ? Files.readAllLines(Paths.get(file), StandardCharsets.US_ASCII)
+                : createWalkTest();
+
+        Bridge bridge = BridgeBuilder.create(IT100BRIDGE_THING_TYPE, "benchmark").build();
+        bridgeHandler = new IT100BridgeHandler(bridge);
+
+        addThingHandler(new PanelThingHandler(createThing(bridge, PANEL_THING_TYPE, "panel", 0, 0)));
+        addThingHandler(new KeypadThingHandler(createThing(bridge, KEYPAD_THING_TYPE, "keypad", 0, 0)));
+        for (int partition = 1; partition <= PARTITIONS; partition++) {
+            addThingHandler(new PartitionThingHandler(
+                    createThing(bridge, PARTITION_THING_TYPE, "partition" + partition, partition, 0)));
+        }
+        for (int zone = 1; zone <= ZONES; zone++) {
+            addThingHandler(new ZoneThingHandler(createThing(bridge, ZONE_THING_TYPE, "zone" + zone, 1, zone)));
+        }
+    }
+
+    @Test
+    public void benchmarkMessageReplay() {
+        logger.info("Replaying {} messages", messages.size());
+        double baseline = run("Baseline (scan of the child things)", false);
+        double indexed = run("Thing handler index", true);
+        assertTrue("No message was handled", sink > 0);
+        logger.info("Index / baseline: {}", String.format("%.2f", indexed / baseline));
+    }
+
+    private static Thing createThing(Bridge bridge, ThingTypeUID thingTypeUID, String id, int partition, int zone) {
+        Configuration configuration = new Configuration();
+        configuration.put(DSCAlarmPartitionConfiguration.PARTITION_NUMBER, new BigDecimal(partition));
+        configuration.put(DSCAlarmZoneConfiguration.ZONE_NUMBER, new BigDecimal(zone));
+        return ThingBuilder.create(thingTypeUID, new ThingUID(thingTypeUID, bridge.getUID(), id))
+                .withBridge(bridge.getUID()).withConfiguration(configuration).build();
+    }
+
+    private void addThingHandler(DSCAlarmBaseThingHandler handler) {
+        Configuration configuration = handler.getThing().getConfiguration();
+        handler.setPartitionNumber(((BigDecimal) configuration.get(DSCAlarmPartitionConfiguration.PARTITION_NUMBER))
+                .intValue());
+        handler.setZoneNumber(((BigDecimal) configuration.get(DSCAlarmZoneConfiguration.ZONE_NUMBER)).intValue());
+        bridgeHandler.updateThingHandlerIndex(handler);
+        thingHandlers.add(handler);
+    }
+
+    private double run(String name, boolean indexed) {
+        logger.info(name);
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            logger.info("  Warmup {}: {} messages/s", i + 1, String.format("%.0f", iteration(indexed)));
+        }
+        double total = 0;
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            double rate = iteration(indexed);
+            total += rate;
+            logger.info("  Iteration {}: {} messages/s", i + 1, String.format("%.0f", rate));
+        }
+        double average = total / MEASUREMENT_ITERATIONS;
+        logger.info("  Average: {} messages/s", String.format("%.0f", average));
+        return average;
+    }
+
+    // Replays the stream until the iteration time is over and returns the handled messages per second
+    private double iteration(boolean indexed) {
+        long count = 0;
+        long start = System.nanoTime();
+        long end = start + TimeUnit.MILLISECONDS.toNanos(ITERATION_TIME_MS);
+        long now;
+        do {
+            for (String message : messages) {
+                DSCAlarmBaseThingHandler handler = handle(message, indexed);
+                if (handler != null) {
+                    sink += handler.getZoneNumber() + 1;
+                }
+            }
+            count += messages.size();
+            now = System.nanoTime();
+        } while (now < end);
+        return count * 1e9 / (now - start);
+    }
+
+    // The part of DSCAlarmBaseBridgeHandler.handleIncomingMessage() up to the thing handler lookup
+    private DSCAlarmBaseThingHandler handle(String message, boolean indexed) {
+        DSCAlarmMessage dscAlarmMessage = new DSCAlarmMessage(message);
+        DSCAlarmThingType dscAlarmThingType = null;
+        int partitionId = 0;
+        int zoneId = 0;
+
+        switch (dscAlarmMessage.getDSCAlarmMessageType()) {
+            case PANEL_EVENT:
+                dscAlarmThingType = DSCAlarmThingType.PANEL;
+                break;
+            case PARTITION_EVENT:
+                dscAlarmThingType = DSCAlarmThingType.PARTITION;
+                partitionId = dscAlarmMessage.getPartition();
+                break;
+            case ZONE_EVENT:
+                dscAlarmThingType = DSCAlarmThingType.ZONE;
+                zoneId = dscAlarmMessage.getZone();
+                break;
+            case KEYPAD_EVENT:
+                dscAlarmThingType = DSCAlarmThingType.KEYPAD;
+                break;
+            default:
+                return null;
+        }
+
+        return indexed ? bridgeHandler.findThingHandler(dscAlarmThingType, partitionId, zoneId)
+                : scanThingHandlers(dscAlarmThingType, partitionId, zoneId);
+    }
+
+    // The lookup of the bridge before the thing handler index
+    private DSCAlarmBaseThingHandler scanThingHandlers(DSCAlarmThingType dscAlarmThingType, int partitionId,
+            int zoneId) {
+        for (DSCAlarmBaseThingHandler handler : thingHandlers) {
+            Configuration config = handler.getThing().getConfiguration();
+            if (handler.getDSCAlarmThingType().equals(dscAlarmThingType)) {
+                switch (dscAlarmThingType) {
+                    case PANEL:
+                    case KEYPAD:
+                        return handler;
+                    case PARTITION:
+                        BigDecimal partitionNumber = (BigDecimal) config
+                                .get(DSCAlarmPartitionConfiguration.PARTITION_NUMBER);
+                        if (partitionId == partitionNumber.intValue()) {
+                            return handler;
+                        }
+                        break;
+                    case ZONE:
+                        BigDecimal zoneNumber = (BigDecimal) config.get(DSCAlarmZoneConfiguration.ZONE_NUMBER);
+                        if (zoneId == zoneNumber.intValue()) {
+                            return handler;
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates the messages a panel sends during a walk test: every zone is opened and restored while the partition
+     * changes between ready and not ready, with keypad LED updates, acknowledgements and time broadcasts in between.
+     */
+    private static List<String> createWalkTest() {
+        List<String> messages = new ArrayList<>();
+        messages.add(withChecksum(DSCAlarmCode.CommandAcknowledge.getCode() + "001"));
+        messages.add(withChecksum(DSCAlarmCode.TimeDateBroadcast.getCode() + "1230052417"));
+        for (int zone = 1; zone <= ZONES; zone++) {
+            String zoneNumber = String.format("%03d", zone);
+            messages.add(withChecksum(DSCAlarmCode.ZoneOpen.getCode() + zoneNumber));
+            messages.add(withChecksum(DSCAlarmCode.PartitionNotReady.getCode() + "1"));
+            messages.add(withChecksum(DSCAlarmCode.KeypadLEDState.getCode() + "80"));
+            if (zone % 8 == 0) {
+                messages.add(withChecksum(DSCAlarmCode.ZoneAlarm.getCode() + "1" + zoneNumber));
+                messages.add(withChecksum(DSCAlarmCode.ZoneAlarmRestore.getCode() + "1" + zoneNumber));
+            }
+            messages.add(withChecksum(DSCAlarmCode.ZoneRestored.getCode() + zoneNumber));
+            messages.add(withChecksum(DSCAlarmCode.PartitionReady.getCode() + "1"));
+            messages.add(withChecksum(DSCAlarmCode.KeypadLEDState.getCode() + "81"));
+        }
+        return messages;
+    }
+
+    // The checksum is the sum of all characters, the last two hex digits of it are appended
+    private static String withChecksum(String message) {
+        int sum = 0;
+        for (int i = 0; i < message.length(); i++) {
+            sum += message.charAt(i);
+        }
+        return message + String.format("%02X", sum & 0xFF);
+    }
+}
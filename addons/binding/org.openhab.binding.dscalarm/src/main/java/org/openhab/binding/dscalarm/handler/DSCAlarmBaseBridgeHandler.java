@@ -10,23 +10,23 @@ package org.openhab.binding.dscalarm.handler;
 
 import static org.openhab.binding.dscalarm.DSCAlarmBindingConstants.BRIDGE_RESET;
 
-import java.math.BigDecimal;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
-import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
-import org.openhab.binding.dscalarm.config.DSCAlarmPartitionConfiguration;
-import org.openhab.binding.dscalarm.config.DSCAlarmZoneConfiguration;
 import org.openhab.binding.dscalarm.internal.DSCAlarmCode;
 import org.openhab.binding.dscalarm.internal.DSCAlarmEvent;
 import org.openhab.binding.dscalarm.internal.DSCAlarmMessage;
@@ -83,6 +83,12 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
 
     private ScheduledFuture<?> pollingTask;
 
+    /** Index of the thing handlers by thing type and partition or zone number. */
+    private final Map<DSCAlarmThingType, Map<Integer, DSCAlarmBaseThingHandler>> thingHandlers = new EnumMap<>(
+            DSCAlarmThingType.class);
+    /** Index key of each indexed thing handler, the key changes with the configuration of the thing. */
+    private final Map<DSCAlarmBaseThingHandler, Integer> thingHandlerKeys = new ConcurrentHashMap<>();
+
     private Runnable pollingRunnable = new Runnable() {
         @Override
         public void run() {
@@ -100,6 +106,10 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
         super(bridge);
         this.dscAlarmBridgeType = dscAlarmBridgeType;
         this.dscAlarmProtocol = dscAlarmProtocol;
+
+        for (DSCAlarmThingType dscAlarmThingType : DSCAlarmThingType.values()) {
+            thingHandlers.put(dscAlarmThingType, new ConcurrentHashMap<Integer, DSCAlarmBaseThingHandler>());
+        }
     }
 
     /**
@@ -379,6 +389,97 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
 
     }
 
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof DSCAlarmBaseThingHandler) {
+            DSCAlarmBaseThingHandler handler = (DSCAlarmBaseThingHandler) childHandler;
+            updateThingHandlerIndex(handler);
+            logger.debug("childHandlerInitialized(): Thing Handler Added - {}, {}", childThing.getUID(),
+                    handler.getDSCAlarmThingType());
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof DSCAlarmBaseThingHandler) {
+            DSCAlarmBaseThingHandler handler = (DSCAlarmBaseThingHandler) childHandler;
+            removeFromThingHandlerIndex(handler);
+            logger.debug("childHandlerDisposed(): Thing Handler Removed - {}, {}", childThing.getUID(),
+                    handler.getDSCAlarmThingType());
+        }
+    }
+
+    /**
+     * Adds a thing handler to the thing handler index or moves it to its current partition or zone number. Thing
+     * handlers call it when they are (re)initialized, a changed configuration doesn't notify the bridge.
+     *
+     * @param handler
+     */
+    public void updateThingHandlerIndex(DSCAlarmBaseThingHandler handler) {
+        DSCAlarmThingType handlerDSCAlarmThingType = handler.getDSCAlarmThingType();
+        if (handlerDSCAlarmThingType != null) {
+            Map<Integer, DSCAlarmBaseThingHandler> handlers = thingHandlers.get(handlerDSCAlarmThingType);
+            int key = getThingHandlerKey(handlerDSCAlarmThingType, handler.getPartitionNumber(),
+                    handler.getZoneNumber());
+            Integer oldKey = thingHandlerKeys.put(handler, key);
+            if (oldKey != null && oldKey != key) {
+                handlers.remove(oldKey, handler);
+            }
+            handlers.put(key, handler);
+        }
+    }
+
+    /**
+     * Removes a thing handler from the thing handler index.
+     *
+     * @param handler
+     */
+    public void removeFromThingHandlerIndex(DSCAlarmBaseThingHandler handler) {
+        DSCAlarmThingType handlerDSCAlarmThingType = handler.getDSCAlarmThingType();
+        Integer key = thingHandlerKeys.remove(handler);
+        if (handlerDSCAlarmThingType != null && key != null) {
+            thingHandlers.get(handlerDSCAlarmThingType).remove(key, handler);
+        }
+        if (handler == panelThingHandler) {
+            panelThingHandler = null;
+        }
+    }
+
+    /**
+     * Returns the key of a thing handler in the thing handler index. There is only one panel and keypad, partitions
+     * are found by their partition number and zones by their zone number.
+     *
+     * @param dscAlarmThingType
+     * @param partitionId
+     * @param zoneId
+     * @return key
+     */
+    private int getThingHandlerKey(DSCAlarmThingType dscAlarmThingType, int partitionId, int zoneId) {
+        switch (dscAlarmThingType) {
+            case PARTITION:
+                return partitionId;
+            case ZONE:
+                return zoneId;
+            case PANEL:
+            case KEYPAD:
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Find a Thing Handler.
+     *
+     * @param dscAlarmThingType
+     * @param partitionId
+     * @param zoneId
+     * @return thing handler
+     */
+    public DSCAlarmBaseThingHandler findThingHandler(DSCAlarmThingType dscAlarmThingType, int partitionId,
+            int zoneId) {
+        return thingHandlers.get(dscAlarmThingType).get(getThingHandlerKey(dscAlarmThingType, partitionId, zoneId));
+    }
+
     /**
      * Find a Thing.
      *
@@ -388,61 +489,8 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
      * @return thing
      */
     public Thing findThing(DSCAlarmThingType dscAlarmThingType, int partitionId, int zoneId) {
-
-        List<Thing> things = getThing().getThings();
-
-        Thing thing = null;
-
-        for (Thing t : things) {
-
-            try {
-                Configuration config = t.getConfiguration();
-                DSCAlarmBaseThingHandler handler = (DSCAlarmBaseThingHandler) t.getHandler();
-
-                if (handler != null) {
-                    DSCAlarmThingType handlerDSCAlarmThingType = handler.getDSCAlarmThingType();
-
-                    if (handlerDSCAlarmThingType != null) {
-                        if (handlerDSCAlarmThingType.equals(dscAlarmThingType)) {
-                            switch (handlerDSCAlarmThingType) {
-                                case PANEL:
-                                case KEYPAD:
-                                    thing = t;
-                                    logger.debug("findThing(): Thing Found - {}, {}, {}", t, handler,
-                                            handlerDSCAlarmThingType);
-                                    return thing;
-                                case PARTITION:
-                                    BigDecimal partitionNumber = (BigDecimal) config
-                                            .get(DSCAlarmPartitionConfiguration.PARTITION_NUMBER);
-                                    if (partitionId == partitionNumber.intValue()) {
-                                        thing = t;
-                                        logger.debug("findThing(): Thing Found - {}, {}, {}", t, handler,
-                                                handlerDSCAlarmThingType);
-                                        return thing;
-                                    }
-                                    break;
-                                case ZONE:
-                                    BigDecimal zoneNumber = (BigDecimal) config
-                                            .get(DSCAlarmZoneConfiguration.ZONE_NUMBER);
-                                    if (zoneId == zoneNumber.intValue()) {
-                                        thing = t;
-                                        logger.debug("findThing(): Thing Found - {}, {}, {}", t, handler,
-                                                handlerDSCAlarmThingType);
-                                        return thing;
-                                    }
-                                    break;
-                                default:
-                                    break;
-                            }
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                logger.debug("findThing(): Error Seaching Thing - {} ", e.getMessage(), e);
-            }
-        }
-
-        return thing;
+        DSCAlarmBaseThingHandler handler = findThingHandler(dscAlarmThingType, partitionId, zoneId);
+        return (handler != null) ? handler.getThing() : null;
     }
 
     /**
@@ -455,8 +503,7 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
             DSCAlarmMessage dscAlarmMessage = new DSCAlarmMessage(incomingMessage);
             DSCAlarmMessageType dscAlarmMessageType = dscAlarmMessage.getDSCAlarmMessageType();
 
-            logger.debug("handleIncomingMessage(): Message received: {} - {}", incomingMessage,
-                    dscAlarmMessage.toString());
+            logger.debug("handleIncomingMessage(): Message received: {} - {}", incomingMessage, dscAlarmMessage);
 
             DSCAlarmEvent event = new DSCAlarmEvent(this);
             event.dscAlarmEventMessage(dscAlarmMessage);
@@ -464,8 +511,7 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
             int partitionId = 0;
             int zoneId = 0;
 
-            DSCAlarmCode dscAlarmCode = DSCAlarmCode
-                    .getDSCAlarmCodeValue(dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.CODE));
+            DSCAlarmCode dscAlarmCode = dscAlarmMessage.getDSCAlarmCode();
 
             if (dscAlarmCode == DSCAlarmCode.LoginResponse) {
                 String dscAlarmMessageData = dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.DATA);
@@ -489,12 +535,11 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
                     break;
                 case PARTITION_EVENT:
                     dscAlarmThingType = DSCAlarmThingType.PARTITION;
-                    partitionId = Integer
-                            .parseInt(event.getDSCAlarmMessage().getMessageInfo(DSCAlarmMessageInfoType.PARTITION));
+                    partitionId = event.getDSCAlarmMessage().getPartition();
                     break;
                 case ZONE_EVENT:
                     dscAlarmThingType = DSCAlarmThingType.ZONE;
-                    zoneId = Integer.parseInt(event.getDSCAlarmMessage().getMessageInfo(DSCAlarmMessageInfoType.ZONE));
+                    zoneId = event.getDSCAlarmMessage().getZone();
                     break;
                 case KEYPAD_EVENT:
                     dscAlarmThingType = DSCAlarmThingType.KEYPAD;
@@ -505,25 +550,23 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
 
             if (dscAlarmThingType != null) {
 
-                Thing thing = findThing(dscAlarmThingType, partitionId, zoneId);
+                DSCAlarmBaseThingHandler thingHandler = findThingHandler(dscAlarmThingType, partitionId, zoneId);
 
-                logger.debug("handleIncomingMessage(): Thing Search - '{}'", thing);
+                logger.debug("handleIncomingMessage(): Thing Handler Search - '{}'", thingHandler);
 
-                if (thing != null) {
-                    DSCAlarmBaseThingHandler thingHandler = (DSCAlarmBaseThingHandler) thing.getHandler();
+                if (thingHandler != null) {
+                    Thing thing = thingHandler.getThing();
 
-                    if (thingHandler != null) {
-                        if (thingHandler.isThingHandlerInitialized()) {
-                            thingHandler.dscAlarmEventReceived(event, thing);
+                    if (thingHandler.isThingHandlerInitialized()) {
+                        thingHandler.dscAlarmEventReceived(event, thing);
 
-                            if (panelThingHandler != null) {
-                                if (!thingHandler.equals(panelThingHandler)) {
-                                    panelThingHandler.dscAlarmEventReceived(event, thing);
-                                }
+                        if (panelThingHandler != null) {
+                            if (!thingHandler.equals(panelThingHandler)) {
+                                panelThingHandler.dscAlarmEventReceived(event, thing);
                             }
-                        } else {
-                            logger.debug("handleIncomingMessage(): Thing '{}' Not Refreshed!", thing.getUID());
                         }
+                    } else {
+                        logger.debug("handleIncomingMessage(): Thing '{}' Not Refreshed!", thing.getUID());
                     }
                 } else {
                     logger.debug("handleIncomingMessage(): Thing Not Found! Send to Discovery Service!");
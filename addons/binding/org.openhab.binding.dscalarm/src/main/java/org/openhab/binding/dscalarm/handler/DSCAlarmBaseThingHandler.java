@@ -76,6 +76,12 @@ public abstract class DSCAlarmBaseThingHandler extends BaseThingHandler {
 
         getConfiguration(dscAlarmThingType);
 
+        // the partition or zone number may have changed
+        DSCAlarmBaseBridgeHandler bridgeHandler = getDSCAlarmBridgeHandler();
+        if (bridgeHandler != null) {
+            bridgeHandler.updateThingHandlerIndex(this);
+        }
+
         // set the Thing offline for now
         updateStatus(ThingStatus.OFFLINE);
     }
@@ -89,6 +95,10 @@ public abstract class DSCAlarmBaseThingHandler extends BaseThingHandler {
 
         this.setThingHandlerInitialized(false);
 
+        if (dscAlarmBridgeHandler != null) {
+            dscAlarmBridgeHandler.removeFromThingHandlerIndex(this);
+        }
+
         super.dispose();
     }
 
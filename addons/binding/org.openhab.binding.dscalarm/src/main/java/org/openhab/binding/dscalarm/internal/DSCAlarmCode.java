@@ -8,9 +8,6 @@
  */
 package org.openhab.binding.dscalarm.internal;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Enumerator for DSCAlarm Command and Message Codes.
  *
@@ -188,9 +185,18 @@ public enum DSCAlarmCode {
     private String description;
 
     /**
-     * Lookup map to get a DSCAlarmCode value from its string code.
+     * Lookup table to get a DSCAlarmCode value from its numeric code, indexed by the code.
      */
-    private static Map<String, DSCAlarmCode> codeToDSCAlarmCodeValue;
+    private static final DSCAlarmCode[] codeTable = new DSCAlarmCode[1000];
+
+    static {
+        for (DSCAlarmCode s : values()) {
+            int code = toCodeIndex(s.code, 0);
+            if (code >= 0) {
+                codeTable[code] = s;
+            }
+        }
+    }
 
     /**
      * Constructor
@@ -203,16 +209,6 @@ public enum DSCAlarmCode {
         this.description = description;
     }
 
-    /**
-     * Initialize the lookup map that gets a DSCAlarmCode value from a string code.
-     */
-    private static void initMapping() {
-        codeToDSCAlarmCodeValue = new HashMap<>();
-        for (DSCAlarmCode s : values()) {
-            codeToDSCAlarmCodeValue.put(s.code, s);
-        }
-    }
-
     /**
      * The DSC Alarm command/message code string (example '005').
      */
@@ -242,18 +238,41 @@ public enum DSCAlarmCode {
      * @return enum value
      */
     public static DSCAlarmCode getDSCAlarmCodeValue(String code) {
-        DSCAlarmCode dscAlarmCode;
-
-        if (codeToDSCAlarmCodeValue == null) {
-            initMapping();
+        if (code == null || code.length() != 3) {
+            return UnknownCode;
         }
+        return getDSCAlarmCodeValue(code, 0);
+    }
 
-        dscAlarmCode = codeToDSCAlarmCodeValue.get(code);
+    /**
+     * Lookup function to return the DSCAlarmCode value of the three digit code at the given position of a message.
+     * Returns 'UnknownCode' if there is no valid code at this position.
+     *
+     * @param message
+     * @param offset - position of the first digit
+     * @return enum value
+     */
+    public static DSCAlarmCode getDSCAlarmCodeValue(CharSequence message, int offset) {
+        int code = toCodeIndex(message, offset);
+        DSCAlarmCode dscAlarmCode = (code >= 0) ? codeTable[code] : null;
+        return (dscAlarmCode != null) ? dscAlarmCode : UnknownCode;
+    }
 
-        if (dscAlarmCode == null) {
-            dscAlarmCode = UnknownCode;
+    /**
+     * Converts the three digits at the given position to a number, -1 if they are not digits.
+     */
+    private static int toCodeIndex(CharSequence message, int offset) {
+        if (offset < 0 || message.length() < offset + 3) {
+            return -1;
         }
-
-        return dscAlarmCode;
+        int code = 0;
+        for (int i = offset; i < offset + 3; i++) {
+            char c = message.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            code = code * 10 + (c - '0');
+        }
+        return code;
     }
 }
@@ -14,13 +14,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A class that processes DSC Alarm Messages.
+ * A class that processes DSC Alarm Messages. The fields are read directly from the received line, the strings of
+ * the message and its data are only created when they are requested.
  *
  * @author Russell Stephens - Initial Contribution
  */
 public class DSCAlarmMessage {
 
-    private final Logger logger = LoggerFactory.getLogger(DSCAlarmMessage.class);
+    private static final Logger logger = LoggerFactory.getLogger(DSCAlarmMessage.class);
 
     private static final EnumMap<DSCAlarmCode, MessageParameters> dscAlarmMessageParameters = new EnumMap<>(
             DSCAlarmCode.class);
@@ -48,14 +49,20 @@ public class DSCAlarmMessage {
 
     private DSCAlarmMessageType messageType = DSCAlarmMessageType.PANEL_EVENT;
 
-    private String message = "";
+    private final String incomingMessage;
+    // Bounds of the message without time stamp and checksum in the incoming message
+    private int start = 0;
+    private int end = 0;
+
+    private DSCAlarmCode dscAlarmCode = DSCAlarmCode.UnknownCode;
+    private String message = null;
     private String name = "";
     private String description = "";
-    private String codeReceived = "";
+    private String codeReceived = null;
     private String timeStamp = "";
-    private String partition = "0";
-    private String zone = "0";
-    private String data = "";
+    private int partition = 0;
+    private int zone = 0;
+    private String data = null;
     private String mode = "";
     private String user = "";
     private String error = "";
@@ -67,7 +74,7 @@ public class DSCAlarmMessage {
      *            - the message received
      */
     public DSCAlarmMessage(String message) {
-        this.message = message;
+        this.incomingMessage = message;
         processDSCAlarmMessage();
     }
 
@@ -75,192 +82,231 @@ public class DSCAlarmMessage {
      * Processes the incoming DSC Alarm message and extracts the information.
      */
     private void processDSCAlarmMessage() {
-        DSCAlarmCode dscAlarmCode;
-
-        if (message.length() > 3) {
-            try {
-                if (message.length() >= 8 && message.charAt(2) == ':' && message.charAt(5) == ':') {
-                    timeStamp = message.substring(0, 8);
-                    message = message.substring(9, message.length() - 2);
-                } else {
-                    message = message.substring(0, message.length() - 2);
-                }
+        int length = incomingMessage.length();
 
-                codeReceived = message.substring(0, 3);
-
-                if (message.length() >= 4) {
-                    data = message.substring(3);
-                }
-            } catch (Exception e) {
-                logger.error("processDSCAlarmMessage(): Error processing message ({}) - {}", message, e);
+        if (length > 3) {
+            if (length >= 8 && incomingMessage.charAt(2) == ':' && incomingMessage.charAt(5) == ':') {
+                timeStamp = incomingMessage.substring(0, 8);
+                start = 9;
+            }
+            end = length - 2;
+
+            if (end - start < 3) {
+                logger.error("processDSCAlarmMessage(): Error processing message ({}) - message too short",
+                        incomingMessage);
+                message = (end >= start) ? incomingMessage.substring(start, end) : incomingMessage;
+                codeReceived = "";
+                data = "";
                 return;
             }
 
-            dscAlarmCode = DSCAlarmCode.getDSCAlarmCodeValue(codeReceived);
+            dscAlarmCode = DSCAlarmCode.getDSCAlarmCodeValue(incomingMessage, start);
 
-            if (dscAlarmCode != null) {
+            name = dscAlarmCode.getName();
+            description = dscAlarmCode.getDescription();
 
-                name = dscAlarmCode.getName();
-                description = dscAlarmCode.getDescription();
+            MessageParameters messageParms = dscAlarmMessageParameters.get(dscAlarmCode);
 
-                MessageParameters messageParms = dscAlarmMessageParameters.get(dscAlarmCode);
+            if (messageParms != null) {
+                boolean hasPartition = messageParms.hasPartition();
+                boolean hasZone = messageParms.hasZone();
 
-                if (messageParms != null) {
-                    boolean hasPartition = messageParms.hasPartition();
-                    boolean hasZone = messageParms.hasZone();
+                if (hasPartition) {
+                    partition = parseNumber(start + 3, start + 4);
+                }
 
+                if (hasZone) {
                     if (hasPartition) {
-                        partition = message.substring(3, 4);
-                    }
-
-                    if (hasZone) {
-                        if (hasPartition) {
-                            zone = message.substring(4);
-                        } else {
-                            zone = message.substring(3);
-                        }
+                        zone = parseNumber(start + 4, end);
+                    } else {
+                        zone = parseNumber(start + 3, end);
                     }
+                }
 
-                    messageType = messageParms.getType();
+                messageType = messageParms.getType();
 
-                }
+            }
 
-                switch (dscAlarmCode) {
-                    case SystemError: /* 502 */
-                        int systemErrorCode = 0;
-                        systemErrorCode = Integer.parseInt(data);
-                        switch (systemErrorCode) {
-                            case 1:
-                                error = "Receive Buffer Overrun";
-                                break;
-                            case 2:
-                                error = "Receive Buffer Overflow";
-                                break;
-                            case 3:
-                                error = "Transmit Buffer Overflow";
-                                break;
-                            case 10:
-                                error = "Keybus Transmit Buffer Overrun";
-                                break;
-                            case 11:
-                                error = "Keybus Transmit Time Timeout";
-                                break;
-                            case 12:
-                                error = "Keybus Transmit Mode Timeout";
-                                break;
-                            case 13:
-                                error = "Keybus Transmit Keystring Timeout";
-                                break;
-                            case 14:
-                                error = "Keybus Interface Not Functioning";
-                                break;
-                            case 15:
-                                error = "Keybus Busy - Attempting to Disarm or Arm with user code";
-                                break;
-                            case 16:
-                                error = "Keybus Busy – Lockout";
-                                break;
-                            case 17:
-                                error = "Keybus Busy – Installers Mode";
-                                break;
-                            case 18:
-                                error = "Keybus Busy - General Busy";
-                                break;
-                            case 20:
-                                error = "API Command Syntax Error";
-                                break;
-                            case 21:
-                                error = "API Command Partition Error - Requested Partition is out of bounds";
-                                break;
-                            case 22:
-                                error = "API Command Not Supported";
-                                break;
-                            case 23:
-                                error = "API System Not Armed - Sent in response to a disarm command";
-                                break;
-                            case 24:
-                                error = "API System Not Ready to Arm - System is either not-secure, in exit-delay, or already armed";
-                                break;
-                            case 25:
-                                error = "API Command Invalid Length";
-                                break;
-                            case 26:
-                                error = "API User Code not Required";
-                                break;
-                            case 27:
-                                error = "API Invalid Characters in Command - No alpha characters are allowed except for checksum";
-                                break;
-                            case 28:
-                                error = "API Virtual Keypad is Disabled";
-                                break;
-                            case 29:
-                                error = "API Not Valid Parameter";
-                                break;
-                            case 30:
-                                error = "API Keypad Does Not Come Out of Blank Mode";
-                                break;
-                            case 31:
-                                error = "API IT-100 is Already in Thermostat Menu";
-                                break;
-                            case 32:
-                                error = "API IT-100 is NOT in Thermostat Menu";
-                                break;
-                            case 33:
-                                error = "API No Response From Thermostat or Escort Module";
-                                break;
-                            case 0:
-                            default:
-                                error = "No Error";
-                                break;
-                        }
-                        break;
-
-                    case PartitionArmed: /* 652 */
-                        mode = message.substring(4);
-                        if (mode.equals("0")) {
-                            name += " (Away)";
-                        } else if (mode.equals("1")) {
-                            name += " (Stay)";
-                        } else if (mode.equals("2")) {
-                            name += " (ZEA)";
-                        } else if (mode.equals("3")) {
-                            name += " (ZES)";
-                        }
-                        messageType = DSCAlarmMessageType.PARTITION_EVENT;
-                        break;
-                    case UserClosing: /* 700 */
-                        user = message.substring(4);
-                        name = name.concat(": " + user);
-                        description = codeReceived + ": Partition " + String.valueOf(partition)
-                                + " has been armed by user " + user + ".";
-                        messageType = DSCAlarmMessageType.PARTITION_EVENT;
-                        break;
-                    case UserOpening: /* 750 */
-                        user = message.substring(4);
-                        name = name.concat(": " + user);
-                        description = codeReceived + ": Partition " + String.valueOf(partition)
-                                + " has been disarmed by user " + user + ".";
-                        messageType = DSCAlarmMessageType.PARTITION_EVENT;
-                        break;
-
-                    default:
-                        break;
-                }
+            switch (dscAlarmCode) {
+                case SystemError: /* 502 */
+                    int systemErrorCode = parseNumber(start + 3, end);
+                    switch (systemErrorCode) {
+                        case 1:
+                            error = "Receive Buffer Overrun";
+                            break;
+                        case 2:
+                            error = "Receive Buffer Overflow";
+                            break;
+                        case 3:
+                            error = "Transmit Buffer Overflow";
+                            break;
+                        case 10:
+                            error = "Keybus Transmit Buffer Overrun";
+                            break;
+                        case 11:
+                            error = "Keybus Transmit Time Timeout";
+                            break;
+                        case 12:
+                            error = "Keybus Transmit Mode Timeout";
+                            break;
+                        case 13:
+                            error = "Keybus Transmit Keystring Timeout";
+                            break;
+                        case 14:
+                            error = "Keybus Interface Not Functioning";
+                            break;
+                        case 15:
+                            error = "Keybus Busy - Attempting to Disarm or Arm with user code";
+                            break;
+                        case 16:
+                            error = "Keybus Busy – Lockout";
+                            break;
+                        case 17:
+                            error = "Keybus Busy – Installers Mode";
+                            break;
+                        case 18:
+                            error = "Keybus Busy - General Busy";
+                            break;
+                        case 20:
+                            error = "API Command Syntax Error";
+                            break;
+                        case 21:
+                            error = "API Command Partition Error - Requested Partition is out of bounds";
+                            break;
+                        case 22:
+                            error = "API Command Not Supported";
+                            break;
+                        case 23:
+                            error = "API System Not Armed - Sent in response to a disarm command";
+                            break;
+                        case 24:
+                            error = "API System Not Ready to Arm - System is either not-secure, in exit-delay, or already armed";
+                            break;
+                        case 25:
+                            error = "API Command Invalid Length";
+                            break;
+                        case 26:
+                            error = "API User Code not Required";
+                            break;
+                        case 27:
+                            error = "API Invalid Characters in Command - No alpha characters are allowed except for checksum";
+                            break;
+                        case 28:
+                            error = "API Virtual Keypad is Disabled";
+                            break;
+                        case 29:
+                            error = "API Not Valid Parameter";
+                            break;
+                        case 30:
+                            error = "API Keypad Does Not Come Out of Blank Mode";
+                            break;
+                        case 31:
+                            error = "API IT-100 is Already in Thermostat Menu";
+                            break;
+                        case 32:
+                            error = "API IT-100 is NOT in Thermostat Menu";
+                            break;
+                        case 33:
+                            error = "API No Response From Thermostat or Escort Module";
+                            break;
+                        case 0:
+                        default:
+                            error = "No Error";
+                            break;
+                    }
+                    break;
+
+                case PartitionArmed: /* 652 */
+                    mode = incomingMessage.substring(start + 4, end);
+                    if (mode.equals("0")) {
+                        name += " (Away)";
+                    } else if (mode.equals("1")) {
+                        name += " (Stay)";
+                    } else if (mode.equals("2")) {
+                        name += " (ZEA)";
+                    } else if (mode.equals("3")) {
+                        name += " (ZES)";
+                    }
+                    messageType = DSCAlarmMessageType.PARTITION_EVENT;
+                    break;
+                case UserClosing: /* 700 */
+                    user = incomingMessage.substring(start + 4, end);
+                    name = name.concat(": " + user);
+                    description = getCodeReceived() + ": Partition " + String.valueOf(partition)
+                            + " has been armed by user " + user + ".";
+                    messageType = DSCAlarmMessageType.PARTITION_EVENT;
+                    break;
+                case UserOpening: /* 750 */
+                    user = incomingMessage.substring(start + 4, end);
+                    name = name.concat(": " + user);
+                    description = getCodeReceived() + ": Partition " + String.valueOf(partition)
+                            + " has been disarmed by user " + user + ".";
+                    messageType = DSCAlarmMessageType.PARTITION_EVENT;
+                    break;
+
+                default:
+                    break;
+            }
 
+            if (logger.isDebugEnabled()) {
                 logger.debug(
                         "parseAPIMessage(): Message Received ({}) - Code: {}, Name: {}, Description: {}, Data: {}\r\n",
-                        message, codeReceived, name, description, data);
+                        getMessage(), getCodeReceived(), name, description, getData());
             }
         } else {
             codeReceived = "-1";
             data = "";
-            dscAlarmCode = DSCAlarmCode.getDSCAlarmCodeValue(codeReceived);
+            message = incomingMessage;
+            dscAlarmCode = DSCAlarmCode.UnknownCode;
             name = dscAlarmCode.getName();
             description = dscAlarmCode.getDescription();
             logger.debug("parseAPIMessage(): Invalid Message Received");
         }
     }
 
+    /**
+     * Reads a decimal number from the incoming message. Returns 0 if there are no digits at this position.
+     *
+     * @param from - position of the first digit
+     * @param to - position after the last digit
+     * @return the number
+     */
+    private int parseNumber(int from, int to) {
+        if (from >= to || to > end) {
+            return 0;
+        }
+        int number = 0;
+        for (int i = from; i < to; i++) {
+            char c = incomingMessage.charAt(i);
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+
+    private String getMessage() {
+        if (message == null) {
+            message = incomingMessage.substring(start, end);
+        }
+        return message;
+    }
+
+    private String getCodeReceived() {
+        if (codeReceived == null) {
+            codeReceived = incomingMessage.substring(start, start + 3);
+        }
+        return codeReceived;
+    }
+
+    private String getData() {
+        if (data == null) {
+            data = (end - start >= 4) ? incomingMessage.substring(start + 3, end) : "";
+        }
+        return data;
+    }
+
     /**
      * Returns the DSCAlarm Message Type.
      *
@@ -270,6 +316,33 @@ public class DSCAlarmMessage {
         return messageType;
     }
 
+    /**
+     * Returns the DSCAlarm code of the message, 'UnknownCode' if the code is not known.
+     *
+     * @return dscAlarmCode
+     */
+    public DSCAlarmCode getDSCAlarmCode() {
+        return dscAlarmCode;
+    }
+
+    /**
+     * Returns the partition number of the message, 0 if the message has no partition.
+     *
+     * @return partition
+     */
+    public int getPartition() {
+        return partition;
+    }
+
+    /**
+     * Returns the zone number of the message, 0 if the message has no zone.
+     *
+     * @return zone
+     */
+    public int getZone() {
+        return zone;
+    }
+
     /**
      * Returns Information from A DSC Alarm Message
      *
@@ -282,7 +355,7 @@ public class DSCAlarmMessage {
 
         switch (dscAlarmMessageInfoType) {
             case MESSAGE:
-                info = message;
+                info = getMessage();
                 break;
             case NAME:
                 info = name;
@@ -291,19 +364,19 @@ public class DSCAlarmMessage {
                 info = description;
                 break;
             case CODE:
-                info = codeReceived;
+                info = getCodeReceived();
                 break;
             case TIME_STAMP:
                 info = timeStamp;
                 break;
             case PARTITION:
-                info = partition;
+                info = String.valueOf(partition);
                 break;
             case ZONE:
-                info = zone;
+                info = String.valueOf(zone);
                 break;
             case DATA:
-                info = data;
+                info = getData();
                 break;
             case MODE:
                 info = mode;
@@ -331,7 +404,7 @@ public class DSCAlarmMessage {
         StringBuilder sb = new StringBuilder();
 
         sb.append("Code: \"");
-        sb.append(codeReceived);
+        sb.append(getCodeReceived());
         sb.append("\"");
 
         sb.append(", Name: \"");
@@ -347,19 +420,19 @@ public class DSCAlarmMessage {
             sb.append(timeStamp);
         }
 
-        if (!partition.equals("0")) {
+        if (partition != 0) {
             sb.append(", Partition: ");
             sb.append(partition);
         }
 
-        if (!zone.equals("0")) {
+        if (zone != 0) {
             sb.append(", Zone: ");
             sb.append(zone);
         }
 
-        if (!data.equals("")) {
+        if (!getData().equals("")) {
             sb.append(", Data: ");
-            sb.append(data);
+            sb.append(getData());
         }
 
         if (!mode.equals("")) {
@@ -8,7 +8,10 @@
  */
 package org.openhab.binding.gardena.handler;
 
+import static org.openhab.binding.gardena.GardenaBindingConstants.*;
+
 import java.util.Hashtable;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.smarthome.config.discovery.DiscoveryService;
@@ -177,14 +180,25 @@ public class GardenaAccountHandler extends BaseBridgeHandler implements GardenaS
      * {@inheritDoc}
      */
     @Override
-    public void onDeviceUpdated(Device device) {
+    public void onDeviceUpdated(Device device, Set<String> changedProperties) {
+        updateThing(device, changedProperties);
+    }
+
+    /**
+     * Updates the thing of the device, only the channels of the changed properties or all if null.
+     */
+    private void updateThing(Device device, Set<String> changedProperties) {
         Thing gardenaThing = getThingByUID(UidUtils.generateThingUID(device, getThing()));
         try {
             if (gardenaThing != null) {
                 GardenaThingHandler gardenaThingHandler = (GardenaThingHandler) gardenaThing.getHandler();
-                gardenaThingHandler.updateProperties(device);
+                if (changedProperties == null || hasChangedAbility(changedProperties, ABILITY_DEVICE_INFO)) {
+                    gardenaThingHandler.updateProperties(device);
+                }
                 for (Channel channel : gardenaThing.getChannels()) {
-                    gardenaThingHandler.updateChannel(channel.getUID());
+                    if (changedProperties == null || changedProperties.contains(channel.getUID().getId())) {
+                        gardenaThingHandler.updateChannel(channel.getUID());
+                    }
                 }
                 gardenaThingHandler.updateStatus(device);
             }
@@ -196,6 +210,18 @@ public class GardenaAccountHandler extends BaseBridgeHandler implements GardenaS
         }
     }
 
+    /**
+     * Returns true, if a property of the ability has changed.
+     */
+    private boolean hasChangedAbility(Set<String> changedProperties, String abilityName) {
+        for (String changedProperty : changedProperties) {
+            if (changedProperty.startsWith(abilityName + "#")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -204,7 +230,7 @@ public class GardenaAccountHandler extends BaseBridgeHandler implements GardenaS
         if (discoveryService != null) {
             discoveryService.deviceDiscovered(device);
         }
-        onDeviceUpdated(device);
+        updateThing(device, null);
     }
 
     /**
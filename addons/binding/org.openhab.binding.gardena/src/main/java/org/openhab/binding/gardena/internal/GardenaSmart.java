@@ -58,4 +58,19 @@ public interface GardenaSmart {
      * Returns the id.
      */
     public String getId();
+
+    /**
+     * Returns the duration of the last request to Gardena Smart Home in milliseconds.
+     */
+    public long getLastRequestLatency();
+
+    /**
+     * Returns the average duration of all requests to Gardena Smart Home in milliseconds.
+     */
+    public long getAverageRequestLatency();
+
+    /**
+     * Returns the number of properties which have changed with the last refresh.
+     */
+    public int getLastChangedPropertyCount();
 }
@@ -8,6 +8,8 @@
  */
 package org.openhab.binding.gardena.internal;
 
+import java.util.Set;
+
 import org.openhab.binding.gardena.internal.model.Device;
 
 /**
@@ -18,9 +20,10 @@ import org.openhab.binding.gardena.internal.model.Device;
 public interface GardenaSmartEventListener {
 
     /**
-     * Called when a device has been updated.
+     * Called when properties of a device have been updated, the changed properties are passed as channel ids
+     * (ability#property).
      */
-    public void onDeviceUpdated(Device device);
+    public void onDeviceUpdated(Device device, Set<String> changedProperties);
 
     /**
      * Called when a new device has been detected.
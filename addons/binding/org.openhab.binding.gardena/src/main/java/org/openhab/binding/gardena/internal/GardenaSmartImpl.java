@@ -8,19 +8,23 @@
  */
 package org.openhab.binding.gardena.internal;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.ObjectUtils;
+import org.apache.commons.lang.StringUtils;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.HttpResponseException;
 import org.eclipse.jetty.client.api.ContentResponse;
@@ -80,6 +84,11 @@ public class GardenaSmartImpl implements GardenaSmart {
     private static final String ABILITY_SOIL_TEMPERATURE = "soil_temperature";
 
     private static final String PROPERTY_BUTTON_MANUAL_OVERRIDE_TIME = "button_manual_override_time";
+    private static final String PROPERTY_VALVE_OPEN = "valve_open";
+    private static final String PROPERTY_STATUS = "status";
+
+    private static final String MOWER_STATUS_CHARGING = "ok_charging";
+    private static final String MOWER_STATUS_ACTIVE_PREFIX = "ok_";
 
     private static final String DEVICE_CATEGORY_MOWER = "mower";
     private static final String DEVICE_CATEGORY_GATEWAY = "gateway";
@@ -97,17 +106,23 @@ public class GardenaSmartImpl implements GardenaSmart {
     private HttpClient httpClient;
 
     private String mowerDuration = DEFAULT_MOWER_DURATION;
-    private Session session;
+    private volatile Session session;
     private GardenaConfig config;
     private String id;
 
     private ScheduledExecutorService scheduler;
     private ScheduledFuture<?> refreshThreadFuture;
     private RefreshDevicesThread refreshDevicesThread = new RefreshDevicesThread();
+    private boolean activeRefresh;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong requestTime = new AtomicLong();
+    private volatile long lastRequestLatency;
+    private volatile int lastChangedPropertyCount;
 
     private GardenaSmartEventListener eventListener;
 
-    private Map<String, Device> allDevicesById = new HashMap<String, Device>();
+    private volatile Map<String, Device> allDevicesById = new HashMap<String, Device>();
     private Set<Location> allLocations = new HashSet<Location>();
 
     /**
@@ -156,11 +171,12 @@ public class GardenaSmartImpl implements GardenaSmart {
     }
 
     /**
-     * Schedules the device refresh thread.
+     * Schedules the device refresh thread, with the active refresh interval while a device is watering or mowing.
      */
     private void startRefreshThread() {
-        refreshThreadFuture = scheduler.scheduleWithFixedDelay(refreshDevicesThread, config.getRefresh(),
-                config.getRefresh(), TimeUnit.SECONDS);
+        int refresh = activeRefresh ? config.getActiveRefresh() : config.getRefresh();
+        refreshThreadFuture = scheduler.scheduleWithFixedDelay(refreshDevicesThread, refresh, refresh,
+                TimeUnit.SECONDS);
     }
 
     /**
@@ -199,6 +215,31 @@ public class GardenaSmartImpl implements GardenaSmart {
         return allLocations;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLastRequestLatency() {
+        return lastRequestLatency;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getAverageRequestLatency() {
+        long count = requestCount.get();
+        return count == 0 ? 0 : requestTime.get() / count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLastChangedPropertyCount() {
+        return lastChangedPropertyCount;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -237,6 +278,7 @@ public class GardenaSmartImpl implements GardenaSmart {
                     }
                 }
             }
+            activeRefresh = isAnyDeviceActive();
         } finally {
             startRefreshThread();
         }
@@ -357,7 +399,7 @@ public class GardenaSmartImpl implements GardenaSmart {
     /**
      * Communicates with Gardena Smart Home and parses the result.
      */
-    private synchronized <T> T executeRequest(HttpMethod method, String url, Object contentObject, Class<T> result)
+    private <T> T executeRequest(HttpMethod method, String url, Object contentObject, Class<T> result)
             throws GardenaException {
         try {
             if (logger.isTraceEnabled()) {
@@ -382,10 +424,16 @@ public class GardenaSmartImpl implements GardenaSmart {
                 request.header("X-Session", session.getToken());
             }
 
+            long start = System.currentTimeMillis();
             ContentResponse contentResponse = request.send();
+            long latency = System.currentTimeMillis() - start;
+            lastRequestLatency = latency;
+            requestTime.addAndGet(latency);
+            requestCount.incrementAndGet();
+
             int status = contentResponse.getStatus();
             if (logger.isTraceEnabled()) {
-                logger.trace("Status  : {}", status);
+                logger.trace("Status  : {} ({} ms)", status, latency);
                 logger.trace("Response: {}", contentResponse.getContentAsString());
             }
 
@@ -419,7 +467,7 @@ public class GardenaSmartImpl implements GardenaSmart {
     /**
      * Verifies the Gardena Smart Home session and reconnects if necessary.
      */
-    private void verifySession() throws GardenaException {
+    private synchronized void verifySession() throws GardenaException {
         if (session == null
                 || session.getCreated() + (config.getSessionTimeout() * 60000) <= System.currentTimeMillis()) {
             logger.trace("(Re)logging in to Gardena Smart Home");
@@ -428,6 +476,51 @@ public class GardenaSmartImpl implements GardenaSmart {
         }
     }
 
+    /**
+     * Returns the properties with a different value in the new device as channel ids (ability#property).
+     */
+    private Set<String> getChangedProperties(Device oldDevice, Device newDevice) {
+        Map<String, String> oldValues = new HashMap<String, String>();
+        for (Ability ability : oldDevice.getAbilities()) {
+            for (Property property : ability.getProperties()) {
+                oldValues.put(ability.getName() + "#" + property.getName(), property.getValue());
+            }
+        }
+
+        Set<String> changedProperties = new TreeSet<String>();
+        for (Ability ability : newDevice.getAbilities()) {
+            for (Property property : ability.getProperties()) {
+                String key = ability.getName() + "#" + property.getName();
+                if (!oldValues.containsKey(key) || !StringUtils.equals(oldValues.get(key), property.getValue())) {
+                    changedProperties.add(key);
+                }
+            }
+        }
+        return changedProperties;
+    }
+
+    /**
+     * Returns true, if a watering computer is watering or a mower is mowing.
+     */
+    private boolean isAnyDeviceActive() {
+        for (Device device : allDevicesById.values()) {
+            for (Ability ability : device.getAbilities()) {
+                for (Property property : ability.getProperties()) {
+                    if (ABILITY_OUTLET.equals(ability.getName()) && PROPERTY_VALVE_OPEN.equals(property.getName())
+                            && Boolean.TRUE.toString().equalsIgnoreCase(property.getValue())) {
+                        return true;
+                    }
+                    if (ABILITY_MOWER.equals(ability.getName()) && PROPERTY_STATUS.equals(property.getName())
+                            && StringUtils.startsWith(property.getValue(), MOWER_STATUS_ACTIVE_PREFIX)
+                            && !MOWER_STATUS_CHARGING.equals(property.getValue())) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Thread which refreshes the data from Gardena Smart Home.
      */
@@ -438,7 +531,7 @@ public class GardenaSmartImpl implements GardenaSmart {
          * {@inheritDoc}
          */
         @Override
-        public void run() {
+        public synchronized void run() {
             try {
                 logger.debug("Refreshing gardena device data");
                 Map<String, Device> newDevicesById = new HashMap<String, Device>();
@@ -465,18 +558,31 @@ public class GardenaSmartImpl implements GardenaSmart {
                 Collection<Device> deletedDevices = CollectionUtils.subtract(allDevicesById.values(),
                         newDevicesById.values());
 
-                // determine new devices
-                @SuppressWarnings("unchecked")
-                Collection<Device> newDevices = CollectionUtils.subtract(newDevicesById.values(),
-                        allDevicesById.values());
-
-                // determine updated devices
-                @SuppressWarnings("unchecked")
-                Collection<Device> updatedDevices = CollectionUtils.intersection(allDevicesById.values(),
-                        newDevicesById.values());
+                // determine new and updated devices, updated devices with their changed properties only
+                Collection<Device> newDevices = new ArrayList<Device>();
+                Map<Device, Set<String>> updatedDevices = new HashMap<Device, Set<String>>();
+                int changedPropertyCount = 0;
+                for (Device newDevice : newDevicesById.values()) {
+                    Device oldDevice = allDevicesById.get(newDevice.getId());
+                    if (oldDevice == null) {
+                        newDevices.add(newDevice);
+                    } else {
+                        Set<String> changedProperties = getChangedProperties(oldDevice, newDevice);
+                        if (!changedProperties.isEmpty()
+                                || oldDevice.isConfigurationSynchronized() != newDevice.isConfigurationSynchronized()) {
+                            updatedDevices.put(newDevice, changedProperties);
+                            changedPropertyCount += changedProperties.size();
+                        }
+                    }
+                }
 
                 allDevicesById = newDevicesById;
                 newDevicesById = null;
+                lastChangedPropertyCount = changedPropertyCount;
+
+                logger.debug("Gardena refresh: {} devices, {} changed, {} properties changed, "
+                        + "last request {} ms, average request {} ms", allDevicesById.size(), updatedDevices.size(),
+                        changedPropertyCount, lastRequestLatency, getAverageRequestLatency());
 
                 for (Device deletedDevice : deletedDevices) {
                     eventListener.onDeviceDeleted(deletedDevice);
@@ -486,8 +592,19 @@ public class GardenaSmartImpl implements GardenaSmart {
                     eventListener.onNewDevice(newDevice);
                 }
 
-                for (Device updatedDevice : updatedDevices) {
-                    eventListener.onDeviceUpdated(updatedDevice);
+                for (Map.Entry<Device, Set<String>> updatedDevice : updatedDevices.entrySet()) {
+                    eventListener.onDeviceUpdated(updatedDevice.getKey(), updatedDevice.getValue());
+                }
+
+                boolean active = isAnyDeviceActive();
+                if (active != activeRefresh) {
+                    activeRefresh = active;
+                    logger.debug("Switching to {} refresh interval for Gardena Smart Home with id '{}'",
+                            active ? "active" : "normal", id);
+                    if (refreshThreadFuture != null) {
+                        refreshThreadFuture.cancel(false);
+                    }
+                    startRefreshThread();
                 }
 
             } catch (GardenaException ex) {
@@ -22,6 +22,7 @@ public class GardenaConfig {
     private static final Integer DEFAULT_SESSION_TIMEOUT = 30;
     private static final Integer DEFAULT_CONNECTION_TIMEOUT = 10;
     private static final Integer DEFAULT_REFRESH = 60;
+    private static final Integer DEFAULT_ACTIVE_REFRESH = 15;
 
     private String email;
     private String password;
@@ -29,6 +30,7 @@ public class GardenaConfig {
     private transient Integer sessionTimeout = DEFAULT_SESSION_TIMEOUT;
     private transient Integer connectionTimeout = DEFAULT_CONNECTION_TIMEOUT;
     private transient Integer refresh = DEFAULT_REFRESH;
+    private transient Integer activeRefresh = DEFAULT_ACTIVE_REFRESH;
 
     public GardenaConfig() {
     }
@@ -108,6 +110,20 @@ public class GardenaConfig {
         this.refresh = refresh;
     }
 
+    /**
+     * Returns the refresh interval while a device is watering or mowing.
+     */
+    public Integer getActiveRefresh() {
+        return activeRefresh;
+    }
+
+    /**
+     * Sets the refresh interval while a device is watering or mowing.
+     */
+    public void setActiveRefresh(Integer activeRefresh) {
+        this.activeRefresh = activeRefresh;
+    }
+
     /**
      * Validate the config, if at least email and password is specified.
      */
@@ -123,7 +139,7 @@ public class GardenaConfig {
         return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE).append("email", email)
                 .append("password", StringUtils.isBlank(password) ? "" : StringUtils.repeat("*", password.length()))
                 .append("sessionTimeout", sessionTimeout).append("connectionTimeout", connectionTimeout)
-                .append("refresh", refresh).toString();
+                .append("refresh", refresh).append("activeRefresh", activeRefresh).toString();
     }
 
 }
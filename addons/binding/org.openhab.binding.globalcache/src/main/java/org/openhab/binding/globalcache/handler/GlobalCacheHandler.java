@@ -10,17 +10,14 @@ package org.openhab.binding.globalcache.handler;
 
 import static org.openhab.binding.globalcache.GlobalCacheBindingConstants.*;
 
-import java.io.BufferedReader;
-import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.net.InetAddress;
-import java.net.InetSocketAddress;
 import java.net.NetworkInterface;
-import java.net.Socket;
 import java.net.SocketException;
 import java.net.URLDecoder;
 import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
@@ -52,6 +49,10 @@ import org.openhab.binding.globalcache.internal.command.CommandSendserial;
 import org.openhab.binding.globalcache.internal.command.CommandSetstate;
 import org.openhab.binding.globalcache.internal.command.RequestMessage;
 import org.openhab.binding.globalcache.internal.command.ResponseMessage;
+import org.openhab.io.transport.socket.LineFramer;
+import org.openhab.io.transport.socket.ResponseFramer;
+import org.openhab.io.transport.socket.SocketChannelSession;
+import org.openhab.io.transport.socket.SocketSessionListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,6 +61,7 @@ import org.slf4j.LoggerFactory;
  * sent to one of the channels.
  *
  * @author Mark Hilbush - Initial contribution
+ * @author agent - Moved the connections to the socket transport
  */
 public class GlobalCacheHandler extends BaseThingHandler {
     private Logger logger = LoggerFactory.getLogger(GlobalCacheHandler.class);
@@ -506,21 +508,23 @@ public class GlobalCacheHandler extends BaseThingHandler {
         private void writeCommandToDevice(RequestMessage requestMessage) throws IOException {
             logger.trace("Processor for thing {} writing command to device", thingID());
 
-            if (connectionManager.getOut(requestMessage.getCommandType()) == null) {
-                logger.debug("Error writing to device because output stream object is null");
+            DeviceConnection conn = connectionManager.getConnection(requestMessage.getCommandType());
+            if (conn.getSession() == null) {
+                logger.debug("Error writing to device because session object is null");
                 return;
             }
 
-            byte[] deviceCommand;
+            // the framer of the connection sends each character as a byte and adds the CR to commands
+            String deviceCommand;
             if (requestMessage.isSerial()) {
                 String charset = "ISO-8859-1";
-                deviceCommand = URLDecoder.decode(requestMessage.getDeviceCommand(), charset).getBytes(charset);
-                logger.debug("Decoded deviceCommand byte array: {}", getAsHexString(deviceCommand));
+                deviceCommand = URLDecoder.decode(requestMessage.getDeviceCommand(), charset);
+                logger.debug("Decoded deviceCommand byte array: {}", getAsHexString(deviceCommand.getBytes(charset)));
             } else {
-                deviceCommand = (requestMessage.getDeviceCommand() + '\r').getBytes();
+                deviceCommand = requestMessage.getDeviceCommand();
             }
-            connectionManager.getOut(requestMessage.getCommandType()).write(deviceCommand);
-            connectionManager.getOut(requestMessage.getCommandType()).flush();
+            conn.clearReplies();
+            conn.getSession().sendCommand(deviceCommand);
         }
 
         private String getAsHexString(byte[] b) {
@@ -542,13 +546,14 @@ public class GlobalCacheHandler extends BaseThingHandler {
                 return "successful";
             }
 
-            if (connectionManager.getIn() == null) {
-                logger.debug("Error reading from device because input stream object is null");
-                return "ERROR: BufferedReader is null!";
+            DeviceConnection conn = connectionManager.getConnection(requestMessage.getCommandType());
+            if (conn.getSession() == null) {
+                logger.debug("Error reading from device because session object is null");
+                return "ERROR: Session is null!";
             }
 
             logger.trace("Processor for thing {} reading response from device", thingID());
-            return connectionManager.getIn().readLine().trim();
+            return conn.readReply();
         }
     }
 
@@ -577,6 +582,11 @@ public class GlobalCacheHandler extends BaseThingHandler {
 
         private final int SOCKET_CONNECT_TIMEOUT = 1500;
 
+        // Replies of the command port end with a CR, which is also appended to the commands. The commands of the
+        // serial ports are sent as they are, the device doesn't reply to them.
+        private final ResponseFramer COMMAND_FRAMER = new LineFramer("\r", "\r");
+        private final ResponseFramer SERIAL_FRAMER = new LineFramer("\r", "");
+
         ScheduledFuture<?> connectionMonitorJob;
         private final int CONNECTION_MONITOR_FREQUENCY = 60;
         private final int CONNECTION_MONITOR_START_DELAY = 15;
@@ -590,9 +600,9 @@ public class GlobalCacheHandler extends BaseThingHandler {
         };
 
         public ConnectionManager() {
-            commandConnection = new DeviceConnection(COMMAND_NAME, COMMAND_PORT);
-            serial1Connection = new DeviceConnection(SERIAL1_NAME, SERIAL1_PORT);
-            serial2Connection = new DeviceConnection(SERIAL2_NAME, SERIAL2_PORT);
+            commandConnection = new DeviceConnection(COMMAND_NAME, COMMAND_PORT, COMMAND_FRAMER, true);
+            serial1Connection = new DeviceConnection(SERIAL1_NAME, SERIAL1_PORT, SERIAL_FRAMER, false);
+            serial2Connection = new DeviceConnection(SERIAL2_NAME, SERIAL2_PORT, SERIAL_FRAMER, false);
 
             commandConnection.setIP(getIPAddress());
             serial1Connection.setIP(getIPAddress());
@@ -618,6 +628,8 @@ public class GlobalCacheHandler extends BaseThingHandler {
             if (isConnected()) {
                 return;
             }
+            // close the ports that are still open after one of them failed
+            disconnect();
 
             // If device doesn't have a serial module, just open the command connection
             if (!deviceSupportsSerial1()) {
@@ -648,11 +660,15 @@ public class GlobalCacheHandler extends BaseThingHandler {
         private boolean deviceConnect(DeviceConnection conn) {
             logger.debug("Connecting to {} port for thing {} at IP {}", conn.getName(), thingID(), conn.getIP());
 
-            // open socket
+            // open session
             try {
-                conn.setSocket(new Socket());
-                conn.getSocket().bind(new InetSocketAddress(ifAddress, 0));
-                conn.getSocket().connect(new InetSocketAddress(conn.getIP(), conn.getPort()), SOCKET_CONNECT_TIMEOUT);
+                SocketChannelSession session = new SocketChannelSession(conn.getIP(), conn.getPort(),
+                        conn.getFramer(), "globalcache");
+                session.setLocalAddress(ifAddress);
+                session.setConnectTimeout(SOCKET_CONNECT_TIMEOUT);
+                session.addListener(conn);
+                conn.setSession(session);
+                session.connect();
             } catch (IOException e) {
                 logger.debug("Error connecting to {} port for thing {} at IP {}, exception={}", conn.getName(),
                         thingID(), conn.getIP(), e.getMessage());
@@ -660,25 +676,13 @@ public class GlobalCacheHandler extends BaseThingHandler {
                 deviceDisconnect(conn);
                 return false;
             }
-
-            // create streams
-            try {
-                conn.setIn(new BufferedReader(new InputStreamReader(conn.getSocket().getInputStream())));
-                conn.setOut(new DataOutputStream(conn.getSocket().getOutputStream()));
-            } catch (IOException e) {
-                logger.debug("Error getting streams to {} port for thing {} at {}, exception={}", conn.getName(),
-                        thingID(), conn.getIP(), e.getMessage());
-                markThingOfflineWithError(ThingStatusDetail.OFFLINE.COMMUNICATION_ERROR, e.getMessage());
-                deviceDisconnect(conn);
-                return false;
-            }
             logger.info("Got a connection to {} port for thing {} at {}", conn.getName(), thingID(), conn.getIP());
 
             return true;
         }
 
         protected void disconnect() {
-            if (!isConnected()) {
+            if (!deviceIsConnected) {
                 return;
             }
             deviceDisconnect(commandConnection);
@@ -699,24 +703,48 @@ public class GlobalCacheHandler extends BaseThingHandler {
             logger.debug("Disconnecting from {} port for thing {} at IP {}", conn.getName(), thingID(), conn.getIP());
 
             try {
-                if (conn.getOut() != null) {
-                    conn.getOut().close();
-                }
-                if (conn.getIn() != null) {
-                    conn.getIn().close();
-                }
-                if (conn.getSocket() != null) {
-                    conn.getSocket().close();
+                if (conn.getSession() != null) {
+                    conn.getSession().clearListeners();
+                    conn.getSession().disconnect();
                 }
             } catch (IOException e) {
                 logger.debug("Error closing {} port for thing {} at IP {}: exception={}", conn.getName(), thingID(),
                         conn.getIP(), e.getMessage());
             }
+            updateConnectionProperties(conn);
             conn.reset();
         }
 
+        /*
+         * Copy the counters of the session of a port to the thing properties. The properties of the serial ports
+         * are prefixed with the name of the port.
+         */
+        private void updateConnectionProperties(DeviceConnection conn) {
+            if (conn.getSession() == null) {
+                return;
+            }
+            String prefix = conn == commandConnection ? "" : conn.getName() + ".";
+            Map<String, String> properties = editProperties();
+            for (Map.Entry<String, String> entry : conn.getSession().getMetrics().toProperties().entrySet()) {
+                properties.put(prefix + entry.getKey(), entry.getValue());
+            }
+            updateProperties(properties);
+        }
+
+        /*
+         * The device is connected until a connection to one of its ports fails
+         */
         private boolean isConnected() {
-            return deviceIsConnected;
+            if (!deviceIsConnected || !commandConnection.isConnected()) {
+                return false;
+            }
+            if (deviceSupportsSerial1() && !serial1Connection.isConnected()) {
+                return false;
+            }
+            if (deviceSupportsSerial2() && !serial2Connection.isConnected()) {
+                return false;
+            }
+            return true;
         }
 
         public void setCommError(String errorMessage) {
@@ -724,20 +752,15 @@ public class GlobalCacheHandler extends BaseThingHandler {
         }
 
         /*
-         * Retrieve the input/output streams for command and serial connections.
-         * We will never read from input stream for serial commands, so just return the command input stream
+         * Retrieve the command or serial connection of the command type.
          */
-        protected BufferedReader getIn() {
-            return commandConnection.getIn();
-        }
-
-        protected DataOutputStream getOut(CommandType commandType) {
+        protected DeviceConnection getConnection(CommandType commandType) {
             if (commandType == CommandType.SERIAL1) {
-                return serial1Connection.getOut();
+                return serial1Connection;
             } else if (commandType == CommandType.SERIAL2) {
-                return serial2Connection.getOut();
+                return serial2Connection;
             } else {
-                return commandConnection.getOut();
+                return commandConnection;
             }
         }
 
@@ -787,6 +810,9 @@ public class GlobalCacheHandler extends BaseThingHandler {
                 logger.trace("Connection check successful for thing {} at IP {}", thingID(), commandConnection.getIP());
                 markThingOnline();
                 deviceIsConnected = true;
+                updateConnectionProperties(commandConnection);
+                updateConnectionProperties(serial1Connection);
+                updateConnectionProperties(serial2Connection);
             } else {
                 logger.trace("Connection check failed for thing {} at IP {}", thingID(), commandConnection.getIP());
                 disconnect();
@@ -799,30 +825,38 @@ public class GlobalCacheHandler extends BaseThingHandler {
      * There can be two types of connections, command and serial. The command connection is used to
      * send all but the serial strings to the device. The serial connection is used exclusively to
      * send serial messages. These serial connections are applicable only to iTach SL and GC-100 devices.
+     * The replies received on the connection are queued until the command processor reads them.
      *
      * @author Mark Hilbush - Initial contribution
+     * @author agent - Moved to the socket transport
      */
-    private class DeviceConnection {
+    private class DeviceConnection implements SocketSessionListener {
+        // Device response time is typically well below 100 ms, but an IR reply comes after the IR code is sent
+        private final int REPLY_TIMEOUT = 10000;
+
         private String connectionName;
         private int port;
         private String ipAddress;
-        private Socket socket;
-        private BufferedReader in;
-        private DataOutputStream out;
+        private ResponseFramer framer;
+        private boolean hasReplies;
+        private SocketChannelSession session;
+        private volatile boolean failed;
+
+        // replies (strings) and read errors (exceptions) of the session
+        private final BlockingQueue<Object> replies = new LinkedBlockingQueue<Object>();
 
-        DeviceConnection(String connectionName, int port) {
+        DeviceConnection(String connectionName, int port, ResponseFramer framer, boolean hasReplies) {
             setName(connectionName);
             setPort(port);
             setIP(null);
-            setSocket(null);
-            setIn(null);
-            setOut(null);
+            this.framer = framer;
+            this.hasReplies = hasReplies;
+            setSession(null);
         }
 
         public void reset() {
-            setSocket(null);
-            setIn(null);
-            setOut(null);
+            setSession(null);
+            clearReplies();
         }
 
         public String getName() {
@@ -849,28 +883,67 @@ public class GlobalCacheHandler extends BaseThingHandler {
             this.ipAddress = ipAddress;
         }
 
-        public Socket getSocket() {
-            return socket;
+        public ResponseFramer getFramer() {
+            return framer;
+        }
+
+        public SocketChannelSession getSession() {
+            return session;
+        }
+
+        public void setSession(SocketChannelSession session) {
+            this.session = session;
+            this.failed = false;
         }
 
-        public void setSocket(Socket socket) {
-            this.socket = socket;
+        public boolean isConnected() {
+            return session != null && session.isConnected() && !failed;
         }
 
-        public BufferedReader getIn() {
-            return in;
+        public void clearReplies() {
+            replies.clear();
         }
 
-        public void setIn(BufferedReader in) {
-            this.in = in;
+        /*
+         * Wait for the next reply, then remove the white space around it.
+         */
+        public String readReply() throws IOException {
+            Object reply;
+            try {
+                do {
+                    reply = replies.poll(REPLY_TIMEOUT, TimeUnit.MILLISECONDS);
+                } while (reply instanceof String && ((String) reply).trim().isEmpty());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted waiting for a reply from the " + connectionName + " port");
+            }
+
+            if (reply == null) {
+                throw new IOException("No reply from the " + connectionName + " port within " + REPLY_TIMEOUT + " ms");
+            } else if (reply instanceof IOException) {
+                throw (IOException) reply;
+            } else if (reply instanceof Exception) {
+                throw new IOException(((Exception) reply).getMessage(), (Exception) reply);
+            }
+            return ((String) reply).trim();
         }
 
-        public DataOutputStream getOut() {
-            return out;
+        @Override
+        public void responseReceived(String response) {
+            if (!hasReplies) {
+                // the serial ports only pass on what the serial device sends
+                logger.trace("Ignoring data received on {} port for thing {}: {}", connectionName, thingID(), response);
+                return;
+            }
+            replies.add(response);
         }
 
-        public void setOut(DataOutputStream out) {
-            this.out = out;
+        @Override
+        public void responseException(Exception e) {
+            logger.debug("Error on {} port for thing {} at IP {}: {}", connectionName, thingID(), ipAddress,
+                    e.getMessage());
+            failed = true;
+            replies.add(e);
         }
     }
 }
@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.lutron.handler;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.smarthome.core.thing.binding.builder.BridgeBuilder;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.lutron.LutronBindingConstants;
+import org.openhab.binding.lutron.internal.protocol.LutronCommandType;
+
+/**
+ * Tests the tokenizer of the status lines of {@link IPBridgeHandler} and the routing of the updates to the handlers
+ * registered for an integration ID.
+ *
+ * @author agent - Initial contribution
+ */
+public class IPBridgeHandlerTest {
+    private IPBridgeHandler bridgeHandler;
+    private RecordingLutronHandler dimmer;
+    private RecordingLutronHandler keypad;
+
+    @Before
+    public void setUp() {
+        bridgeHandler = new IPBridgeHandler(
+                BridgeBuilder.create(LutronBindingConstants.THING_TYPE_IPBRIDGE, "test").build());
+        dimmer = new RecordingLutronHandler(2);
+        keypad = new RecordingLutronHandler(10);
+        bridgeHandler.registerChildHandler(dimmer);
+        bridgeHandler.registerChildHandler(keypad);
+    }
+
+    @Test
+    public void testParseStatusType() {
+        assertEquals(LutronCommandType.OUTPUT, IPBridgeHandler.parseStatusType("~OUTPUT,2,1,100.00", 1, 7));
+        assertEquals(LutronCommandType.DEVICE, IPBridgeHandler.parseStatusType("~DEVICE,10,2,3", 1, 7));
+        assertEquals(LutronCommandType.SYSTEM, IPBridgeHandler.parseStatusType("~SYSTEM,05/17/2017", 1, 7));
+        assertNull(IPBridgeHandler.parseStatusType("~OUTPUTS,2,1", 1, 8));
+        assertNull(IPBridgeHandler.parseStatusType("~OUT,2,1", 1, 4));
+        assertNull(IPBridgeHandler.parseStatusType("~MONITORING,12,2", 1, 11));
+    }
+
+    @Test
+    public void testParseIntegrationId() {
+        assertEquals(2, IPBridgeHandler.parseIntegrationId("~OUTPUT,2,1", 8, 9));
+        assertEquals(1234, IPBridgeHandler.parseIntegrationId("~OUTPUT,1234,1", 8, 12));
+        assertEquals(-1, IPBridgeHandler.parseIntegrationId("~OUTPUT,1a,1", 8, 10));
+        assertEquals(-1, IPBridgeHandler.parseIntegrationId("~OUTPUT,-2,1", 8, 10));
+        assertEquals(-1, IPBridgeHandler.parseIntegrationId("~OUTPUT,99999999999,1", 8, 19));
+    }
+
+    @Test
+    public void testSplitParametersMatchesStringSplit() {
+        String[] parameters = { "1,100.00", "1", "", "1,,2", "1,,", ",1", ",,", "82,9,1" };
+        for (String parameter : parameters) {
+            String line = "~DEVICE,10," + parameter;
+            assertArrayEquals(line, parameter.split(","), IPBridgeHandler.splitParameters(line, 11));
+        }
+    }
+
+    @Test
+    public void testUpdatesAreRoutedByIntegrationId() {
+        bridgeHandler.parseUpdate("~OUTPUT,2,1,100.00");
+        assertEquals(1, dimmer.updates);
+        assertEquals(LutronCommandType.OUTPUT, dimmer.lastType);
+        assertArrayEquals(new String[] { "1", "100.00" }, dimmer.lastParameters);
+
+        bridgeHandler.parseUpdate("GNET> ~DEVICE,10,82,9,1");
+        assertEquals(1, keypad.updates);
+        assertEquals(LutronCommandType.DEVICE, keypad.lastType);
+        assertArrayEquals(new String[] { "82", "9", "1" }, keypad.lastParameters);
+        assertEquals(1, dimmer.updates);
+    }
+
+    @Test
+    public void testInvalidLinesAreIgnored() {
+        String[] lines = { "", "  ", "GNET> ", "OUTPUT,2,1,0.00", "~OUTPUT,2", "~OUTPUT,,1,0.00", "~OUTPUT,x,1,0.00",
+                "~AREA,2,1,0.00", "~OUTPUT,3,1,0.00" };
+        for (String line : lines) {
+            bridgeHandler.parseUpdate(line);
+        }
+
+        assertEquals(0, dimmer.updates);
+        assertEquals(0, keypad.updates);
+    }
+
+    @Test
+    public void testUnregisteredHandlerReceivesNoUpdates() {
+        bridgeHandler.unregisterChildHandler(dimmer);
+        bridgeHandler.parseUpdate("~OUTPUT,2,1,100.00");
+
+        assertEquals(0, dimmer.updates);
+    }
+}
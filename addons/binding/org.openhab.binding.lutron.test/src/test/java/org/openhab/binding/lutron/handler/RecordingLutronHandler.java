@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.lutron.handler;
+
+import org.eclipse.smarthome.core.thing.ChannelUID;
+import org.eclipse.smarthome.core.thing.binding.builder.ThingBuilder;
+import org.eclipse.smarthome.core.types.Command;
+import org.openhab.binding.lutron.LutronBindingConstants;
+import org.openhab.binding.lutron.internal.protocol.LutronCommandType;
+
+/**
+ * Lutron handler which remembers the updates it receives from the bridge handler.
+ *
+ * @author agent - Initial contribution
+ */
+class RecordingLutronHandler extends LutronHandler {
+    private final int integrationId;
+
+    int updates;
+    LutronCommandType lastType;
+    String[] lastParameters;
+
+    RecordingLutronHandler(int integrationId) {
+        super(ThingBuilder.create(LutronBindingConstants.THING_TYPE_DIMMER, "dimmer" + integrationId).build());
+        this.integrationId = integrationId;
+    }
+
+    @Override
+    public int getIntegrationId() {
+        return integrationId;
+    }
+
+    @Override
+    public void handleUpdate(LutronCommandType type, String... parameters) {
+        updates++;
+        lastType = type;
+        lastParameters = parameters;
+    }
+
+    @Override
+    public void initialize() {
+    }
+
+    @Override
+    public void handleCommand(ChannelUID channelUID, Command command) {
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.lutron.handler;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.smarthome.core.thing.binding.builder.BridgeBuilder;
+import org.junit.Test;
+import org.openhab.binding.lutron.LutronBindingConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Replays a capture of the telnet output of a RadioRA 2 main repeater through {@link IPBridgeHandler} and logs the
+ * number of lines parsed and routed per second. The tokenizer is measured on its own as well.
+ *
+ * @author agent - Initial contribution
+ */
+public class TelnetReplayBenchmarkTest {
+    private static final int ROUNDS = 20000;
+
+    // dimmers 2 and 3, switch 12, keypad 10 with button presses and LED states, occupancy sensor 20
+    private static final String[] CAPTURE = { "~OUTPUT,2,1,100.00", "~OUTPUT,3,1,45.50", "~DEVICE,10,2,3",
+            "~DEVICE,10,82,9,1", "~DEVICE,10,2,4", "~OUTPUT,12,1,100.00", "~DEVICE,20,2,3", "~OUTPUT,2,1,0.00",
+            "~DEVICE,10,3,3", "~DEVICE,10,82,9,0", "~DEVICE,10,83,9,1", "~DEVICE,10,3,4", "~OUTPUT,3,1,0.00",
+            "~OUTPUT,12,1,0.00", "~DEVICE,20,2,4", "" };
+    private static final int[] INTEGRATION_IDS = { 2, 3, 10, 12, 20 };
+
+    private final Logger logger = LoggerFactory.getLogger(TelnetReplayBenchmarkTest.class);
+
+    // keeps the results alive, so the tokenizer can't be optimized away
+    private int sink;
+
+    @Test
+    public void benchmarkReplay() {
+        IPBridgeHandler bridgeHandler = new IPBridgeHandler(
+                BridgeBuilder.create(LutronBindingConstants.THING_TYPE_IPBRIDGE, "test").build());
+        RecordingLutronHandler[] handlers = new RecordingLutronHandler[INTEGRATION_IDS.length];
+        for (int i = 0; i < INTEGRATION_IDS.length; i++) {
+            handlers[i] = new RecordingLutronHandler(INTEGRATION_IDS[i]);
+            bridgeHandler.registerChildHandler(handlers[i]);
+        }
+
+        replay(bridgeHandler);
+        long start = System.nanoTime();
+        replay(bridgeHandler);
+        long nanos = System.nanoTime() - start;
+
+        int updates = 0;
+        for (RecordingLutronHandler handler : handlers) {
+            updates += handler.updates;
+        }
+        // every line but the empty one is an update, counted for the warm up and the measured replay
+        assertEquals(2 * ROUNDS * (CAPTURE.length - 1), updates);
+
+        logger.info("Replayed {} lines through the bridge handler in {} ms, {} lines/s", ROUNDS * CAPTURE.length,
+                nanos / 1000000, perSecond(ROUNDS * CAPTURE.length, nanos));
+    }
+
+    @Test
+    public void benchmarkTokenizer() {
+        tokenize();
+        long start = System.nanoTime();
+        tokenize();
+        long nanos = System.nanoTime() - start;
+
+        logger.info("Tokenized {} lines in {} ms, {} lines/s ({})", ROUNDS * CAPTURE.length, nanos / 1000000,
+                perSecond(ROUNDS * CAPTURE.length, nanos), sink);
+    }
+
+    private void replay(IPBridgeHandler bridgeHandler) {
+        for (int round = 0; round < ROUNDS; round++) {
+            for (String line : CAPTURE) {
+                bridgeHandler.parseUpdate(line);
+            }
+        }
+    }
+
+    private void tokenize() {
+        for (int round = 0; round < ROUNDS; round++) {
+            for (String line : CAPTURE) {
+                int typeEnd = line.indexOf(',');
+                int idEnd = typeEnd > 0 ? line.indexOf(',', typeEnd + 1) : -1;
+                if (idEnd < 0) {
+                    continue;
+                }
+                IPBridgeHandler.parseStatusType(line, 1, typeEnd);
+                sink += IPBridgeHandler.parseIntegrationId(line, typeEnd + 1, idEnd);
+                sink += IPBridgeHandler.splitParameters(line, idEnd + 1).length;
+            }
+        }
+    }
+
+    private static long perSecond(int lines, long nanos) {
+        return nanos > 0 ? lines * 1000000000L / nanos : lines;
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.lutron.internal.discovery;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.smarthome.config.discovery.DiscoveryListener;
+import org.eclipse.smarthome.config.discovery.DiscoveryResult;
+import org.eclipse.smarthome.config.discovery.DiscoveryService;
+import org.eclipse.smarthome.core.thing.Bridge;
+import org.eclipse.smarthome.core.thing.ThingTypeUID;
+import org.eclipse.smarthome.core.thing.ThingUID;
+import org.eclipse.smarthome.core.thing.binding.builder.BridgeBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.lutron.LutronBindingConstants;
+import org.openhab.binding.lutron.config.IPBridgeConfig;
+import org.openhab.binding.lutron.handler.IPBridgeHandler;
+
+/**
+ * Tests the reuse of the discovery results of {@link LutronDeviceDiscoveryService} while the device database of the
+ * bridge is unchanged. The project file is served by a minimal HTTP server.
+ *
+ * @author agent - Initial contribution
+ */
+public class LutronDeviceDiscoveryServiceTest {
+
+    private static final String PROJECT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + "<Project><Areas>"
+            + "<Area Name=\"House\"><Areas><Area Name=\"Kitchen\">"
+            + "<DeviceGroups><Device Name=\"Keypad\" IntegrationID=\"10\" DeviceType=\"SEETOUCH_KEYPAD\" />"
+            + "</DeviceGroups><Outputs><Output Name=\"Ceiling\" IntegrationID=\"11\" OutputType=\"INC\" />"
+            + "<Output Name=\"Fan\" IntegrationID=\"12\" OutputType=\"NON_DIM\" /></Outputs>"
+            + "</Area></Areas></Area></Areas></Project>";
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final List<ThingUID> discovered = new ArrayList<>();
+    private ServerSocket server;
+    private LutronDeviceDiscoveryService discoveryService;
+
+    private static class TestBridgeHandler extends IPBridgeHandler {
+        private final IPBridgeConfig config = new IPBridgeConfig();
+        private final Date dbUpdateDate = new Date();
+
+        TestBridgeHandler(Bridge bridge, String ipAddress) {
+            super(bridge);
+            config.setIpAddress(ipAddress);
+        }
+
+        @Override
+        public IPBridgeConfig getIPBridgeConfig() {
+            return config;
+        }
+
+        @Override
+        public Date getDbUpdateDate() {
+            return dbUpdateDate;
+        }
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        server = new ServerSocket(0);
+        Thread serverThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                serve();
+            }
+        }, "Lutron project file server");
+        serverThread.setDaemon(true);
+        serverThread.start();
+
+        Bridge bridge = BridgeBuilder.create(LutronBindingConstants.THING_TYPE_IPBRIDGE, "test").build();
+        discoveryService = new LutronDeviceDiscoveryService(
+                new TestBridgeHandler(bridge, "127.0.0.1:" + server.getLocalPort()));
+        discoveryService.addDiscoveryListener(new DiscoveryListener() {
+            @Override
+            public void thingDiscovered(DiscoveryService source, DiscoveryResult result) {
+                discovered.add(result.getThingUID());
+            }
+
+            @Override
+            public void thingRemoved(DiscoveryService source, ThingUID thingUID) {
+            }
+
+            @Override
+            public Collection<ThingUID> removeOlderResults(DiscoveryService source, long timestamp,
+                    Collection<ThingTypeUID> thingTypeUIDs) {
+                return null;
+            }
+        });
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.close();
+    }
+
+    @Test
+    public void testRescanOfUnchangedDatabaseAnnouncesSameThings() throws IOException {
+        discoveryService.readDeviceDatabase();
+        List<ThingUID> firstScan = new ArrayList<>(discovered);
+        discovered.clear();
+
+        discoveryService.readDeviceDatabase();
+        List<ThingUID> secondScan = new ArrayList<>(discovered);
+
+        assertEquals(3, firstScan.size());
+        assertEquals(new HashSet<>(firstScan), new HashSet<>(secondScan));
+        assertEquals(secondScan.size(), new HashSet<>(secondScan).size());
+        // the unchanged project file is read only once
+        assertEquals(1, requests.get());
+    }
+
+    // Answers every request with the project file
+    private void serve() {
+        byte[] body = PROJECT.getBytes(StandardCharsets.UTF_8);
+        while (!server.isClosed()) {
+            try (Socket socket = server.accept()) {
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                String line;
+                while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                    // skip the request headers
+                }
+                requests.incrementAndGet();
+
+                OutputStream out = socket.getOutputStream();
+                out.write(("HTTP/1.0 200 OK\r\nContent-Type: text/xml\r\nContent-Length: " + body.length
+                        + "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                out.write(body);
+                out.flush();
+            } catch (IOException e) {
+                // server closed
+            }
+        }
+    }
+}
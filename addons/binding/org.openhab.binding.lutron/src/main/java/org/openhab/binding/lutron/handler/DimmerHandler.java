@@ -65,6 +65,7 @@ public class DimmerHandler extends LutronHandler {
             return;
         }
 
+        registerWithBridge();
         updateStatus(ThingStatus.ONLINE);
         queryOutput(ACTION_ZONELEVEL);
     }
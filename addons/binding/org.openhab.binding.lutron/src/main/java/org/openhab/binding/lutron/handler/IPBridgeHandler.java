@@ -11,14 +11,14 @@ package org.openhab.binding.lutron.handler;
 import java.io.IOException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.MatchResult;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.smarthome.config.discovery.DiscoveryService;
@@ -31,11 +31,13 @@ import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.openhab.binding.lutron.config.IPBridgeConfig;
 import org.openhab.binding.lutron.internal.discovery.LutronDeviceDiscoveryService;
-import org.openhab.binding.lutron.internal.net.TelnetSession;
-import org.openhab.binding.lutron.internal.net.TelnetSessionListener;
 import org.openhab.binding.lutron.internal.protocol.LutronCommand;
 import org.openhab.binding.lutron.internal.protocol.LutronCommandType;
 import org.openhab.binding.lutron.internal.protocol.LutronOperation;
+import org.openhab.io.transport.socket.LineFramer;
+import org.openhab.io.transport.socket.ResponseFramer;
+import org.openhab.io.transport.socket.SocketChannelSession;
+import org.openhab.io.transport.socket.SocketSessionListener;
 import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,9 +46,13 @@ import org.slf4j.LoggerFactory;
  * Handler responsible for communicating with the main Lutron control hub.
  *
  * @author Allan Tong - Initial contribution
+ * @author agent - Moved the telnet session to the socket transport
  */
 public class IPBridgeHandler extends BaseBridgeHandler {
-    private static final Pattern STATUS_REGEX = Pattern.compile("~(OUTPUT|DEVICE|SYSTEM),([^,]+),(.*)");
+    private static final char STATUS_PREFIX = '~';
+    private static final char PARAMETER_SEPARATOR = ',';
+    private static final LutronCommandType[] STATUS_TYPES = { LutronCommandType.OUTPUT, LutronCommandType.DEVICE,
+            LutronCommandType.SYSTEM };
 
     private static final String DB_UPDATE_DATE_FORMAT = "MM/dd/yyyy HH:mm:ss";
 
@@ -60,35 +66,42 @@ public class IPBridgeHandler extends BaseBridgeHandler {
     private static final String DEFAULT_USER = "lutron";
     private static final String DEFAULT_PASSWORD = "integration";
 
+    private static final int TELNET_PORT = 23;
+
+    /**
+     * The framer of the responses - lines ending with a carriage-return/newline combo, and the prompts of the login
+     * and of the command line, which are not followed by a line end.
+     */
+    private static final ResponseFramer FRAMER = new LineFramer(LineFramer.CRLF, LineFramer.CRLF, "login: ",
+            "password: ", "GNET> ");
+
+    private static final String LOGIN_PROMPT = "login";
+    private static final String PASSWORD_PROMPT = "password";
+    private static final String COMMAND_PROMPT = "GNET>";
+
+    /**
+     * The time to wait for each response during the login, in seconds
+     */
+    private static final int LOGIN_RESPONSE_TIMEOUT = 10;
+
     private Logger logger = LoggerFactory.getLogger(IPBridgeHandler.class);
 
     private IPBridgeConfig config;
 
-    private TelnetSession session;
+    private SocketChannelSession session;
     private BlockingQueue<LutronCommand> sendQueue = new LinkedBlockingQueue<>();
 
     private ScheduledFuture<?> messageSender;
     private ScheduledFuture<?> keepAlive;
     private ScheduledFuture<?> keepAliveReconnect;
 
-    private Date lastDbUpdateDate;
+    private final Map<Integer, LutronHandler> childHandlers = new ConcurrentHashMap<>();
+
+    private volatile Date lastDbUpdateDate;
     private ServiceRegistration<DiscoveryService> discoveryServiceRegistration;
 
     public IPBridgeHandler(Bridge bridge) {
         super(bridge);
-
-        this.session = new TelnetSession();
-
-        this.session.addListener(new TelnetSessionListener() {
-            @Override
-            public void inputAvailable() {
-                parseUpdates();
-            }
-
-            @Override
-            public void error(IOException exception) {
-            }
-        });
     }
 
     public IPBridgeConfig getIPBridgeConfig() {
@@ -135,7 +148,7 @@ public class IPBridgeHandler extends BaseBridgeHandler {
     }
 
     private synchronized void connect() {
-        if (this.session.isConnected()) {
+        if (this.session != null && this.session.isConnected()) {
             return;
         }
 
@@ -195,7 +208,13 @@ public class IPBridgeHandler extends BaseBridgeHandler {
                 this.logger.debug("Sending command {}", command);
 
                 try {
-                    this.session.writeLine(command.toString());
+                    SocketChannelSession session = this.session;
+
+                    if (session == null) {
+                        throw new IOException("Not connected to the bridge");
+                    }
+
+                    session.sendCommand(command.toString());
                 } catch (IOException e) {
                     this.logger.error("Communication error, will try to reconnect", e);
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR);
@@ -231,10 +250,30 @@ public class IPBridgeHandler extends BaseBridgeHandler {
             this.messageSender.cancel(true);
         }
 
-        try {
-            this.session.close();
-        } catch (IOException e) {
-            this.logger.error("Error disconnecting", e);
+        if (this.session != null) {
+            this.session.clearListeners();
+
+            try {
+                this.session.disconnect();
+            } catch (IOException e) {
+                this.logger.error("Error disconnecting", e);
+            }
+
+            updateSessionProperties();
+        }
+    }
+
+    /**
+     * Copies the counters of the session to the properties of the thing. Called by the keepalive job and on
+     * disconnect.
+     */
+    private void updateSessionProperties() {
+        SocketChannelSession session = this.session;
+
+        if (session != null) {
+            Map<String, String> properties = editProperties();
+            properties.putAll(session.getMetrics().toProperties());
+            updateProperties(properties);
         }
     }
 
@@ -247,17 +286,27 @@ public class IPBridgeHandler extends BaseBridgeHandler {
     }
 
     private boolean login(IPBridgeConfig config) throws IOException, InterruptedException {
-        this.session.open(config.getIpAddress());
-        this.session.waitFor("login:");
+        LoginListener loginListener = new LoginListener();
+
+        // The session is kept over reconnects, so its counters cover all connections with the same configuration
+        if (this.session == null) {
+            this.session = new SocketChannelSession(config.getIpAddress(), TELNET_PORT, FRAMER, "lutron");
+        }
+
+        this.session.addListener(loginListener);
+        this.session.connect();
+        loginListener.waitFor(LOGIN_PROMPT);
 
         // Sometimes the Lutron Smart Bridge Pro will request login more than once.
         for (int attempt = 0; attempt < MAX_LOGIN_ATTEMPTS; attempt++) {
-            this.session.writeLine(config.getUser() != null ? config.getUser() : DEFAULT_USER);
-            this.session.waitFor("password:");
-            this.session.writeLine(config.getPassword() != null ? config.getPassword() : DEFAULT_PASSWORD);
+            this.session.sendCommand(config.getUser() != null ? config.getUser() : DEFAULT_USER);
+            loginListener.waitFor(PASSWORD_PROMPT);
+            this.session.sendCommand(config.getPassword() != null ? config.getPassword() : DEFAULT_PASSWORD);
+
+            if (COMMAND_PROMPT.equals(loginListener.waitFor(LOGIN_PROMPT, COMMAND_PROMPT))) {
+                this.session.clearListeners();
+                this.session.addListener(new UpdateListener());
 
-            MatchResult matchResult = this.session.waitFor("(login:|GNET>)");
-            if ("GNET>".equals(matchResult.group())) {
                 return true;
             }
 
@@ -271,12 +320,29 @@ public class IPBridgeHandler extends BaseBridgeHandler {
         this.sendQueue.add(command);
     }
 
+    void registerChildHandler(LutronHandler handler) {
+        this.childHandlers.put(handler.getIntegrationId(), handler);
+    }
+
+    void unregisterChildHandler(LutronHandler handler) {
+        this.childHandlers.values().remove(handler);
+    }
+
     private LutronHandler findThingHandler(int integrationId) {
+        LutronHandler handler = this.childHandlers.get(integrationId);
+
+        if (handler != null) {
+            return handler;
+        }
+
+        // Fall back to the things of the bridge for handlers which were initialized before this bridge handler
         for (Thing thing : getThing().getThings()) {
             if (thing.getHandler() instanceof LutronHandler) {
-                LutronHandler handler = (LutronHandler) thing.getHandler();
+                handler = (LutronHandler) thing.getHandler();
 
                 if (handler.getIntegrationId() == integrationId) {
+                    this.childHandlers.put(integrationId, handler);
+
                     return handler;
                 }
             }
@@ -285,51 +351,128 @@ public class IPBridgeHandler extends BaseBridgeHandler {
         return null;
     }
 
-    private void parseUpdates() {
-        for (String line : this.session.readLines()) {
-            if (line.trim().equals("")) {
-                // Sometimes we get an empty line (possibly only when prompts are disabled). Ignore them.
-                continue;
+    /**
+     * Parses a line received from the bridge and passes status updates to the handler of the integration ID.
+     */
+    void parseUpdate(String line) {
+        if (line.trim().equals("")) {
+            // Sometimes we get an empty line (possibly only when prompts are disabled). Ignore them.
+            return;
+        }
+
+        this.logger.debug("Received message {}", line);
+
+        // System is alive, cancel reconnect task.
+        if (this.keepAliveReconnect != null) {
+            this.keepAliveReconnect.cancel(true);
+        }
+
+        // Status messages have the format ~TYPE,ID,PARAMETERS
+        int typeStart = line.indexOf(STATUS_PREFIX) + 1;
+        int typeEnd = typeStart > 0 ? line.indexOf(PARAMETER_SEPARATOR, typeStart) : -1;
+        int idEnd = typeEnd > 0 ? line.indexOf(PARAMETER_SEPARATOR, typeEnd + 1) : -1;
+        LutronCommandType type = idEnd > typeEnd + 1 ? parseStatusType(line, typeStart, typeEnd) : null;
+
+        if (type == null) {
+            this.logger.info("Ignoring message {}", line);
+
+            return;
+        }
+
+        if (type == LutronCommandType.SYSTEM) {
+            // SYSTEM messages are assumed to be a response to the SYSTEM_DBEXPORTDATETIME
+            // query. The response returns the last time the device database was updated.
+            setDbUpdateDate(line.substring(typeEnd + 1, idEnd), line.substring(idEnd + 1));
+
+            return;
+        }
+
+        int integrationId = parseIntegrationId(line, typeEnd + 1, idEnd);
+
+        if (integrationId < 0) {
+            this.logger.info("Ignoring message {}", line);
+
+            return;
+        }
+
+        LutronHandler handler = findThingHandler(integrationId);
+
+        if (handler != null) {
+            try {
+                handler.handleUpdate(type, splitParameters(line, idEnd + 1));
+            } catch (Exception e) {
+                this.logger.error("Error processing update", e);
             }
+        } else {
+            this.logger.info("No thing configured for integration ID {}", integrationId);
+        }
+    }
 
-            this.logger.debug("Received message {}", line);
+    static LutronCommandType parseStatusType(String line, int start, int end) {
+        for (LutronCommandType type : STATUS_TYPES) {
+            String name = type.name();
 
-            // System is alive, cancel reconnect task.
-            if (this.keepAliveReconnect != null) {
-                this.keepAliveReconnect.cancel(true);
+            if (name.length() == end - start && line.startsWith(name, start)) {
+                return type;
             }
+        }
 
-            Matcher matcher = STATUS_REGEX.matcher(line);
+        return null;
+    }
 
-            if (matcher.find()) {
-                LutronCommandType type = LutronCommandType.valueOf(matcher.group(1));
+    /**
+     * Parses the integration ID between start and end, returns -1 if it is not a number.
+     */
+    static int parseIntegrationId(String line, int start, int end) {
+        int integrationId = 0;
 
-                if (type == LutronCommandType.SYSTEM) {
-                    // SYSTEM messages are assumed to be a response to the SYSTEM_DBEXPORTDATETIME
-                    // query. The response returns the last time the device database was updated.
-                    setDbUpdateDate(matcher.group(2), matcher.group(3));
+        for (int i = start; i < end; i++) {
+            char c = line.charAt(i);
 
-                    continue;
-                }
+            if (c < '0' || c > '9' || integrationId > (Integer.MAX_VALUE - 9) / 10) {
+                return -1;
+            }
 
-                Integer integrationId = new Integer(matcher.group(2));
-                LutronHandler handler = findThingHandler(integrationId);
+            integrationId = integrationId * 10 + (c - '0');
+        }
 
-                if (handler != null) {
-                    String paramString = matcher.group(3);
+        return integrationId;
+    }
 
-                    try {
-                        handler.handleUpdate(type, paramString.split(","));
-                    } catch (Exception e) {
-                        this.logger.error("Error processing update", e);
-                    }
-                } else {
-                    this.logger.info("No thing configured for integration ID {}", integrationId);
-                }
-            } else {
-                this.logger.info("Ignoring message {}", line);
+    /**
+     * Splits the parameters starting at start, with the same result as {@link String#split(String)} with ",".
+     */
+    static String[] splitParameters(String line, int start) {
+        int count = 1;
+
+        for (int i = start; i < line.length(); i++) {
+            if (line.charAt(i) == PARAMETER_SEPARATOR) {
+                count++;
             }
         }
+
+        String[] parameters = new String[count];
+        int parameterStart = start;
+
+        for (int i = 0; i < count - 1; i++) {
+            int parameterEnd = line.indexOf(PARAMETER_SEPARATOR, parameterStart);
+
+            parameters[i] = line.substring(parameterStart, parameterEnd);
+            parameterStart = parameterEnd + 1;
+        }
+
+        parameters[count - 1] = line.substring(parameterStart);
+
+        if (count == 1) {
+            return parameters;
+        }
+
+        // Trailing empty parameters are removed like String.split does
+        while (count > 0 && parameters[count - 1].isEmpty()) {
+            count--;
+        }
+
+        return count == parameters.length ? parameters : Arrays.copyOf(parameters, count);
     }
 
     private void sendKeepAlive() {
@@ -342,6 +485,7 @@ public class IPBridgeHandler extends BaseBridgeHandler {
         }, 30, TimeUnit.SECONDS);
 
         sendCommand(new LutronCommand(LutronOperation.QUERY, LutronCommandType.SYSTEM, -1, SYSTEM_DBEXPORTDATETIME));
+        updateSessionProperties();
     }
 
     private void setDbUpdateDate(String dateString, String timeString) {
@@ -349,15 +493,22 @@ public class IPBridgeHandler extends BaseBridgeHandler {
             Date date = new SimpleDateFormat(DB_UPDATE_DATE_FORMAT).parse(dateString + " " + timeString);
 
             if (this.lastDbUpdateDate == null || date.after(this.lastDbUpdateDate)) {
-                scanForDevices();
-
                 this.lastDbUpdateDate = date;
+
+                scanForDevices();
             }
         } catch (ParseException e) {
             logger.error("Failed to parse DB update date {} {}", dateString, timeString);
         }
     }
 
+    /**
+     * Returns the time the device database was last updated, null if not known yet.
+     */
+    public Date getDbUpdateDate() {
+        return this.lastDbUpdateDate;
+    }
+
     private void scanForDevices() {
         try {
             DiscoveryService service = this.bundleContext.getService(this.discoveryServiceRegistration.getReference());
@@ -391,10 +542,80 @@ public class IPBridgeHandler extends BaseBridgeHandler {
     @Override
     public void dispose() {
         disconnect();
+        this.session = null;
+        this.childHandlers.clear();
 
         if (this.discoveryServiceRegistration != null) {
             this.discoveryServiceRegistration.unregister();
             this.discoveryServiceRegistration = null;
         }
     }
+
+    /**
+     * Passes the lines received after the login to {@link IPBridgeHandler#parseUpdate(String)} and reconnects when
+     * the connection to the bridge fails.
+     */
+    private class UpdateListener implements SocketSessionListener {
+        @Override
+        public void responseReceived(String response) {
+            if (!response.equals(COMMAND_PROMPT)) {
+                parseUpdate(response);
+            }
+        }
+
+        @Override
+        public void responseException(Exception e) {
+            logger.debug("Connection to the bridge failed: {}", e.getMessage());
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
+
+            // reconnect on the scheduler, this is called by the thread reading the session
+            scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    reconnect();
+                }
+            }, 0, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Queues the responses received during the login, so {@link #login(IPBridgeConfig)} can wait for the prompts.
+     */
+    private class LoginListener implements SocketSessionListener {
+        private final BlockingQueue<Object> responses = new LinkedBlockingQueue<>();
+
+        /**
+         * Waits for one of the prompts and returns it. The bridge may send a few bytes of telnet option negotiation
+         * in front of the first prompt, so a response ending with the prompt matches. Other lines are skipped.
+         */
+        String waitFor(String... prompts) throws IOException, InterruptedException {
+            while (true) {
+                Object response = this.responses.poll(LOGIN_RESPONSE_TIMEOUT, TimeUnit.SECONDS);
+
+                if (response == null) {
+                    throw new IOException("Timeout waiting for " + Arrays.toString(prompts));
+                } else if (response instanceof IOException) {
+                    throw (IOException) response;
+                } else if (response instanceof Exception) {
+                    throw new IOException((Exception) response);
+                }
+
+                for (String prompt : prompts) {
+                    if (((String) response).endsWith(prompt)) {
+                        return prompt;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void responseReceived(String response) {
+            this.responses.add(response);
+        }
+
+        @Override
+        public void responseException(Exception e) {
+            this.responses.add(e);
+        }
+    }
 }
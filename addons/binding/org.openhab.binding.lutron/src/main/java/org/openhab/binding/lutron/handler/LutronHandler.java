@@ -42,6 +42,26 @@ public abstract class LutronHandler extends BaseThingHandler {
         return bridge == null ? null : (IPBridgeHandler) bridge.getHandler();
     }
 
+    /**
+     * Registers this handler with the bridge handler, so it receives the updates for its integration ID.
+     */
+    protected void registerWithBridge() {
+        IPBridgeHandler bridgeHandler = getBridgeHandler();
+
+        if (bridgeHandler != null) {
+            bridgeHandler.registerChildHandler(this);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        IPBridgeHandler bridgeHandler = getBridgeHandler();
+
+        if (bridgeHandler != null) {
+            bridgeHandler.unregisterChildHandler(this);
+        }
+    }
+
     private void sendCommand(LutronCommand command) {
         IPBridgeHandler bridgeHandler = getBridgeHandler();
 
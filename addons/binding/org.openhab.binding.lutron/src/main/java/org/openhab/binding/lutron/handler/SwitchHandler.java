@@ -46,6 +46,7 @@ public class SwitchHandler extends LutronHandler {
 
         this.integrationId = id.intValue();
 
+        registerWithBridge();
         updateStatus(ThingStatus.ONLINE);
         queryOutput(ACTION_ZONELEVEL);
     }
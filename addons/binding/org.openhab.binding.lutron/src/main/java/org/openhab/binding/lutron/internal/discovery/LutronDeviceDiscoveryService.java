@@ -12,9 +12,11 @@ import static org.openhab.binding.lutron.LutronBindingConstants.*;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Stack;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -25,20 +27,19 @@ import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.ThingUID;
 import org.openhab.binding.lutron.handler.IPBridgeHandler;
 import org.openhab.binding.lutron.internal.LutronHandlerFactory;
-import org.openhab.binding.lutron.internal.discovery.project.Area;
 import org.openhab.binding.lutron.internal.discovery.project.Device;
-import org.openhab.binding.lutron.internal.discovery.project.DeviceGroup;
-import org.openhab.binding.lutron.internal.discovery.project.DeviceNode;
 import org.openhab.binding.lutron.internal.discovery.project.DeviceType;
 import org.openhab.binding.lutron.internal.discovery.project.Output;
 import org.openhab.binding.lutron.internal.discovery.project.OutputType;
-import org.openhab.binding.lutron.internal.discovery.project.Project;
+import org.openhab.binding.lutron.internal.xml.DbXmlInfoListener;
 import org.openhab.binding.lutron.internal.xml.DbXmlInfoReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * The {@link LutronDeviceDiscoveryService} finds all devices paired with a Lutron bridge.
+ * The results are kept until the bridge reports a newer device database, so rescans of an
+ * unchanged database do not read the project file again.
  *
  * @author Allan Tong - Initial contribution
  */
@@ -51,6 +52,10 @@ public class LutronDeviceDiscoveryService extends AbstractDiscoveryService {
 
     private ScheduledFuture<?> scanTask;
 
+    // Written by the scan thread, read by the thread of the next scan; guarded by this
+    private List<DiscoveryResult> cachedResults;
+    private Date cachedDbUpdateDate;
+
     public LutronDeviceDiscoveryService(IPBridgeHandler bridgeHandler) throws IllegalArgumentException {
         super(LutronHandlerFactory.DISCOVERABLE_DEVICE_TYPES_UIDS, 10);
 
@@ -77,56 +82,49 @@ public class LutronDeviceDiscoveryService extends AbstractDiscoveryService {
         }
     }
 
-    private void readDeviceDatabase() throws IOException {
-        String address = "http://" + this.bridgeHandler.getIPBridgeConfig().getIpAddress() + "/DbXmlInfo.xml";
-        URL dbXmlInfoUrl = new URL(address);
-
-        Project project = this.dbXmlInfoReader.readFromXML(dbXmlInfoUrl);
-
-        if (project != null) {
-            Stack<String> locationContext = new Stack<>();
+    // Package visible for tests, a scan runs it on the scheduler
+    void readDeviceDatabase() throws IOException {
+        Date dbUpdateDate = this.bridgeHandler.getDbUpdateDate();
+        List<DiscoveryResult> results;
 
-            for (Area area : project.getAreas()) {
-                processArea(area, locationContext);
-            }
-        } else {
-            logger.info("Could not read project file at {}", address);
+        synchronized (this) {
+            results = dbUpdateDate != null && dbUpdateDate.equals(this.cachedDbUpdateDate) ? this.cachedResults
+                    : null;
         }
-    }
 
-    private void processArea(Area area, Stack<String> context) {
-        context.push(area.getName());
+        if (results != null) {
+            logger.debug("Device database unchanged, reusing {} discovery results", results.size());
 
-        for (DeviceNode deviceNode : area.getDeviceNodes()) {
-            if (deviceNode instanceof DeviceGroup) {
-                processDeviceGroup((DeviceGroup) deviceNode, context);
-            } else if (deviceNode instanceof Device) {
-                processDevice((Device) deviceNode, context);
+            for (DiscoveryResult result : results) {
+                thingDiscovered(result);
             }
-        }
 
-        for (Output output : area.getOutputs()) {
-            processOutput(output, context);
+            return;
         }
 
-        for (Area subarea : area.getAreas()) {
-            processArea(subarea, context);
-        }
+        String address = "http://" + this.bridgeHandler.getIPBridgeConfig().getIpAddress() + "/DbXmlInfo.xml";
+        URL dbXmlInfoUrl = new URL(address);
+        final List<DiscoveryResult> newResults = new ArrayList<>();
 
-        context.pop();
-    }
+        this.dbXmlInfoReader.readFromXML(dbXmlInfoUrl, new DbXmlInfoListener() {
+            @Override
+            public void deviceRead(Device device, List<String> location) {
+                processDevice(device, location, newResults);
+            }
 
-    private void processDeviceGroup(DeviceGroup deviceGroup, Stack<String> context) {
-        context.push(deviceGroup.getName());
+            @Override
+            public void outputRead(Output output, List<String> location) {
+                processOutput(output, location, newResults);
+            }
+        });
 
-        for (Device device : deviceGroup.getDevices()) {
-            processDevice(device, context);
+        synchronized (this) {
+            this.cachedResults = newResults;
+            this.cachedDbUpdateDate = dbUpdateDate;
         }
-
-        context.pop();
     }
 
-    private void processDevice(Device device, Stack<String> context) {
+    private void processDevice(Device device, List<String> context, List<DiscoveryResult> results) {
         DeviceType type = device.getDeviceType();
 
         if (type != null) {
@@ -134,12 +132,12 @@ public class LutronDeviceDiscoveryService extends AbstractDiscoveryService {
 
             switch (type) {
                 case MOTION_SENSOR:
-                    notifyDiscovery(THING_TYPE_OCCUPANCYSENSOR, device.getIntegrationId(), label);
+                    notifyDiscovery(THING_TYPE_OCCUPANCYSENSOR, device.getIntegrationId(), label, results);
                     break;
 
                 case SEETOUCH_KEYPAD:
                 case HYBRID_SEETOUCH_KEYPAD:
-                    notifyDiscovery(THING_TYPE_KEYPAD, device.getIntegrationId(), label);
+                    notifyDiscovery(THING_TYPE_KEYPAD, device.getIntegrationId(), label, results);
                     break;
 
                 case MAIN_REPEATER:
@@ -151,7 +149,7 @@ public class LutronDeviceDiscoveryService extends AbstractDiscoveryService {
         }
     }
 
-    private void processOutput(Output output, Stack<String> context) {
+    private void processOutput(Output output, List<String> context, List<DiscoveryResult> results) {
         OutputType type = output.getOutputType();
 
         if (type != null) {
@@ -160,11 +158,11 @@ public class LutronDeviceDiscoveryService extends AbstractDiscoveryService {
             switch (type) {
                 case INC:
                 case MLV:
-                    notifyDiscovery(THING_TYPE_DIMMER, output.getIntegrationId(), label);
+                    notifyDiscovery(THING_TYPE_DIMMER, output.getIntegrationId(), label, results);
                     break;
 
                 case NON_DIM:
-                    notifyDiscovery(THING_TYPE_SWITCH, output.getIntegrationId(), label);
+                    notifyDiscovery(THING_TYPE_SWITCH, output.getIntegrationId(), label, results);
                     break;
             }
         } else {
@@ -172,7 +170,8 @@ public class LutronDeviceDiscoveryService extends AbstractDiscoveryService {
         }
     }
 
-    private void notifyDiscovery(ThingTypeUID thingTypeUID, Integer integrationId, String label) {
+    private void notifyDiscovery(ThingTypeUID thingTypeUID, Integer integrationId, String label,
+            List<DiscoveryResult> results) {
         if (integrationId == null) {
             logger.info("Discovered {} with no integration ID", label);
 
@@ -189,12 +188,13 @@ public class LutronDeviceDiscoveryService extends AbstractDiscoveryService {
         DiscoveryResult result = DiscoveryResultBuilder.create(uid).withBridge(bridgeUID).withLabel(label)
                 .withProperties(properties).withRepresentationProperty(INTEGRATION_ID).build();
 
+        results.add(result);
         thingDiscovered(result);
 
         logger.debug("Discovered {}", uid);
     }
 
-    private String generateLabel(Stack<String> context, String deviceName) {
+    private String generateLabel(List<String> context, String deviceName) {
         return String.join(" ", context) + " " + deviceName;
     }
 }
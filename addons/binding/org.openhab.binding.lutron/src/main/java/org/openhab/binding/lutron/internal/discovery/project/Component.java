@@ -18,6 +18,11 @@ public class Component {
     private Integer componentNumber;
     private String type;
 
+    public Component(Integer componentNumber, String type) {
+        this.componentNumber = componentNumber;
+        this.type = type;
+    }
+
     public Integer getComponentNumber() {
         return componentNumber;
     }
@@ -16,12 +16,19 @@ import java.util.List;
  *
  * @author Allan Tong - Initial contribution
  */
-public class Device implements DeviceNode {
+public class Device {
     private String name;
     private Integer integrationId;
     private String type;
     private List<Component> components;
 
+    public Device(String name, Integer integrationId, String type, List<Component> components) {
+        this.name = name;
+        this.integrationId = integrationId;
+        this.type = type;
+        this.components = components;
+    }
+
     public String getName() {
         return name;
     }
@@ -10,6 +10,7 @@ package org.openhab.binding.lutron.internal.grxprg;
 
 import java.io.IOException;
 import java.util.Calendar;
+import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -24,6 +25,11 @@ import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
+import org.openhab.io.transport.socket.LineFramer;
+import org.openhab.io.transport.socket.ReconnectBackoff;
+import org.openhab.io.transport.socket.ResponseFramer;
+import org.openhab.io.transport.socket.SocketChannelSession;
+import org.openhab.io.transport.socket.SocketSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +43,18 @@ public class PrgBridgeHandler extends BaseBridgeHandler {
 
     private Logger logger = LoggerFactory.getLogger(PrgBridgeHandler.class);
 
+    /**
+     * The framer of the responses - lines ending with a carriage-return/newline combo and the login prompt. As per
+     * spec, each command must have a newline (in addition to the line end)
+     */
+    private static final ResponseFramer FRAMER = new LineFramer(LineFramer.CRLF, "\n" + System.lineSeparator(),
+            "login: ");
+
+    /**
+     * The maximum delay (in seconds) between connection attempts
+     */
+    private static final int MAX_RETRY_POLLING = 300;
+
     /**
      * The {@link PrgProtocolHandler} that handles the actual protocol. Will never be null
      */
@@ -52,6 +70,12 @@ public class PrgBridgeHandler extends BaseBridgeHandler {
      */
     private ScheduledFuture<?> _retryConnection;
 
+    /**
+     * The delays between the connection attempts - starts at {@link PrgBridgeConfig#getRetryPolling()} and doubles with
+     * every failed attempt
+     */
+    private ReconnectBackoff _backoff;
+
     /**
      * Constructs the handler from the {@link Bridge}. Simply calls the super constructor with the {@link Bridge},
      * creates the session (unconnected) and the protocol handler.
@@ -66,7 +90,7 @@ public class PrgBridgeHandler extends BaseBridgeHandler {
         }
 
         final PrgBridgeConfig config = getPrgBridgeConfig();
-        _session = new SocketSession(config.getIpAddress(), 23);
+        _session = new SocketChannelSession(config.getIpAddress(), 23, FRAMER, "lutron");
 
         _protocolHandler = new PrgProtocolHandler(_session, new PrgHandlerCallback() {
             @Override
@@ -247,6 +271,9 @@ public class PrgBridgeHandler extends BaseBridgeHandler {
             return;
         }
 
+        _backoff = new ReconnectBackoff(Math.max(1, config.getRetryPolling()),
+                Math.max(config.getRetryPolling(), MAX_RETRY_POLLING));
+
         // Try initial connection in a scheduled task
         this.scheduler.schedule(new Runnable() {
             @Override
@@ -269,11 +296,15 @@ public class PrgBridgeHandler extends BaseBridgeHandler {
         String response = "Server is offline - will try to reconnect later";
         try {
             logger.info("Attempting connection ...");
+            // clear listeners to avoid any 'old' listener from handling the login prompt
+            _session.clearListeners();
             _session.connect();
 
             response = _protocolHandler.login(config.getUserName());
             if (response == null) {
                 if (config != null) {
+                    _backoff.reset();
+                    updateSessionProperties();
                     updateStatus(ThingStatus.ONLINE);
                     return;
                 }
@@ -298,6 +329,7 @@ public class PrgBridgeHandler extends BaseBridgeHandler {
         } catch (IOException e) {
             // ignore - we don't care
         }
+        updateSessionProperties();
 
         if (retryConnection) {
             retryConnect();
@@ -305,15 +337,27 @@ public class PrgBridgeHandler extends BaseBridgeHandler {
     }
 
     /**
-     * Retries the connection attempt - schedules a job in {@link PrgBridgeConfig#getRetryPolling()} seconds to
-     * call the {@link #connect()} method. If a retry attempt is pending, the request is ignored.
+     * Copies the counters of the {@link #_session} to the properties of the thing. Called on connect and disconnect,
+     * as the bridge has no polling job.
+     */
+    private void updateSessionProperties() {
+        final Map<String, String> properties = editProperties();
+        properties.putAll(_session.getMetrics().toProperties());
+        updateProperties(properties);
+    }
+
+    /**
+     * Retries the connection attempt - schedules a job to call the {@link #connect()} method. The first attempt is made
+     * in {@link PrgBridgeConfig#getRetryPolling()} seconds, the delay doubles with every failed attempt up to
+     * {@link #MAX_RETRY_POLLING} seconds. If a retry attempt is pending, the request is ignored.
      */
     private void retryConnect() {
         if (_retryConnection == null) {
             final PrgBridgeConfig config = getPrgBridgeConfig();
             if (config != null) {
 
-                logger.info("Will try to reconnect in {} seconds", config.getRetryPolling());
+                final long delay = _backoff.nextDelay();
+                logger.info("Will try to reconnect in {} seconds", delay);
                 _retryConnection = this.scheduler.schedule(new Runnable() {
                     @Override
                     public void run() {
@@ -321,7 +365,7 @@ public class PrgBridgeHandler extends BaseBridgeHandler {
                         connect();
                     }
 
-                }, config.getRetryPolling(), TimeUnit.SECONDS);
+                }, delay, TimeUnit.SECONDS);
             }
         } else {
             logger.debug("RetryConnection called when a retry connection is pending - ignoring request");
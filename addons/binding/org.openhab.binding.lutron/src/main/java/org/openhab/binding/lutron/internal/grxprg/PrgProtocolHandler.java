@@ -25,6 +25,8 @@ import org.eclipse.smarthome.core.library.types.PercentType;
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
+import org.openhab.io.transport.socket.SocketSession;
+import org.openhab.io.transport.socket.SocketSessionListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -276,7 +278,7 @@ class PrgProtocolHandler {
 
         logger.info("Logging into the PRG interface");
         final NoDispatchingCallback callback = new NoDispatchingCallback();
-        _session.setCallback(callback);
+        setListener(callback);
 
         String response = callback.getResponse();
         if (response.equals("login")) {
@@ -301,6 +303,16 @@ class PrgProtocolHandler {
         }
     }
 
+    /**
+     * Makes the listener the only {@link SocketSessionListener} of the {@link #_session}
+     *
+     * @param listener a non-null {@link SocketSessionListener}
+     */
+    private void setListener(SocketSessionListener listener) {
+        _session.clearListeners();
+        _session.addListener(listener);
+    }
+
     /**
      * Post successful login stuff - mark us online and refresh from the switch
      *
@@ -308,7 +320,7 @@ class PrgProtocolHandler {
      */
     private void postLogin() throws IOException {
         logger.info("PRG interface now connected");
-        _session.setCallback(new NormalResponseCallback());
+        setListener(new NormalResponseCallback());
         _callback.statusChanged(ThingStatus.ONLINE, ThingStatusDetail.NONE, null);
     }
 
@@ -1098,7 +1110,7 @@ class PrgProtocolHandler {
      * @author Tim Roberts
      *
      */
-    private class NormalResponseCallback implements SocketSessionCallback {
+    private class NormalResponseCallback implements SocketSessionListener {
 
         @Override
         public void responseReceived(String response) {
@@ -1196,7 +1208,7 @@ class PrgProtocolHandler {
      * @author Tim Roberts
      *
      */
-    private class NoDispatchingCallback implements SocketSessionCallback {
+    private class NoDispatchingCallback implements SocketSessionListener {
 
         /**
          * Cache of responses that have occurred
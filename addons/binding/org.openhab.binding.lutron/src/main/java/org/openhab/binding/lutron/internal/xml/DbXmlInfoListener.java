@@ -0,0 +1,31 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.lutron.internal.xml;
+
+import java.util.List;
+
+import org.openhab.binding.lutron.internal.discovery.project.Device;
+import org.openhab.binding.lutron.internal.discovery.project.Output;
+
+/**
+ * Receives the devices and outputs of a Lutron XML project file as they are read by the {@link DbXmlInfoReader}.
+ *
+ * @author agent - Initial contribution
+ */
+public interface DbXmlInfoListener {
+    /**
+     * Called for each device, with the names of the enclosing areas and device groups.
+     */
+    public void deviceRead(Device device, List<String> location);
+
+    /**
+     * Called for each output, with the names of the enclosing areas.
+     */
+    public void outputRead(Output output, List<String> location);
+}
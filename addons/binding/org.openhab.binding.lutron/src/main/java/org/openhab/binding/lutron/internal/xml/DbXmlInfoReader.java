@@ -8,77 +8,221 @@
  */
 package org.openhab.binding.lutron.internal.xml;
 
-import org.eclipse.smarthome.config.xml.util.XmlDocumentReader;
-import org.openhab.binding.lutron.internal.discovery.project.Area;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import org.openhab.binding.lutron.internal.discovery.project.Component;
 import org.openhab.binding.lutron.internal.discovery.project.Device;
-import org.openhab.binding.lutron.internal.discovery.project.DeviceGroup;
 import org.openhab.binding.lutron.internal.discovery.project.Output;
-import org.openhab.binding.lutron.internal.discovery.project.Project;
-
-import com.thoughtworks.xstream.XStream;
 
 /**
- * The {@link DbXmlInfoReader} reads Lutron XML project files and converts them to {@link Project}
- * objects describing the device things contained within the Lutron system.
+ * The {@link DbXmlInfoReader} reads Lutron XML project files and reports the device things contained within the
+ * Lutron system to a {@link DbXmlInfoListener}. The file is streamed, each device and output is reported as soon as
+ * its element is complete, so large projects are never held in memory.
  *
  * @author Allan Tong - Initial contribution
  */
-public class DbXmlInfoReader extends XmlDocumentReader<Project> {
+public class DbXmlInfoReader {
+    private static final int TIMEOUT = 10000;
+
+    private static final String PROJECT = "Project";
+    private static final String AREAS = "Areas";
+    private static final String AREA = "Area";
+    private static final String DEVICE_GROUPS = "DeviceGroups";
+    private static final String DEVICE_GROUP = "DeviceGroup";
+    private static final String DEVICES = "Devices";
+    private static final String DEVICE = "Device";
+    private static final String COMPONENTS = "Components";
+    private static final String COMPONENT = "Component";
+    private static final String OUTPUTS = "Outputs";
+    private static final String OUTPUT = "Output";
+
+    private static final String ATTR_NAME = "Name";
+    private static final String ATTR_INTEGRATION_ID = "IntegrationID";
+    private static final String ATTR_DEVICE_TYPE = "DeviceType";
+    private static final String ATTR_OUTPUT_TYPE = "OutputType";
+    private static final String ATTR_COMPONENT_NUMBER = "ComponentNumber";
+    private static final String ATTR_COMPONENT_TYPE = "ComponentType";
+
+    private final XMLInputFactory inputFactory;
 
     public DbXmlInfoReader() {
-        super.setClassLoader(Project.class.getClassLoader());
+        this.inputFactory = XMLInputFactory.newInstance();
+        this.inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        this.inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    public void readFromXML(URL url, DbXmlInfoListener listener) throws IOException {
+        URLConnection connection = url.openConnection();
+
+        connection.setConnectTimeout(TIMEOUT);
+        connection.setReadTimeout(TIMEOUT);
+
+        try (InputStream in = new BufferedInputStream(connection.getInputStream())) {
+            readFromXML(in, listener);
+        }
+    }
+
+    public void readFromXML(InputStream in, DbXmlInfoListener listener) throws IOException {
+        XMLStreamReader reader = null;
+
+        try {
+            reader = this.inputFactory.createXMLStreamReader(in);
+            read(reader, listener);
+        } catch (XMLStreamException e) {
+            throw new IOException("Error reading project file: " + e.getMessage(), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    private void read(XMLStreamReader reader, DbXmlInfoListener listener) throws XMLStreamException {
+        // Names of the open elements, and the names of the enclosing areas and device groups
+        LinkedList<String> elements = new LinkedList<>();
+        LinkedList<String> location = new LinkedList<>();
+        Device device = null;
+        List<Component> components = null;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+
+                if (!isKnownElement(elements.peekLast(), name)) {
+                    // This reader is only interested in device thing information and does not read
+                    // everything contained in DbXmlInfo. Ignoring unknown elements also makes the
+                    // binding more tolerant of potential future changes to the XML schema.
+                    skipElement(reader);
+                    continue;
+                }
+
+                elements.addLast(name);
+
+                switch (name) {
+                    case AREA:
+                    case DEVICE_GROUP:
+                        location.addLast(attribute(reader, ATTR_NAME));
+                        break;
+
+                    case DEVICE:
+                        components = new ArrayList<>();
+                        device = new Device(attribute(reader, ATTR_NAME),
+                                integerAttribute(reader, ATTR_INTEGRATION_ID), attribute(reader, ATTR_DEVICE_TYPE),
+                                components);
+                        break;
+
+                    case COMPONENT:
+                        if (components != null) {
+                            components.add(new Component(integerAttribute(reader, ATTR_COMPONENT_NUMBER),
+                                    attribute(reader, ATTR_COMPONENT_TYPE)));
+                        }
+                        break;
+
+                    case OUTPUT:
+                        listener.outputRead(new Output(attribute(reader, ATTR_NAME),
+                                integerAttribute(reader, ATTR_INTEGRATION_ID), attribute(reader, ATTR_OUTPUT_TYPE)),
+                                Collections.unmodifiableList(location));
+                        break;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                String name = elements.removeLast();
+
+                switch (name) {
+                    case AREA:
+                    case DEVICE_GROUP:
+                        location.removeLast();
+                        break;
+
+                    case DEVICE:
+                        listener.deviceRead(device, Collections.unmodifiableList(location));
+                        device = null;
+                        components = null;
+                        break;
+                }
+            }
+        }
     }
 
-    @Override
-    public void registerConverters(XStream xstream) {
+    /**
+     * Returns true if the element is part of the project structure read by this reader.
+     */
+    private boolean isKnownElement(String parent, String name) {
+        if (parent == null) {
+            return PROJECT.equals(name);
+        }
+
+        switch (parent) {
+            case PROJECT:
+                return AREAS.equals(name);
+            case AREAS:
+                return AREA.equals(name);
+            case AREA:
+                return DEVICE_GROUPS.equals(name) || OUTPUTS.equals(name) || AREAS.equals(name);
+            case DEVICE_GROUPS:
+                return DEVICE_GROUP.equals(name) || DEVICE.equals(name);
+            case DEVICE_GROUP:
+                return DEVICES.equals(name);
+            case DEVICES:
+                return DEVICE.equals(name);
+            case DEVICE:
+                return COMPONENTS.equals(name);
+            case COMPONENTS:
+                return COMPONENT.equals(name);
+            case OUTPUTS:
+                return OUTPUT.equals(name);
+            default:
+                return false;
+        }
     }
 
-    @Override
-    public void registerAliases(XStream xstream) {
-        xstream.alias("Project", Project.class);
-        xstream.aliasField("AppVer", Project.class, "appVersion");
-        xstream.aliasField("XMLVer", Project.class, "xmlVersion");
-        xstream.aliasField("Areas", Project.class, "areas");
-
-        xstream.alias("Area", Area.class);
-        xstream.aliasField("Name", Area.class, "name");
-        xstream.useAttributeFor(Area.class, "name");
-        xstream.aliasField("DeviceGroups", Area.class, "deviceNodes");
-        xstream.aliasField("Outputs", Area.class, "outputs");
-        xstream.aliasField("Areas", Area.class, "areas");
-
-        xstream.alias("DeviceGroup", DeviceGroup.class);
-        xstream.aliasField("Name", DeviceGroup.class, "name");
-        xstream.useAttributeFor(DeviceGroup.class, "name");
-        xstream.aliasField("Devices", DeviceGroup.class, "devices");
-
-        xstream.alias("Device", Device.class);
-        xstream.aliasField("Name", Device.class, "name");
-        xstream.useAttributeFor(Device.class, "name");
-        xstream.aliasField("IntegrationID", Device.class, "integrationId");
-        xstream.useAttributeFor(Device.class, "integrationId");
-        xstream.aliasField("DeviceType", Device.class, "type");
-        xstream.useAttributeFor(Device.class, "type");
-        xstream.aliasField("Components", Device.class, "components");
-
-        xstream.alias("Component", Component.class);
-        xstream.aliasField("ComponentNumber", Component.class, "componentNumber");
-        xstream.useAttributeFor(Component.class, "componentNumber");
-        xstream.aliasField("ComponentType", Component.class, "type");
-        xstream.useAttributeFor(Component.class, "type");
-
-        xstream.alias("Output", Output.class);
-        xstream.aliasField("Name", Output.class, "name");
-        xstream.useAttributeFor(Output.class, "name");
-        xstream.aliasField("IntegrationID", Output.class, "integrationId");
-        xstream.useAttributeFor(Output.class, "integrationId");
-        xstream.aliasField("OutputType", Output.class, "type");
-        xstream.useAttributeFor(Output.class, "type");
-
-        // This reader is only interested in device thing information and does not read
-        // everything contained in DbXmlInfo. Ignoring unknown elements also makes the
-        // binding more tolerant of potential future changes to the XML schema.
-        xstream.ignoreUnknownElements();
+    private void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private String attribute(XMLStreamReader reader, String name) {
+        return reader.getAttributeValue(null, name);
+    }
+
+    private Integer integerAttribute(XMLStreamReader reader, String name) {
+        String value = attribute(reader, name);
+
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 }
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.milight.test;
+
+import static org.junit.Assert.*;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.milight.MilightBindingConstants;
+import org.openhab.binding.milight.internal.MilightThingState;
+import org.openhab.binding.milight.internal.protocol.AbstractBulbInterface;
+import org.openhab.binding.milight.internal.protocol.MilightV6RGB_CW_WW;
+import org.openhab.binding.milight.internal.protocol.MilightV6RGB_IBOX;
+import org.openhab.binding.milight.internal.protocol.MilightV6RGB_W;
+import org.openhab.binding.milight.internal.protocol.MilightV6SessionManager;
+import org.openhab.binding.milight.internal.protocol.MilightV6SessionManager.ISessionState;
+import org.openhab.binding.milight.internal.protocol.MilightV6SessionManager.SessionState;
+import org.openhab.binding.milight.internal.protocol.QueuedSend;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the send queue against the {@link EmulatedV6Bridge}: How long it takes until a scene for all bulbs of a
+ * room has arrived at the bridge and how many packets were necessary, and how many commands per second the queue
+ * sends if no command can be dropped. Each measurement is done with an idle bridge and with a busy bridge that needs
+ * some time for each command. The results are logged, the emulated bridge needs the ports 5987 and 48899.
+ *
+ * @author agent - Initial contribution
+ */
+public class SendQueueBenchmark {
+    private final Logger logger = LoggerFactory.getLogger(SendQueueBenchmark.class);
+
+    private static final String BRIDGE_ID = "ACCF23F57AD4";
+    private static final int[] PROCESSING_TIMES_MS = { 0, 20 };
+    private static final int THROUGHPUT_COMMANDS = 200;
+    // The measurement is done if the bridge did not receive commands for this time
+    private static final long QUIET_TIME_MS = 1000;
+
+    private final List<AbstractBulbInterface> bulbs = new ArrayList<>();
+    private final List<MilightThingState> states = new ArrayList<>();
+    private EmulatedV6Bridge bridge;
+    private ScheduledExecutorService scheduler;
+    private QueuedSend com;
+    private MilightV6SessionManager session;
+
+    @Before
+    public void setUp() throws Exception {
+        bridge = new EmulatedV6Bridge();
+        scheduler = Executors.newScheduledThreadPool(2);
+        com = new QueuedSend();
+        com.setAddress(InetAddress.getLoopbackAddress());
+        com.setPort(MilightBindingConstants.PORT_VER6);
+        com.start(scheduler);
+
+        final CountDownLatch sessionValid = new CountDownLatch(1);
+        session = new MilightV6SessionManager(com, BRIDGE_ID, scheduler, new ISessionState() {
+            @Override
+            public void sessionStateChanged(SessionState state) {
+                if (state == SessionState.SESSION_VALID) {
+                    sessionValid.countDown();
+                }
+            }
+        });
+        assertTrue("No session with the emulated bridge", sessionValid.await(10, TimeUnit.SECONDS));
+
+        bulbs.add(new MilightV6RGB_IBOX(com, session));
+        for (int zone = 1; zone <= 4; ++zone) {
+            bulbs.add(new MilightV6RGB_CW_WW(com, session, zone));
+            bulbs.add(new MilightV6RGB_W(com, session, zone));
+        }
+        for (int i = 0; i < bulbs.size(); ++i) {
+            states.add(new MilightThingState());
+        }
+    }
+
+    @After
+    public void tearDown() {
+        if (session != null) {
+            session.dispose();
+        }
+        if (com != null) {
+            com.dispose();
+            // Quits the session receive thread
+            com.getSocket().close();
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (bridge != null) {
+            bridge.dispose();
+        }
+    }
+
+    @Test
+    public void benchmarkSendQueue() throws InterruptedException {
+        for (int processingTime : PROCESSING_TIMES_MS) {
+            bridge.setCommandProcessingTime(processingTime);
+            logger.info("Bridge processing time per command: {} ms", processingTime);
+            scene("Scene, same color for all bulbs", false);
+            scene("Scene, different color for each bulb", true);
+            throughput();
+        }
+    }
+
+    /**
+     * Switches all bulbs on and sets a color and brightness, like a scene for a room would do.
+     */
+    private void scene(String name, boolean differentColors) throws InterruptedException {
+        int packets = bridge.getLightCommands();
+        long start = System.nanoTime();
+        for (int i = 0; i < bulbs.size(); ++i) {
+            MilightThingState state = states.get(i);
+            int hue = differentColors ? (i * 40) % 360 : 120;
+            state.brightness = 0;
+            bulbs.get(i).setPower(true, state);
+            bulbs.get(i).setHSB(hue, 100, 80, state);
+        }
+        long end = waitForQuietBridge();
+        packets = bridge.getLightCommands() - packets;
+        assertTrue("No command of the scene arrived at the bridge", packets > 0);
+        logger.info("  {}: {} bulbs, {} packets, {} ms", name, bulbs.size(), packets,
+                TimeUnit.NANOSECONDS.toMillis(end - start));
+    }
+
+    /**
+     * Queues relative commands, those are never replaced or combined.
+     */
+    private void throughput() throws InterruptedException {
+        int packets = bridge.getLightCommands();
+        long start = System.nanoTime();
+        for (int i = 0; i < THROUGHPUT_COMMANDS; ++i) {
+            bulbs.get(1).changeSpeed(i % 2 == 0 ? 2 : -2, states.get(1));
+        }
+        long end = waitForQuietBridge();
+        packets = bridge.getLightCommands() - packets;
+        assertTrue("No relative command arrived at the bridge", packets > 0);
+        long ms = Math.max(1, TimeUnit.NANOSECONDS.toMillis(end - start));
+        logger.info("  Throughput: {} of {} commands in {} ms, {} commands/s, {} ms each", packets,
+                THROUGHPUT_COMMANDS, ms, packets * 1000 / ms, String.format("%.1f", (double) ms / packets));
+    }
+
+    // Return the time of the last received command
+    private long waitForQuietBridge() throws InterruptedException {
+        int count = bridge.getLightCommands();
+        while (true) {
+            Thread.sleep(QUIET_TIME_MS);
+            int newCount = bridge.getLightCommands();
+            if (newCount == count) {
+                return bridge.getLastLightCommandTime();
+            }
+            count = newCount;
+        }
+    }
+}
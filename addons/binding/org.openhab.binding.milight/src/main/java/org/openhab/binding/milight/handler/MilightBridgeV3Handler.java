@@ -86,7 +86,7 @@ public class MilightBridgeV3Handler extends AbstractMilightBridgeHandler impleme
 
         com.setAddress(addr);
         com.setPort(port);
-        com.start();
+        com.start(scheduler);
 
         // We recycle the discovery class and reuse it as a keep alive here.
         try {
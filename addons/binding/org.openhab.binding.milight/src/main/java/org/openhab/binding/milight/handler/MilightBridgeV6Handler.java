@@ -78,7 +78,7 @@ public class MilightBridgeV6Handler extends AbstractMilightBridgeHandler impleme
 
         com.setAddress(addr);
         com.setPort(port);
-        com.start();
+        com.start(scheduler);
 
         updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_PENDING, "Waiting for session");
         session = new MilightV6SessionManager(com, bridgeid, scheduler, this);
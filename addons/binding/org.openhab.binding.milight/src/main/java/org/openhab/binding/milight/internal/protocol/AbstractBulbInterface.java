@@ -111,6 +111,13 @@ public abstract class AbstractBulbInterface {
      * @return
      */
     protected int uidc(int command_category) {
+        return uidc(zone, command_category);
+    }
+
+    /**
+     * Generates a unique command id for the given zone of this bulb type. Used for group commands (zone 0).
+     */
+    protected int uidc(int zone, int command_category) {
         return (zone + type_offset + 1) * 64 + command_category;
     }
 }
@@ -34,6 +34,24 @@ public abstract class MilightV3 extends AbstractBulbInterface {
         return (byte) (mHue * 255 / 360); // map to 256 values
     }
 
+    /**
+     * Queues a zone command of the given category. The command table contains the command byte for all zones at
+     * index 0 and for each zone at the zone index, so that equal commands for all zones can be send as one
+     * group command.
+     *
+     * @param command_category The category of the command.
+     * @param command_table The command byte for all zones and for each zone.
+     */
+    protected void queueZoneCommand(int command_category, byte[] command_table) {
+        QueueItem item = QueueItem.createRepeatable(uidc(command_category),
+                new byte[] { command_table[zone], 0x00, 0x55 });
+        if (zone != 0) {
+            item.setGroupCommand(QueueItem.createRepeatable(uidc(0, command_category),
+                    new byte[] { command_table[0], 0x00, 0x55 }));
+        }
+        sendQueue.queue(item);
+    }
+
     @Override
     public void setLedMode(int mode, MilightThingState state) {
         // Not supported
@@ -54,9 +54,9 @@ public class MilightV3RGBW extends MilightV3 {
     @Override
     public void setPower(boolean on, MilightThingState state) {
         if (on) {
-            sendQueue.queueRepeatable(uidc(CAT_POWER_SET), new byte[] { command_on[zone], 0x00, 0x55 });
+            queueZoneCommand(CAT_POWER_SET, command_on);
         } else {
-            sendQueue.queueRepeatable(uidc(CAT_POWER_SET), new byte[] { command_off[zone], 0x00, 0x55 });
+            queueZoneCommand(CAT_POWER_SET, command_off);
         }
     }
 
@@ -90,7 +90,7 @@ public class MilightV3RGBW extends MilightV3 {
 
         if (value == 0) {
             state.brightness = value;
-            sendQueue.queueRepeatable(uidc(CAT_POWER_SET), new byte[] { command_off[zone], 0x00, 0x55 });
+            queueZoneCommand(CAT_POWER_SET, command_off);
             return;
         }
 
@@ -48,9 +48,9 @@ public class MilightV3White extends MilightV3 {
     @Override
     public void setPower(boolean on, MilightThingState state) {
         if (on) {
-            sendQueue.queueRepeatable(uidc(CAT_POWER_SET), new byte[] { command_on[zone], 0x00, 0x55 });
+            queueZoneCommand(CAT_POWER_SET, command_on);
         } else {
-            sendQueue.queueRepeatable(uidc(CAT_POWER_SET), new byte[] { command_off[zone], 0x00, 0x55 });
+            queueZoneCommand(CAT_POWER_SET, command_off);
         }
     }
 
@@ -111,7 +111,7 @@ public class MilightV3White extends MilightV3 {
     @Override
     public void setBrightness(int value, MilightThingState state) {
         if (value <= 0) {
-            sendQueue.queueRepeatable(uidc(CAT_POWER_SET), new byte[] { command_off[zone], 0x00, 0x55 });
+            queueZoneCommand(CAT_POWER_SET, command_off);
             return;
         } else if (value >= 100) {
             sendQueue.queueRepeatable(uidc(CAT_BRIGHTNESS_SET), new byte[] { command_full[zone], 0x00, 0x55 });
@@ -163,7 +163,7 @@ public class MilightV3White extends MilightV3 {
         state.brightness = Math.min(Math.max(state.brightness + relative_brightness, 0), 100);
 
         if (state.brightness == 0) {
-            sendQueue.queueRepeatable(uidc(CAT_POWER_SET), new byte[] { command_off[zone], 0x00, 0x55 });
+            queueZoneCommand(CAT_POWER_SET, command_off);
         } else {
             final byte c_on[] = { command_on[zone], 0x00, 0x55 };
             final byte c_br[] = { (byte) (relative_brightness < 0 ? 0x34 : 0x3C), 0x00, 0x55 };
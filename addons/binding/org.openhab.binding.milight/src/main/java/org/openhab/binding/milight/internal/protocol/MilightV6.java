@@ -26,6 +26,9 @@ public abstract class MilightV6 extends AbstractBulbInterface {
     protected static final int MAX_SAT = 100; // Maximum saturation (0x64)
     protected static final int MAX_TEMP = 100; // Maximum colour temperature (0x64)
 
+    // The offset of the sequence number byte in the commands. The send queue inserts the sequence number.
+    protected static final int SEQUENCE_NO_OFFSET = 8;
+
     protected MilightV6SessionManager session;
 
     public MilightV6(int type_offset, QueuedSend sendQueue, MilightV6SessionManager session, int zone) {
@@ -40,9 +43,16 @@ public abstract class MilightV6 extends AbstractBulbInterface {
 
     protected abstract byte getBrCmd();
 
+    /**
+     * Return true if the bulb type can be addressed by zone 0 for all zones at once.
+     */
+    protected boolean hasGroupZone() {
+        return true;
+    }
+
     /**
      * Constructs a 0x80... command which us used for all colour,brightness,saturation,mode operations.
-     * The zone, session ID, password and sequence number is automatically inserted from the session object.
+     * The zone, session ID and password is automatically inserted from the session object.
      *
      * Produces data like:
      * SN: Sequence number
@@ -53,6 +63,8 @@ public abstract class MilightV6 extends AbstractBulbInterface {
      * ZN: Zone {Zone1-4 0=All}
      * CK: Checksum
      *
+     * The sequence number is inserted by the send queue right before the command is send.
+     *
      * #zone 1 on
      * @ 80 00 00 00 11 84 00 00 0c 00 31 00 00 08 04 01 00 00 00 01 00 3f
      *
@@ -65,9 +77,13 @@ public abstract class MilightV6 extends AbstractBulbInterface {
      * @return
      */
     protected byte[] make_command(int... data) {
+        return make_zone_command(zone, data);
+    }
+
+    private byte[] make_zone_command(int zone, int... data) {
         byte[] t = { (byte) 0x80, 0x00, 0x00, 0x00, 0x11, session.getSid1(), session.getSid2(),
-                session.getNextSequenceNo1(), session.getNextSequenceNo2(), 0x00, 0x31, session.getPw1(),
-                session.getPw2(), getAddr(), 0, 0, 0, 0, 0, (byte) zone, 0, 0 };
+                session.getNextSequenceNo1(), 0x00, 0x00, 0x31, session.getPw1(), session.getPw2(), getAddr(), 0, 0, 0,
+                0, 0, (byte) zone, 0, 0 };
 
         for (int i = 0; i < data.length; ++i) {
             t[14 + i] = (byte) data[i];
@@ -81,8 +97,8 @@ public abstract class MilightV6 extends AbstractBulbInterface {
 
     protected byte[] make_link(boolean link) {
         byte[] t = { (link ? (byte) 0x3D : (byte) 0x3E), 0x00, 0x00, 0x00, 0x11, session.getSid1(), session.getSid2(),
-                session.getNextSequenceNo1(), session.getNextSequenceNo2(), 0x00, 0x31, session.getPw1(),
-                session.getPw2(), getAddr(), 0x00, 0x00, 0x00, 0x00, 0x00, (byte) zone, 0x00, 0x00 };
+                session.getNextSequenceNo1(), 0x00, 0x00, 0x31, session.getPw1(), session.getPw2(), getAddr(), 0x00,
+                0x00, 0x00, 0x00, 0x00, (byte) zone, 0x00, 0x00 };
 
         byte chksum = (byte) (t[10 + 0] + t[10 + 1] + t[10 + 2] + t[10 + 3] + t[10 + 4] + t[10 + 5] + t[10 + 6]
                 + t[10 + 7] + t[10 + 8] + zone);
@@ -90,6 +106,32 @@ public abstract class MilightV6 extends AbstractBulbInterface {
         return t;
     }
 
+    /**
+     * Queues an absolute command. A newer command of the same category replaces this one if it is not send yet.
+     * If all zones get the same command, the send queue sends it once for zone 0 (all zones) instead.
+     *
+     * @param command_category The category of the command.
+     * @param data The command bytes, see {@link #make_command(int...)}
+     */
+    protected void queueCommand(int command_category, int... data) {
+        QueueItem item = QueueItem.createRepeatable(uidc(command_category), make_command(data))
+                .setSequenceNoOffset(SEQUENCE_NO_OFFSET);
+        if (zone != 0 && hasGroupZone()) {
+            item.setGroupCommand(QueueItem.createRepeatable(uidc(0, command_category), make_zone_command(0, data))
+                    .setSequenceNoOffset(SEQUENCE_NO_OFFSET));
+        }
+        sendQueue.queue(item);
+    }
+
+    /**
+     * Queues a relative command. Those are never replaced or repeated.
+     *
+     * @param data The command bytes, see {@link #make_command(int...)}
+     */
+    protected void queueRelativeCommand(int... data) {
+        sendQueue.queue(QueueItem.createNonRepeatable(make_command(data)).setSequenceNoOffset(SEQUENCE_NO_OFFSET));
+    }
+
     @Override
     public void setHSB(int hue, int saturation, int brightness, MilightThingState state) {
         if (!session.isValid()) {
@@ -109,7 +151,7 @@ public abstract class MilightV6 extends AbstractBulbInterface {
         // Compute destination hue and current hue value, each mapped to 256 values.
         // int cHue = state.hue360 * 255 / 360; // map to 256 values
         int dHue = hue * 255 / 360; // map to 256 values
-        sendQueue.queueRepeatable(uidc(CAT_COLOR_SET), make_command(1, dHue, dHue, dHue, dHue));
+        queueCommand(CAT_COLOR_SET, 1, dHue, dHue, dHue, dHue);
 
         state.hue360 = hue;
 
@@ -141,7 +183,7 @@ public abstract class MilightV6 extends AbstractBulbInterface {
         int br = (value * MAX_BR) / 100;
         br = Math.min(br, MAX_BR);
         br = Math.max(br, 0);
-        sendQueue.queueRepeatable(uidc(CAT_BRIGHTNESS_SET), make_command(getBrCmd(), br));
+        queueCommand(CAT_BRIGHTNESS_SET, getBrCmd(), br);
 
         state.brightness = value;
     }
@@ -210,10 +252,12 @@ public abstract class MilightV6 extends AbstractBulbInterface {
     }
 
     public void link(int zone) {
-        sendQueue.queueRepeatable(uidc(CAT_LINK), make_link(true));
+        sendQueue.queue(
+                QueueItem.createRepeatable(uidc(CAT_LINK), make_link(true)).setSequenceNoOffset(SEQUENCE_NO_OFFSET));
     }
 
     public void unlink(int zone) {
-        sendQueue.queueRepeatable(uidc(CAT_LINK), make_link(false));
+        sendQueue.queue(
+                QueueItem.createRepeatable(uidc(CAT_LINK), make_link(false)).setSequenceNoOffset(SEQUENCE_NO_OFFSET));
     }
 }
\ No newline at end of file
@@ -36,9 +36,9 @@ public class MilightV6RGB_CW_WW extends MilightV6 {
         }
 
         if (on) {
-            sendQueue.queueRepeatable(uidc(CAT_POWER_SET), make_command(4, 1));
+            queueCommand(CAT_POWER_SET, 4, 1);
         } else {
-            sendQueue.queueRepeatable(uidc(CAT_POWER_SET), make_command(4, 2));
+            queueCommand(CAT_POWER_SET, 4, 2);
         }
     }
 
@@ -49,7 +49,7 @@ public class MilightV6RGB_CW_WW extends MilightV6 {
             return;
         }
 
-        sendQueue.queueRepeatable(uidc(CAT_WHITEMODE), make_command(5, state.colorTemperature));
+        queueCommand(CAT_WHITEMODE, 5, state.colorTemperature);
     }
 
     @Override
@@ -60,7 +60,7 @@ public class MilightV6RGB_CW_WW extends MilightV6 {
         }
 
         setPower(true, state);
-        sendQueue.queueRepeatable(uidc(CAT_NIGHTMODE), make_command(4, 5));
+        queueCommand(CAT_NIGHTMODE, 4, 5);
     }
 
     @Override
@@ -73,7 +73,7 @@ public class MilightV6RGB_CW_WW extends MilightV6 {
         int ct = (color_temp * MAX_TEMP) / 100;
         ct = Math.min(ct, MAX_TEMP);
         ct = Math.max(ct, 0);
-        sendQueue.queueRepeatable(uidc(CAT_TEMPERATURE_SET), make_command(5, ct));
+        queueCommand(CAT_TEMPERATURE_SET, 5, ct);
         state.colorTemperature = color_temp;
     }
 
@@ -93,7 +93,7 @@ public class MilightV6RGB_CW_WW extends MilightV6 {
         br = MAX_SAT - br; // inverse value
         br = Math.min(br, MAX_SAT); // force maximum value
         br = Math.max(br, 0); // force minimum value
-        sendQueue.queueRepeatable(uidc(CAT_SATURATION_SET), make_command(2, br));
+        queueCommand(CAT_SATURATION_SET, 2, br);
         state.saturation = value;
     }
 
@@ -106,16 +106,16 @@ public class MilightV6RGB_CW_WW extends MilightV6 {
 
         mode = Math.min(mode, 9);
         mode = Math.max(mode, 1);
-        sendQueue.queueRepeatable(uidc(CAT_MODE_SET), make_command(6, mode));
+        queueCommand(CAT_MODE_SET, 6, mode);
         state.animationMode = mode;
     }
 
     @Override
     public void changeSpeed(int relative_speed, MilightThingState state) {
         if (relative_speed > 1) {
-            sendQueue.queue(QueueItem.createNonRepeatable(make_command(4, 3)));
+            queueRelativeCommand(4, 3);
         } else if (relative_speed < 1) {
-            sendQueue.queue(QueueItem.createNonRepeatable(make_command(4, 4)));
+            queueRelativeCommand(4, 4);
         }
     }
 }
@@ -37,9 +37,9 @@ public class MilightV6RGB_IBOX extends MilightV6 {
         }
 
         if (on) {
-            sendQueue.queueRepeatable(uidc(CAT_POWER_SET), make_command(3, 3));
+            queueCommand(CAT_POWER_SET, 3, 3);
         } else {
-            sendQueue.queueRepeatable(uidc(CAT_POWER_SET), make_command(3, 4));
+            queueCommand(CAT_POWER_SET, 3, 4);
         }
     }
 
@@ -50,7 +50,7 @@ public class MilightV6RGB_IBOX extends MilightV6 {
             return;
         }
 
-        sendQueue.queueRepeatable(uidc(CAT_WHITEMODE), make_command(3, 5));
+        queueCommand(CAT_WHITEMODE, 3, 5);
     }
 
     @Override
@@ -68,6 +68,12 @@ public class MilightV6RGB_IBOX extends MilightV6 {
         logger.info("Color temperature not supported by iBox led!");
     }
 
+    // The iBox led is a single bulb
+    @Override
+    protected boolean hasGroupZone() {
+        return false;
+    }
+
     @Override
     protected byte getBrCmd() {
         return 2;
@@ -87,16 +93,16 @@ public class MilightV6RGB_IBOX extends MilightV6 {
 
         mode = Math.min(mode, 9);
         mode = Math.max(mode, 1);
-        sendQueue.queueRepeatable(uidc(CAT_MODE_SET), make_command(4, mode));
+        queueCommand(CAT_MODE_SET, 4, mode);
         state.animationMode = mode;
     }
 
     @Override
     public void changeSpeed(int relative_speed, MilightThingState state) {
         if (relative_speed > 1) {
-            sendQueue.queue(QueueItem.createNonRepeatable(make_command(3, 2)));
+            queueRelativeCommand(3, 2);
         } else if (relative_speed < 1) {
-            sendQueue.queue(QueueItem.createNonRepeatable(make_command(3, 1)));
+            queueRelativeCommand(3, 1);
         }
     }
 
@@ -37,9 +37,9 @@ public class MilightV6RGB_W extends MilightV6 {
         }
 
         if (on) {
-            sendQueue.queueRepeatable(uidc(CAT_POWER_SET), make_command(3, 1));
+            queueCommand(CAT_POWER_SET, 3, 1);
         } else {
-            sendQueue.queueRepeatable(uidc(CAT_POWER_SET), make_command(3, 2));
+            queueCommand(CAT_POWER_SET, 3, 2);
         }
     }
 
@@ -50,7 +50,7 @@ public class MilightV6RGB_W extends MilightV6 {
             return;
         }
 
-        sendQueue.queueRepeatable(uidc(CAT_WHITEMODE), make_command(3, 5));
+        queueCommand(CAT_WHITEMODE, 3, 5);
     }
 
     @Override
@@ -61,7 +61,7 @@ public class MilightV6RGB_W extends MilightV6 {
         }
 
         setPower(true, state);
-        sendQueue.queueRepeatable(uidc(CAT_NIGHTMODE), make_command(3, 6));
+        queueCommand(CAT_NIGHTMODE, 3, 6);
     }
 
     @Override
@@ -88,16 +88,16 @@ public class MilightV6RGB_W extends MilightV6 {
 
         mode = Math.min(mode, 9);
         mode = Math.max(mode, 1);
-        sendQueue.queueRepeatable(uidc(CAT_MODE_SET), make_command(6, mode));
+        queueCommand(CAT_MODE_SET, 6, mode);
         state.animationMode = mode;
     }
 
     @Override
     public void changeSpeed(int relative_speed, MilightThingState state) {
         if (relative_speed > 1) {
-            sendQueue.queue(QueueItem.createNonRepeatable(make_command(4, 3)));
+            queueRelativeCommand(4, 3);
         } else if (relative_speed < 1) {
-            sendQueue.queue(QueueItem.createNonRepeatable(make_command(4, 4)));
+            queueRelativeCommand(4, 4);
         }
     }
 }
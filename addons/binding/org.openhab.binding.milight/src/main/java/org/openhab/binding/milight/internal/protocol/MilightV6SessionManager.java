@@ -47,7 +47,7 @@ import org.slf4j.LoggerFactory;
  * @author David Graeff <david.graeff@web.de>
  * @since 2.1
  */
-public class MilightV6SessionManager implements Runnable {
+public class MilightV6SessionManager implements Runnable, QueuedSend.ISequenceProvider {
     protected final Logger logger = LoggerFactory.getLogger(MilightV6SessionManager.class);
 
     // The used sequence number for a command will be present in the response of the iBox. This
@@ -139,6 +139,7 @@ public class MilightV6SessionManager implements Runnable {
         for (int i = 0; i < 6; ++i) {
             BRIDGE_MAC[i] = Integer.valueOf(bridgeId.substring(i * 2, i * 2 + 2), 16).byteValue();
         }
+        sendQueue.setSequenceProvider(this);
         sessionThread = new Thread(this, "SessionThread");
         sessionThread.start();
     }
@@ -196,7 +197,9 @@ public class MilightV6SessionManager implements Runnable {
     // Get the second byte of a new sequence number. Add that to a queue of used sequence numbers.
     // The bridge response will remove the queued number. This method also checks
     // for non confirmed sequence numbers older that 2 seconds and report them.
-    byte getNextSequenceNo2() {
+    // The send queue calls this right before a command is send.
+    @Override
+    public synchronized byte getNextSequenceNo2() {
         byte t = sequence_no;
         long current = System.currentTimeMillis();
         used_sequence_no.put(t, current);
@@ -217,6 +220,7 @@ public class MilightV6SessionManager implements Runnable {
     public void dispose() {
         willbeclosed = true;
         scheduler = null;
+        sendQueue.setSequenceProvider(null);
         if (sessionThread != null) {
             try {
                 sessionThread.join(100);
@@ -489,7 +493,10 @@ public class MilightV6SessionManager implements Runnable {
                     }
                     // 88 00 00 00 03 SN SN 00 // two byte sequence number, we use the later one only
                     case (byte) 0x88:
-                        used_sequence_no.remove(buffer[6]);
+                        synchronized (this) {
+                            used_sequence_no.remove(buffer[6]);
+                        }
+                        sendQueue.acknowledged(buffer[6], buffer[07] == 0);
                         if (buffer[07] == 0) {
                             if (DEBUG_SESSION) {
                                 logger.debug("Confirmation received for command:{}", String.valueOf(buffer[6]));
@@ -9,11 +9,14 @@
 package org.openhab.binding.milight.internal.protocol;
 
 public class QueueItem {
-    static final int INVALID = -1;
     byte[] data;
     int unique_command_id;
     boolean repeatable;
     int custom_delay_time;
+    // Offset of the sequence number byte in data or -1 if the bridge does not acknowledge this command.
+    int sequence_no_offset = -1;
+    // The same command for all zones of the bulb type or null if the command can not be send to all zones at once.
+    QueueItem group;
 
     private QueueItem root, last = null;
     QueueItem next = null;
@@ -111,4 +114,29 @@ public class QueueItem {
         root.last.repeatable = true;
         return this.root;
     }
-}
\ No newline at end of file
+
+    /**
+     * The bridge of this command acknowledges each command with the sequence number at the given offset in the
+     * data. The send queue inserts a new sequence number right before sending the command and waits for the
+     * acknowledgement before the next command is send.
+     *
+     * @param offset The offset of the sequence number byte in the data.
+     * @return Returns this command.
+     */
+    public QueueItem setSequenceNoOffset(int offset) {
+        this.sequence_no_offset = offset;
+        return this;
+    }
+
+    /**
+     * Attach the same command for all zones of the bulb type. If commands with equal group commands are queued for
+     * all zones, the send queue sends the group command once instead.
+     *
+     * @param group The command (chain) for all zones. It must have its own unique command id.
+     * @return Returns this command.
+     */
+    public QueueItem setGroupCommand(QueueItem group) {
+        this.group = group;
+        return this;
+    }
+}
@@ -12,10 +12,15 @@ import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.InetAddress;
 import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.NoSuchElementException;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,30 +28,73 @@ import org.slf4j.LoggerFactory;
 /**
  * This implements a queue for UDP sending, where each item to be send is associated with an id.
  * If a new item is added, that has the same id of an already queued item, it replaces the
- * queued item. This is used for milight packets, where older bridges accept commands with a 100ms
- * delay only. The user may issue absolute brightness or color changes faster than 1/10s though, and we don't
- * want to just queue up those commands but apply the newest command only.
+ * queued item at its position in the queue. This is used for milight packets, where older bridges accept commands
+ * with a 100ms delay only. The user may issue absolute brightness or color changes faster than 1/10s though, and we
+ * don't want to just queue up those commands but apply the newest command only.
+ *
+ * If equal commands are queued for all zones of a bulb type and the command can be send to all zones at once
+ * (see {@link QueueItem#setGroupCommand(QueueItem)}), the zone commands are replaced by the group command.
+ *
+ * The queue is processed by tasks of the given scheduler. Bridges without a response channel get a fixed delay
+ * between commands. Bridges that acknowledge commands (see {@link ISequenceProvider}) get the next command as soon as
+ * the previous one is acknowledged. The wait time after an acknowledgement grows if acknowledgements get lost and
+ * shrinks again while the bridge keeps up.
  *
  * @author David Graeff <david.graeff@web.de>
  * @since 2.1
  *
  */
-public class QueuedSend implements Runnable {
+public class QueuedSend {
     private final Logger logger = LoggerFactory.getLogger(QueuedSend.class);
 
-    BlockingQueue<QueueItem> queue = new LinkedBlockingQueue<>(20);
+    public static final byte NO_CATEGORY = 0;
+
+    // The number of zones of a bulb type. Commands for all of them can be replaced by a group command.
+    static final int GROUP_ZONES = 4;
+
+    // Limits of the wait time after an acknowledged command and of the acknowledgement timeout
+    private static final int MIN_PACE_MS = 5;
+    private static final int MIN_ACK_TIMEOUT_MS = 50;
+    private static final int MAX_ACK_TIMEOUT_MS = 1000;
+
+    /**
+     * Implemented by the session of bridges that acknowledge each command with its sequence number.
+     */
+    public interface ISequenceProvider {
+        // Return a new sequence number for a command that is send now
+        byte getNextSequenceNo2();
+    }
+
+    // Queued commands in send order. Non-categorised commands get a negative key of their own.
+    private final Map<Integer, QueueItem> queue = new LinkedHashMap<>();
+    private int next_uncategorised_key = -1;
+
     protected final DatagramPacket packet;
     protected final DatagramSocket datagramSocket;
     private int delay_between_commands = 100;
     private int repeat_commands = 1;
-    private boolean willbeclosed = false;
-    private Thread thread;
+    private ScheduledExecutorService scheduler;
+    // The next send or the acknowledgement timeout. Null if the queue is idle.
+    private ScheduledFuture<?> sendTimer;
+    // Identifies the current timer. A timer task that already started when the timer got cancelled does nothing.
+    private int timer_generation = 0;
 
-    public static final byte NO_CATEGORY = 0;
+    // The command (or part of a command chain) in progress, how often it has been send and acknowledged
+    private QueueItem current;
+    private int current_attempts;
+    private int current_acks;
+
+    private ISequenceProvider sequenceProvider;
+    private boolean awaiting_ack = false;
+    private byte awaiting_sequence_no;
+    private long sent_time_ns;
+    // Smoothed round trip time of acknowledged commands
+    private int srtt_ms = MIN_ACK_TIMEOUT_MS;
+    // Wait time after an acknowledged command
+    private int pace_ms = MIN_PACE_MS;
 
     /**
-     * Creates a new send queue and starts the background thread. Call setAddress and
-     * setPort before using any of the queue commands.
+     * Creates a new send queue. Call setAddress and setPort before using any of the queue commands.
      *
      * @throws SocketException
      */
@@ -57,12 +105,13 @@ public class QueuedSend implements Runnable {
     }
 
     /**
-     * Start the send thread of this queue. Call dispose() to quit the thread.
+     * Start sending queued commands. Call dispose() to stop.
+     *
+     * @param scheduler A framework scheduler that executes the send tasks.
      */
-    public void start() {
-        willbeclosed = false;
-        thread = new Thread(this);
-        thread.start();
+    public synchronized void start(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+        schedule(0);
     }
 
     public int getDelayBetweenCommands() {
@@ -73,119 +122,228 @@ public class QueuedSend implements Runnable {
         return repeat_commands;
     }
 
+    /**
+     * Commands are send this many times. The acknowledgement of the bridge only confirms the reception by the bridge,
+     * not by the bulbs, so commands are repeated for bridges that acknowledge commands as well. A send that is not
+     * acknowledged is repeated in addition, up to this many times.
+     */
     public void setRepeatCommands(int repeat_commands) {
         repeat_commands = Math.max(1, Math.min(5, repeat_commands));
         this.repeat_commands = repeat_commands;
     }
 
+    /**
+     * The wait time after each command. If the bridge acknowledges commands, this is the upper limit of the wait
+     * time after an acknowledged command.
+     */
     public void setDelayBetweenCommands(int ms) {
         ms = Math.max(0, Math.min(400, ms));
         delay_between_commands = ms;
     }
 
     /**
-     * The queue process
+     * Bridges that acknowledge each command need to provide the sequence numbers for the commands
+     * (see {@link QueueItem#setSequenceNoOffset(int)}) and report acknowledgements to {@link #acknowledged}.
+     *
+     * @param sequenceProvider The sequence number provider or null.
      */
-    @Override
-    public void run() {
-        QueueItem item = null;
-        while (!willbeclosed) {
-            // If the command belongs to a chain of commands, get the next command now.
-            if (item != null && item.next != null) {
-                item = item.next;
-            } else {
-                try {
-                    // block/wait for another item
-                    item = queue.take();
-                } catch (InterruptedException e) {
-                    if (!willbeclosed) {
-                        logger.error("Queue take failed: {}", e.getLocalizedMessage());
-                    }
-                    break;
-                }
+    public synchronized void setSequenceProvider(ISequenceProvider sequenceProvider) {
+        this.sequenceProvider = sequenceProvider;
+    }
+
+    /**
+     * Send the current command, or continue with the next one. Executed by the timer tasks only.
+     */
+    private synchronized void process(int generation) {
+        if (generation != timer_generation || scheduler == null) {
+            return;
+        }
+        sendTimer = null;
+
+        if (awaiting_ack) {
+            // Acknowledgement timeout. The bridge is busy or the packet got lost, wait longer from now on.
+            awaiting_ack = false;
+            pace_ms = Math.min(2 * pace_ms + MIN_PACE_MS, Math.max(delay_between_commands, MIN_PACE_MS));
+            if (!current.repeatable || current_attempts - current_acks > repeat_commands) {
+                logger.debug("Command not acknowledged by bridge {}", packet.getAddress().getHostAddress());
+                advance();
             }
+        }
 
-            if (item == null || item.unique_command_id == QueueItem.INVALID) {
-                // Just in case it is a command chain, set the item to null to not process any chained commands.
-                item = null;
-                continue;
+        if (current == null) {
+            current = takeNext();
+            current_attempts = 0;
+            current_acks = 0;
+            if (current == null) {
+                // Idle until the next command is queued
+                return;
             }
+        }
 
-            packet.setData(item.data);
-            try {
-                for (int i = 0; i < (item.repeatable ? repeat_commands : 1); ++i) {
-                    datagramSocket.send(packet);
-
-                    if (logger.isDebugEnabled()) {
-                        StringBuilder s = new StringBuilder();
-                        for (int c = 0; c < item.data.length; ++c) {
-                            s.append(String.format("%02X ", item.data[c]));
-                        }
-                        logger.debug("Sent packet '{}' to bridge {}", s.toString(),
-                                packet.getAddress().getHostAddress());
-                    }
-                }
+        if (current.sequence_no_offset >= 0 && sequenceProvider != null) {
+            current.data[current.sequence_no_offset] = sequenceProvider.getNextSequenceNo2();
+            send(current, 1);
+            ++current_attempts;
+            awaiting_ack = true;
+            awaiting_sequence_no = current.data[current.sequence_no_offset];
+            sent_time_ns = System.nanoTime();
+            schedule(Math.min(MAX_ACK_TIMEOUT_MS, Math.max(MIN_ACK_TIMEOUT_MS, 4 * srtt_ms)));
+            return;
+        }
+
+        send(current, current.repeatable ? repeat_commands : 1);
+        int delay = (current.custom_delay_time != 0) ? current.custom_delay_time : delay_between_commands;
+        advance();
+        schedule(delay);
+    }
 
-            } catch (Exception e) {
-                logger.error("Failed to send Message to '{}': {}", packet.getAddress().getHostAddress(),
-                        e.getMessage());
+    /**
+     * The bridge acknowledged the command with the given sequence number. Called by the session receive thread.
+     *
+     * @param sequence_no The sequence number of the acknowledged command.
+     * @param success False if the bridge reported an error for the command. The command is not send again, not even
+     *            for the remaining repeats.
+     */
+    public synchronized void acknowledged(byte sequence_no, boolean success) {
+        if (!awaiting_ack || sequence_no != awaiting_sequence_no) {
+            // Late acknowledgement of a command that is already send again
+            return;
+        }
+        awaiting_ack = false;
+        cancelTimer();
+
+        int rtt_ms = (int) TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sent_time_ns);
+        srtt_ms = (7 * srtt_ms + rtt_ms) / 8;
+        pace_ms = Math.max(MIN_PACE_MS, pace_ms - pace_ms / 4);
+
+        int delay = Math.max(pace_ms, current.custom_delay_time);
+        if (!success) {
+            // The bridge rejected the command, repeating it would be rejected as well
+            logger.debug("Command rejected by bridge {}", packet.getAddress().getHostAddress());
+            advance();
+        } else if (!current.repeatable || ++current_acks >= repeat_commands) {
+            // Repeat for the bulbs that may be out of the radio range of the bridge
+            advance();
+        }
+        schedule(delay);
+    }
+
+    // Continue with the next command of a chain or with the next queued command
+    private void advance() {
+        current = current.next;
+        current_attempts = 0;
+        current_acks = 0;
+    }
+
+    private QueueItem takeNext() {
+        Iterator<QueueItem> iterator = queue.values().iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        QueueItem item = iterator.next();
+        iterator.remove();
+        return item;
+    }
+
+    private void schedule(int delay_ms) {
+        if (scheduler == null || sendTimer != null) {
+            return;
+        }
+        final int generation = ++timer_generation;
+        sendTimer = scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                process(generation);
             }
+        }, delay_ms, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelTimer() {
+        ++timer_generation;
+        if (sendTimer != null) {
+            sendTimer.cancel(false);
+            sendTimer = null;
+        }
+    }
+
+    private void send(QueueItem item, int times) {
+        packet.setData(item.data);
+        try {
+            for (int i = 0; i < times; ++i) {
+                datagramSocket.send(packet);
 
-            try {
-                Thread.sleep((item.custom_delay_time != 0) ? item.custom_delay_time : delay_between_commands);
-            } catch (InterruptedException e) {
-                if (!willbeclosed) {
-                    logger.error("Queue sleep failed: {}", e.getLocalizedMessage());
+                if (logger.isDebugEnabled()) {
+                    StringBuilder s = new StringBuilder();
+                    for (int c = 0; c < item.data.length; ++c) {
+                        s.append(String.format("%02X ", item.data[c]));
+                    }
+                    logger.debug("Sent packet '{}' to bridge {}", s.toString(), packet.getAddress().getHostAddress());
                 }
-                break;
             }
+        } catch (Exception e) {
+            logger.error("Failed to send Message to '{}': {}", packet.getAddress().getHostAddress(), e.getMessage());
         }
-
     }
 
     /**
-     * Once disposed, this object can't be reused anymore.
+     * Stops sending and drops all queued commands. Call start() to send again.
      */
-    public void dispose() {
-        willbeclosed = true;
-        if (thread != null) {
-            try {
-                thread.join(delay_between_commands);
-            } catch (InterruptedException e) {
-            }
-            thread.interrupt();
-        }
-        thread = null;
+    public synchronized void dispose() {
+        cancelTimer();
+        scheduler = null;
+        queue.clear();
+        current = null;
+        awaiting_ack = false;
     }
 
     public void setRepeatTimes(int times) {
-        repeat_commands = times;
+        setRepeatCommands(times);
     }
 
     /**
-     * Mark all commands in the queue invalid that have the same unique id as the given one. This does not synchronise
-     * with the sender thread. If an element has been started to being processed, this method has no more effect on that
-     * element. Command chains are always executed in a row. Even if the head of the command queue has been marked
-     * as invalid, if the processing has been started, the chain will be processed completely.
-     *
-     * @param unique_command_id
+     * Add the command to the queue. A categorised command replaces the queued command with the same id. If the
+     * command has a group command and equal group commands are queued for all zones now, the zone commands are
+     * replaced by the group command.
      */
-    private void remove_from_queue(int unique_command_id) {
-        Iterator<QueueItem> iterator = queue.iterator();
-        while (iterator.hasNext()) {
-            try {
-                QueueItem item = iterator.next();
-                if (item != null && item.unique_command_id == unique_command_id) {
-                    item.unique_command_id = QueueItem.INVALID; // invalidate
-                }
-            } catch (IllegalStateException e) {
-                // Ignore threading errors
-                logger.error("{}", e.getLocalizedMessage());
-            } catch (NoSuchElementException e) {
-                // The element might have been processed already while iterate.
-                // Ignore NoSuchElementException here.
+    private void add(QueueItem item) {
+        if (item.unique_command_id == NO_CATEGORY) {
+            queue.put(next_uncategorised_key, item);
+            next_uncategorised_key = next_uncategorised_key == Integer.MIN_VALUE ? -1 : next_uncategorised_key - 1;
+        } else {
+            queue.put(item.unique_command_id, item);
+        }
+
+        if (item.group == null) {
+            return;
+        }
+        List<Integer> zone_keys = new ArrayList<>();
+        for (Map.Entry<Integer, QueueItem> entry : queue.entrySet()) {
+            QueueItem group = entry.getValue().group;
+            if (group != null && group.unique_command_id == item.group.unique_command_id
+                    && isEqualChain(group, item.group)) {
+                zone_keys.add(entry.getKey());
+            }
+        }
+        if (zone_keys.size() < GROUP_ZONES) {
+            return;
+        }
+        for (Integer key : zone_keys) {
+            queue.remove(key);
+        }
+        // An older group command is superseded, the new one goes to the end of the queue
+        queue.remove(item.group.unique_command_id);
+        queue.put(item.group.unique_command_id, item.group);
+    }
+
+    private static boolean isEqualChain(QueueItem a, QueueItem b) {
+        while (a != null && b != null) {
+            if (!Arrays.equals(a.data, b.data)) {
+                return false;
             }
+            a = a.next;
+            b = b.next;
         }
+        return a == null && b == null;
     }
 
     /**
@@ -202,28 +360,28 @@ public class QueuedSend implements Runnable {
      * @param data Data to be send
      */
     public void queueRepeatable(int unique_command_id, byte[]... data) {
-        remove_from_queue(unique_command_id);
         QueueItem item = QueueItem.createRepeatable(unique_command_id, data[0]);
         QueueItem next = item;
         for (int i = 1; i < data.length; ++i) {
             next = next.addRepeatable(data[i]);
         }
-        queue.offer(item);
+        queue(item);
     }
 
     /**
      * Add data to the send queue.
      * You have to create your own QueueItem, but this allows to you create a chain of commands. A chain will always
-     * executed in order and without interrupting the sequence with another command. A chain will be removed completely
-     * if another command with the same category is added except if the chain has been started to be processed.
+     * executed in order and without interrupting the sequence with another command. A chain will be replaced
+     * completely if another command with the same category is added except if the chain has been started to be
+     * processed.
      *
      * @param item A queue item, cannot be null.
      */
-    public void queue(QueueItem item) {
-        if (item.unique_command_id != NO_CATEGORY) {
-            remove_from_queue(item.unique_command_id);
+    public synchronized void queue(QueueItem item) {
+        add(item);
+        if (current == null) {
+            schedule(0);
         }
-        queue.offer(item);
     }
 
     public InetAddress getAddr() {
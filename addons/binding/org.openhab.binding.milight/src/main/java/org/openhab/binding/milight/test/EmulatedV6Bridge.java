@@ -14,6 +14,7 @@ import java.net.DatagramSocket;
 import java.net.InetAddress;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.openhab.binding.milight.MilightBindingConstants;
 import org.slf4j.Logger;
@@ -29,7 +30,15 @@ import org.slf4j.LoggerFactory;
  */
 public class EmulatedV6Bridge {
     protected final Logger logger = LoggerFactory.getLogger(EmulatedV6Bridge.class);
-    private boolean willbeclosed = false;
+    private volatile boolean willbeclosed = false;
+    private DatagramSocket discoverSocket;
+    private DatagramSocket bridgeSocket;
+
+    // Light commands received so far and the time of the last one, see getLightCommands()
+    private final AtomicInteger lightCommands = new AtomicInteger();
+    private volatile long lastLightCommandTime = 0;
+    // Emulates a busy bridge, see setCommandProcessingTime()
+    private volatile int commandProcessingTime = 0;
     private byte SID1 = (byte) 0xed;
     private byte SID2 = (byte) 0xab;
     private byte PW1 = 0;
@@ -103,6 +112,37 @@ public class EmulatedV6Bridge {
         }).start();
     }
 
+    /**
+     * The bridge processes one command at a time. A processing time delays the acknowledgement of each command and all
+     * following packets, like a busy bridge would do.
+     *
+     * @param ms Processing time of each command in milliseconds.
+     */
+    public void setCommandProcessingTime(int ms) {
+        commandProcessingTime = ms;
+    }
+
+    // Return the number of received light commands (brightness, color, ...).
+    public int getLightCommands() {
+        return lightCommands.get();
+    }
+
+    // Return the System.nanoTime() of the last received light command.
+    public long getLastLightCommandTime() {
+        return lastLightCommandTime;
+    }
+
+    // Close the sockets and quit the threads
+    public void dispose() {
+        willbeclosed = true;
+        if (discoverSocket != null) {
+            discoverSocket.close();
+        }
+        if (bridgeSocket != null) {
+            bridgeSocket.close();
+        }
+    }
+
     private void replaceWithMac(byte data[], int offset) {
         data[offset + 0] = FAKE_MAC[0];
         data[offset + 1] = FAKE_MAC[1];
@@ -119,6 +159,7 @@ public class EmulatedV6Bridge {
             byte[] a = new byte[0];
             DatagramPacket s_packet = new DatagramPacket(a, a.length);
             DatagramSocket datagramSocket = new DatagramSocket(MilightBindingConstants.PORT_DISCOVER);
+            discoverSocket = datagramSocket;
 
             debug_session("EmulatedV6Bridge discover thread ready");
             byte[] buffer = new byte[1024];
@@ -156,6 +197,7 @@ public class EmulatedV6Bridge {
             byte[] a = new byte[0];
             DatagramPacket s_packet = new DatagramPacket(a, a.length);
             DatagramSocket datagramSocket = new DatagramSocket(MilightBindingConstants.PORT_VER6);
+            bridgeSocket = datagramSocket;
 
             debug_session("EmulatedV6Bridge control thread ready");
             byte[] buffer = new byte[1024];
@@ -299,6 +341,16 @@ public class EmulatedV6Bridge {
                                 debugStr.append(String.format("%02X ", buffer[i]));
                             }
                             logger.debug("{}", debugStr);
+                            lightCommands.incrementAndGet();
+                            lastLightCommandTime = System.nanoTime();
+                        }
+                    }
+
+                    if (commandProcessingTime > 0) {
+                        try {
+                            Thread.sleep(commandProcessingTime);
+                        } catch (InterruptedException e) {
+                            return;
                         }
                     }
 
@@ -83,6 +83,10 @@ public class NetatmoBindingConstants {
     public static final String CHANNEL_THERM_RELAY = "ThermRelayCmd";
     public static final String CHANNEL_THERM_ORIENTATION = "ThermOrientation";
 
+    // Bridge channels
+    public static final String CHANNEL_REQUEST_COUNT = "RequestCount";
+    public static final String CHANNEL_REMAINING_REQUESTS = "RemainingRequests";
+
     // Module Properties
     public static final String PROPERTY_BATTERY_MIN = "batteryMin";
     public static final String PROPERTY_BATTERY_MAX = "batteryMax";
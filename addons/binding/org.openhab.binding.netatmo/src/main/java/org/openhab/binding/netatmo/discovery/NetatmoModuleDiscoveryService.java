@@ -62,7 +62,7 @@ public class NetatmoModuleDiscoveryService extends AbstractDiscoveryService {
 
     @Override
     public void startScan() {
-        NAStationDataBody stationsDataBody = netatmoBridgeHandler.getStationsDataBody(null);
+        NAStationDataBody stationsDataBody = netatmoBridgeHandler.fetchStationsDataBody();
         if (stationsDataBody != null) {
             List<NAMain> stationDevices = stationsDataBody.getDevices();
             for (NAMain device : stationDevices) {
@@ -72,7 +72,7 @@ public class NetatmoModuleDiscoveryService extends AbstractDiscoveryService {
             }
         }
 
-        NAThermostatDataBody thermostatsDataBody = netatmoBridgeHandler.getThermostatsDataBody(null);
+        NAThermostatDataBody thermostatsDataBody = netatmoBridgeHandler.fetchThermostatsDataBody();
         if (thermostatsDataBody != null) {
             List<NAPlug> thermostatDevices = thermostatsDataBody.getDevices();
             for (NAPlug device : thermostatDevices) {
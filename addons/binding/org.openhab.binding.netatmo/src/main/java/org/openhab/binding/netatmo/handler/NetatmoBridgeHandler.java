@@ -8,26 +8,43 @@
  */
 package org.openhab.binding.netatmo.handler;
 
+import static org.openhab.binding.netatmo.NetatmoBindingConstants.*;
+
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.oltu.oauth2.client.request.OAuthClientRequest;
+import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ChannelUID;
+import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
+import org.eclipse.smarthome.core.types.RefreshType;
 import org.openhab.binding.netatmo.config.NetatmoBridgeConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.squareup.okhttp.OkHttpClient;
+
 import io.swagger.client.ApiClient;
 import io.swagger.client.api.PartnerApi;
 import io.swagger.client.api.StationApi;
 import io.swagger.client.api.ThermostatApi;
 import io.swagger.client.auth.OAuth;
 import io.swagger.client.auth.OAuthFlow;
+import io.swagger.client.model.NAMain;
+import io.swagger.client.model.NAPlug;
 import io.swagger.client.model.NAStationDataBody;
+import io.swagger.client.model.NAStationModule;
+import io.swagger.client.model.NAThermostat;
 import io.swagger.client.model.NAThermostatDataBody;
 import retrofit.RestAdapter.LogLevel;
 import retrofit.RetrofitError;
@@ -37,16 +54,35 @@ import retrofit.RetrofitError;
  * to the framework. The devices and modules uses the
  * {@link NetatmoBridgeHandler} to request informations about their status
  *
+ * The data of all stations and thermostats of the account is fetched by one
+ * request per API and shared by all devices. Netatmo devices upload their
+ * measurements every 10 minutes, the next request is scheduled shortly after
+ * the next expected upload of a device or module.
+ *
  * @author Gaël L'hopital - Initial contribution OH2 version
  *
  */
 public class NetatmoBridgeHandler extends BaseBridgeHandler {
+    // Netatmo devices upload their measurements every 10 minutes
+    private static final long MEASUREMENT_INTERVAL = TimeUnit.MINUTES.toMillis(10);
+    // Time until an uploaded measurement is available through the API
+    private static final long UPLOAD_DELAY = TimeUnit.SECONDS.toMillis(30);
+    // Timestamps older than this belong to modules that do not send measurements anymore
+    private static final long MEASUREMENT_MAX_AGE = 3 * MEASUREMENT_INTERVAL;
+    private static final long MIN_REFRESH_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+    private static final long DEFAULT_REFRESH_INTERVAL = TimeUnit.MINUTES.toMillis(10);
+
     private Logger logger = LoggerFactory.getLogger(NetatmoBridgeHandler.class);
     private NetatmoBridgeConfiguration configuration;
     private ApiClient apiClient;
     private StationApi stationApi = null;
     private ThermostatApi thermostatApi = null;
     private PartnerApi partnerApi = null;
+    private final NetatmoRequestCounter requestCounter = new NetatmoRequestCounter();
+    private ScheduledFuture<?> refreshJob;
+    private boolean refreshRequested = false;
+    private volatile NAStationDataBody stationsDataBody = null;
+    private volatile NAThermostatDataBody thermostatsDataBody = null;
 
     public NetatmoBridgeHandler(Bridge bridge) {
         super(bridge);
@@ -71,6 +107,20 @@ public class NetatmoBridgeHandler extends BaseBridgeHandler {
             }
         }
         super.initialize();
+        scheduleRefresh(0);
+    }
+
+    @Override
+    public void dispose() {
+        logger.debug("Running dispose()");
+        synchronized (this) {
+            if (refreshJob != null) {
+                refreshJob.cancel(true);
+                refreshJob = null;
+            }
+        }
+        stationsDataBody = null;
+        thermostatsDataBody = null;
     }
 
     // We'll use TrustingOkHttpClient because Netatmo certificate is a StartTTLS
@@ -87,7 +137,9 @@ public class NetatmoBridgeHandler extends BaseBridgeHandler {
         apiClient.getTokenEndPoint().setClientId(configuration.clientId).setClientSecret(configuration.clientSecret)
                 .setUsername(configuration.username).setPassword(configuration.password);
 
-        apiClient.configureFromOkclient(new TrustingOkHttpClient());
+        OkHttpClient okClient = new TrustingOkHttpClient();
+        okClient.interceptors().add(requestCounter);
+        apiClient.configureFromOkclient(okClient);
         apiClient.getTokenEndPoint().setScope(getApiScope());
         apiClient.getAdapterBuilder().setLogLevel(logger.isDebugEnabled() ? LogLevel.FULL : LogLevel.NONE);
     }
@@ -108,7 +160,11 @@ public class NetatmoBridgeHandler extends BaseBridgeHandler {
 
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
-        logger.warn("This Bridge is read-only and does not handle commands");
+        if (command == RefreshType.REFRESH) {
+            updateRequestChannels();
+        } else {
+            logger.warn("This Bridge is read-only and does not handle commands");
+        }
     }
 
     private StationApi getStationApi() {
@@ -132,10 +188,87 @@ public class NetatmoBridgeHandler extends BaseBridgeHandler {
         return partnerApi;
     }
 
+    /**
+     * Returns the station data of the last refresh.
+     *
+     * @param equipmentId id of the station, <code>null</code> for all stations of the account
+     * @return the data or <code>null</code> if it is not available yet
+     */
     public NAStationDataBody getStationsDataBody(String equipmentId) {
+        NAStationDataBody data = stationsDataBody;
+        if (equipmentId == null) {
+            return (data != null) ? data : fetchStationsData();
+        }
+        if (data != null && data.getDevices() != null) {
+            for (NAMain device : data.getDevices()) {
+                if (equipmentId.equalsIgnoreCase(device.getId())) {
+                    NAStationDataBody deviceData = new NAStationDataBody();
+                    deviceData.setUser(data.getUser());
+                    deviceData.setDevices(Collections.singletonList(device));
+                    return deviceData;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the thermostat data of the last refresh.
+     *
+     * @param equipmentId id of the relay, <code>null</code> for all relays of the account
+     * @return the data or <code>null</code> if it is not available yet
+     */
+    public NAThermostatDataBody getThermostatsDataBody(String equipmentId) {
+        NAThermostatDataBody data = thermostatsDataBody;
+        if (equipmentId == null) {
+            return (data != null) ? data : fetchThermostatsData();
+        }
+        if (data != null && data.getDevices() != null) {
+            for (NAPlug device : data.getDevices()) {
+                if (equipmentId.equalsIgnoreCase(device.getId())) {
+                    NAThermostatDataBody deviceData = new NAThermostatDataBody();
+                    deviceData.setUser(data.getUser());
+                    deviceData.setDevices(Collections.singletonList(device));
+                    return deviceData;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Fetches the station data of all stations of the account now, e.g. for a discovery scan. The data of the last
+     * refresh is returned if the request fails or the hourly request limit is reached.
+     *
+     * @return the data or <code>null</code> if it is not available
+     */
+    public NAStationDataBody fetchStationsDataBody() {
+        NAStationDataBody data = null;
+        if (requestCounter.getTimeUntilNextRequest() <= 0) {
+            data = fetchStationsData();
+        }
+        return (data != null) ? data : stationsDataBody;
+    }
+
+    /**
+     * Fetches the thermostat data of all relays of the account now, e.g. for a discovery scan. The data of the last
+     * refresh is returned if the request fails or the hourly request limit is reached.
+     *
+     * @return the data or <code>null</code> if it is not available
+     */
+    public NAThermostatDataBody fetchThermostatsDataBody() {
+        NAThermostatDataBody data = null;
+        if (requestCounter.getTimeUntilNextRequest() <= 0) {
+            data = fetchThermostatsData();
+        }
+        return (data != null) ? data : thermostatsDataBody;
+    }
+
+    private NAStationDataBody fetchStationsData() {
         if (getStationApi() != null) {
             try {
-                return getStationApi().getstationsdata(equipmentId).getBody();
+                stationsDataBody = getStationApi().getstationsdata(null).getBody();
+                return stationsDataBody;
             } catch (Exception e) {
                 logger.error("An error occurred while calling station API : {}", e.getMessage());
             }
@@ -143,10 +276,11 @@ public class NetatmoBridgeHandler extends BaseBridgeHandler {
         return null;
     }
 
-    public NAThermostatDataBody getThermostatsDataBody(String equipmentId) {
+    private NAThermostatDataBody fetchThermostatsData() {
         if (getThermostatApi() != null) {
             try {
-                return getThermostatApi().getthermostatsdata(equipmentId).getBody();
+                thermostatsDataBody = getThermostatApi().getthermostatsdata(null).getBody();
+                return thermostatsDataBody;
             } catch (Exception e) {
                 logger.error("An error occurred while calling thermostat API : {}", e.getMessage());
             }
@@ -154,4 +288,145 @@ public class NetatmoBridgeHandler extends BaseBridgeHandler {
         return null;
     }
 
+    /**
+     * Requests fresh data for all devices as soon as possible, e.g. after a command changed the state of a device.
+     */
+    public synchronized void requestRefresh() {
+        refreshRequested = true;
+        // A running refresh may have fetched its data already, it reschedules itself immediately then
+        if (refreshJob != null && refreshJob.getDelay(TimeUnit.MILLISECONDS) > 0) {
+            scheduleRefresh(0);
+        }
+    }
+
+    private synchronized void scheduleRefresh(long delay) {
+        if (refreshJob != null) {
+            refreshJob.cancel(false);
+        }
+        logger.debug("Next refresh of Netatmo data in {} ms", delay);
+        refreshJob = scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                refreshData();
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void refreshData() {
+        synchronized (this) {
+            refreshRequested = false;
+        }
+        long delay;
+        try {
+            delay = requestCounter.getTimeUntilNextRequest();
+            if (delay > 0) {
+                logger.warn("Netatmo API request limit reached, postponing refresh by {} ms", delay);
+            } else {
+                if (configuration.readStation) {
+                    fetchStationsData();
+                }
+                if (configuration.readThermostat) {
+                    fetchThermostatsData();
+                }
+                updateDevices();
+                delay = getNextRefreshDelay();
+            }
+            updateRequestChannels();
+        } catch (RuntimeException e) {
+            logger.error("Exception when trying to refresh Netatmo data: {}", e.getMessage());
+            delay = getMaxRefreshInterval();
+        }
+        synchronized (this) {
+            if (refreshJob != null) {
+                scheduleRefresh(refreshRequested ? 0 : delay);
+            }
+        }
+    }
+
+    private void updateDevices() {
+        for (Thing thing : getThing().getThings()) {
+            ThingHandler thingHandler = thing.getHandler();
+            if (thingHandler instanceof NetatmoDeviceHandler) {
+                NetatmoDeviceHandler<?> deviceHandler = (NetatmoDeviceHandler<?>) thingHandler;
+                if (deviceHandler.getConfiguration() != null) {
+                    deviceHandler.updateChannels(deviceHandler.getConfiguration().getEquipmentId());
+                }
+            }
+        }
+    }
+
+    private void updateRequestChannels() {
+        updateState(new ChannelUID(getThing().getUID(), CHANNEL_REQUEST_COUNT),
+                new DecimalType(requestCounter.getRequestCount()));
+        updateState(new ChannelUID(getThing().getUID(), CHANNEL_REMAINING_REQUESTS),
+                new DecimalType(requestCounter.getRemainingRequests()));
+    }
+
+    /**
+     * The refresh interval of the devices is the maximum time between two refreshes.
+     */
+    private long getMaxRefreshInterval() {
+        long interval = Long.MAX_VALUE;
+        for (Thing thing : getThing().getThings()) {
+            ThingHandler thingHandler = thing.getHandler();
+            if (thingHandler instanceof NetatmoDeviceHandler) {
+                NetatmoDeviceHandler<?> deviceHandler = (NetatmoDeviceHandler<?>) thingHandler;
+                if (deviceHandler.getConfiguration() != null && deviceHandler.getConfiguration().refreshInterval > 0) {
+                    interval = Math.min(interval, deviceHandler.getConfiguration().refreshInterval);
+                }
+            }
+        }
+        return (interval == Long.MAX_VALUE) ? DEFAULT_REFRESH_INTERVAL : Math.max(interval, MIN_REFRESH_INTERVAL);
+    }
+
+    private long getNextRefreshDelay() {
+        long now = System.currentTimeMillis();
+        long next = Long.MAX_VALUE;
+        for (Integer timestamp : getMeasurementTimestamps()) {
+            long time = TimeUnit.SECONDS.toMillis(timestamp);
+            if (now - time < MEASUREMENT_MAX_AGE) {
+                time += MEASUREMENT_INTERVAL + UPLOAD_DELAY;
+                if (time <= now) {
+                    time += ((now - time) / MEASUREMENT_INTERVAL + 1) * MEASUREMENT_INTERVAL;
+                }
+                next = Math.min(next, time);
+            }
+        }
+        long delay = (next == Long.MAX_VALUE) ? Long.MAX_VALUE : next - now;
+        return Math.max(MIN_REFRESH_INTERVAL, Math.min(delay, getMaxRefreshInterval()));
+    }
+
+    private List<Integer> getMeasurementTimestamps() {
+        List<Integer> timestamps = new ArrayList<>();
+        NAStationDataBody stations = stationsDataBody;
+        if (stations != null && stations.getDevices() != null) {
+            for (NAMain device : stations.getDevices()) {
+                addTimestamp(timestamps, device.getLastStatusStore());
+                if (device.getModules() != null) {
+                    for (NAStationModule module : device.getModules()) {
+                        addTimestamp(timestamps, module.getLastMessage());
+                    }
+                }
+            }
+        }
+        NAThermostatDataBody thermostats = thermostatsDataBody;
+        if (thermostats != null && thermostats.getDevices() != null) {
+            for (NAPlug device : thermostats.getDevices()) {
+                addTimestamp(timestamps, device.getLastStatusStore());
+                if (device.getModules() != null) {
+                    for (NAThermostat module : device.getModules()) {
+                        addTimestamp(timestamps, module.getLastMessage());
+                    }
+                }
+            }
+        }
+        return timestamps;
+    }
+
+    private void addTimestamp(List<Integer> timestamps, Integer timestamp) {
+        if (timestamp != null) {
+            timestamps.add(timestamp);
+        }
+    }
+
 }
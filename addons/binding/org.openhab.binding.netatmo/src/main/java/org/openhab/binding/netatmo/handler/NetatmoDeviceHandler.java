@@ -10,9 +10,6 @@ package org.openhab.binding.netatmo.handler;
 
 import static org.openhab.binding.netatmo.NetatmoBindingConstants.*;
 
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
-
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.PointType;
 import org.eclipse.smarthome.core.thing.Thing;
@@ -32,7 +29,8 @@ import io.swagger.client.model.NAPlace;
 
 /**
  * {@link NetatmoDeviceHandler} is the handler for a given
- * device accessed through the Netatmo Bridge
+ * device accessed through the Netatmo Bridge. Its channels are updated
+ * by the {@link NetatmoBridgeHandler} whenever new data was fetched.
  *
  * @author Gaël L'hopital - Initial contribution OH2 version
  *
@@ -42,7 +40,6 @@ public abstract class NetatmoDeviceHandler<X extends NetatmoDeviceConfiguration>
 
     protected NADeviceAdapter<?> device;
     private Logger logger = LoggerFactory.getLogger(NetatmoDeviceHandler.class);
-    private ScheduledFuture<?> refreshJob;
 
     public NetatmoDeviceHandler(Thing thing, Class<X> configurationClass) {
         super(thing, configurationClass);
@@ -57,13 +54,13 @@ public abstract class NetatmoDeviceHandler<X extends NetatmoDeviceConfiguration>
             if (getBridge().getStatus() == ThingStatus.ONLINE) {
                 logger.debug("setting device '{}' online", configuration.getEquipmentId());
                 updateStatus(ThingStatus.ONLINE);
-                logger.debug("scheduling update channel thread to run every {} ms", configuration.refreshInterval);
-                refreshJob = scheduler.scheduleWithFixedDelay(new Runnable() {
+                // The bridge may already have data, otherwise the channels are updated by its next refresh
+                scheduler.execute(new Runnable() {
                     @Override
                     public void run() {
                         updateChannels(configuration.getEquipmentId());
                     }
-                }, 1, configuration.refreshInterval, TimeUnit.MILLISECONDS);
+                });
             } else {
                 logger.debug("setting device '{}' offline (bridge or thing offline)", configuration.getEquipmentId());
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.BRIDGE_OFFLINE);
@@ -77,10 +74,6 @@ public abstract class NetatmoDeviceHandler<X extends NetatmoDeviceConfiguration>
     @Override
     public void dispose() {
         logger.debug("Running dispose()");
-        if (refreshJob != null && !refreshJob.isCancelled()) {
-            refreshJob.cancel(true);
-            refreshJob = null;
-        }
     }
 
     protected abstract NADeviceAdapter<?> updateReadings(String equipmentId);
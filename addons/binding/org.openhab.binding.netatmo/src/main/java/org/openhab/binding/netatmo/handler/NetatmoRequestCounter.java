@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.netatmo.handler;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Response;
+
+/**
+ * {@link NetatmoRequestCounter} counts every request sent to the Netatmo API
+ * during the last hour, Netatmo limits the number of requests per user and hour.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class NetatmoRequestCounter implements Interceptor {
+    public static final int HOURLY_LIMIT = 500;
+    private static final long PERIOD = TimeUnit.HOURS.toMillis(1);
+
+    private final Deque<Long> requestTimes = new ArrayDeque<>();
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        synchronized (this) {
+            requestTimes.addLast(System.currentTimeMillis());
+        }
+        return chain.proceed(chain.request());
+    }
+
+    /**
+     * @return number of requests sent during the last hour
+     */
+    public synchronized int getRequestCount() {
+        long start = System.currentTimeMillis() - PERIOD;
+        while (!requestTimes.isEmpty() && requestTimes.peekFirst() < start) {
+            requestTimes.removeFirst();
+        }
+        return requestTimes.size();
+    }
+
+    /**
+     * @return number of requests left until the hourly limit is reached
+     */
+    public int getRemainingRequests() {
+        return Math.max(0, HOURLY_LIMIT - getRequestCount());
+    }
+
+    /**
+     * @return milliseconds until the oldest request of the last hour no longer counts
+     */
+    public synchronized long getTimeUntilNextRequest() {
+        if (getRequestCount() < HOURLY_LIMIT) {
+            return 0;
+        }
+        return requestTimes.peekFirst() + PERIOD - System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.network.service;
+
+import static org.junit.Assert.*;
+
+import java.net.InetAddress;
+
+import org.junit.Test;
+
+/**
+ * Tests the address ranges of {@link SubnetRange}: the network and broadcast addresses, the narrowing of large
+ * networks, addresses above 128.0.0.0 which are negative as int, and invalid interface addresses.
+ *
+ * @author agent - Initial contribution
+ */
+public class SubnetRangeTest {
+    private static final int MAX_HOST_BITS = 16;
+
+    @Test
+    public void testClassCNetworkWithoutNetworkAndBroadcast() throws Exception {
+        SubnetRange range = SubnetRange.fromInterfaceIP("192.168.0.10/24", MAX_HOST_BITS);
+
+        assertEquals(254, range.size());
+        assertEquals(ip("192.168.0.1"), range.get(0));
+        assertEquals(ip("192.168.0.254"), range.get(range.size() - 1));
+        assertFalse(range.contains(ip("192.168.0.0")));
+        assertTrue(range.contains(ip("192.168.0.1")));
+        assertTrue(range.contains(ip("192.168.0.254")));
+        assertFalse(range.contains(ip("192.168.0.255")));
+        assertFalse(range.contains(ip("192.168.1.1")));
+        assertEquals("192.168.0.1-192.168.0.254", range.toString());
+    }
+
+    @Test
+    public void testPointToPointNetworksKeepAllAddresses() throws Exception {
+        SubnetRange range31 = SubnetRange.fromInterfaceIP("10.0.0.1/31", MAX_HOST_BITS);
+        assertEquals(2, range31.size());
+        assertEquals(ip("10.0.0.0"), range31.get(0));
+        assertEquals(ip("10.0.0.1"), range31.get(1));
+
+        SubnetRange range32 = SubnetRange.fromInterfaceIP("10.0.0.7/32", MAX_HOST_BITS);
+        assertEquals(1, range32.size());
+        assertEquals(ip("10.0.0.7"), range32.get(0));
+    }
+
+    @Test
+    public void testLargeNetworkIsNarrowedAroundTheInterfaceAddress() throws Exception {
+        SubnetRange range = SubnetRange.fromInterfaceIP("10.1.2.3/8", MAX_HOST_BITS);
+
+        assertEquals(65534, range.size());
+        assertEquals(ip("10.1.0.1"), range.get(0));
+        assertEquals(ip("10.1.255.254"), range.get(range.size() - 1));
+        assertFalse(range.contains(ip("10.2.0.1")));
+
+        assertEquals(range, SubnetRange.fromInterfaceIP("10.1.200.1/0", MAX_HOST_BITS));
+        assertEquals(range, SubnetRange.fromInterfaceIP("10.1.2.3/16", MAX_HOST_BITS));
+    }
+
+    @Test
+    public void testAddressesWithTheSignBitSet() throws Exception {
+        SubnetRange range = SubnetRange.fromInterfaceIP("200.1.2.3/23", MAX_HOST_BITS);
+
+        assertEquals(510, range.size());
+        assertEquals(ip("200.1.2.1"), range.get(0));
+        assertEquals(ip("200.1.3.0"), range.get(255));
+        assertEquals(ip("200.1.3.254"), range.get(range.size() - 1));
+        assertTrue(range.contains(ip("200.1.3.0")));
+        assertFalse(range.contains(ip("100.1.2.3")));
+        assertFalse(range.contains(ip("255.255.255.255")));
+
+        SubnetRange top = SubnetRange.fromInterfaceIP("255.255.255.1/24", MAX_HOST_BITS);
+        assertEquals(254, top.size());
+        assertEquals(ip("255.255.255.254"), top.get(top.size() - 1));
+        assertFalse(top.contains(ip("255.255.255.255")));
+    }
+
+    @Test
+    public void testInvalidInterfaceAddresses() {
+        assertNull(SubnetRange.fromInterfaceIP("192.168.0.10", MAX_HOST_BITS));
+        assertNull(SubnetRange.fromInterfaceIP("192.168.0.10/33", MAX_HOST_BITS));
+        assertNull(SubnetRange.fromInterfaceIP("192.168.0.10/-1", MAX_HOST_BITS));
+        assertNull(SubnetRange.fromInterfaceIP("192.168.0.10/x", MAX_HOST_BITS));
+        assertNull(SubnetRange.fromInterfaceIP("fe80::1/64", MAX_HOST_BITS));
+    }
+
+    @Test
+    public void testEqualsAndHashCode() throws Exception {
+        SubnetRange range = new SubnetRange(ip("192.168.0.1"), ip("192.168.0.254"));
+
+        assertEquals(range, SubnetRange.fromInterfaceIP("192.168.0.77/24", MAX_HOST_BITS));
+        assertEquals(range.hashCode(), SubnetRange.fromInterfaceIP("192.168.0.77/24", MAX_HOST_BITS).hashCode());
+        assertNotEquals(range, SubnetRange.fromInterfaceIP("192.168.1.77/24", MAX_HOST_BITS));
+        assertNotEquals(range, "192.168.0.1-192.168.0.254");
+    }
+
+    private static int ip(String address) throws Exception {
+        return NetworkUtils.inetAddress2Int(InetAddress.getByName(address));
+    }
+}
@@ -40,6 +40,9 @@ public class NetworkBindingConstants {
     public static final String PARAMETER_REFRESH_INTERVAL = "refresh_interval";
     public static final String PARAMETER_USE_SYSTEM_PING = "use_system_ping";
 
+    // List of all Properties
+    public static final String PROPERTY_LATENCY_HISTOGRAM = "latencyHistogram";
+
     public static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Collections.singleton(THING_TYPE_DEVICE);
 
 }
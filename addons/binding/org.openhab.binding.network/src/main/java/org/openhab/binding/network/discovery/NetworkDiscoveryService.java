@@ -10,78 +10,90 @@ package org.openhab.binding.network.discovery;
 
 import static org.openhab.binding.network.NetworkBindingConstants.*;
 
+import java.net.SocketException;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 
 import org.eclipse.smarthome.config.discovery.AbstractDiscoveryService;
 import org.eclipse.smarthome.config.discovery.DiscoveryResultBuilder;
 import org.eclipse.smarthome.core.thing.ThingUID;
 import org.openhab.binding.network.service.DiscoveryCallback;
 import org.openhab.binding.network.service.NetworkUtils;
+import org.openhab.binding.network.service.SubnetRange;
+import org.openhab.binding.network.service.dhcp.ReceiveDHCPRequestPackets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * The {@link NetworkDiscoveryService} is responsible for discovering devices on
  * the current Network. It uses every Network Interface which is connected to a network.
+ * Devices known from the ARP table and from DHCP requests are reported first, the networks are then swept
+ * by the {@link SubnetSweep}.
  *
  * @author Marc Mettke - Initial contribution
  */
 public class NetworkDiscoveryService extends AbstractDiscoveryService implements DiscoveryCallback {
     private final Logger logger = LoggerFactory.getLogger(NetworkDiscoveryService.class);
-    private ExecutorService executorService = null;
-    static final int PING_TIMEOUT_IN_MS = 500;
-    private int scanningNetworkSize = 0;
+    static final int PROBE_TIMEOUT_IN_MS = 500;
+    // networks larger than /16 are only swept around the interface address
+    static final int MAX_HOST_BITS = 16;
+    private SubnetSweep sweep = null;
 
     public NetworkDiscoveryService() {
         super(SUPPORTED_THING_TYPES_UIDS, 900, false);
     }
 
     /**
-     * Starts the DiscoveryThread for each IP on each interface on the network
+     * Starts the sweep of every network the interfaces are connected to
      *
      */
     @Override
-    protected void startScan() {
-        if (executorService != null) {
+    protected synchronized void startScan() {
+        if (sweep != null) {
             stopScan();
         }
 
         logger.debug("Starting Discovery");
-        LinkedHashSet<String> networkIPs = NetworkUtils.getNetworkIPs(NetworkUtils.getInterfaceIPs());
-        scanningNetworkSize = networkIPs.size();
-        executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 10);
+        List<SubnetRange> ranges = NetworkUtils.getNetworkRanges(NetworkUtils.getInterfaceIPs(), MAX_HOST_BITS);
+        logger.debug("Sweeping {}", ranges);
 
-        for (Iterator<String> it = networkIPs.iterator(); it.hasNext();) {
-            final String ip = it.next();
-            executorService.execute(new PingRunnable(ip, this));
+        try {
+            ReceiveDHCPRequestPackets.registerDiscovery(this);
+        } catch (SocketException e) {
+            logger.debug("Cannot listen for DHCP requests during the discovery: {}", e.getMessage());
         }
-        stopScan();
+
+        sweep = new SubnetSweep(this, ranges, PROBE_TIMEOUT_IN_MS);
+        Thread thread = new Thread(sweep, "Network discovery");
+        thread.setDaemon(true);
+        thread.start();
     }
 
     @Override
     protected synchronized void stopScan() {
         super.stopScan();
-        if (executorService == null) {
+        if (sweep == null) {
             return;
         }
 
-        try {
-            executorService.awaitTermination(PING_TIMEOUT_IN_MS * scanningNetworkSize, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-        }
-        executorService.shutdown();
-        executorService = null;
+        sweep.cancel();
+        sweep = null;
+        ReceiveDHCPRequestPackets.unregisterDiscovery();
+    }
 
+    /**
+     * Ends the scan when the sweep is done. This method is called by the thread of the sweep.
+     */
+    synchronized void sweepFinished(SubnetSweep finishedSweep) {
+        if (sweep == finishedSweep) {
+            stopScan();
+        }
     }
 
     /**
-     * Submit newly discovered devices. This method is called by the spawned threads in {@link startScan}.
+     * Submit newly discovered devices. This method is called by the {@link SubnetSweep} and the DHCP listener
+     * as soon as a device answers.
      *
      * @param ip The device IP, received by the
      */
@@ -0,0 +1,330 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.network.discovery;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.smarthome.model.script.actions.Ping;
+import org.openhab.binding.network.service.ArpTable;
+import org.openhab.binding.network.service.NetworkUtils;
+import org.openhab.binding.network.service.SubnetRange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sweeps the given networks for devices with non-blocking TCP connects on a single thread, with at most
+ * {@link #MAX_IN_FLIGHT} connects at a time. A device is found if it accepts or refuses the connection on one of the
+ * {@link #PROBE_PORTS}, a refused connection tells that there is a device as well. Devices are reported as soon as they
+ * answer.
+ *
+ * Devices in the Linux neighbour table (see {@link ArpTable}) are reported before the sweep starts. The table is read
+ * again during and after the sweep, the connects make the kernel resolve the hardware address of every device which
+ * answers ARP, so devices which drop the connects are found as well.
+ *
+ * An address on which every probe timed out or was unreachable, and which isn't in the neighbour table, is pinged
+ * like the discovery did before the sweep: with {@link Ping#checkVitality(String, int, int)} and then the system
+ * ping. The pings block, they run on a pool of {@link #PING_THREADS_PER_CPU} threads per processor. This finds the
+ * devices which only answer ICMP on systems without a readable neighbour table.
+ *
+ * @author agent - Initial contribution
+ */
+class SubnetSweep implements Runnable {
+    private final Logger logger = LoggerFactory.getLogger(SubnetSweep.class);
+
+    /**
+     * The ports probed on every address. A device is found if any of them accepts or refuses the connection.
+     */
+    private static final int[] PROBE_PORTS = { 80, 443, 22, 445 };
+    private static final int MAX_IN_FLIGHT = 256;
+    private static final long ARP_READ_INTERVAL_MS = 2000;
+    private static final int PING_THREADS_PER_CPU = 10;
+
+    private final NetworkDiscoveryService service;
+    private final List<SubnetRange> ranges;
+    private final int timeout;
+    private final long timeoutNanos;
+    // written by the sweep thread and the pings
+    private final Set<Integer> reported = ConcurrentHashMap.newKeySet();
+    // the number of pending connects by address, only used by the sweep thread
+    private final Map<Integer, Integer> openProbes = new HashMap<>();
+    private final ExecutorService pinger = Executors
+            .newFixedThreadPool(Runtime.getRuntime().availableProcessors() * PING_THREADS_PER_CPU);
+    private volatile boolean running = true;
+    private volatile Selector selector;
+
+    // the next address to probe
+    private int rangeIndex;
+    private long addressIndex;
+
+    SubnetSweep(NetworkDiscoveryService service, List<SubnetRange> ranges, int timeout) {
+        this.service = service;
+        this.ranges = ranges;
+        this.timeout = timeout;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+    }
+
+    /**
+     * Stops the sweep, the pending connects are abandoned.
+     */
+    void cancel() {
+        running = false;
+        pinger.shutdownNow();
+        Selector selector = this.selector;
+        if (selector != null) {
+            selector.wakeup();
+        }
+    }
+
+    @Override
+    public void run() {
+        try (Selector selector = Selector.open()) {
+            this.selector = selector;
+            reportArpTable();
+            long nextArpRead = System.currentTimeMillis() + ARP_READ_INTERVAL_MS;
+
+            while (running) {
+                while (selector.keys().size() + PROBE_PORTS.length <= MAX_IN_FLIGHT && hasNextAddress()) {
+                    int address = nextAddress();
+                    if (!reported.contains(address)) {
+                        probe(selector, address);
+                    }
+                }
+                if (selector.keys().isEmpty() && !hasNextAddress()) {
+                    break;
+                }
+
+                selector.select(TimeUnit.NANOSECONDS.toMillis(timeoutNanos) / 2 + 1);
+
+                for (Iterator<SelectionKey> it = selector.selectedKeys().iterator(); it.hasNext();) {
+                    SelectionKey key = it.next();
+                    it.remove();
+                    finishConnect(selector, key);
+                }
+
+                long now = System.nanoTime();
+                List<SelectionKey> timedOut = new ArrayList<>();
+                for (SelectionKey key : selector.keys()) {
+                    if (key.isValid() && now >= ((Probe) key.attachment()).deadline) {
+                        timedOut.add(key);
+                    }
+                }
+                for (SelectionKey key : timedOut) {
+                    failed(key);
+                }
+                // let the selector drop the cancelled keys, so they are not counted as in flight
+                selector.selectNow();
+
+                if (System.currentTimeMillis() >= nextArpRead) {
+                    reportArpTable();
+                    nextArpRead = System.currentTimeMillis() + ARP_READ_INTERVAL_MS;
+                }
+            }
+
+            if (running) {
+                reportArpTable();
+            }
+            for (SelectionKey key : selector.keys()) {
+                close(key);
+            }
+
+            // wait for the pings of the silent addresses
+            pinger.shutdown();
+            while (running && !pinger.awaitTermination(timeout, TimeUnit.MILLISECONDS)) {
+                // until all pings are done or the sweep is cancelled
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Network discovery failed: {}", e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pinger.shutdownNow();
+            selector = null;
+            logger.debug("Network discovery finished, found {} devices", reported.size());
+            service.sweepFinished(this);
+        }
+    }
+
+    private boolean hasNextAddress() {
+        while (rangeIndex < ranges.size()) {
+            if (addressIndex < ranges.get(rangeIndex).size()) {
+                return true;
+            }
+            rangeIndex++;
+            addressIndex = 0;
+        }
+        return false;
+    }
+
+    private int nextAddress() {
+        return ranges.get(rangeIndex).get(addressIndex++);
+    }
+
+    private void probe(Selector selector, int address) {
+        InetAddress inetAddress = NetworkUtils.int2InetAddress(address);
+        long deadline = System.nanoTime() + timeoutNanos;
+        int pending = 0;
+        for (int port : PROBE_PORTS) {
+            SocketChannel channel = null;
+            try {
+                channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                if (channel.connect(new InetSocketAddress(inetAddress, port))) {
+                    channel.close();
+                    found(selector, address);
+                    return;
+                }
+                channel.register(selector, SelectionKey.OP_CONNECT, new Probe(address, deadline));
+                pending++;
+            } catch (IOException e) {
+                // the network of the address is not reachable
+                closeQuietly(channel);
+                break;
+            }
+        }
+        if (pending > 0) {
+            openProbes.put(address, pending);
+        }
+    }
+
+    private void finishConnect(Selector selector, SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        Probe probe = (Probe) key.attachment();
+        try {
+            if (!((SocketChannel) key.channel()).finishConnect()) {
+                return;
+            }
+            close(key);
+            found(selector, probe.address);
+        } catch (ConnectException e) {
+            // refused, there is a device at the address
+            close(key);
+            found(selector, probe.address);
+        } catch (IOException e) {
+            // unreachable
+            failed(key);
+        }
+    }
+
+    /**
+     * Reports the device and abandons the other probes of its address.
+     */
+    private void found(Selector selector, int address) {
+        for (SelectionKey key : selector.keys()) {
+            if (key.isValid() && ((Probe) key.attachment()).address == address) {
+                close(key);
+            }
+        }
+        openProbes.remove(address);
+        report(address);
+    }
+
+    /**
+     * Closes a probe which timed out or was unreachable. If it was the last probe of its address, the address is
+     * pinged.
+     */
+    private void failed(SelectionKey key) {
+        close(key);
+        int address = ((Probe) key.attachment()).address;
+        Integer pending = openProbes.get(address);
+        if (pending == null) {
+            return;
+        }
+        if (pending > 1) {
+            openProbes.put(address, pending - 1);
+            return;
+        }
+        openProbes.remove(address);
+        if (!reported.contains(address)) {
+            ping(address);
+        }
+    }
+
+    /**
+     * Pings an address which didn't answer on any of the {@link #PROBE_PORTS}, on the {@link #pinger} pool.
+     */
+    private void ping(final int address) {
+        final String ip = NetworkUtils.int2InetAddress(address).getHostAddress();
+        pinger.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    if (running && (Ping.checkVitality(ip, 0, timeout) || NetworkUtils.nativePing(ip, 0, timeout))) {
+                        logger.trace("{} only answered the ping", ip);
+                        report(address);
+                    }
+                } catch (Exception e) {
+                    // not reachable
+                }
+            }
+        });
+    }
+
+    private void reportArpTable() {
+        for (String ip : ArpTable.getCompleteAddresses()) {
+            try {
+                report(NetworkUtils.inetAddress2Int(InetAddress.getByName(ip)));
+            } catch (UnknownHostException | IllegalArgumentException e) {
+                // not an IPv4 address
+            }
+        }
+    }
+
+    private void report(int address) {
+        if (running && reported.add(address)) {
+            service.newDevice(NetworkUtils.int2InetAddress(address).getHostAddress());
+        }
+    }
+
+    private void close(SelectionKey key) {
+        key.cancel();
+        closeQuietly((SocketChannel) key.channel());
+    }
+
+    private void closeQuietly(SocketChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+
+    /**
+     * A pending connect.
+     */
+    private static class Probe {
+        final int address;
+        final long deadline;
+
+        Probe(int address, long deadline) {
+            this.address = address;
+            this.deadline = deadline;
+        }
+    }
+}
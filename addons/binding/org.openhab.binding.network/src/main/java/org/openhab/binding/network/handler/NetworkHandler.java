@@ -21,6 +21,7 @@ import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
 import org.openhab.binding.network.service.InvalidConfigurationException;
+import org.openhab.binding.network.service.LatencyHistogram;
 import org.openhab.binding.network.service.NetworkService;
 import org.openhab.binding.network.service.StateUpdate;
 import org.slf4j.Logger;
@@ -34,6 +35,8 @@ import org.slf4j.LoggerFactory;
  */
 public class NetworkHandler extends BaseThingHandler implements StateUpdate {
     private Logger logger = LoggerFactory.getLogger(NetworkHandler.class);
+    // the latency histogram property is updated every that many checks
+    private static final int HISTOGRAM_PROPERTY_CHECKS = 60;
     private NetworkService networkService;
 
     public NetworkHandler(Thing thing) {
@@ -80,6 +83,11 @@ public class NetworkHandler extends BaseThingHandler implements StateUpdate {
         State timeState = new DecimalType(state);
         updateState(CHANNEL_ONLINE, onlineState);
         updateState(CHANNEL_TIME, timeState);
+
+        LatencyHistogram histogram = networkService.getLatencyHistogram();
+        if (histogram.getTotal() % HISTOGRAM_PROPERTY_CHECKS == 1) {
+            updateProperty(PROPERTY_LATENCY_HISTOGRAM, histogram.toString());
+        }
     }
 
     @Override
@@ -138,7 +146,7 @@ public class NetworkHandler extends BaseThingHandler implements StateUpdate {
             networkService.setUseSystemPing(confValueToBoolean(value));
         }
 
-        networkService.startAutomaticRefresh(scheduler, this);
+        networkService.startAutomaticRefresh(this);
     }
 
 }
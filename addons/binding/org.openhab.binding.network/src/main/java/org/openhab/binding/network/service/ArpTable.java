@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.network.service;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the IPv4 neighbour table of the Linux kernel from /proc/net/arp. Reading the table does not cause any network
+ * traffic, so it is a free signal about the hosts of the local networks. On other operating systems the table is
+ * always empty.
+ *
+ * @author agent - Initial contribution
+ */
+public class ArpTable {
+    private static final Logger logger = LoggerFactory.getLogger(ArpTable.class);
+
+    private static final File ARP_FILE = new File("/proc/net/arp");
+
+    // ATF_COM, the hardware address of the entry is known
+    private static final int FLAG_COMPLETE = 0x2;
+
+    /**
+     * Returns true if the kernel neighbour table can be read on this system.
+     */
+    public static boolean isAvailable() {
+        return ARP_FILE.canRead();
+    }
+
+    /**
+     * Returns the IP addresses with a complete entry (a known hardware address) in the neighbour table.
+     * Entries stay complete for a while after the host left, so an entry only tells that the host was there
+     * recently.
+     *
+     * @return The IP addresses, empty if the table can't be read
+     */
+    public static Set<String> getCompleteAddresses() {
+        if (!isAvailable()) {
+            return Collections.emptySet();
+        }
+
+        Set<String> addresses = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(ARP_FILE))) {
+            // skip the header "IP address HW type Flags HW address Mask Device"
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.trim().split("\\s+");
+                if (columns.length < 4) {
+                    continue;
+                }
+                try {
+                    int flags = Integer.decode(columns[2]);
+                    if ((flags & FLAG_COMPLETE) != 0 && !"00:00:00:00:00:00".equals(columns[3])) {
+                        addresses.add(columns[0]);
+                    }
+                } catch (NumberFormatException e) {
+                    // not an entry
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Cannot read the ARP table: {}", e.getMessage());
+        }
+        return addresses;
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.network.service;
+
+/**
+ * Counts the results of the presence checks of a host, by latency bucket.
+ *
+ * @author agent - Initial contribution
+ */
+public class LatencyHistogram {
+    /**
+     * The upper bounds (exclusive) of the buckets in milliseconds. The last bucket takes all longer latencies.
+     */
+    private static final int[] BOUNDS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000 };
+
+    private final long[] counts = new long[BOUNDS.length + 1];
+    private long failures;
+    private long total;
+
+    /**
+     * Adds the result of a check.
+     *
+     * @param latency The latency in milliseconds, or a negative value if the host was not reachable
+     */
+    public synchronized void add(double latency) {
+        total++;
+        if (latency < 0) {
+            failures++;
+            return;
+        }
+        int bucket = 0;
+        while (bucket < BOUNDS.length && latency >= BOUNDS[bucket]) {
+            bucket++;
+        }
+        counts[bucket]++;
+    }
+
+    /**
+     * Returns the number of added results.
+     */
+    public synchronized long getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the number of results where the host was not reachable.
+     */
+    public synchronized long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Returns the non-empty buckets, like "<1ms:3 <5ms:10 >=1000ms:1 failed:2".
+     */
+    @Override
+    public synchronized String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            if (i < BOUNDS.length) {
+                sb.append('<').append(BOUNDS[i]);
+            } else {
+                sb.append(">=").append(BOUNDS[BOUNDS.length - 1]);
+            }
+            sb.append("ms:").append(counts[i]);
+        }
+        if (failures > 0) {
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append("failed:").append(failures);
+        }
+        return sb.toString();
+    }
+}
@@ -13,9 +13,6 @@ import java.net.InetAddress;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 import org.eclipse.smarthome.model.script.actions.Ping;
 import org.openhab.binding.network.service.dhcp.ReceiveDHCPRequestPackets;
@@ -27,13 +24,12 @@ import org.slf4j.LoggerFactory;
  *
  * @author Marc Mettke
  * @author David Gräff, 2016 - Add DHCP listen for request packets
+ * @author agent - Checked by the shared {@link PresenceEngine}
  */
 public class NetworkService {
 
     private Logger logger = LoggerFactory.getLogger(NetworkService.class);
 
-    private ScheduledFuture<?> refreshJob;
-
     private String hostname;
     private int port;
     private int retry;
@@ -41,6 +37,7 @@ public class NetworkService {
     private long refreshInterval;
     private int timeout;
     private boolean useSystemPing;
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
 
     public NetworkService() {
         this("", 0, 1, true, 60000, 5000, false);
@@ -82,6 +79,13 @@ public class NetworkService {
         return useSystemPing;
     }
 
+    /**
+     * Returns the latencies of the automatic refresh checks.
+     */
+    public LatencyHistogram getLatencyHistogram() {
+        return latencyHistogram;
+    }
+
     public void setHostname(String hostname) {
         this.hostname = hostname;
     }
@@ -110,20 +114,12 @@ public class NetworkService {
         this.useSystemPing = useSystemPing;
     }
 
-    public void startAutomaticRefresh(ScheduledExecutorService scheduledExecutorService,
-            final StateUpdate stateUpdate) {
-        Runnable runnable = new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    stateUpdate.newState(updateDeviceState());
-                } catch (InvalidConfigurationException e) {
-                    stateUpdate.invalidConfig();
-                }
-            }
-        };
-
-        refreshJob = scheduledExecutorService.scheduleAtFixedRate(runnable, 0, refreshInterval, TimeUnit.MILLISECONDS);
+    /**
+     * Starts checking the device every refresh interval, together with all other devices in the
+     * {@link PresenceEngine}.
+     */
+    public void startAutomaticRefresh(final StateUpdate stateUpdate) {
+        PresenceEngine.register(this, stateUpdate);
 
         if (dhcplisten) {
             try {
@@ -135,7 +131,7 @@ public class NetworkService {
     }
 
     public void stopAutomaticRefresh() {
-        refreshJob.cancel(true);
+        PresenceEngine.unregister(this);
         try {
             ReceiveDHCPRequestPackets.unregister(InetAddress.getByName(hostname).getHostAddress());
         } catch (UnknownHostException e) {
@@ -15,13 +15,13 @@ import java.net.InterfaceAddress;
 import java.net.NetworkInterface;
 import java.net.SocketException;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.TreeSet;
 
 import org.apache.commons.lang.SystemUtils;
-import org.apache.commons.net.util.SubnetUtils;
 
 /**
  * Network utility functions for pinging and for determining all interfaces and assigned IP addresses.
@@ -63,28 +63,24 @@ public class NetworkUtils {
     }
 
     /**
-     * Takes the interfaceIPs and fetches every IP which can be assigned on their network
+     * Takes the interfaceIPs and determines the ranges of the IPs which can be assigned on their networks
      *
-     * @param networkIPs The IPs which are assigned to the Network Interfaces
-     * @return Every single IP which can be assigned on the Networks the computer is connected to
+     * @param interfaceIPs The IPs which are assigned to the Network Interfaces
+     * @param maxHostBits Larger networks are narrowed down to the part around the interface IP with this number of
+     *            host bits
+     * @return The ranges of the IPv4 networks the computer is connected to, without duplicates
      */
-    public static LinkedHashSet<String> getNetworkIPs(TreeSet<String> interfaceIPs) {
-        LinkedHashSet<String> networkIPs = new LinkedHashSet<String>();
+    public static List<SubnetRange> getNetworkRanges(TreeSet<String> interfaceIPs, int maxHostBits) {
+        List<SubnetRange> ranges = new ArrayList<SubnetRange>();
 
         for (Iterator<String> it = interfaceIPs.iterator(); it.hasNext();) {
-            try {
-                // gets every ip which can be assigned on the given network
-                SubnetUtils utils = new SubnetUtils(it.next());
-                String[] addresses = utils.getInfo().getAllAddresses();
-                for (int i = 0; i < addresses.length; i++) {
-                    networkIPs.add(addresses[i]);
-                }
-
-            } catch (Exception ex) {
+            SubnetRange range = SubnetRange.fromInterfaceIP(it.next(), maxHostBits);
+            if (range != null && !ranges.contains(range)) {
+                ranges.add(range);
             }
         }
 
-        return networkIPs;
+        return ranges;
     }
 
     /**
@@ -0,0 +1,456 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.network.service;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A singleton which checks the presence of all registered hosts. Instead of a job per host, one job runs every second
+ * and checks the hosts which are due, at most {@link #MAX_CHECKS_PER_TICK} per run, so the checks of many hosts with
+ * the same refresh interval are spread over time.
+ * The check of each host starts on the binding's thread pool, where the host name is resolved, so a slow name lookup
+ * doesn't delay the checks of the other hosts.
+ * <ul>
+ * <li>TCP port checks are non-blocking connects, all waited for by a single selector thread.</li>
+ * <li>ICMP checks (port 0 or system ping) can't be done without blocking, they are run as a batch on the binding's
+ * thread pool. If the Linux neighbour table (see {@link ArpTable}) still has a complete entry for a host which
+ * answered within the last {@link #ARP_TRUST_INTERVALS} refresh intervals, the host is taken as present without
+ * sending a ping, reported with a latency of 0. Such a host has to answer a ping again before the ARP entry is trusted
+ * for another {@link #ARP_TRUST_INTERVALS} refresh intervals, and it is not recorded in the latency histogram.</li>
+ * </ul>
+ * The first registered host starts the engine, it stops when the last host is unregistered.
+ *
+ * @author agent - Initial contribution
+ */
+public class PresenceEngine {
+    private final Logger logger = LoggerFactory.getLogger(PresenceEngine.class);
+
+    private static final String THREADPOOL_NAME = "network";
+    private static final long TICK_MS = 1000;
+    private static final int MAX_CHECKS_PER_TICK = 32;
+    private static final int ARP_TRUST_INTERVALS = 3;
+    // new hosts are spread over the first ticks
+    private static final int START_SPREAD_TICKS = 5;
+
+    private static PresenceEngine instance;
+
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(THREADPOOL_NAME);
+    private final Map<NetworkService, Host> hosts = new ConcurrentHashMap<>();
+    private final ConnectProber prober = new ConnectProber();
+    private ScheduledFuture<?> tickJob;
+    private int registrations;
+
+    /**
+     * Registers the host of the service to be checked every refresh interval of the service.
+     */
+    public static synchronized void register(NetworkService service, StateUpdate stateUpdate) {
+        if (instance == null) {
+            instance = new PresenceEngine();
+            instance.start();
+        }
+        instance.add(service, stateUpdate);
+    }
+
+    /**
+     * Stops checking the host of the service.
+     */
+    public static synchronized void unregister(NetworkService service) {
+        if (instance == null) {
+            return;
+        }
+        instance.hosts.remove(service);
+        if (instance.hosts.isEmpty()) {
+            instance.stop();
+            instance = null;
+        }
+    }
+
+    private void add(NetworkService service, StateUpdate stateUpdate) {
+        Host host = new Host(service, stateUpdate);
+        host.nextCheck = System.currentTimeMillis() + (registrations++ % START_SPREAD_TICKS) * TICK_MS;
+        hosts.put(service, host);
+    }
+
+    private void start() {
+        logger.debug("Starting the presence engine");
+        tickJob = scheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    tick();
+                } catch (RuntimeException e) {
+                    logger.warn("Presence check round failed: {}", e.getMessage(), e);
+                }
+            }
+        }, 0, TICK_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private void stop() {
+        logger.debug("Stopping the presence engine");
+        tickJob.cancel(false);
+        prober.stop();
+    }
+
+    /**
+     * Starts the checks of the hosts which are due.
+     */
+    private void tick() {
+        long now = System.currentTimeMillis();
+        List<Host> due = new ArrayList<>();
+        for (Host host : hosts.values()) {
+            if (!host.checking && host.nextCheck <= now) {
+                due.add(host);
+            }
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+
+        // the longest waiting hosts first, the rest in the next round
+        Collections.sort(due, new Comparator<Host>() {
+            @Override
+            public int compare(Host h1, Host h2) {
+                return Long.compare(h1.nextCheck, h2.nextCheck);
+            }
+        });
+        if (due.size() > MAX_CHECKS_PER_TICK) {
+            logger.debug("{} hosts are due, checking {} in this round", due.size(), MAX_CHECKS_PER_TICK);
+            due = due.subList(0, MAX_CHECKS_PER_TICK);
+        }
+
+        // the neighbour table is read once per round, only if an ICMP check may use it
+        Set<String> arpAddresses = null;
+        for (final Host host : due) {
+            host.checking = true;
+            host.attempt = 0;
+            if (arpAddresses == null && host.isIcmp()) {
+                arpAddresses = ArpTable.getCompleteAddresses();
+            }
+
+            final Set<String> arpSnapshot = arpAddresses;
+            scheduler.execute(new Runnable() {
+                @Override
+                public void run() {
+                    check(host, arpSnapshot);
+                }
+            });
+        }
+    }
+
+    /**
+     * Checks a host, called on the thread pool. Resolves the host name if needed, then either takes the host as
+     * present from the ARP table, pings it, or hands it to the {@link ConnectProber}.
+     *
+     * @param arpAddresses The complete addresses of the neighbour table, null for TCP port checks
+     */
+    private void check(Host host, Set<String> arpAddresses) {
+        try {
+            InetAddress address = host.resolve();
+            if (address == null) {
+                complete(host, -1);
+            } else if (!host.isIcmp()) {
+                prober.probe(host);
+            } else if (host.lastSuccess >= System.currentTimeMillis()
+                    - ARP_TRUST_INTERVALS * host.service.getRefreshInterval()
+                    && arpAddresses.contains(address.getHostAddress())) {
+                logger.trace("{} is in the ARP table, skipping the ping", host.service.getHostname());
+                completeFromArpTable(host);
+            } else {
+                complete(host, host.service.updateDeviceState());
+            }
+        } catch (InvalidConfigurationException e) {
+            host.checking = false;
+            host.nextCheck = System.currentTimeMillis() + host.service.getRefreshInterval();
+            host.stateUpdate.invalidConfig();
+        } catch (RuntimeException e) {
+            logger.warn("Presence check of {} failed: {}", host.service.getHostname(), e.getMessage(), e);
+            complete(host, -1);
+        }
+    }
+
+    /**
+     * Reports the result of a check and schedules the next check of the host.
+     *
+     * @param latency The latency in milliseconds, 0 if the host is present without a latency or -1 if not present
+     */
+    private void complete(Host host, double latency) {
+        host.histogram.add(latency);
+        if (latency >= 0) {
+            host.lastSuccess = System.currentTimeMillis();
+        } else {
+            // the address of a host name may have changed, it is looked up again by the next check
+            host.resolveAgain = true;
+        }
+        report(host, latency);
+    }
+
+    /**
+     * Reports a host found in the ARP table as present. Neither the time of the last successful check nor the latency
+     * histogram is updated, the host wasn't really checked.
+     */
+    private void completeFromArpTable(Host host) {
+        report(host, 0);
+    }
+
+    private void report(Host host, double latency) {
+        long now = System.currentTimeMillis();
+        long next = host.nextCheck + host.service.getRefreshInterval();
+        host.nextCheck = next > now ? next : now + host.service.getRefreshInterval();
+        host.checking = false;
+
+        if (hosts.get(host.service) == host) {
+            host.stateUpdate.newState(latency);
+        }
+    }
+
+    /**
+     * A registered host and the state of its checks.
+     */
+    private static class Host {
+        final NetworkService service;
+        final StateUpdate stateUpdate;
+        final LatencyHistogram histogram;
+        volatile boolean checking;
+        volatile long nextCheck;
+        volatile long lastSuccess;
+        volatile InetAddress address;
+        volatile boolean resolveAgain;
+        int attempt;
+
+        Host(NetworkService service, StateUpdate stateUpdate) {
+            this.service = service;
+            this.stateUpdate = stateUpdate;
+            this.histogram = service.getLatencyHistogram();
+        }
+
+        boolean isIcmp() {
+            return service.getPort() == 0 || service.isUseSystemPing();
+        }
+
+        /**
+         * Returns the address of the host, looked up if not known yet or if the last check failed. The address is kept
+         * until a lookup fails. Blocks while the name is looked up, so don't call it on the tick thread.
+         */
+        InetAddress resolve() {
+            if (address == null || resolveAgain) {
+                try {
+                    address = InetAddress.getByName(service.getHostname());
+                } catch (UnknownHostException e) {
+                    address = null;
+                } finally {
+                    resolveAgain = false;
+                }
+            }
+            return address;
+        }
+    }
+
+    /**
+     * Runs the TCP port checks as non-blocking connects on a single thread.
+     */
+    private class ConnectProber implements Runnable {
+        private final Queue<Host> pending = new ConcurrentLinkedQueue<>();
+        private Selector selector;
+        private volatile boolean running;
+
+        synchronized void probe(Host host) {
+            if (selector == null) {
+                try {
+                    selector = Selector.open();
+                } catch (IOException e) {
+                    logger.warn("Cannot open a selector for the presence checks: {}", e.getMessage());
+                    complete(host, -1);
+                    return;
+                }
+                running = true;
+                Thread thread = new Thread(this, "Network presence checks");
+                thread.setDaemon(true);
+                thread.start();
+            }
+            pending.add(host);
+            selector.wakeup();
+        }
+
+        synchronized void stop() {
+            running = false;
+            if (selector != null) {
+                selector.wakeup();
+            }
+        }
+
+        @Override
+        public void run() {
+            Selector selector;
+            synchronized (this) {
+                selector = this.selector;
+            }
+
+            try {
+                while (running) {
+                    Host host;
+                    while ((host = pending.poll()) != null) {
+                        connect(selector, host);
+                    }
+
+                    selector.select(TICK_MS);
+
+                    for (Iterator<SelectionKey> it = selector.selectedKeys().iterator(); it.hasNext();) {
+                        SelectionKey key = it.next();
+                        it.remove();
+                        finishConnect(key);
+                    }
+
+                    long now = System.nanoTime();
+                    List<SelectionKey> timedOut = new ArrayList<>();
+                    for (SelectionKey key : selector.keys()) {
+                        if (key.isValid() && now >= ((Probe) key.attachment()).deadline) {
+                            timedOut.add(key);
+                        }
+                    }
+                    // retries register new keys, so not while iterating the keys
+                    for (SelectionKey key : timedOut) {
+                        Probe probe = (Probe) key.attachment();
+                        logger.debug("timed out while connecting to host '{}' port '{}' timeout '{}'",
+                                probe.host.service.getHostname(), probe.host.service.getPort(),
+                                probe.host.service.getTimeout());
+                        closeAndRetry(key, probe);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Presence check thread failed: {}", e.getMessage(), e);
+            } finally {
+                synchronized (this) {
+                    for (SelectionKey key : selector.keys()) {
+                        closeQuietly((SocketChannel) key.channel());
+                        ((Probe) key.attachment()).host.checking = false;
+                    }
+                    try {
+                        selector.close();
+                    } catch (IOException e) {
+                        // ignore
+                    }
+                    if (this.selector == selector) {
+                        this.selector = null;
+                    }
+                    for (Host host : pending) {
+                        host.checking = false;
+                    }
+                    pending.clear();
+                }
+            }
+        }
+
+        private void connect(Selector selector, Host host) {
+            SocketChannel channel = null;
+            long start = System.nanoTime();
+            try {
+                channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                InetSocketAddress address = new InetSocketAddress(host.address, host.service.getPort());
+                if (channel.connect(address)) {
+                    closeQuietly(channel);
+                    succeeded(host, start);
+                } else {
+                    long deadline = start + TimeUnit.MILLISECONDS.toNanos(host.service.getTimeout());
+                    channel.register(selector, SelectionKey.OP_CONNECT, new Probe(host, start, deadline));
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.debug("couldn't establish network connection [host '{}' port '{}' timeout '{}']",
+                        host.service.getHostname(), host.service.getPort(), host.service.getTimeout());
+                closeQuietly(channel);
+                retry(selector, host);
+            }
+        }
+
+        private void finishConnect(SelectionKey key) {
+            Probe probe = (Probe) key.attachment();
+            SocketChannel channel = (SocketChannel) key.channel();
+            try {
+                if (channel.finishConnect()) {
+                    key.cancel();
+                    closeQuietly(channel);
+                    succeeded(probe.host, probe.start);
+                }
+            } catch (IOException e) {
+                logger.debug("couldn't establish network connection [host '{}' port '{}' timeout '{}']",
+                        probe.host.service.getHostname(), probe.host.service.getPort(),
+                        probe.host.service.getTimeout());
+                closeAndRetry(key, probe);
+            }
+        }
+
+        private void succeeded(Host host, long start) {
+            logger.debug("established connection [host '{}' port '{}' timeout '{}']", host.service.getHostname(),
+                    host.service.getPort(), host.service.getTimeout());
+            complete(host, (System.nanoTime() - start) / 1000000.0);
+        }
+
+        private void closeAndRetry(SelectionKey key, Probe probe) {
+            key.cancel();
+            closeQuietly((SocketChannel) key.channel());
+            retry(key.selector(), probe.host);
+        }
+
+        private void retry(Selector selector, Host host) {
+            if (host.attempt++ < host.service.getRetry()) {
+                connect(selector, host);
+            } else {
+                complete(host, -1);
+            }
+        }
+
+        private void closeQuietly(SocketChannel channel) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    /**
+     * A pending connect.
+     */
+    private static class Probe {
+        final Host host;
+        final long start;
+        final long deadline;
+
+        Probe(Host host, long start, long deadline) {
+            this.host = host;
+            this.start = start;
+            this.deadline = deadline;
+        }
+    }
+}
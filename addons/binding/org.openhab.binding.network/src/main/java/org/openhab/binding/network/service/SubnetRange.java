@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.network.service;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * The assignable IPv4 addresses of a network, from the first to the last address as ints. The addresses are not
+ * materialized, they are iterated with {@link #get(long)}.
+ *
+ * @author agent - Initial contribution
+ */
+public class SubnetRange {
+    private final int first;
+    private final int last;
+
+    SubnetRange(int first, int last) {
+        this.first = first;
+        this.last = last;
+    }
+
+    /**
+     * Creates the range of the network of an interface address. The network and the broadcast address are not part
+     * of the range, except for /31 and /32 networks.
+     *
+     * @param interfaceIP An interface address in the format ip/prefix, like "192.168.0.10/24"
+     * @param maxHostBits Networks with more host bits are narrowed down to the network of the interface address
+     *            with this number of host bits
+     * @return The range, or null if the address is not a valid IPv4 address
+     */
+    public static SubnetRange fromInterfaceIP(String interfaceIP, int maxHostBits) {
+        int slash = interfaceIP.indexOf('/');
+        if (slash < 0) {
+            return null;
+        }
+        InetAddress address;
+        int prefix;
+        try {
+            address = InetAddress.getByName(interfaceIP.substring(0, slash));
+            prefix = Integer.parseInt(interfaceIP.substring(slash + 1));
+        } catch (UnknownHostException | NumberFormatException e) {
+            return null;
+        }
+        if (!(address instanceof Inet4Address) || prefix < 0 || prefix > 32) {
+            return null;
+        }
+
+        prefix = Math.max(prefix, 32 - maxHostBits);
+        int ip = NetworkUtils.inetAddress2Int(address);
+        int mask = prefix == 0 ? 0 : -1 << (32 - prefix);
+        int network = ip & mask;
+        int broadcast = network | ~mask;
+        if (prefix >= 31) {
+            return new SubnetRange(network, broadcast);
+        }
+        return new SubnetRange(network + 1, broadcast - 1);
+    }
+
+    /**
+     * Returns the number of addresses
+     */
+    public long size() {
+        return (last & 0xFFFFFFFFL) - (first & 0xFFFFFFFFL) + 1;
+    }
+
+    /**
+     * Returns the address at the index
+     *
+     * @param index The index from 0 to {@link #size()} - 1
+     * @return The address as int
+     */
+    public int get(long index) {
+        return (int) ((first & 0xFFFFFFFFL) + index);
+    }
+
+    /**
+     * Returns true if the address is part of the range
+     */
+    public boolean contains(int address) {
+        long value = address & 0xFFFFFFFFL;
+        return value >= (first & 0xFFFFFFFFL) && value <= (last & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * first + last;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof SubnetRange)) {
+            return false;
+        }
+        SubnetRange other = (SubnetRange) obj;
+        return first == other.first && last == other.last;
+    }
+
+    @Override
+    public String toString() {
+        return NetworkUtils.int2InetAddress(first).getHostAddress() + "-"
+                + NetworkUtils.int2InetAddress(last).getHostAddress();
+    }
+}
@@ -17,6 +17,7 @@ import java.net.SocketException;
 import java.util.Map;
 import java.util.TreeMap;
 
+import org.openhab.binding.network.service.DiscoveryCallback;
 import org.openhab.binding.network.service.StateUpdate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +28,7 @@ import org.slf4j.LoggerFactory;
  * receiver thread will be started. If the last StateUpdate is removed, the thread will be stopped
  * after the receive socket is closed. This instance listens to the UDP port 67 and will call
  * StateUpdate.newState(0) for the address that is registered and matches the DHO_DHCP_REQUESTED_ADDRESS address field.
+ * While a network discovery is running, every requested address is also reported to its DiscoveryCallback.
  *
  * @author David Graeff <david.graeff@web.de>
  */
@@ -38,24 +40,50 @@ public class ReceiveDHCPRequestPackets extends Thread {
     private Logger logger = LoggerFactory.getLogger(ReceiveDHCPRequestPackets.class);
     private static ReceiveDHCPRequestPackets instance;
     private static Map<String, StateUpdate> registeredListeners = new TreeMap<>();
+    private static volatile DiscoveryCallback discoveryCallback;
 
     public static synchronized void register(String hostAddress, StateUpdate receiveParseSimpleUDP)
             throws SocketException {
-        if (instance == null) {
-            instance = new ReceiveDHCPRequestPackets();
-            instance.start();
-        }
+        startListener();
         registeredListeners.put(hostAddress, receiveParseSimpleUDP);
     }
 
     public static void unregister(String hostAddress) {
         synchronized (registeredListeners) {
             registeredListeners.remove(hostAddress);
+            if (!registeredListeners.isEmpty() || discoveryCallback != null) {
+                return;
+            }
+        }
+        stopListener();
+    }
+
+    /**
+     * Reports the address of every DHCP request to the callback, until {@link #unregisterDiscovery()} is called.
+     */
+    public static synchronized void registerDiscovery(DiscoveryCallback callback) throws SocketException {
+        startListener();
+        discoveryCallback = callback;
+    }
+
+    public static void unregisterDiscovery() {
+        synchronized (registeredListeners) {
+            discoveryCallback = null;
             if (!registeredListeners.isEmpty()) {
                 return;
             }
         }
+        stopListener();
+    }
+
+    private static synchronized void startListener() throws SocketException {
+        if (instance == null) {
+            instance = new ReceiveDHCPRequestPackets();
+            instance.start();
+        }
+    }
 
+    private static synchronized void stopListener() {
         if (instance != null && instance.isAlive()) {
             instance.willbeclosed = true;
             if (instance.dsocket != null) {
@@ -108,6 +136,10 @@ public class ReceiveDHCPRequestPackets extends Thread {
                     continue;
                 }
                 String requestedAddressStr = requestedAddress.getHostAddress();
+                DiscoveryCallback callback = discoveryCallback;
+                if (callback != null) {
+                    callback.newDevice(requestedAddressStr);
+                }
                 StateUpdate receiver = registeredListeners.get(requestedAddressStr);
                 if (receiver != null) {
                     logger.info("DHCP request for registered address: {}", requestedAddressStr);
@@ -12,6 +12,7 @@ import static org.openhab.binding.onkyo.OnkyoBindingConstants.*;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -52,6 +53,7 @@ import org.slf4j.LoggerFactory;
  * @author Paul Frank - Initial contribution
  * @author Marcel Verpaalen - parsing additional commands
  * @author Pauli Anttila - lot of refactoring
+ * @author agent - Connection counters as properties
  */
 public class OnkyoHandler extends UpnpAudioSinkHandler implements OnkyoEventListener {
 
@@ -109,6 +111,7 @@ public class OnkyoHandler extends UpnpAudioSinkHandler implements OnkyoEventList
                         logger.debug("Send resource update requests to Onkyo Receiver @{}",
                                 connection.getConnectionName());
                         checkStatus();
+                        updateConnectionProperties();
                     } catch (LinkageError e) {
                         logger.warn("Failed to send resource update requests to Onkyo Receiver @{}. Cause: {}",
                                 connection.getConnectionName(), e.getMessage());
@@ -448,6 +451,19 @@ public class OnkyoHandler extends UpnpAudioSinkHandler implements OnkyoEventList
     public void connectionError(String ip) {
         logger.debug("Connection error occurred to Onkyo Receiver @{}", ip);
         updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR);
+        updateConnectionProperties();
+    }
+
+    /**
+     * Copies the counters of the connection to the properties of the thing. Called by the resource refresh job and
+     * on connection errors.
+     */
+    private void updateConnectionProperties() {
+        if (connection != null) {
+            Map<String, String> properties = editProperties();
+            properties.putAll(connection.getMetrics().toProperties());
+            updateProperties(properties);
+        }
     }
 
     private State convertDeviceValueToOpenHabState(String data, Class<?> classToConvert) {
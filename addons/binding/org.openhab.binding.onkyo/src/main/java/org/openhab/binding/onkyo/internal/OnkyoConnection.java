@@ -8,26 +8,21 @@
  */
 package org.openhab.binding.onkyo.internal;
 
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
-import java.net.InetSocketAddress;
-import java.net.Socket;
-import java.net.SocketTimeoutException;
-import java.net.UnknownHostException;
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
-import javax.xml.bind.DatatypeConverter;
-
-import org.apache.commons.io.IOUtils;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.openhab.binding.onkyo.internal.eiscp.EiscpCommand;
 import org.openhab.binding.onkyo.internal.eiscp.EiscpException;
 import org.openhab.binding.onkyo.internal.eiscp.EiscpMessage;
 import org.openhab.binding.onkyo.internal.eiscp.EiscpProtocol;
+import org.openhab.io.transport.socket.ReconnectBackoff;
+import org.openhab.io.transport.socket.SocketChannelSession;
+import org.openhab.io.transport.socket.SocketSessionListener;
+import org.openhab.io.transport.socket.SocketSessionMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,64 +30,83 @@ import org.slf4j.LoggerFactory;
  * This class open a TCP/IP connection to the Onkyo device and send a command.
  *
  * @author Pauli Anttila
+ * @author agent - Moved to the socket transport
  */
-public class OnkyoConnection {
+public class OnkyoConnection implements SocketSessionListener {
 
     private Logger logger = LoggerFactory.getLogger(OnkyoConnection.class);
 
     /** default eISCP port. **/
     public static final int DEFAULT_EISCP_PORT = 60128;
 
-    /** Connection timeout in milliseconds **/
-    private static final int CONNECTION_TIMEOUT = 5000;
+    /** Name of the thread pool of the connections **/
+    private static final String THREAD_POOL_NAME = "onkyo";
 
     /** Connection test interval in milliseconds **/
     private static final int CONNECTION_TEST_INTERVAL = 60000;
 
-    /** Socket timeout in milliseconds **/
+    /** Time without data after which the connection is restarted, in milliseconds **/
     private static final int SOCKET_TIMEOUT = CONNECTION_TEST_INTERVAL + 10000;
 
-    /** Connection retry count on error situations **/
-    private static final int FAST_CONNECTION_RETRY_COUNT = 3;
-
     /** Connection retry delays in milliseconds **/
     private static final int FAST_CONNECTION_RETRY_DELAY = 1000;
     private static final int SLOW_CONNECTION_RETRY_DELAY = 60000;
 
     private String ip;
     private int port;
-    private Socket eiscpSocket = null;
-    private DataListener dataListener = null;
-    private DataOutputStream outStream = null;
-    private DataInputStream inStream = null;
-    private boolean connected = false;
-    private List<OnkyoEventListener> listeners = new ArrayList<OnkyoEventListener>();
+    private final SocketChannelSession session;
+    private final ReconnectBackoff backoff = new ReconnectBackoff(FAST_CONNECTION_RETRY_DELAY,
+            SLOW_CONNECTION_RETRY_DELAY);
+    private final List<OnkyoEventListener> listeners = new CopyOnWriteArrayList<OnkyoEventListener>();
     private int retryCount = 1;
-    private ConnectionSupervisor connectionSupervisor = null;
+    private boolean opened = false;
+    private long connectedTime;
+    private ScheduledFuture<?> connectionSupervisor = null;
+    private ScheduledFuture<?> reconnectFuture = null;
 
     public OnkyoConnection(String ip) {
-        this.ip = ip;
-        this.port = DEFAULT_EISCP_PORT;
+        this(ip, DEFAULT_EISCP_PORT);
     }
 
     public OnkyoConnection(String ip, int port) {
         this.ip = ip;
         this.port = port;
+        this.session = new SocketChannelSession(ip, port, EiscpProtocol.FRAMER, THREAD_POOL_NAME);
+        this.session.addListener(this);
     }
 
     /**
      * Open connection to the Onkyo device.
      *
      **/
-    public void openConnection() {
+    public synchronized void openConnection() {
+        opened = true;
         connectSocket();
+
+        // start connection tester
+        if (connectionSupervisor == null) {
+            logger.debug("Connection supervisor started, interval {} milliseconds", CONNECTION_TEST_INTERVAL);
+            connectionSupervisor = ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME).scheduleWithFixedDelay(
+                    new ConnectionSupervisor(), CONNECTION_TEST_INTERVAL, CONNECTION_TEST_INTERVAL,
+                    TimeUnit.MILLISECONDS);
+        }
     }
 
     /**
      * Closes the connection to the Onkyo device.
      *
      **/
-    public void closeConnection() {
+    public synchronized void closeConnection() {
+        opened = false;
+        if (connectionSupervisor != null) {
+            connectionSupervisor.cancel(false);
+            connectionSupervisor = null;
+            logger.debug("closed connection tester!");
+        }
+        if (reconnectFuture != null) {
+            reconnectFuture.cancel(false);
+            reconnectFuture = null;
+        }
         closeSocket();
     }
 
@@ -109,7 +123,16 @@ public class OnkyoConnection {
     }
 
     public boolean isConnected() {
-        return connected;
+        return session.isConnected();
+    }
+
+    /**
+     * Returns the counters of the connection to the Onkyo device.
+     *
+     * @return the non-null metrics of the connection
+     */
+    public SocketSessionMetrics getMetrics() {
+        return session.getMetrics();
     }
 
     /**
@@ -128,7 +151,7 @@ public class OnkyoConnection {
     }
 
     private void sendCommand(EiscpMessage msg) {
-        logger.debug("Send command: {} to {}:{} ({})", msg.toString(), ip, port, eiscpSocket);
+        logger.debug("Send command: {} to {}:{}", msg.toString(), ip, port);
         sendCommand(msg, retryCount);
     }
 
@@ -142,22 +165,14 @@ public class OnkyoConnection {
 
         if (connectSocket()) {
             try {
-
-                String data = EiscpProtocol.createEiscpPdu(msg);
-                if (logger.isTraceEnabled()) {
-                    logger.trace("Sending {} bytes: {}", data.length(),
-                            DatatypeConverter.printHexBinary(data.toString().getBytes()));
-                }
-
-                outStream.writeBytes(data);
-                outStream.flush();
+                session.sendCommand(EiscpProtocol.createEiscpData(msg));
             } catch (IOException ioException) {
                 logger.error("Error occurred when sending command: {}", ioException.getMessage());
 
                 if (retry > 0) {
                     logger.debug("Retry {}...", retry);
                     closeSocket();
-                    sendCommand(msg, retry--);
+                    sendCommand(msg, retry - 1);
                 } else {
                     sendConnectionErrorEvent();
                 }
@@ -171,226 +186,116 @@ public class OnkyoConnection {
      **/
     private synchronized boolean connectSocket() {
 
-        if (eiscpSocket == null || !connected || !eiscpSocket.isConnected()) {
+        if (!session.isConnected()) {
             try {
-                // Creating a socket to connect to the server
-                eiscpSocket = new Socket();
-
-                // start connection tester
-                if (connectionSupervisor == null) {
-                    connectionSupervisor = new ConnectionSupervisor(CONNECTION_TEST_INTERVAL);
-                }
-
-                eiscpSocket.connect(new InetSocketAddress(ip, port), CONNECTION_TIMEOUT);
+                session.connect();
+                connectedTime = System.currentTimeMillis();
+                backoff.reset();
 
                 logger.debug("Connected to {}:{}", ip, port);
-
-                // Get Input and Output streams
-                outStream = new DataOutputStream(eiscpSocket.getOutputStream());
-                inStream = new DataInputStream(eiscpSocket.getInputStream());
-
-                eiscpSocket.setSoTimeout(SOCKET_TIMEOUT);
-                outStream.flush();
-                connected = true;
-
-                // start status update listener
-                if (dataListener == null) {
-                    dataListener = new DataListener();
-                    dataListener.start();
-                }
-
-            } catch (UnknownHostException unknownHost) {
-                logger.error("You are trying to connect to an unknown host: {}", unknownHost.getMessage());
             } catch (IOException ioException) {
                 logger.error("Can't connect: {}", ioException.getMessage());
             }
         }
 
-        return connected;
+        return session.isConnected();
     }
 
     /**
      * Closes the socket connection.
-     *
-     * @return true if the closed successfully
      **/
-    private boolean closeSocket() {
+    private void closeSocket() {
         try {
-            if (dataListener != null) {
-                dataListener.setInterrupted(true);
-                dataListener = null;
-                logger.debug("closed data listener!");
-            }
-            if (connectionSupervisor != null) {
-                connectionSupervisor.stopConnectionTester();
-                connectionSupervisor = null;
-                logger.debug("closed connection tester!");
-            }
-            if (inStream != null) {
-                IOUtils.closeQuietly(inStream);
-                inStream = null;
-                logger.debug("closed input stream!");
-            }
-            if (outStream != null) {
-                IOUtils.closeQuietly(outStream);
-                outStream = null;
-                logger.debug("closed output stream!");
-            }
-            if (eiscpSocket != null) {
-                IOUtils.closeQuietly(eiscpSocket);
-                eiscpSocket = null;
-                logger.debug("closed socket!");
-            }
-            connected = false;
-        } catch (Exception e) {
+            session.disconnect();
+            logger.debug("closed socket!");
+        } catch (IOException e) {
             logger.error("Closing connection throws an exception, {}", e.getMessage());
         }
-
-        return connected;
     }
 
     /**
-     * This method wait any state messages form receiver.
-     *
-     * @throws IOException
-     * @throws InterruptedException
-     * @throws EiscpException
+     * Closes the socket and tries to connect again, after a delay that grows while the receiver can't be reached.
      **/
-    private void waitStateMessages() throws NumberFormatException, IOException, InterruptedException, EiscpException {
-
-        if (connected) {
-
-            logger.trace("Waiting status messages");
-
-            while (true) {
-                EiscpMessage message = EiscpProtocol.getNextMessage(inStream);
-                sendMessageEvent(message);
-            }
-
-        } else {
-            throw new IOException("Not Connected to Receiver");
-        }
-    }
-
-    private class DataListener extends Thread {
-
-        private boolean interrupted = false;
+    private synchronized void restartConnection() {
+        closeSocket();
 
-        DataListener() {
+        if (!opened || reconnectFuture != null) {
+            return;
         }
 
-        public void setInterrupted(boolean interrupted) {
-            this.interrupted = interrupted;
-            this.interrupt();
+        final long delay = backoff.nextDelay();
+        if (delay == SLOW_CONNECTION_RETRY_DELAY) {
+            logger.debug("Connection to {}:{} failed, slowed down automatic connection to {} seconds.", ip, port,
+                    SLOW_CONNECTION_RETRY_DELAY / 1000);
         }
 
-        @Override
-        public void run() {
-
-            logger.debug("Data listener started");
-
-            boolean restartConnection = false;
-            long connectionAttempts = 0;
-
-            // as long as no interrupt is requested, continue running
-            while (!interrupted) {
-                try {
-                    waitStateMessages();
-                    connectionAttempts = 0;
-                } catch (EiscpException e) {
-
-                    logger.error("Error occurred during message waiting: {}", e.getMessage());
-
-                } catch (SocketTimeoutException e) {
-
-                    logger.error("No data received during supervision interval ({} sec)!", SOCKET_TIMEOUT);
-
-                    restartConnection = true;
-
-                } catch (Exception e) {
-
-                    if (!interrupted && !this.isInterrupted()) {
-                        logger.debug("Error occurred during message waiting: {}", e.getMessage());
-                        sendConnectionErrorEvent();
-                        restartConnection = true;
-
-                        // sleep a while, to prevent fast looping if error situation is permanent
-                        if (++connectionAttempts < FAST_CONNECTION_RETRY_COUNT) {
-                            mysleep(FAST_CONNECTION_RETRY_DELAY);
-                        } else {
-                            // slow down after few faster attempts
-                            if (connectionAttempts == FAST_CONNECTION_RETRY_COUNT) {
-                                logger.info(
-                                        "Connection failed {} times to {}:{}, slowing down automatic connection to {} seconds.",
-                                        FAST_CONNECTION_RETRY_COUNT, ip, port, SLOW_CONNECTION_RETRY_DELAY / 1000);
-                            }
-                            mysleep(SLOW_CONNECTION_RETRY_DELAY);
-                        }
+        reconnectFuture = ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME).schedule(new Runnable() {
+            @Override
+            public void run() {
+                synchronized (OnkyoConnection.this) {
+                    reconnectFuture = null;
+                    if (!opened) {
+                        return;
                     }
                 }
 
-                if (restartConnection) {
-                    restartConnection = false;
-
-                    // reopen connection
-                    logger.debug("Reconnecting...");
-
-                    try {
-                        connected = false;
-                        connectSocket();
-                        logger.debug("Test connection to {}:{}", ip, port);
-                        sendCommand(new EiscpMessage.MessageBuilder().command(EiscpCommand.POWER_QUERY.getCommand())
-                                .value(EiscpCommand.POWER_QUERY.getValue()).build());
-
-                    } catch (Exception ex) {
-                        logger.error("Reconnection invoking error: {}", ex.getMessage());
-                    }
+                // reopen connection
+                logger.debug("Reconnecting...");
+                if (connectSocket()) {
+                    logger.debug("Test connection to {}:{}", ip, port);
+                    sendCommand(new EiscpMessage.MessageBuilder().command(EiscpCommand.POWER_QUERY.getCommand())
+                            .value(EiscpCommand.POWER_QUERY.getValue()).build());
+                } else {
+                    restartConnection();
                 }
             }
-
-            logger.debug("Data listener stopped");
-        }
-
-        private void mysleep(long milli) {
-            try {
-                sleep(milli);
-            } catch (InterruptedException e) {
-                interrupted = true;
-            }
-        }
+        }, delay, TimeUnit.MILLISECONDS);
     }
 
-    private class ConnectionSupervisor {
-        private Timer timer;
-
-        public ConnectionSupervisor(int milliseconds) {
-            logger.debug("Connection supervisor started, interval {} milliseconds", milliseconds);
-
-            timer = new Timer();
-            timer.schedule(new Task(), milliseconds, milliseconds);
+    @Override
+    public void responseReceived(String response) {
+        try {
+            sendMessageEvent(EiscpProtocol.parseEiscpData(response));
+        } catch (EiscpException e) {
+            logger.error("Error occurred during message waiting: {}", e.getMessage());
         }
+    }
 
-        public void stopConnectionTester() {
-            timer.cancel();
-        }
+    @Override
+    public void responseException(Exception e) {
+        logger.debug("Error occurred during message waiting: {}", e.getMessage());
+        sendConnectionErrorEvent();
+        restartConnection();
+    }
 
-        class Task extends TimerTask {
-            @Override
-            public void run() {
-                logger.debug("Test connection to {}:{}", ip, port);
-                sendCommand(new EiscpMessage.MessageBuilder().command(EiscpCommand.POWER_QUERY.getCommand())
-                        .value(EiscpCommand.POWER_QUERY.getValue()).build());
+    /**
+     * Sends a power query to the receiver every {@link #CONNECTION_TEST_INTERVAL}, so it answers at least that often,
+     * and restarts the connection when nothing has been received during {@link #SOCKET_TIMEOUT}.
+     **/
+    private class ConnectionSupervisor implements Runnable {
+        @Override
+        public void run() {
+            if (session.isConnected()) {
+                final long lastData = Math.max(session.getMetrics().getLastResponseTime(), connectedTime);
+                if (System.currentTimeMillis() - lastData > SOCKET_TIMEOUT) {
+                    logger.error("No data received during supervision interval ({} sec)!", SOCKET_TIMEOUT / 1000);
+                    sendConnectionErrorEvent();
+                    restartConnection();
+                    return;
+                }
             }
+
+            logger.debug("Test connection to {}:{}", ip, port);
+            sendCommand(new EiscpMessage.MessageBuilder().command(EiscpCommand.POWER_QUERY.getCommand())
+                    .value(EiscpCommand.POWER_QUERY.getValue()).build());
         }
     }
 
     private void sendConnectionErrorEvent() {
         // send message to event listeners
         try {
-            Iterator<OnkyoEventListener> iterator = listeners.iterator();
-
-            while (iterator.hasNext()) {
-                iterator.next().connectionError(ip);
+            for (OnkyoEventListener listener : listeners) {
+                listener.connectionError(ip);
             }
 
         } catch (Exception ex) {
@@ -401,14 +306,12 @@ public class OnkyoConnection {
     private void sendMessageEvent(EiscpMessage message) {
         // send message to event listeners
         try {
-            Iterator<OnkyoEventListener> iterator = listeners.iterator();
-
-            while (iterator.hasNext()) {
-                iterator.next().statusUpdateReceived(ip, message);
+            for (OnkyoEventListener listener : listeners) {
+                listener.statusUpdateReceived(ip, message);
             }
 
         } catch (Exception e) {
             logger.error("Event listener invoking error: {}", e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
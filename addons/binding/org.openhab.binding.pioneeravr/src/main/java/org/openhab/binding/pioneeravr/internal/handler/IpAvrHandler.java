@@ -8,19 +8,34 @@
  */
 package org.openhab.binding.pioneeravr.internal.handler;
 
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.smarthome.core.thing.Thing;
 import org.openhab.binding.pioneeravr.PioneerAvrBindingConstants;
 import org.openhab.binding.pioneeravr.internal.protocol.ip.IpAvrConnection;
 import org.openhab.binding.pioneeravr.protocol.AvrConnection;
+import org.openhab.binding.pioneeravr.protocol.event.AvrDisconnectionEvent;
 
 /**
  * An handler of an AVR connected through an IP connection.
  * 
  * @author Antoine Besnard
+ * @author agent - Connection counters as properties
  *
  */
 public class IpAvrHandler extends AbstractAvrHandler {
 
+    /**
+     * Interval of the updates of the connection properties, in seconds
+     */
+    private static final int PROPERTIES_UPDATE_INTERVAL = 60;
+
+    // set by createConnection(), which is called by the constructor of the super class
+    private IpAvrConnection ipConnection;
+    private ScheduledFuture<?> propertiesUpdaterFuture;
+
     public IpAvrHandler(Thing thing) {
         super(thing);
     }
@@ -30,7 +45,43 @@ public class IpAvrHandler extends AbstractAvrHandler {
         String host = (String) this.getConfig().get(PioneerAvrBindingConstants.HOST_PARAMETER);
         Integer tcpPort = ((Number) this.getConfig().get(PioneerAvrBindingConstants.TCP_PORT_PARAMETER)).intValue();
 
-        return new IpAvrConnection(host, tcpPort);
+        ipConnection = new IpAvrConnection(host, tcpPort);
+        return ipConnection;
+    }
+
+    @Override
+    public void initialize() {
+        super.initialize();
+
+        propertiesUpdaterFuture = scheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                updateConnectionProperties();
+            }
+        }, PROPERTIES_UPDATE_INTERVAL, PROPERTIES_UPDATE_INTERVAL, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void dispose() {
+        if (propertiesUpdaterFuture != null) {
+            propertiesUpdaterFuture.cancel(true);
+        }
+        super.dispose();
+    }
+
+    @Override
+    public void onDisconnection(AvrDisconnectionEvent event) {
+        super.onDisconnection(event);
+        updateConnectionProperties();
+    }
+
+    /**
+     * Copies the counters of the connection to the properties of the thing.
+     */
+    private void updateConnectionProperties() {
+        Map<String, String> properties = editProperties();
+        properties.putAll(ipConnection.getMetrics().toProperties());
+        updateProperties(properties);
     }
 
 }
@@ -0,0 +1,226 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.pioneeravr.internal.protocol;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.eclipse.smarthome.core.library.types.IncreaseDecreaseType;
+import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.eclipse.smarthome.core.library.types.PercentType;
+import org.eclipse.smarthome.core.library.types.StringType;
+import org.eclipse.smarthome.core.types.Command;
+import org.openhab.binding.pioneeravr.internal.protocol.ParameterizedCommand.ParameterizedCommandType;
+import org.openhab.binding.pioneeravr.internal.protocol.SimpleCommand.SimpleCommandType;
+import org.openhab.binding.pioneeravr.protocol.AvrCommand;
+import org.openhab.binding.pioneeravr.protocol.AvrConnection;
+import org.openhab.binding.pioneeravr.protocol.CommandTypeNotSupportedException;
+import org.openhab.binding.pioneeravr.protocol.event.AvrDisconnectionEvent;
+import org.openhab.binding.pioneeravr.protocol.event.AvrDisconnectionListener;
+import org.openhab.binding.pioneeravr.protocol.event.AvrStatusUpdateEvent;
+import org.openhab.binding.pioneeravr.protocol.event.AvrUpdateListener;
+import org.openhab.binding.pioneeravr.protocol.utils.VolumeConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ *
+ * The part of the communication to Pioneer AVR devices that doesn't depend on the link: the listeners and the
+ * commands. The link sends the commands and notifies the listeners of the received data.
+ *
+ * see {@link http ://www.pioneerelectronics.com/StaticFiles/PUSA/Files/Home%20Custom %20Install/VSX-1120-K-RS232.PDF}
+ * for the protocol specs
+ *
+ * @author Antoine Besnard
+ * @author Rainer Ostendorf
+ * @author based on the Onkyo binding by Pauli Anttila and others
+ * @author agent - Split from {@link StreamAvrConnection}
+ */
+public abstract class AbstractAvrConnection implements AvrConnection {
+
+    private final Logger logger = LoggerFactory.getLogger(AbstractAvrConnection.class);
+
+    private List<AvrUpdateListener> updateListeners;
+    private List<AvrDisconnectionListener> disconnectionListeners;
+
+    public AbstractAvrConnection() {
+        this.updateListeners = new ArrayList<>();
+        this.disconnectionListeners = new ArrayList<>();
+    }
+
+    @Override
+    public void addUpdateListener(AvrUpdateListener listener) {
+        synchronized (updateListeners) {
+            updateListeners.add(listener);
+        }
+    }
+
+    @Override
+    public void addDisconnectionListener(AvrDisconnectionListener listener) {
+        synchronized (disconnectionListeners) {
+            disconnectionListeners.add(listener);
+        }
+    }
+
+    /**
+     * Sends to command to the receiver. It does not wait for a reply.
+     *
+     * @param ipControlCommand
+     *            the command to send.
+     **/
+    protected abstract boolean sendCommand(AvrCommand ipControlCommand);
+
+    /**
+     * Notifies the update listeners of data received from the AVR.
+     *
+     * @param receivedData
+     *            the received line, without the line terminator
+     */
+    protected void notifyDataReceived(String receivedData) {
+        logger.debug("Data received from AVR @{}: {}", getConnectionName(), receivedData);
+        AvrStatusUpdateEvent event = new AvrStatusUpdateEvent(this, receivedData);
+        synchronized (updateListeners) {
+            for (AvrUpdateListener pioneerAvrEventListener : updateListeners) {
+                pioneerAvrEventListener.statusUpdateReceived(event);
+            }
+        }
+    }
+
+    /**
+     * Notifies the disconnection listeners that the AVR is disconnected.
+     *
+     * @param cause
+     *            the cause of the disconnection
+     */
+    protected void notifyDisconnection(Exception cause) {
+        logger.warn("The AVR @{} is disconnected.", getConnectionName(), cause);
+        AvrDisconnectionEvent event = new AvrDisconnectionEvent(this, cause);
+        synchronized (disconnectionListeners) {
+            for (AvrDisconnectionListener pioneerAvrDisconnectionListener : disconnectionListeners) {
+                pioneerAvrDisconnectionListener.onDisconnection(event);
+            }
+        }
+    }
+
+    @Override
+    public boolean sendPowerQuery(int zone) {
+        return sendCommand(RequestResponseFactory.getIpControlCommand(SimpleCommandType.POWER_QUERY, zone));
+    }
+
+    @Override
+    public boolean sendVolumeQuery(int zone) {
+        return sendCommand(RequestResponseFactory.getIpControlCommand(SimpleCommandType.VOLUME_QUERY, zone));
+    }
+
+    @Override
+    public boolean sendMuteQuery(int zone) {
+        return sendCommand(RequestResponseFactory.getIpControlCommand(SimpleCommandType.MUTE_QUERY, zone));
+    }
+
+    @Override
+    public boolean sendSourceInputQuery(int zone) {
+        return sendCommand(RequestResponseFactory.getIpControlCommand(SimpleCommandType.INPUT_QUERY, zone));
+    }
+
+    @Override
+    public boolean sendPowerCommand(Command command, int zone) throws CommandTypeNotSupportedException {
+        AvrCommand commandToSend = null;
+
+        if (command == OnOffType.ON) {
+            commandToSend = RequestResponseFactory.getIpControlCommand(SimpleCommandType.POWER_ON, zone);
+            // Send the first Power ON command.
+            sendCommand(commandToSend);
+
+            // According to the Pioneer Specs, the first request only wakeup the
+            // AVR CPU, the second one Power ON the AVR. Still according to the Pioneer Specs, the second
+            // request has to be delayed of 100 ms.
+            try {
+                TimeUnit.MILLISECONDS.sleep(100);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+
+        } else if (command == OnOffType.OFF) {
+            commandToSend = RequestResponseFactory.getIpControlCommand(SimpleCommandType.POWER_OFF, zone);
+        } else {
+            throw new CommandTypeNotSupportedException("Command type not supported.");
+        }
+
+        return sendCommand(commandToSend);
+    }
+
+    @Override
+    public boolean sendVolumeCommand(Command command, int zone) throws CommandTypeNotSupportedException {
+        boolean commandSent = false;
+
+        // The OnOffType for volume is equal to the Mute command
+        if (command instanceof OnOffType) {
+            commandSent = sendMuteCommand(command, zone);
+        } else {
+            AvrCommand commandToSend = null;
+
+            if (command == IncreaseDecreaseType.DECREASE) {
+                commandToSend = RequestResponseFactory.getIpControlCommand(SimpleCommandType.VOLUME_DOWN, zone);
+            } else if (command == IncreaseDecreaseType.INCREASE) {
+                commandToSend = RequestResponseFactory.getIpControlCommand(SimpleCommandType.VOLUME_UP, zone);
+            } else if (command instanceof PercentType) {
+                String ipControlVolume = VolumeConverter
+                        .convertFromPercentToIpControlVolume(((PercentType) command).doubleValue());
+                commandToSend = RequestResponseFactory.getIpControlCommand(ParameterizedCommandType.VOLUME_SET, zone)
+                        .setParameter(ipControlVolume);
+            } else if (command instanceof DecimalType) {
+                String ipControlVolume = VolumeConverter
+                        .convertFromDbToIpControlVolume(((DecimalType) command).doubleValue());
+                commandToSend = RequestResponseFactory.getIpControlCommand(ParameterizedCommandType.VOLUME_SET, zone)
+                        .setParameter(ipControlVolume);
+            } else {
+                throw new CommandTypeNotSupportedException("Command type not supported.");
+            }
+
+            commandSent = sendCommand(commandToSend);
+        }
+        return commandSent;
+    }
+
+    @Override
+    public boolean sendInputSourceCommand(Command command, int zone) throws CommandTypeNotSupportedException {
+        AvrCommand commandToSend = null;
+
+        if (command == IncreaseDecreaseType.INCREASE) {
+            commandToSend = RequestResponseFactory.getIpControlCommand(SimpleCommandType.INPUT_CHANGE_CYCLIC, zone);
+        } else if (command == IncreaseDecreaseType.DECREASE) {
+            commandToSend = RequestResponseFactory.getIpControlCommand(SimpleCommandType.INPUT_CHANGE_REVERSE, zone);
+        } else if (command instanceof StringType) {
+            String inputSourceValue = ((StringType) command).toString();
+            commandToSend = RequestResponseFactory.getIpControlCommand(ParameterizedCommandType.INPUT_CHANNEL_SET, zone)
+                    .setParameter(inputSourceValue);
+        } else {
+            throw new CommandTypeNotSupportedException("Command type not supported.");
+        }
+
+        return sendCommand(commandToSend);
+    }
+
+    @Override
+    public boolean sendMuteCommand(Command command, int zone) throws CommandTypeNotSupportedException {
+        AvrCommand commandToSend = null;
+
+        if (command == OnOffType.ON) {
+            commandToSend = RequestResponseFactory.getIpControlCommand(SimpleCommandType.MUTE_ON, zone);
+        } else if (command == OnOffType.OFF) {
+            commandToSend = RequestResponseFactory.getIpControlCommand(SimpleCommandType.MUTE_OFF, zone);
+        } else {
+            throw new CommandTypeNotSupportedException("Command type not supported.");
+        }
+
+        return sendCommand(commandToSend);
+    }
+}
@@ -15,29 +15,12 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.net.SocketTimeoutException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import javax.xml.bind.DatatypeConverter;
 
-import org.eclipse.smarthome.core.library.types.DecimalType;
-import org.eclipse.smarthome.core.library.types.IncreaseDecreaseType;
-import org.eclipse.smarthome.core.library.types.OnOffType;
-import org.eclipse.smarthome.core.library.types.PercentType;
-import org.eclipse.smarthome.core.library.types.StringType;
-import org.eclipse.smarthome.core.types.Command;
-import org.openhab.binding.pioneeravr.internal.protocol.ParameterizedCommand.ParameterizedCommandType;
-import org.openhab.binding.pioneeravr.internal.protocol.SimpleCommand.SimpleCommandType;
 import org.openhab.binding.pioneeravr.protocol.AvrCommand;
-import org.openhab.binding.pioneeravr.protocol.AvrConnection;
-import org.openhab.binding.pioneeravr.protocol.CommandTypeNotSupportedException;
-import org.openhab.binding.pioneeravr.protocol.event.AvrDisconnectionEvent;
-import org.openhab.binding.pioneeravr.protocol.event.AvrDisconnectionListener;
-import org.openhab.binding.pioneeravr.protocol.event.AvrStatusUpdateEvent;
-import org.openhab.binding.pioneeravr.protocol.event.AvrUpdateListener;
-import org.openhab.binding.pioneeravr.protocol.utils.VolumeConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,39 +34,18 @@ import org.slf4j.LoggerFactory;
  * @author Antoine Besnard
  * @author Rainer Ostendorf
  * @author based on the Onkyo binding by Pauli Anttila and others
+ * @author agent - Moved the listeners and commands to {@link AbstractAvrConnection}
  */
-public abstract class StreamAvrConnection implements AvrConnection {
+public abstract class StreamAvrConnection extends AbstractAvrConnection {
 
     private final Logger logger = LoggerFactory.getLogger(StreamAvrConnection.class);
 
     // The maximum time to wait incoming messages.
     private static final Integer READ_TIMEOUT = 1000;
 
-    private List<AvrUpdateListener> updateListeners;
-    private List<AvrDisconnectionListener> disconnectionListeners;
-
     private IpControlInputStreamReader inputStreamReader;
     private DataOutputStream outputStream;
 
-    public StreamAvrConnection() {
-        this.updateListeners = new ArrayList<>();
-        this.disconnectionListeners = new ArrayList<>();
-    }
-
-    @Override
-    public void addUpdateListener(AvrUpdateListener listener) {
-        synchronized (updateListeners) {
-            updateListeners.add(listener);
-        }
-    }
-
-    @Override
-    public void addDisconnectionListener(AvrDisconnectionListener listener) {
-        synchronized (disconnectionListeners) {
-            disconnectionListeners.add(listener);
-        }
-    }
-
     @Override
     public boolean connect() {
 
@@ -139,12 +101,7 @@ public abstract class StreamAvrConnection implements AvrConnection {
         }
     }
 
-    /**
-     * Sends to command to the receiver. It does not wait for a reply.
-     *
-     * @param ipControlCommand
-     *            the command to send.
-     **/
+    @Override
     protected boolean sendCommand(AvrCommand ipControlCommand) {
         boolean isSent = false;
         if (connect()) {
@@ -170,120 +127,6 @@ public abstract class StreamAvrConnection implements AvrConnection {
         return isSent;
     }
 
-    @Override
-    public boolean sendPowerQuery(int zone) {
-        return sendCommand(RequestResponseFactory.getIpControlCommand(SimpleCommandType.POWER_QUERY, zone));
-    }
-
-    @Override
-    public boolean sendVolumeQuery(int zone) {
-        return sendCommand(RequestResponseFactory.getIpControlCommand(SimpleCommandType.VOLUME_QUERY, zone));
-    }
-
-    @Override
-    public boolean sendMuteQuery(int zone) {
-        return sendCommand(RequestResponseFactory.getIpControlCommand(SimpleCommandType.MUTE_QUERY, zone));
-    }
-
-    @Override
-    public boolean sendSourceInputQuery(int zone) {
-        return sendCommand(RequestResponseFactory.getIpControlCommand(SimpleCommandType.INPUT_QUERY, zone));
-    }
-
-    @Override
-    public boolean sendPowerCommand(Command command, int zone) throws CommandTypeNotSupportedException {
-        AvrCommand commandToSend = null;
-
-        if (command == OnOffType.ON) {
-            commandToSend = RequestResponseFactory.getIpControlCommand(SimpleCommandType.POWER_ON, zone);
-            // Send the first Power ON command.
-            sendCommand(commandToSend);
-
-            // According to the Pioneer Specs, the first request only wakeup the
-            // AVR CPU, the second one Power ON the AVR. Still according to the Pioneer Specs, the second
-            // request has to be delayed of 100 ms.
-            try {
-                TimeUnit.MILLISECONDS.sleep(100);
-            } catch (InterruptedException ex) {
-                Thread.currentThread().interrupt();
-            }
-
-        } else if (command == OnOffType.OFF) {
-            commandToSend = RequestResponseFactory.getIpControlCommand(SimpleCommandType.POWER_OFF, zone);
-        } else {
-            throw new CommandTypeNotSupportedException("Command type not supported.");
-        }
-
-        return sendCommand(commandToSend);
-    }
-
-    @Override
-    public boolean sendVolumeCommand(Command command, int zone) throws CommandTypeNotSupportedException {
-        boolean commandSent = false;
-
-        // The OnOffType for volume is equal to the Mute command
-        if (command instanceof OnOffType) {
-            commandSent = sendMuteCommand(command, zone);
-        } else {
-            AvrCommand commandToSend = null;
-
-            if (command == IncreaseDecreaseType.DECREASE) {
-                commandToSend = RequestResponseFactory.getIpControlCommand(SimpleCommandType.VOLUME_DOWN, zone);
-            } else if (command == IncreaseDecreaseType.INCREASE) {
-                commandToSend = RequestResponseFactory.getIpControlCommand(SimpleCommandType.VOLUME_UP, zone);
-            } else if (command instanceof PercentType) {
-                String ipControlVolume = VolumeConverter
-                        .convertFromPercentToIpControlVolume(((PercentType) command).doubleValue());
-                commandToSend = RequestResponseFactory.getIpControlCommand(ParameterizedCommandType.VOLUME_SET, zone)
-                        .setParameter(ipControlVolume);
-            } else if (command instanceof DecimalType) {
-                String ipControlVolume = VolumeConverter
-                        .convertFromDbToIpControlVolume(((DecimalType) command).doubleValue());
-                commandToSend = RequestResponseFactory.getIpControlCommand(ParameterizedCommandType.VOLUME_SET, zone)
-                        .setParameter(ipControlVolume);
-            } else {
-                throw new CommandTypeNotSupportedException("Command type not supported.");
-            }
-
-            commandSent = sendCommand(commandToSend);
-        }
-        return commandSent;
-    }
-
-    @Override
-    public boolean sendInputSourceCommand(Command command, int zone) throws CommandTypeNotSupportedException {
-        AvrCommand commandToSend = null;
-
-        if (command == IncreaseDecreaseType.INCREASE) {
-            commandToSend = RequestResponseFactory.getIpControlCommand(SimpleCommandType.INPUT_CHANGE_CYCLIC, zone);
-        } else if (command == IncreaseDecreaseType.DECREASE) {
-            commandToSend = RequestResponseFactory.getIpControlCommand(SimpleCommandType.INPUT_CHANGE_REVERSE, zone);
-        } else if (command instanceof StringType) {
-            String inputSourceValue = ((StringType) command).toString();
-            commandToSend = RequestResponseFactory.getIpControlCommand(ParameterizedCommandType.INPUT_CHANNEL_SET, zone)
-                    .setParameter(inputSourceValue);
-        } else {
-            throw new CommandTypeNotSupportedException("Command type not supported.");
-        }
-
-        return sendCommand(commandToSend);
-    }
-
-    @Override
-    public boolean sendMuteCommand(Command command, int zone) throws CommandTypeNotSupportedException {
-        AvrCommand commandToSend = null;
-
-        if (command == OnOffType.ON) {
-            commandToSend = RequestResponseFactory.getIpControlCommand(SimpleCommandType.MUTE_ON, zone);
-        } else if (command == OnOffType.OFF) {
-            commandToSend = RequestResponseFactory.getIpControlCommand(SimpleCommandType.MUTE_OFF, zone);
-        } else {
-            throw new CommandTypeNotSupportedException("Command type not supported.");
-        }
-
-        return sendCommand(commandToSend);
-    }
-
     /**
      * Read incoming data from the AVR and notify listeners for dataReceived and disconnection.
      *
@@ -327,22 +170,12 @@ public abstract class StreamAvrConnection implements AvrConnection {
                     }
 
                     if (receivedData != null) {
-                        logger.debug("Data received from AVR @{}: {}", getConnectionName(), receivedData);
-                        AvrStatusUpdateEvent event = new AvrStatusUpdateEvent(StreamAvrConnection.this, receivedData);
-                        synchronized (updateListeners) {
-                            for (AvrUpdateListener pioneerAvrEventListener : updateListeners) {
-                                pioneerAvrEventListener.statusUpdateReceived(event);
-                            }
-                        }
+                        notifyDataReceived(receivedData);
                     }
                 }
 
             } catch (IOException e) {
-                logger.warn("The AVR @{} is disconnected.", getConnectionName(), e);
-                AvrDisconnectionEvent event = new AvrDisconnectionEvent(StreamAvrConnection.this, e);
-                for (AvrDisconnectionListener pioneerAvrDisconnectionListener : disconnectionListeners) {
-                    pioneerAvrDisconnectionListener.onDisconnection(event);
-                }
+                notifyDisconnection(e);
             }
 
             // Notify the stopReader method caller that the reader is stopped.
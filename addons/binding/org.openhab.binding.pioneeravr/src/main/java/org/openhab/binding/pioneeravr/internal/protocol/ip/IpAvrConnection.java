@@ -9,12 +9,14 @@
 package org.openhab.binding.pioneeravr.internal.protocol.ip;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.net.InetSocketAddress;
-import java.net.Socket;
 
-import org.openhab.binding.pioneeravr.internal.protocol.StreamAvrConnection;
+import org.openhab.binding.pioneeravr.internal.protocol.AbstractAvrConnection;
+import org.openhab.binding.pioneeravr.protocol.AvrCommand;
+import org.openhab.io.transport.socket.LineFramer;
+import org.openhab.io.transport.socket.ResponseFramer;
+import org.openhab.io.transport.socket.SocketChannelSession;
+import org.openhab.io.transport.socket.SocketSessionListener;
+import org.openhab.io.transport.socket.SocketSessionMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -23,24 +25,25 @@ import org.slf4j.LoggerFactory;
  * A class that wraps the communication to a Pioneer AVR devices using an IP connection.
  *
  * @author Antoine Besnard
+ * @author agent - Moved to the socket transport
  */
-public class IpAvrConnection extends StreamAvrConnection {
+public class IpAvrConnection extends AbstractAvrConnection implements SocketSessionListener {
 
     private final Logger logger = LoggerFactory.getLogger(IpAvrConnection.class);
 
     /** default port for IP communication **/
     public static final int DEFAULT_IPCONTROL_PORT = 8102;
 
-    /** Connection timeout in milliseconds **/
-    private static final int CONNECTION_TIMEOUT = 3000;
-
-    /** Socket read timeout in milliseconds **/
-    private static final int SOCKET_READ_TIMEOUT = 1000;
+    /**
+     * The responses end with a carriage return and line feed, which is removed by {@link #responseReceived(String)}.
+     * The commands already end with a carriage return.
+     */
+    private static final ResponseFramer FRAMER = new LineFramer("\n", "");
 
     private int receiverPort;
     private String receiverHost;
 
-    private Socket ipControlSocket;
+    private final SocketChannelSession session;
 
     public IpAvrConnection(String receiverHost) {
         this(receiverHost, null);
@@ -49,41 +52,33 @@ public class IpAvrConnection extends StreamAvrConnection {
     public IpAvrConnection(String receiverHost, Integer ipControlPort) {
         this.receiverHost = receiverHost;
         this.receiverPort = ipControlPort != null && ipControlPort >= 1 ? ipControlPort : DEFAULT_IPCONTROL_PORT;
+        this.session = new SocketChannelSession(receiverHost, receiverPort, FRAMER, "pioneeravr");
+        this.session.addListener(this);
     }
 
     @Override
-    protected void openConnection() throws IOException {
-        ipControlSocket = new Socket();
-
-        // Set this timeout to unblock a blocking read when no data is received. It is useful to check if the
-        // reading thread has to be stopped (it implies a latency of SOCKET_READ_TIMEOUT at most before the
-        // thread is really stopped)
-        ipControlSocket.setSoTimeout(SOCKET_READ_TIMEOUT);
-
-        // Enable tcpKeepAlive to detect premature disconnection
-        // and prevent disconnection because of inactivity
-        ipControlSocket.setKeepAlive(true);
-
-        // Connect to the AVR with a connection timeout.
-        ipControlSocket.connect(new InetSocketAddress(receiverHost, receiverPort), CONNECTION_TIMEOUT);
-
-        logger.debug("Connected to {}:{}", receiverHost, receiverPort);
+    public synchronized boolean connect() {
+        if (!isConnected()) {
+            try {
+                session.connect();
+                logger.debug("Connected to {}:{}", receiverHost, receiverPort);
+            } catch (IOException ioException) {
+                logger.debug("Can't connect to {}. Cause: {}", getConnectionName(), ioException.getMessage());
+            }
+        }
+        return isConnected();
     }
 
     @Override
     public boolean isConnected() {
-        return ipControlSocket != null && ipControlSocket.isConnected() && !ipControlSocket.isClosed();
+        return session.isConnected();
     }
 
     @Override
-    public void close() {
-        super.close();
+    public synchronized void close() {
         try {
-            if (ipControlSocket != null) {
-                ipControlSocket.close();
-                ipControlSocket = null;
-                logger.debug("Closed socket!");
-            }
+            session.disconnect();
+            logger.debug("Closed socket!");
         } catch (IOException ioException) {
             logger.error("Closing connection throws an exception!", ioException);
         }
@@ -94,14 +89,44 @@ public class IpAvrConnection extends StreamAvrConnection {
         return receiverHost + ":" + receiverPort;
     }
 
+    /**
+     * Returns the counters of the connection to the AVR.
+     *
+     * @return the non-null metrics of the connection
+     */
+    public SocketSessionMetrics getMetrics() {
+        return session.getMetrics();
+    }
+
     @Override
-    protected InputStream getInputStream() throws IOException {
-        return ipControlSocket.getInputStream();
+    protected boolean sendCommand(AvrCommand ipControlCommand) {
+        boolean isSent = false;
+        if (connect()) {
+            String command = ipControlCommand.getCommand();
+            try {
+                session.sendCommand(command);
+                isSent = true;
+            } catch (IOException ioException) {
+                logger.error("Error occurred when sending command", ioException);
+                // If an error occurs, close the connection
+                close();
+            }
+
+            logger.debug("Command sent to AVR @{}: {}", getConnectionName(), command);
+        }
+
+        return isSent;
     }
 
     @Override
-    protected OutputStream getOutputStream() throws IOException {
-        return ipControlSocket.getOutputStream();
+    public void responseReceived(String response) {
+        notifyDataReceived(response.endsWith("\r") ? response.substring(0, response.length() - 1) : response);
     }
 
+    @Override
+    public void responseException(Exception e) {
+        // the session stays connected until closed, so the next command connects again
+        close();
+        notifyDisconnection(e);
+    }
 }
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.russound.internal.rio;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Tests the routes {@link RioResponseRouter} finds for the responses of a Russound system. The routes have to match the
+ * paths the RIO protocols register with.
+ *
+ * @author agent - Initial contribution
+ */
+public class RioResponseRouterTest {
+    private final RioResponseRouter router = new RioResponseRouter();
+
+    @Test
+    public void testZoneRoute() {
+        assertEquals("C[1].Z[2]", router.getRoute("N C[1].Z[2].volume=\"10\""));
+        assertEquals("C[6].Z[8]", router.getRoute("S C[6].Z[8].name=\"Kitchen\""));
+        assertEquals("C[1].Z[2].favorite[3]", router.getRoute("N C[1].Z[2].favorite[3].valid=\"true\""));
+        assertEquals("C[1]", router.getRoute("S C[1].ipAddress=\"192.168.1.10\""));
+    }
+
+    @Test
+    public void testSourceBankAndPresetRoute() {
+        assertEquals("S[3]", router.getRoute("N S[3].name=\"Tuner\""));
+        assertEquals("S[3].B[1]", router.getRoute("N S[3].B[1].name=\"Bank 1\""));
+        assertEquals("S[3].B[1].P[2]", router.getRoute("N S[3].B[1].P[2].valid=\"true\""));
+    }
+
+    @Test
+    public void testSystemRoute() {
+        assertEquals("System", router.getRoute("S System.status=\"ON\""));
+        assertEquals("System.favorite[4]", router.getRoute("N System.favorite[4].name=\"Jazz\""));
+    }
+
+    @Test
+    public void testValueDoesNotChangeRoute() {
+        assertEquals("C[1].Z[2]", router.getRoute("N C[1].Z[2].name=\"Mr. Smith's room\""));
+        assertEquals("S[1]", router.getRoute("N S[1].songName=\"A=B. C\""));
+    }
+
+    @Test
+    public void testLinesWithoutRoute() {
+        assertNull(router.getRoute(""));
+        assertNull(router.getRoute("S"));
+        assertNull(router.getRoute("E Invalid command"));
+        assertNull(router.getRoute("S VERSION=\"1.02.08\""));
+        assertNull(router.getRoute("N C[1].Z[2].volume"));
+        assertNull(router.getRoute("X C[1].Z[2].volume=\"10\""));
+        assertNull(router.getRoute("NC[1].Z[2].volume=\"10\""));
+        assertNull(router.getRoute("N .volume=\"10\""));
+    }
+}
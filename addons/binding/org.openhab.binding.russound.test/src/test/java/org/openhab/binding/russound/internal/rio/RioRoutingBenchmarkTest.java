@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.russound.internal.rio;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the line throughput of the notification dispatch of a system with 6 controllers of 8 zones and 8 sources.
+ * Broadcasting every line to every protocol, each trying its own regex, is compared with routing the line by
+ * {@link RioResponseRouter} to the protocol of its path. The number of lines per second is logged.
+ *
+ * @author agent - Initial contribution
+ */
+public class RioRoutingBenchmarkTest {
+    private static final int CONTROLLERS = 6;
+    private static final int ZONES = 8;
+    private static final int SOURCES = 8;
+    private static final int ROUNDS = 200;
+
+    private static final Pattern ZONE_NOTIFICATION = Pattern
+            .compile("^[SN] C\\[(\\d+)\\]\\.Z\\[(\\d+)\\]\\.(\\w+)=\"(.*)\"$");
+    private static final Pattern SOURCE_NOTIFICATION = Pattern.compile("^[SN] S\\[(\\d+)\\]\\.(\\w+)=\"(.*)\"$");
+    private static final Pattern CONTROLLER_NOTIFICATION = Pattern.compile("^[SN] C\\[(\\d+)\\]\\.(\\w+)=\"(.*)\"$");
+
+    private final Logger logger = LoggerFactory.getLogger(RioRoutingBenchmarkTest.class);
+
+    /**
+     * Stands in for a RIO protocol: matches its regex and checks the ids like the protocols do
+     */
+    private static class Protocol {
+        private final Pattern pattern;
+        private final int[] ids;
+        private int notifications;
+
+        Protocol(Pattern pattern, int... ids) {
+            this.pattern = pattern;
+            this.ids = ids;
+        }
+
+        void responseReceived(String response) {
+            final Matcher m = pattern.matcher(response);
+            if (m.matches()) {
+                for (int i = 0; i < ids.length; i++) {
+                    if (Integer.parseInt(m.group(i + 1)) != ids[i]) {
+                        return;
+                    }
+                }
+                notifications++;
+            }
+        }
+    }
+
+    private final List<Protocol> protocols = new ArrayList<>();
+    private final Map<String, Protocol> routes = new HashMap<>();
+    private final List<String> lines = new ArrayList<>();
+
+    @Test
+    public void benchmarkLineThroughput() {
+        for (int c = 1; c <= CONTROLLERS; c++) {
+            add("C[" + c + "]", new Protocol(CONTROLLER_NOTIFICATION, c));
+            for (int z = 1; z <= ZONES; z++) {
+                add("C[" + c + "].Z[" + z + "]", new Protocol(ZONE_NOTIFICATION, c, z));
+                lines.add("N C[" + c + "].Z[" + z + "].volume=\"" + (c * z % 50) + "\"");
+                lines.add("N C[" + c + "].Z[" + z + "].currentSource=\"" + (z % SOURCES + 1) + "\"");
+            }
+        }
+        for (int s = 1; s <= SOURCES; s++) {
+            add("S[" + s + "]", new Protocol(SOURCE_NOTIFICATION, s));
+            lines.add("N S[" + s + "].songName=\"Song " + s + "\"");
+        }
+
+        broadcast();
+        long start = System.nanoTime();
+        broadcast();
+        long broadcastNanos = System.nanoTime() - start;
+        final int broadcasted = clearNotifications();
+
+        final RioResponseRouter router = new RioResponseRouter();
+        route(router);
+        start = System.nanoTime();
+        route(router);
+        long routedNanos = System.nanoTime() - start;
+        final int routed = clearNotifications();
+
+        // both deliver every line to exactly one protocol, for the warm up and the measured run
+        assertEquals(2 * ROUNDS * lines.size(), broadcasted);
+        assertEquals(broadcasted, routed);
+
+        final int count = ROUNDS * lines.size();
+        logger.info("Broadcast {} lines to {} protocols in {} ms, {} lines/s", count, protocols.size(),
+                broadcastNanos / 1000000, perSecond(count, broadcastNanos));
+        logger.info("Routed {} lines to {} protocols in {} ms, {} lines/s", count, protocols.size(),
+                routedNanos / 1000000, perSecond(count, routedNanos));
+    }
+
+    private void add(String route, Protocol protocol) {
+        protocols.add(protocol);
+        routes.put(route, protocol);
+    }
+
+    private void broadcast() {
+        for (int round = 0; round < ROUNDS; round++) {
+            for (String line : lines) {
+                for (Protocol protocol : protocols) {
+                    protocol.responseReceived(line);
+                }
+            }
+        }
+    }
+
+    private void route(RioResponseRouter router) {
+        for (int round = 0; round < ROUNDS; round++) {
+            for (String line : lines) {
+                routes.get(router.getRoute(line)).responseReceived(line);
+            }
+        }
+    }
+
+    private int clearNotifications() {
+        int notifications = 0;
+        for (Protocol protocol : protocols) {
+            notifications += protocol.notifications;
+            protocol.notifications = 0;
+        }
+        return notifications;
+    }
+
+    private static long perSecond(int lines, long nanos) {
+        return nanos > 0 ? lines * 1000000000L / nanos : lines;
+    }
+}
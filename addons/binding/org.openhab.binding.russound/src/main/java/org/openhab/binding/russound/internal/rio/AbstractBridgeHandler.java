@@ -12,8 +12,8 @@ import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusInfo;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
-import org.openhab.binding.russound.internal.net.SocketSession;
-import org.openhab.binding.russound.internal.net.SocketSessionListener;
+import org.openhab.io.transport.socket.SocketSession;
+import org.openhab.io.transport.socket.SocketSessionListener;
 
 /**
  * Represents the abstract base to a {@link BaseBridgeHandler} for common functionality to all Bridges. This abstract
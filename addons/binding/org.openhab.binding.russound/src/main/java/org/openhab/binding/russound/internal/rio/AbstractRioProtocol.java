@@ -13,9 +13,9 @@ import java.io.IOException;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.types.State;
-import org.openhab.binding.russound.internal.net.SocketSession;
-import org.openhab.binding.russound.internal.net.SocketSessionListener;
 import org.openhab.binding.russound.internal.rio.system.RioSystemHandler;
+import org.openhab.io.transport.socket.SocketSession;
+import org.openhab.io.transport.socket.SocketSessionListener;
 
 /**
  * Defines the abstract base for a protocol handler. This base provides managment of the {@link SocketSession} and
@@ -44,6 +44,20 @@ public abstract class AbstractRioProtocol implements SocketSessionListener {
      * @param callback a non-null {@link RioHandlerCallback} to update state and status
      */
     protected AbstractRioProtocol(SocketSession session, RioHandlerCallback callback) {
+        this(session, callback, null);
+    }
+
+    /**
+     * Constructs the protocol handler from given parameters and will add this handler as a
+     * {@link SocketSessionListener} for the notifications of the given path to the specified {@link SocketSession} via
+     * {@link SocketSession#addListener(SocketSessionListener, String)}
+     *
+     * @param session a non-null {@link SocketSession} (may be connected or disconnected)
+     * @param callback a non-null {@link RioHandlerCallback} to update state and status
+     * @param path a possibly null path of the notifications handled by this protocol (like "C[1].Z[2]"), null to
+     *            receive all responses
+     */
+    protected AbstractRioProtocol(SocketSession session, RioHandlerCallback callback, String path) {
 
         if (session == null) {
             throw new IllegalArgumentException("session cannot be null");
@@ -54,7 +68,7 @@ public abstract class AbstractRioProtocol implements SocketSessionListener {
         }
 
         _session = session;
-        _session.addListener(this);
+        _session.addListener(this, path);
         _callback = callback;
     }
 
@@ -13,8 +13,8 @@ import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusInfo;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandler;
-import org.openhab.binding.russound.internal.net.SocketSession;
-import org.openhab.binding.russound.internal.net.SocketSessionListener;
+import org.openhab.io.transport.socket.SocketSession;
+import org.openhab.io.transport.socket.SocketSessionListener;
 
 /**
  * Represents the abstract base to a {@link BaseThingHandler} for common functionality to all Things. This abstract
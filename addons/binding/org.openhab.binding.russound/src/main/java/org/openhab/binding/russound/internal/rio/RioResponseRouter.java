@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.russound.internal.rio;
+
+import org.openhab.io.transport.socket.ResponseRouter;
+
+/**
+ * Routes the responses of a Russound system by their path. A notification like 'N C[1].Z[2].volume="10"' goes to the
+ * listeners of its path ("C[1].Z[2]"), see {@link AbstractRioProtocol}. Responses without a path (like errors) go to
+ * all listeners.
+ *
+ * @author agent - Initial contribution
+ */
+public class RioResponseRouter implements ResponseRouter {
+    @Override
+    public String getRoute(String response) {
+        if (response.length() < 3 || (response.charAt(0) != 'S' && response.charAt(0) != 'N')
+                || response.charAt(1) != ' ') {
+            return null;
+        }
+
+        final int equals = response.indexOf('=', 2);
+        if (equals < 0) {
+            return null;
+        }
+
+        final int dot = response.lastIndexOf('.', equals);
+        if (dot <= 2) {
+            return null;
+        }
+
+        return response.substring(2, dot);
+    }
+}
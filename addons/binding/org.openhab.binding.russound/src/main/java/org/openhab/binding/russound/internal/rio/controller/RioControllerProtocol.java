@@ -11,11 +11,11 @@ package org.openhab.binding.russound.internal.rio.controller;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.openhab.binding.russound.internal.net.SocketSession;
-import org.openhab.binding.russound.internal.net.SocketSessionListener;
 import org.openhab.binding.russound.internal.rio.AbstractRioProtocol;
 import org.openhab.binding.russound.internal.rio.RioConstants;
 import org.openhab.binding.russound.internal.rio.RioHandlerCallback;
+import org.openhab.io.transport.socket.SocketSession;
+import org.openhab.io.transport.socket.SocketSessionListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,7 +51,7 @@ class RioControllerProtocol extends AbstractRioProtocol {
      * @param callback a non-null {@link RioHandlerCallback} to callback
      */
     RioControllerProtocol(int controller, SocketSession session, RioHandlerCallback callback) {
-        super(session, callback);
+        super(session, callback, "C[" + controller + "]");
         _controller = controller;
     }
 
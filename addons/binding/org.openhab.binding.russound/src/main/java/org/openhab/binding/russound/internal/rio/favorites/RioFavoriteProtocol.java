@@ -13,11 +13,11 @@ import java.util.regex.Pattern;
 
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.library.types.StringType;
-import org.openhab.binding.russound.internal.net.SocketSession;
-import org.openhab.binding.russound.internal.net.SocketSessionListener;
 import org.openhab.binding.russound.internal.rio.AbstractRioProtocol;
 import org.openhab.binding.russound.internal.rio.RioConstants;
 import org.openhab.binding.russound.internal.rio.RioHandlerCallback;
+import org.openhab.io.transport.socket.SocketSession;
+import org.openhab.io.transport.socket.SocketSessionListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -72,7 +72,8 @@ class RioFavoriteProtocol extends AbstractRioProtocol {
      * @param callback a non-null {@link RioHandlerCallback} to callback
      */
     RioFavoriteProtocol(int favorite, int zone, int controller, SocketSession session, RioHandlerCallback callback) {
-        super(session, callback);
+        super(session, callback, controller <= 0 ? "System.favorite[" + favorite + "]"
+                : "C[" + controller + "].Z[" + zone + "].favorite[" + favorite + "]");
         _favorite = favorite;
         _zone = zone;
         _controller = controller;
@@ -13,11 +13,11 @@ import java.util.regex.Pattern;
 
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.library.types.StringType;
-import org.openhab.binding.russound.internal.net.SocketSession;
-import org.openhab.binding.russound.internal.net.SocketSessionListener;
 import org.openhab.binding.russound.internal.rio.AbstractRioProtocol;
 import org.openhab.binding.russound.internal.rio.RioConstants;
 import org.openhab.binding.russound.internal.rio.RioHandlerCallback;
+import org.openhab.io.transport.socket.SocketSession;
+import org.openhab.io.transport.socket.SocketSessionListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -83,7 +83,7 @@ class RioPresetProtocol extends AbstractRioProtocol {
      */
     RioPresetProtocol(int preset, int bank, int source, int zone, int controller, SocketSession session,
             RioHandlerCallback callback) {
-        super(session, callback);
+        super(session, callback, "S[" + source + "].B[" + bank + "].P[" + preset + "]");
         _preset = preset;
         _bank = bank;
         _source = source;
@@ -19,11 +19,11 @@ import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.smarthome.core.library.types.RawType;
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.types.UnDefType;
-import org.openhab.binding.russound.internal.net.SocketSession;
-import org.openhab.binding.russound.internal.net.SocketSessionListener;
 import org.openhab.binding.russound.internal.rio.AbstractRioProtocol;
 import org.openhab.binding.russound.internal.rio.RioConstants;
 import org.openhab.binding.russound.internal.rio.RioHandlerCallback;
+import org.openhab.io.transport.socket.SocketSession;
+import org.openhab.io.transport.socket.SocketSessionListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -88,7 +88,7 @@ class RioSourceProtocol extends AbstractRioProtocol {
      * @throws Exception exception when starting the {@link HttpClient}
      */
     RioSourceProtocol(int source, SocketSession session, RioHandlerCallback callback) throws Exception {
-        super(session, callback);
+        super(session, callback, "S[" + source + "]");
         if (source < 1 || source > 12) {
             throw new IllegalArgumentException("Source must be between 1-12: " + source);
         }
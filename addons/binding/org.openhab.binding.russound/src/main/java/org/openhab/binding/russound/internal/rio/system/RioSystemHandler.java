@@ -9,6 +9,7 @@
 package org.openhab.binding.russound.internal.rio.system;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -22,12 +23,16 @@ import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
-import org.openhab.binding.russound.internal.net.SocketChannelSession;
-import org.openhab.binding.russound.internal.net.SocketSession;
 import org.openhab.binding.russound.internal.rio.AbstractBridgeHandler;
 import org.openhab.binding.russound.internal.rio.RioConstants;
 import org.openhab.binding.russound.internal.rio.RioHandlerCallback;
+import org.openhab.binding.russound.internal.rio.RioResponseRouter;
 import org.openhab.binding.russound.internal.rio.StatefulHandlerCallback;
+import org.openhab.io.transport.socket.LineFramer;
+import org.openhab.io.transport.socket.ReconnectBackoff;
+import org.openhab.io.transport.socket.ResponseFramer;
+import org.openhab.io.transport.socket.SocketChannelSession;
+import org.openhab.io.transport.socket.SocketSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +46,17 @@ public class RioSystemHandler extends AbstractBridgeHandler<RioSystemProtocol> {
     // Logger
     private Logger logger = LoggerFactory.getLogger(RioSystemHandler.class);
 
+    /**
+     * The framer of the responses - lines ending with a carriage-return/newline combo and the login prompts
+     */
+    private static final ResponseFramer FRAMER = new LineFramer(LineFramer.CRLF, LineFramer.CRLF, "Login: ",
+            "Password: ");
+
+    /**
+     * The maximum delay (in seconds) between connection attempts
+     */
+    private static final int MAX_RETRY_POLLING = 300;
+
     /**
      * The configuration for the system - will be recreated when the configuration changes and will be null when not
      * online
@@ -57,6 +73,12 @@ public class RioSystemHandler extends AbstractBridgeHandler<RioSystemProtocol> {
      */
     private ScheduledFuture<?> _retryConnection;
 
+    /**
+     * The delays between the connection attempts - starts at {@link RioSystemConfig#getRetryPolling()} and doubles with
+     * every failed attempt
+     */
+    private ReconnectBackoff _backoff;
+
     /**
      * The ping event - will be non-null when online (null otherwise)
      */
@@ -171,7 +193,11 @@ public class RioSystemHandler extends AbstractBridgeHandler<RioSystemProtocol> {
             return;
         }
 
-        _session = new SocketChannelSession(config.getIpAddress(), 9621);
+        final SocketChannelSession session = new SocketChannelSession(config.getIpAddress(), 9621, FRAMER, "russound");
+        session.setResponseRouter(new RioResponseRouter());
+        _session = session;
+        _backoff = new ReconnectBackoff(Math.max(1, config.getRetryPolling()),
+                Math.max(config.getRetryPolling(), MAX_RETRY_POLLING));
 
         // Try initial connection in a scheduled task
         this.scheduler.schedule(new Runnable() {
@@ -230,6 +256,7 @@ public class RioSystemHandler extends AbstractBridgeHandler<RioSystemProtocol> {
                                         getProtocolHandler().ping();
                                     }
                                 }
+                                updateSessionProperties();
                             } catch (Exception e) {
                                 logger.error("Exception while pinging: {}", e.getMessage(), e);
                             }
@@ -237,6 +264,7 @@ public class RioSystemHandler extends AbstractBridgeHandler<RioSystemProtocol> {
                     }, config.getPing(), config.getPing(), TimeUnit.SECONDS);
 
                     logger.info("Going online");
+                    _backoff.reset();
                     updateStatus(ThingStatus.ONLINE);
                     return;
                 } else {
@@ -256,8 +284,9 @@ public class RioSystemHandler extends AbstractBridgeHandler<RioSystemProtocol> {
     }
 
     /**
-     * Retries the connection attempt - schedules a job in {@link RioSystemConfig#getRetryPolling()} seconds to
-     * call the {@link #connect()} method. If a retry attempt is pending, the request is ignored.
+     * Retries the connection attempt - schedules a job to call the {@link #connect()} method. The first attempt is made
+     * in {@link RioSystemConfig#getRetryPolling()} seconds, the delay doubles with every failed attempt up to
+     * {@link #MAX_RETRY_POLLING} seconds. If a retry attempt is pending, the request is ignored.
      */
     @Override
     protected void reconnect() {
@@ -265,7 +294,8 @@ public class RioSystemHandler extends AbstractBridgeHandler<RioSystemProtocol> {
             final RioSystemConfig config = getRioConfig();
             if (config != null) {
 
-                logger.info("Will try to reconnect in {} seconds", config.getRetryPolling());
+                final long delay = _backoff.nextDelay();
+                logger.info("Will try to reconnect in {} seconds", delay);
                 _retryConnection = this.scheduler.schedule(new Runnable() {
                     @Override
                     public void run() {
@@ -279,7 +309,7 @@ public class RioSystemHandler extends AbstractBridgeHandler<RioSystemProtocol> {
                         }
                     }
 
-                }, config.getRetryPolling(), TimeUnit.SECONDS);
+                }, delay, TimeUnit.SECONDS);
             }
         } else {
             logger.debug("RetryConnection called when a retry connection is pending - ignoring request");
@@ -310,6 +340,17 @@ public class RioSystemHandler extends AbstractBridgeHandler<RioSystemProtocol> {
         } catch (IOException e) {
             // ignore - we don't care
         }
+        updateSessionProperties();
+    }
+
+    /**
+     * Copies the counters of the {@link #_session} to the properties of the thing. Called by the {@link #_ping} job
+     * and on disconnect, so the properties don't change with every response.
+     */
+    private void updateSessionProperties() {
+        final Map<String, String> properties = editProperties();
+        properties.putAll(_session.getMetrics().toProperties());
+        updateProperties(properties);
     }
 
     /**
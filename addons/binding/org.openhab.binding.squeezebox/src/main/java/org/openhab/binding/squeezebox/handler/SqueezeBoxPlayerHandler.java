@@ -130,6 +130,7 @@ public class SqueezeBoxPlayerHandler extends BaseThingHandler implements Squeeze
         if (bridgeStatus == ThingStatus.ONLINE && getThing().getStatus() != ThingStatus.ONLINE) {
             updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE);
             squeezeBoxServerHandler = (SqueezeBoxServerHandler) getBridge().getHandler();
+            squeezeBoxServerHandler.registerPlayerHandler(mac, this);
         } else if (bridgeStatus == ThingStatus.OFFLINE) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.BRIDGE_OFFLINE);
         }
@@ -144,6 +145,7 @@ public class SqueezeBoxPlayerHandler extends BaseThingHandler implements Squeeze
         }
 
         if (squeezeBoxServerHandler != null) {
+            squeezeBoxServerHandler.unregisterPlayerHandler(mac, this);
             squeezeBoxServerHandler.removePlayerCache(mac);
         }
         logger.debug("player thing {} disposed.", getThing().getUID());
@@ -696,7 +698,7 @@ public class SqueezeBoxPlayerHandler extends BaseThingHandler implements Squeeze
         final int TIMEOUT_COUNT = 50;
 
         SqueezeBoxNotificationListener listener = new SqueezeBoxNotificationListener(mac);
-        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(listener);
+        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(mac, listener);
 
         logger.trace("Waiting up to {} ms for playlist to be updated...", TIMEOUT_COUNT * 100);
         listener.resetPlaylistUpdated();
@@ -709,7 +711,7 @@ public class SqueezeBoxPlayerHandler extends BaseThingHandler implements Squeeze
             }
             timeoutCount++;
         }
-        squeezeBoxServerHandler.unregisterSqueezeBoxPlayerListener(listener);
+        squeezeBoxServerHandler.unregisterSqueezeBoxPlayerListener(mac, listener);
         listener = null;
         return checkForTimeout(timeoutCount, TIMEOUT_COUNT, "playlist to update");
     }
@@ -721,7 +723,7 @@ public class SqueezeBoxPlayerHandler extends BaseThingHandler implements Squeeze
         final int TIMEOUT_COUNT = 300;
 
         SqueezeBoxNotificationListener listener = new SqueezeBoxNotificationListener(mac);
-        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(listener);
+        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(mac, listener);
 
         logger.trace("Waiting up to {} ms for stop...", TIMEOUT_COUNT * 100);
         listener.resetStopped();
@@ -734,7 +736,7 @@ public class SqueezeBoxPlayerHandler extends BaseThingHandler implements Squeeze
             }
             timeoutCount++;
         }
-        squeezeBoxServerHandler.unregisterSqueezeBoxPlayerListener(listener);
+        squeezeBoxServerHandler.unregisterSqueezeBoxPlayerListener(mac, listener);
         listener = null;
         return checkForTimeout(timeoutCount, TIMEOUT_COUNT, "stop");
     }
@@ -746,7 +748,7 @@ public class SqueezeBoxPlayerHandler extends BaseThingHandler implements Squeeze
         final int TIMEOUT_COUNT = 40;
 
         SqueezeBoxNotificationListener listener = new SqueezeBoxNotificationListener(mac);
-        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(listener);
+        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(mac, listener);
 
         logger.trace("Waiting up to {} ms for volume to update...", TIMEOUT_COUNT * 100);
         listener.resetVolumeUpdated();
@@ -759,7 +761,7 @@ public class SqueezeBoxPlayerHandler extends BaseThingHandler implements Squeeze
             }
             timeoutCount++;
         }
-        squeezeBoxServerHandler.unregisterSqueezeBoxPlayerListener(listener);
+        squeezeBoxServerHandler.unregisterSqueezeBoxPlayerListener(mac, listener);
         listener = null;
         return checkForTimeout(timeoutCount, TIMEOUT_COUNT, "volume to update");
     }
@@ -771,7 +773,7 @@ public class SqueezeBoxPlayerHandler extends BaseThingHandler implements Squeeze
         final int TIMEOUT_COUNT = 25;
 
         SqueezeBoxNotificationListener listener = new SqueezeBoxNotificationListener(mac);
-        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(listener);
+        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(mac, listener);
 
         logger.trace("Waiting up to {} ms for player to pause...", TIMEOUT_COUNT * 100);
         listener.resetPaused();
@@ -784,7 +786,7 @@ public class SqueezeBoxPlayerHandler extends BaseThingHandler implements Squeeze
             }
             timeoutCount++;
         }
-        squeezeBoxServerHandler.unregisterSqueezeBoxPlayerListener(listener);
+        squeezeBoxServerHandler.unregisterSqueezeBoxPlayerListener(mac, listener);
         listener = null;
         return checkForTimeout(timeoutCount, TIMEOUT_COUNT, "player to pause");
     }
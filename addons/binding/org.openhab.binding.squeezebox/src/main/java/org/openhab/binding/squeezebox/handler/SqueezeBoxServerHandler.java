@@ -10,21 +10,18 @@ package org.openhab.binding.squeezebox.handler;
 
 import static org.openhab.binding.squeezebox.SqueezeBoxBindingConstants.SQUEEZEBOXSERVER_THING_TYPE;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.io.UnsupportedEncodingException;
-import java.net.Socket;
-import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -38,7 +35,13 @@ import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
+import org.openhab.binding.squeezebox.config.SqueezeBoxPlayerConfig;
 import org.openhab.binding.squeezebox.config.SqueezeBoxServerConfig;
+import org.openhab.binding.squeezebox.internal.utils.CliMessage;
+import org.openhab.io.transport.socket.LineFramer;
+import org.openhab.io.transport.socket.ResponseFramer;
+import org.openhab.io.transport.socket.SocketChannelSession;
+import org.openhab.io.transport.socket.SocketSessionListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,6 +55,8 @@ import org.slf4j.LoggerFactory;
  * @author Mark Hilbush - Improve reconnect logic. Improve player status updates.
  * @author Mark Hilbush - Implement AudioSink and notifications
  * @author Mark Hilbush - Added duration channel
+ * @author agent - Dispatch status updates by player and only when changed
+ * @author agent - Moved to the socket transport
  */
 public class SqueezeBoxServerHandler extends BaseBridgeHandler {
     private Logger logger = LoggerFactory.getLogger(SqueezeBoxServerHandler.class);
@@ -62,19 +67,38 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
     // time in seconds to try to reconnect
     private int RECONNECT_TIME = 60;
 
+    // time in seconds between the updates of the connection properties
+    private static final int PROPERTIES_UPDATE_TIME = 60;
+
     // the value by which the volume is changed by each INCREASE or
     // DECREASE-Event
     private static final int VOLUME_CHANGE_SIZE = 5;
-    private static final String NEW_LINE = System.getProperty("line.separator");
 
+    // the CLI ends messages with a newline, a carriage return in front of it is removed by the listener
+    private static final ResponseFramer FRAMER = new LineFramer("\n", "\n");
+
+    // the fields of the status messages dispatched to the listeners, as URL encoded names
+    private static final Set<String> STATUS_FIELDS = Collections.unmodifiableSet(new HashSet<String>(
+            Arrays.asList("power", "mixer%20volume", "mode", "time", "duration", "playlist_cur_index",
+                    "playlist_tracks", "playlist%20repeat", "playlist%20shuffle", "title", "remote_title", "artist",
+                    "album", "genre", "year", "artwork_track_id")));
+
+    // listeners of the events of all players
     private List<SqueezeBoxPlayerEventListener> squeezeBoxPlayerListeners = Collections
             .synchronizedList(new ArrayList<SqueezeBoxPlayerEventListener>());
+    // listeners of the events of a single player, by MAC address
+    private Map<String, List<SqueezeBoxPlayerEventListener>> playerListeners = new ConcurrentHashMap<>();
+    // the player thing handlers, by MAC address
+    private Map<String, SqueezeBoxPlayerEventListener> playerHandlers = new ConcurrentHashMap<>();
+    // the last received (URL encoded) status field values, by MAC address and field name
+    private Map<String, Map<String, String>> playerStatusFields = new ConcurrentHashMap<>();
     private Map<String, SqueezeBoxPlayer> players = Collections
             .synchronizedMap(new HashMap<String, SqueezeBoxPlayer>());
-    // client socket and listener thread
-    private Socket clientSocket;
+    // client session and its listener
+    private SocketChannelSession session;
     private SqueezeServerListener listener;
     private ScheduledFuture<?> reconnectFuture;
+    private ScheduledFuture<?> propertiesFuture;
 
     private String host;
 
@@ -116,14 +140,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
      * @return
      */
     public synchronized boolean isConnected() {
-        if (clientSocket == null) {
-            return false;
-        }
-
-        // NOTE: isConnected() returns true once a connection is made and will
-        // always return true even after the socket is closed
-        // http://stackoverflow.com/questions/10163358/
-        return clientSocket.isConnected() && !clientSocket.isClosed();
+        return session != null && session.isConnected();
     }
 
     public void mute(String mac) {
@@ -280,9 +297,8 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
 
         logger.debug("Sending command: {}", command);
         try {
-            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(clientSocket.getOutputStream()));
-            writer.write(command + NEW_LINE);
-            writer.flush();
+            // the framer sends the characters as bytes, so send the bytes of the UTF-8 encoded command
+            session.sendCommand(new String(command.getBytes(StandardCharsets.UTF_8), StandardCharsets.ISO_8859_1));
         } catch (IOException e) {
             logger.error("Error while sending command to Squeeze Server ({}) ", command, e);
         }
@@ -303,8 +319,11 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.CONFIGURATION_ERROR, "host is not set");
             return;
         }
+        SocketChannelSession newSession = new SocketChannelSession(host, cliport, FRAMER, "squeezebox");
+        SqueezeServerListener newListener = new SqueezeServerListener();
+        newSession.addListener(newListener);
         try {
-            clientSocket = new Socket(host, cliport);
+            newSession.connect();
         } catch (IOException e) {
             logger.debug("unable to open socket to server: {}", e.getMessage());
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.COMMUNICATION_ERROR, e.getMessage());
@@ -312,47 +331,69 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             return;
         }
 
-        try {
-            listener = new SqueezeServerListener();
-            listener.start();
-            logger.debug("listener connection started to server {}:{}", host, cliport);
-        } catch (IllegalThreadStateException e) {
-            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
+        synchronized (this) {
+            session = newSession;
+            listener = newListener;
         }
+        logger.debug("listener connection started to server {}:{}", host, cliport);
 
         // Mark the server ONLINE. bridgeStatusChanged will cause the players to come ONLINE
         updateStatus(ThingStatus.ONLINE);
+        requestPlayers();
+        sendCommand("listen 1");
+
+        synchronized (this) {
+            propertiesFuture = scheduler.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    updateConnectionProperties();
+                }
+            }, PROPERTIES_UPDATE_TIME, PROPERTIES_UPDATE_TIME, TimeUnit.SECONDS);
+        }
+    }
 
+    /**
+     * Copies the counters of the current connection to the properties of the thing
+     */
+    private synchronized void updateConnectionProperties() {
+        if (session != null) {
+            Map<String, String> properties = editProperties();
+            properties.putAll(session.getMetrics().toProperties());
+            updateProperties(properties);
+        }
     }
 
     /**
      * Disconnects from a SqueezeBox Server
      */
-    private void disconnect() {
+    private synchronized void disconnect() {
+        if (propertiesFuture != null) {
+            propertiesFuture.cancel(false);
+            propertiesFuture = null;
+        }
         try {
             if (listener != null) {
                 listener.terminate();
             }
-            if (clientSocket != null) {
-                clientSocket.close();
+            if (session != null) {
+                session.clearListeners();
+                session.disconnect();
+                updateConnectionProperties();
             }
         } catch (Exception e) {
             logger.trace("Error attempting to disconnect from Squeeze Server", e);
             return;
         } finally {
-            clientSocket = null;
+            session = null;
             listener = null;
         }
         players.clear();
+        playerStatusFields.clear();
         logger.trace("Squeeze Server connection stopped.");
     }
 
-    private class SqueezeServerListener extends Thread {
-        private boolean terminate = false;
-
-        public SqueezeServerListener() {
-            super("Squeeze Server Listener");
-        }
+    private class SqueezeServerListener implements SocketSessionListener {
+        private volatile boolean terminate = false;
 
         public void terminate() {
             logger.debug("setting squeeze server listener terminate flag");
@@ -360,71 +401,44 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         }
 
         @Override
-        public void run() {
-            BufferedReader reader = null;
-            boolean endOfStream = false;
-
-            try {
-                reader = new BufferedReader(new InputStreamReader(clientSocket.getInputStream()));
-                updateStatus(ThingStatus.ONLINE);
-                requestPlayers();
-                sendCommand("listen 1");
-
-                String message = null;
-                while (!terminate && (message = reader.readLine()) != null) {
-                    // Message is very long and frequent; only show when running at trace level logging
-                    logger.trace("Message received: {}", message);
-
-                    if (message.startsWith("listen 1")) {
-                        continue;
-                    }
+        public void responseReceived(String response) {
+            if (terminate) {
+                return;
+            }
 
-                    if (message.startsWith("players 0")) {
-                        handlePlayersList(message);
-                    } else {
-                        handlePlayerUpdate(message);
-                    }
-                }
-                if (message == null) {
-                    endOfStream = true;
-                }
-            } catch (IOException e) {
-                if (!terminate) {
-                    logger.warn("failed to read line from squeeze server socket: {}", e.getMessage());
-                    updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
-                    scheduleReconnect();
-                }
-            } finally {
-                if (reader != null) {
-                    try {
-                        reader.close();
-                    } catch (IOException e) {
-                        // ignore
-                    }
-                    reader = null;
-                }
+            // the framer returns the bytes as characters, the messages are UTF-8 encoded
+            String message = new String(response.getBytes(StandardCharsets.ISO_8859_1), StandardCharsets.UTF_8);
+            if (message.endsWith("\r")) {
+                message = message.substring(0, message.length() - 1);
             }
 
-            // check for end of stream from readLine
-            if (endOfStream == true && !terminate) {
-                logger.info("end of stream received from socket during readLine");
-                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
-                        "end of stream on socket read");
-                scheduleReconnect();
+            // Message is very long and frequent; only show when running at trace level logging
+            logger.trace("Message received: {}", message);
+
+            if (message.startsWith("listen 1")) {
+                return;
             }
 
-            logger.debug("Squeeze Server listener exiting.");
+            if (message.startsWith("players 0")) {
+                handlePlayersList(message);
+            } else {
+                handlePlayerUpdate(new CliMessage(message));
+            }
         }
 
-        private String decode(String raw) {
-            try {
-                return URLDecoder.decode(raw, "UTF-8");
-            } catch (UnsupportedEncodingException e) {
-                logger.debug("Failed to decode '{}' ", raw, e);
-                return null;
+        @Override
+        public void responseException(Exception e) {
+            if (!terminate) {
+                logger.warn("failed to read line from squeeze server socket: {}", e.getMessage());
+                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
+                scheduleReconnect();
             }
         }
 
+        private String decode(String raw) {
+            return CliMessage.decode(raw);
+        }
+
         private void handlePlayersList(String message) {
             // Split out players
             String[] playersList = message.split("playerindex\\S*\\s");
@@ -469,7 +483,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                 if (!players.containsKey(macAddress)) {
                     players.put(macAddress, player);
 
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(macAddress, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.playerAdded(player);
@@ -482,27 +496,26 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             }
         }
 
-        private void handlePlayerUpdate(String message) {
-            String[] messageParts = message.split("\\s");
-            if (messageParts.length < 2) {
+        private void handlePlayerUpdate(CliMessage message) {
+            if (message.size() < 2) {
                 logger.warn("Invalid message - expecting at least 2 parts. Ignoring.");
                 return;
             }
 
-            final String mac = decode(messageParts[0]);
+            final String mac = message.get(0);
 
             // get the message type
-            String messageType = messageParts[1];
+            String messageType = message.getRaw(1);
 
             if (messageType.equals("status")) {
-                handleStatusMessage(mac, messageParts);
+                handleStatusMessage(mac, message);
             } else if (messageType.equals("playlist")) {
-                handlePlaylistMessage(mac, messageParts);
+                handlePlaylistMessage(mac, message);
             } else if (messageType.equals("prefset")) {
-                handlePrefsetMessage(mac, messageParts);
+                handlePrefsetMessage(mac, message);
             } else if (messageType.equals("ir")) {
-                final String ircode = messageParts[2];
-                updatePlayer(new PlayerUpdateEvent() {
+                final String ircode = message.getRaw(2);
+                updatePlayer(mac, new PlayerUpdateEvent() {
                     @Override
                     public void updateListener(SqueezeBoxPlayerEventListener listener) {
                         listener.irCodeChangeEvent(mac, ircode);
@@ -522,214 +535,228 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             }
         }
 
-        private void handleStatusMessage(final String mac, String[] messageParts) {
-            for (String messagePart : messageParts) {
+        /**
+         * Dispatches the fields of a status message which changed since the last status message of the player. The
+         * values are compared as received, so unchanged values are neither decoded nor dispatched.
+         */
+        private void handleStatusMessage(final String mac, CliMessage message) {
+            for (int i = 0; i < message.size(); i++) {
+                String messagePart = message.getRaw(i);
+                int separator = messagePart.indexOf(CliMessage.NAME_SEPARATOR);
+                String name = separator < 0 ? messagePart : messagePart.substring(0, separator);
+
+                if (separator < 0 || !STATUS_FIELDS.contains(name)) {
+                    // Added to be able to see additional status message types
+                    logger.trace("Unhandled status message type '{}'", messagePart);
+                    continue;
+                }
+
+                String value = messagePart.substring(separator + CliMessage.NAME_SEPARATOR.length());
+                if (isStatusFieldChanged(mac, name, value)) {
+                    updatePlayer(mac, createStatusEvent(mac, name, value));
+                }
+            }
+        }
+
+        private PlayerUpdateEvent createStatusEvent(final String mac, String name, String value) {
+            switch (name) {
                 // Parameter Power
-                if (messagePart.startsWith("power%3A")) {
-                    String value = messagePart.substring("power%3A".length());
+                case "power": {
                     final boolean power = value.matches("1");
-                    updatePlayer(new PlayerUpdateEvent() {
+                    return new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.powerChangeEvent(mac, power);
                         }
-                    });
+                    };
                 }
                 // Parameter Volume
-                else if (messagePart.startsWith("mixer%20volume%3A")) {
-                    String value = messagePart.substring("mixer%20volume%3A".length());
+                case "mixer%20volume": {
                     final int volume = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    return new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.volumeChangeEvent(mac, volume);
                         }
-                    });
+                    };
                 }
                 // Parameter Mode
-                else if (messagePart.startsWith("mode%3A")) {
-                    final String mode = messagePart.substring("mode%3A".length());
-                    updatePlayer(new PlayerUpdateEvent() {
+                case "mode": {
+                    final String mode = value;
+                    return new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.modeChangeEvent(mac, mode);
                         }
-                    });
+                    };
                 }
                 // Parameter Playing Time
-                else if (messagePart.startsWith("time%3A")) {
-                    String value = messagePart.substring("time%3A".length());
+                case "time": {
                     final int time = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    return new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.currentPlayingTimeEvent(mac, time);
                         }
-                    });
+                    };
                 }
                 // Parameter duration
-                else if (messagePart.startsWith("duration%3A")) {
-                    String value = messagePart.substring("duration%3A".length());
+                case "duration": {
                     final int duration = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    return new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.durationEvent(mac, duration);
                         }
-                    });
+                    };
                 }
                 // Parameter Playing Playlist Index
-                else if (messagePart.startsWith("playlist_cur_index%3A")) {
-                    String value = messagePart.substring("playlist_cur_index%3A".length());
-                    // player.setCurrentPlaylistIndex((int)
-                    // Integer.parseInt(value));
+                case "playlist_cur_index": {
                     final int index = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    return new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.currentPlaylistIndexEvent(mac, index);
                         }
-                    });
+                    };
                 }
                 // Parameter Playlist Number Tracks
-                else if (messagePart.startsWith("playlist_tracks%3A")) {
-                    String value = messagePart.substring("playlist_tracks%3A".length());
+                case "playlist_tracks": {
                     final int track = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    return new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.numberPlaylistTracksEvent(mac, track);
                         }
-                    });
+                    };
                 }
                 // Parameter Playlist Repeat Mode
-                else if (messagePart.startsWith("playlist%20repeat%3A")) {
-                    String value = messagePart.substring("playlist%20repeat%3A".length());
+                case "playlist%20repeat": {
                     final int repeat = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    return new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.currentPlaylistRepeatEvent(mac, repeat);
                         }
-                    });
+                    };
                 }
                 // Parameter Playlist Shuffle Mode
-                else if (messagePart.startsWith("playlist%20shuffle%3A")) {
-                    String value = messagePart.substring("playlist%20shuffle%3A".length());
+                case "playlist%20shuffle": {
                     final int shuffle = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    return new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.currentPlaylistShuffleEvent(mac, shuffle);
                         }
-                    });
+                    };
                 }
                 // Parameter Title
-                else if (messagePart.startsWith("title%3A")) {
-                    final String value = messagePart.substring("title%3A".length());
-                    updatePlayer(new PlayerUpdateEvent() {
+                case "title": {
+                    final String title = decode(value);
+                    return new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.titleChangeEvent(mac, decode(value));
+                            listener.titleChangeEvent(mac, title);
                         }
-                    });
-
+                    };
                 }
                 // Parameter Remote Title (radio)
-                else if (messagePart.startsWith("remote_title%3A")) {
-                    final String value = messagePart.substring("remote_title%3A".length());
-                    updatePlayer(new PlayerUpdateEvent() {
+                case "remote_title": {
+                    final String title = decode(value);
+                    return new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.remoteTitleChangeEvent(mac, decode(value));
+                            listener.remoteTitleChangeEvent(mac, title);
                         }
-                    });
+                    };
                 }
                 // Parameter Artist
-                else if (messagePart.startsWith("artist%3A")) {
-                    final String value = messagePart.substring("artist%3A".length());
-                    updatePlayer(new PlayerUpdateEvent() {
+                case "artist": {
+                    final String artist = decode(value);
+                    return new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.artistChangeEvent(mac, decode(value));
+                            listener.artistChangeEvent(mac, artist);
                         }
-                    });
+                    };
                 }
                 // Parameter Album
-                else if (messagePart.startsWith("album%3A")) {
-                    final String value = messagePart.substring("album%3A".length());
-                    updatePlayer(new PlayerUpdateEvent() {
+                case "album": {
+                    final String album = decode(value);
+                    return new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.albumChangeEvent(mac, decode(value));
+                            listener.albumChangeEvent(mac, album);
                         }
-                    });
+                    };
                 }
                 // Parameter Genre
-                else if (messagePart.startsWith("genre%3A")) {
-                    final String value = messagePart.substring("genre%3A".length());
-                    updatePlayer(new PlayerUpdateEvent() {
+                case "genre": {
+                    final String genre = decode(value);
+                    return new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.genreChangeEvent(mac, decode(value));
+                            listener.genreChangeEvent(mac, genre);
                         }
-                    });
+                    };
                 }
                 // Parameter Year
-                else if (messagePart.startsWith("year%3A")) {
-                    final String value = messagePart.substring("year%3A".length());
-                    updatePlayer(new PlayerUpdateEvent() {
+                case "year": {
+                    final String year = decode(value);
+                    return new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.yearChangeEvent(mac, decode(value));
+                            listener.yearChangeEvent(mac, year);
                         }
-                    });
+                    };
                 }
                 // Parameter Artwork
-                else if (messagePart.startsWith("artwork_track_id%3A")) {
-                    String url = messagePart.substring("artwork_track_id%3A".length());
+                case "artwork_track_id": {
+                    String url = value;
                     // NOTE: what is returned if not an artwork id? i.e. if a
                     // space?
                     if (!url.startsWith(" ")) {
                         url = "http://" + host + ":" + webport + "/music/" + url + "/cover.jpg";
                     }
-                    final String value = url;
-                    updatePlayer(new PlayerUpdateEvent() {
+                    final String coverArtUrl = decode(url);
+                    return new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.coverArtChangeEvent(mac, decode(value));
+                            listener.coverArtChangeEvent(mac, coverArtUrl);
                         }
-                    });
-                } else {
-                    // Added to be able to see additional status message types
-                    logger.trace("Unhandled status message type '{}'", messagePart);
+                    };
                 }
+                default:
+                    throw new IllegalArgumentException("Unknown status field " + name);
             }
         }
 
-        private void handlePlaylistMessage(final String mac, String[] messageParts) {
-            String action = messageParts[2];
+        private void handlePlaylistMessage(final String mac, CliMessage message) {
+            String action = message.getRaw(2);
             String mode;
             if (action.equals("newsong")) {
                 mode = "play";
-                // Set the track duration to 0
-                updatePlayer(new PlayerUpdateEvent() {
+                // Set the track duration to 0, the next status message will set the duration of the new song
+                forgetStatusField(mac, "duration");
+                updatePlayer(mac, new PlayerUpdateEvent() {
                     @Override
                     public void updateListener(SqueezeBoxPlayerEventListener listener) {
                         listener.durationEvent(mac, 0);
                     }
                 });
             } else if (action.equals("pause")) {
-                mode = messageParts[3].equals("0") ? "play" : "pause";
+                mode = message.getRaw(3).equals("0") ? "play" : "pause";
             } else if (action.equals("stop")) {
                 mode = "stop";
             } else {
                 // Added so that actions (such as delete, index, jump, open) are not treated as "play"
-                logger.trace("Unhandled playlist message type '{}'", Arrays.toString(messageParts));
+                logger.trace("Unhandled playlist message type '{}'", message);
                 return;
             }
             final String value = mode;
-            updatePlayer(new PlayerUpdateEvent() {
+            // the next status message will confirm the mode
+            forgetStatusField(mac, "mode");
+            updatePlayer(mac, new PlayerUpdateEvent() {
                 @Override
                 public void updateListener(SqueezeBoxPlayerEventListener listener) {
                     listener.modeChangeEvent(mac, value);
@@ -737,19 +764,20 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             });
         }
 
-        private void handlePrefsetMessage(final String mac, String[] messageParts) {
-            if (messageParts.length < 5) {
+        private void handlePrefsetMessage(final String mac, CliMessage message) {
+            if (message.size() < 5) {
                 return;
             }
 
             // server prefsets
-            if (messageParts[2].equals("server")) {
-                String function = messageParts[3];
-                String value = messageParts[4];
+            if (message.getRaw(2).equals("server")) {
+                String function = message.getRaw(3);
+                String value = message.getRaw(4);
 
                 if (function.equals("power")) {
                     final boolean power = value.equals("1");
-                    updatePlayer(new PlayerUpdateEvent() {
+                    forgetStatusField(mac, "power");
+                    updatePlayer(mac, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.powerChangeEvent(mac, power);
@@ -757,7 +785,8 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 } else if (function.equals("volume")) {
                     final int volume = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    forgetStatusField(mac, "mixer%20volume");
+                    updatePlayer(mac, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.volumeChangeEvent(mac, volume);
@@ -768,6 +797,34 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Remembers the value of a status field of a player
+     *
+     * @return true if the value differs from the last received value
+     */
+    private boolean isStatusFieldChanged(String mac, String name, String value) {
+        Map<String, String> fields = playerStatusFields.get(mac);
+        if (fields == null) {
+            fields = new ConcurrentHashMap<>();
+            Map<String, String> existing = playerStatusFields.putIfAbsent(mac, fields);
+            if (existing != null) {
+                fields = existing;
+            }
+        }
+        return !value.equals(fields.put(name, value));
+    }
+
+    /**
+     * Forgets the value of a status field of a player, which was changed by another message. The next status
+     * message will dispatch the field again.
+     */
+    private void forgetStatusField(String mac, String name) {
+        Map<String, String> fields = playerStatusFields.get(mac);
+        if (fields != null) {
+            fields.remove(name);
+        }
+    }
+
     /**
      * Interface to allow us to pass function call-backs to SqueezeBox Player
      * Event Listeners
@@ -780,29 +837,80 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
     }
 
     /**
-     * Update Listeners and child Squeeze Player Things
+     * Update Listeners and the child Squeeze Player Thing of the player
      *
+     * @param mac
      * @param event
      */
-    private void updatePlayer(PlayerUpdateEvent event) {
+    private void updatePlayer(String mac, PlayerUpdateEvent event) {
         // update listeners like disco services
         for (SqueezeBoxPlayerEventListener listener : squeezeBoxPlayerListeners) {
             event.updateListener(listener);
         }
-        // update our children
-        Bridge bridge = getThing();
+        // update listeners of this player like notifications
+        List<SqueezeBoxPlayerEventListener> listeners = playerListeners.get(mac);
+        if (listeners != null) {
+            for (SqueezeBoxPlayerEventListener listener : listeners) {
+                event.updateListener(listener);
+            }
+        }
+        // update our child
+        SqueezeBoxPlayerEventListener handler = getPlayerHandler(mac);
+        if (handler != null && !squeezeBoxPlayerListeners.contains(handler)) {
+            event.updateListener(handler);
+        }
+    }
 
+    /**
+     * Returns the handler of the player thing with the MAC address, or null if there is none
+     *
+     * @param mac
+     * @return
+     */
+    private SqueezeBoxPlayerEventListener getPlayerHandler(String mac) {
+        SqueezeBoxPlayerEventListener handler = playerHandlers.get(mac);
+        if (handler != null) {
+            return handler;
+        }
+
+        // not registered yet, look for it among our children
+        Bridge bridge = getThing();
         if (bridge == null) {
-            return;
+            return null;
         }
 
-        List<Thing> things = bridge.getThings();
-        for (Thing thing : things) {
-            ThingHandler handler = thing.getHandler();
-            if (handler instanceof SqueezeBoxPlayerEventListener && !squeezeBoxPlayerListeners.contains(handler)) {
-                event.updateListener((SqueezeBoxPlayerEventListener) handler);
+        for (Thing thing : bridge.getThings()) {
+            ThingHandler thingHandler = thing.getHandler();
+            if (thingHandler instanceof SqueezeBoxPlayerEventListener
+                    && mac.equals(thing.getConfiguration().as(SqueezeBoxPlayerConfig.class).mac)) {
+                handler = (SqueezeBoxPlayerEventListener) thingHandler;
+                playerHandlers.put(mac, handler);
+                return handler;
             }
         }
+        return null;
+    }
+
+    /**
+     * Registers the handler of the player thing with the MAC address. The next status message of the player is
+     * dispatched completely, so the handler gets the current state.
+     *
+     * @param mac
+     * @param handler
+     */
+    void registerPlayerHandler(String mac, SqueezeBoxPlayerEventListener handler) {
+        playerHandlers.put(mac, handler);
+        playerStatusFields.remove(mac);
+    }
+
+    /**
+     * Unregisters the handler of the player thing with the MAC address
+     *
+     * @param mac
+     * @param handler
+     */
+    void unregisterPlayerHandler(String mac, SqueezeBoxPlayerEventListener handler) {
+        playerHandlers.remove(mac, handler);
     }
 
     /**
@@ -827,6 +935,43 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         return squeezeBoxPlayerListeners.remove(squeezeBoxPlayerListener);
     }
 
+    /**
+     * Adds a listener for the events of a single player. The next status message of the player is dispatched
+     * completely, so the listener gets the current state.
+     *
+     * @param mac
+     * @param squeezeBoxPlayerListener
+     * @return
+     */
+    public boolean registerSqueezeBoxPlayerListener(String mac,
+            SqueezeBoxPlayerEventListener squeezeBoxPlayerListener) {
+        logger.trace("Registering player listener for {}", mac);
+        List<SqueezeBoxPlayerEventListener> listeners = playerListeners.get(mac);
+        if (listeners == null) {
+            listeners = new CopyOnWriteArrayList<SqueezeBoxPlayerEventListener>();
+            List<SqueezeBoxPlayerEventListener> existing = playerListeners.putIfAbsent(mac, listeners);
+            if (existing != null) {
+                listeners = existing;
+            }
+        }
+        playerStatusFields.remove(mac);
+        return listeners.add(squeezeBoxPlayerListener);
+    }
+
+    /**
+     * Removes a listener from the events of a single player
+     *
+     * @param mac
+     * @param squeezeBoxPlayerListener
+     * @return
+     */
+    public boolean unregisterSqueezeBoxPlayerListener(String mac,
+            SqueezeBoxPlayerEventListener squeezeBoxPlayerListener) {
+        logger.trace("Unregistering player listener for {}", mac);
+        List<SqueezeBoxPlayerEventListener> listeners = playerListeners.get(mac);
+        return listeners != null && listeners.remove(squeezeBoxPlayerListener);
+    }
+
     /**
      * Removed a player from our known list of players, will populate again if
      * player is seen
@@ -835,6 +980,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
      */
     public void removePlayerCache(String mac) {
         players.remove(mac);
+        playerStatusFields.remove(mac);
     }
 
     /**
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.squeezebox.internal.utils;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A message received from the CLI of a Squeeze Server, split into its whitespace separated parts in a single pass.
+ * The parts are kept URL encoded as received and are only decoded on request, so parts which are not used are never
+ * decoded. The parts are the same as those of {@code message.split("\\s")}.
+ *
+ * @author agent - Initial contribution
+ */
+public class CliMessage {
+    private static Logger logger = LoggerFactory.getLogger(CliMessage.class);
+
+    /**
+     * The separator of the name and the value of a URL encoded 'name:value' part
+     */
+    public static final String NAME_SEPARATOR = "%3A";
+
+    private final String message;
+    private int[] starts;
+    private int[] ends;
+    private int size;
+
+    public CliMessage(String message) {
+        this.message = message;
+        this.starts = new int[32];
+        this.ends = new int[32];
+
+        int start = 0;
+        int length = message.length();
+        for (int i = 0; i < length; i++) {
+            if (Character.isWhitespace(message.charAt(i))) {
+                add(start, i);
+                start = i + 1;
+            }
+        }
+        add(start, length);
+
+        // like String.split, trailing empty parts are removed
+        while (size > 1 && starts[size - 1] == ends[size - 1]) {
+            size--;
+        }
+    }
+
+    private void add(int start, int end) {
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, size * 2);
+            ends = Arrays.copyOf(ends, size * 2);
+        }
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+    }
+
+    /**
+     * Returns the number of parts
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the part at the index as received, still URL encoded
+     */
+    public String getRaw(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Part " + index + " of " + size);
+        }
+        return message.substring(starts[index], ends[index]);
+    }
+
+    /**
+     * Returns the URL decoded part at the index
+     */
+    public String get(int index) {
+        return decode(getRaw(index));
+    }
+
+    @Override
+    public String toString() {
+        return message;
+    }
+
+    /**
+     * URL decodes a part or a value of a part, returns null if it can't be decoded
+     */
+    public static String decode(String raw) {
+        if (raw.indexOf('%') < 0 && raw.indexOf('+') < 0) {
+            return raw;
+        }
+        try {
+            return URLDecoder.decode(raw, "UTF-8");
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+            logger.debug("Failed to decode '{}' ", raw, e);
+            return null;
+        }
+    }
+}
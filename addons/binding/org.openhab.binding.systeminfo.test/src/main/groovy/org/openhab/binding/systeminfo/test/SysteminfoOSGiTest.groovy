@@ -20,6 +20,7 @@ import org.eclipse.smarthome.core.items.GenericItem
 import org.eclipse.smarthome.core.items.ItemRegistry
 import org.eclipse.smarthome.core.library.items.NumberItem
 import org.eclipse.smarthome.core.library.items.StringItem
+import org.eclipse.smarthome.core.library.types.DecimalType
 import org.eclipse.smarthome.core.thing.Channel
 import org.eclipse.smarthome.core.thing.ChannelUID
 import org.eclipse.smarthome.core.thing.ManagedThingProvider
@@ -49,6 +50,7 @@ import org.junit.Test
 import org.junit.experimental.categories.Category
 import org.openhab.binding.systeminfo.SysteminfoBindingConstants
 import org.openhab.binding.systeminfo.discovery.SysteminfoDiscoveryService
+import org.openhab.binding.systeminfo.handler.RuntimeHandler
 import org.openhab.binding.systeminfo.handler.SysteminfoHandler
 import org.openhab.binding.systeminfo.internal.SysteminfoHandlerFactory
 /**
@@ -613,6 +615,26 @@ class SysteminfoOSGiTest extends OSGiTest{
         assertItemState(acceptedItemType,DEFAULT_TEST_ITEM_NAME,DEFAULT_CHANNEL_TEST_PRIORITY);
     }
 
+    @Category(org.openhab.binding.systeminfo.test.PlatformDependentTestsInterface.class)
+    @Test
+    public void 'assert channel network#dataSentSpeed is updated' () {
+        String channnelID = SysteminfoBindingConstants.CHANNEL_NETWORK_DATA_SENT_SPEED
+        String acceptedItemType = "Number";
+
+        initializeThingWithChannel(channnelID,acceptedItemType);
+        assertItemState(acceptedItemType,DEFAULT_TEST_ITEM_NAME,DEFAULT_CHANNEL_TEST_PRIORITY);
+    }
+
+    @Category(org.openhab.binding.systeminfo.test.PlatformDependentTestsInterface.class)
+    @Test
+    public void 'assert channel network#dataReceivedSpeed is updated' () {
+        String channnelID = SysteminfoBindingConstants.CHANNEL_NETWORK_DATA_RECEIVED_SPEED
+        String acceptedItemType = "Number";
+
+        initializeThingWithChannel(channnelID,acceptedItemType);
+        assertItemState(acceptedItemType,DEFAULT_TEST_ITEM_NAME,DEFAULT_CHANNEL_TEST_PRIORITY);
+    }
+
     @Category(org.openhab.binding.systeminfo.test.PlatformDependentTestsInterface.class)
     @Test
     public void 'asssert channel network#packetsSent is updated' () {
@@ -830,6 +852,97 @@ class SysteminfoOSGiTest extends OSGiTest{
         }
     }
 
+    private void initializeRuntimeThing(String channelID, String channelTypeID, String acceptedItemType, Configuration channelConfig) {
+        Configuration thingConfig = new Configuration()
+        thingConfig.put(SysteminfoBindingConstants.RUNTIME_REFRESH_TIME, new BigDecimal(DEFAULT_TEST_INTERVAL_HIGH))
+
+        ThingTypeUID thingTypeUID = SysteminfoBindingConstants.THING_TYPE_RUNTIME
+        ThingUID thingUID = new ThingUID(thingTypeUID,DEFAULT_TEST_THING_NAME)
+
+        ChannelUID channelUID = new ChannelUID(thingUID,channelID)
+        ChannelTypeUID channelTypeUID = new ChannelTypeUID(SysteminfoBindingConstants.BINDING_ID,channelTypeID)
+        Channel channel = new Channel(channelUID,channelTypeUID,acceptedItemType,ChannelKind.STATE,channelConfig,new HashSet(),new HashMap(),null,null)
+
+        systemInfoThing = ThingBuilder.create(thingTypeUID,thingUID).withConfiguration(thingConfig).withChannel(channel).build()
+
+        managedThingProvider.add(systemInfoThing)
+
+        waitForAssert{
+            RuntimeHandler thingHandler = getThingHandler(RuntimeHandler.class)
+            assertThat thingHandler, is(notNullValue())
+        }
+
+        intializeItem(channelUID,DEFAULT_TEST_ITEM_NAME,acceptedItemType)
+    }
+
+    @Test
+    public void 'assert runtime channel heap#used is updated' () {
+        String channnelID = SysteminfoBindingConstants.CHANNEL_RUNTIME_HEAP_USED
+        String acceptedItemType = "Number"
+
+        initializeRuntimeThing(channnelID,"heapUsed",acceptedItemType,new Configuration())
+        assertItemState(acceptedItemType,DEFAULT_TEST_ITEM_NAME,DEFAULT_CHANNEL_TEST_PRIORITY)
+    }
+
+    @Test
+    public void 'assert runtime channel gc#intervalTime is updated' () {
+        String channnelID = SysteminfoBindingConstants.CHANNEL_RUNTIME_GC_INTERVAL_TIME
+        String acceptedItemType = "Number"
+
+        initializeRuntimeThing(channnelID,"gcIntervalTime",acceptedItemType,new Configuration())
+        assertItemState(acceptedItemType,DEFAULT_TEST_ITEM_NAME,DEFAULT_CHANNEL_TEST_PRIORITY)
+    }
+
+    @Test
+    public void 'assert runtime channel threads#count is updated' () {
+        String channnelID = SysteminfoBindingConstants.CHANNEL_RUNTIME_THREADS_COUNT
+        String acceptedItemType = "Number"
+
+        initializeRuntimeThing(channnelID,"threadCount",acceptedItemType,new Configuration())
+        assertItemState(acceptedItemType,DEFAULT_TEST_ITEM_NAME,DEFAULT_CHANNEL_TEST_PRIORITY)
+    }
+
+    @Test
+    public void 'assert runtime channel events#rate is updated' () {
+        String channnelID = SysteminfoBindingConstants.CHANNEL_RUNTIME_EVENTS_RATE
+        String acceptedItemType = "Number"
+
+        initializeRuntimeThing(channnelID,"eventRate",acceptedItemType,new Configuration())
+        assertItemState(acceptedItemType,DEFAULT_TEST_ITEM_NAME,DEFAULT_CHANNEL_TEST_PRIORITY)
+    }
+
+    @Test
+    public void 'assert runtime channel threadPool#active is updated for an existing pool' () {
+        String channnelID = SysteminfoBindingConstants.CHANNEL_RUNTIME_THREAD_POOL_ACTIVE
+        String acceptedItemType = "Number"
+        // The pool of the thing handlers, it exists as soon as a handler is initialized
+        Configuration channelConfig = new Configuration()
+        channelConfig.put(SysteminfoBindingConstants.POOL_PARAM, "thingHandler")
+
+        initializeRuntimeThing(channnelID,"poolActive",acceptedItemType,channelConfig)
+        assertItemState(acceptedItemType,DEFAULT_TEST_ITEM_NAME,DEFAULT_CHANNEL_TEST_PRIORITY)
+
+        waitForAssert{
+            assertThat testItem.getState(), is(not(UnDefType.UNDEF))
+        }
+    }
+
+    @Test
+    public void 'assert runtime channel threadPool#queued of an unknown pool is 0' () {
+        String channnelID = SysteminfoBindingConstants.CHANNEL_RUNTIME_THREAD_POOL_QUEUED
+        String acceptedItemType = "Number"
+        // The pool is created empty on the first read, no task is ever queued to it
+        Configuration channelConfig = new Configuration()
+        channelConfig.put(SysteminfoBindingConstants.POOL_PARAM, "systeminfoTestUnknownPool")
+
+        initializeRuntimeThing(channnelID,"poolQueued",acceptedItemType,channelConfig)
+        assertItemState(acceptedItemType,DEFAULT_TEST_ITEM_NAME,DEFAULT_CHANNEL_TEST_PRIORITY)
+
+        waitForAssert{
+            assertThat testItem.getState(), is(equalTo(new DecimalType(0)))
+        }
+    }
+
     @After
     public void tearDown () {
 
@@ -840,6 +953,7 @@ class SysteminfoOSGiTest extends OSGiTest{
         }
         waitForAssert({
             assertThat getThingHandler(SysteminfoHandler.class), is(nullValue())
+            assertThat getThingHandler(RuntimeHandler.class), is(nullValue())
         })
 
         if(testItem != null) {
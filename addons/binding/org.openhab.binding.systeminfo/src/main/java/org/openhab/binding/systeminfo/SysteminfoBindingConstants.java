@@ -22,6 +22,8 @@ public class SysteminfoBindingConstants {
 
     public static final ThingTypeUID THING_TYPE_COMPUTER = new ThingTypeUID(BINDING_ID, "computer");
 
+    public static final ThingTypeUID THING_TYPE_RUNTIME = new ThingTypeUID(BINDING_ID, "runtime");
+
     // Thing properties
     /**
      * Number of CPU logical cores
@@ -235,6 +237,16 @@ public class SysteminfoBindingConstants {
      */
     public static final String CHANNEL_NETWORK_DATA_RECEIVED = "network#dataReceived";
 
+    /**
+     * Network data sent speed
+     */
+    public static final String CHANNEL_NETWORK_DATA_SENT_SPEED = "network#dataSentSpeed";
+
+    /**
+     * Network data received speed
+     */
+    public static final String CHANNEL_NETWORK_DATA_RECEIVED_SPEED = "network#dataReceivedSpeed";
+
     /**
      * Network packets sent
      */
@@ -286,6 +298,88 @@ public class SysteminfoBindingConstants {
      */
     public static final String CHANNEL_PROCESS_PATH = "process#path";
 
+    // List of all Channel IDs of the runtime thing
+
+    /**
+     * Size of the used heap memory in MB
+     */
+    public static final String CHANNEL_RUNTIME_HEAP_USED = "heap#used";
+
+    /**
+     * Size of the heap memory committed by the JVM in MB
+     */
+    public static final String CHANNEL_RUNTIME_HEAP_COMMITTED = "heap#committed";
+
+    /**
+     * Maximum size of the heap memory in MB
+     */
+    public static final String CHANNEL_RUNTIME_HEAP_MAX = "heap#max";
+
+    /**
+     * Size of the used non-heap memory in MB
+     */
+    public static final String CHANNEL_RUNTIME_NON_HEAP_USED = "heap#nonHeapUsed";
+
+    /**
+     * Number of garbage collections since the start
+     */
+    public static final String CHANNEL_RUNTIME_GC_COUNT = "gc#count";
+
+    /**
+     * Time spent in garbage collections since the start in ms
+     */
+    public static final String CHANNEL_RUNTIME_GC_TIME = "gc#time";
+
+    /**
+     * Time spent in garbage collections during the last refresh interval in ms
+     */
+    public static final String CHANNEL_RUNTIME_GC_INTERVAL_TIME = "gc#intervalTime";
+
+    /**
+     * Number of live threads
+     */
+    public static final String CHANNEL_RUNTIME_THREADS_COUNT = "threads#count";
+
+    /**
+     * Peak number of live threads
+     */
+    public static final String CHANNEL_RUNTIME_THREADS_PEAK = "threads#peak";
+
+    /**
+     * Number of live daemon threads
+     */
+    public static final String CHANNEL_RUNTIME_THREADS_DAEMON = "threads#daemon";
+
+    /**
+     * Name of the channel group for thread pool information
+     */
+    public static final String CHANNEL_GROUP_THREAD_POOL = "threadPool";
+
+    /**
+     * Number of threads of a thread pool running a task
+     */
+    public static final String CHANNEL_RUNTIME_THREAD_POOL_ACTIVE = "threadPool#active";
+
+    /**
+     * Number of tasks waiting in the queue of a thread pool
+     */
+    public static final String CHANNEL_RUNTIME_THREAD_POOL_QUEUED = "threadPool#queued";
+
+    /**
+     * Number of threads of a thread pool
+     */
+    public static final String CHANNEL_RUNTIME_THREAD_POOL_SIZE = "threadPool#size";
+
+    /**
+     * Number of events on the event bus since the thing was initialized
+     */
+    public static final String CHANNEL_RUNTIME_EVENTS_COUNT = "events#count";
+
+    /**
+     * Events per second on the event bus during the last refresh interval
+     */
+    public static final String CHANNEL_RUNTIME_EVENTS_RATE = "events#rate";
+
     // Thing configuraion
     /**
      * Name of the configuration parameter of the thing that defines refresh time for High priority channels
@@ -297,6 +391,11 @@ public class SysteminfoBindingConstants {
      */
     public static final String MEDIUM_PRIORITY_REFRESH_TIME = "interval_medium";
 
+    /**
+     * Name of the configuration parameter of the runtime thing that defines the refresh time
+     */
+    public static final String RUNTIME_REFRESH_TIME = "interval";
+
     // Channel configuration
 
     /**
@@ -310,4 +409,9 @@ public class SysteminfoBindingConstants {
      */
     public static final String PID_PARAM = "pid";
 
+    /**
+     * Name of the channel configuration parameter pool
+     */
+    public static final String POOL_PARAM = "pool";
+
 }
@@ -0,0 +1,228 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.systeminfo.handler;
+
+import static org.openhab.binding.systeminfo.SysteminfoBindingConstants.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.smarthome.config.core.Configuration;
+import org.eclipse.smarthome.core.thing.Channel;
+import org.eclipse.smarthome.core.thing.ChannelUID;
+import org.eclipse.smarthome.core.thing.Thing;
+import org.eclipse.smarthome.core.thing.ThingStatus;
+import org.eclipse.smarthome.core.thing.ThingStatusDetail;
+import org.eclipse.smarthome.core.thing.binding.BaseThingHandler;
+import org.eclipse.smarthome.core.types.Command;
+import org.eclipse.smarthome.core.types.RefreshType;
+import org.eclipse.smarthome.core.types.State;
+import org.eclipse.smarthome.core.types.UnDefType;
+import org.openhab.binding.systeminfo.model.EventCounter;
+import org.openhab.binding.systeminfo.model.RuntimeSample;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link RuntimeHandler} is responsible for providing information about the Java runtime openHAB is running in
+ * (memory, garbage collection, threads, thread pools and the event bus). On every refresh one {@link RuntimeSample} is
+ * taken and all linked channels are updated from it.
+ *
+ * @author agent - Initial contribution
+ */
+public class RuntimeHandler extends BaseThingHandler {
+
+    /**
+     * Default name of the thread pool tracked by the channels of group threadPool
+     */
+    private static final String DEFAULT_POOL = "thingHandler";
+
+    /**
+     * Wait time for the creation of Item-Channel links in seconds, see {@link SysteminfoHandler}
+     */
+    private static final int WAIT_TIME_CHANNEL_ITEM_LINK_INIT = 1;
+
+    private final EventCounter eventCounter;
+
+    /**
+     * Refresh interval in seconds.
+     */
+    private BigDecimal refreshInterval;
+
+    private RuntimeSample sample;
+
+    ScheduledFuture<?> refreshTask;
+
+    private Logger logger = LoggerFactory.getLogger(RuntimeHandler.class);
+
+    public RuntimeHandler(Thing thing, EventCounter eventCounter) {
+        super(thing);
+        this.eventCounter = eventCounter;
+    }
+
+    @Override
+    public void initialize() {
+        logger.debug("Start initializing!");
+
+        if (isConfigurationValid()) {
+            scheduleUpdates();
+            logger.debug("Thing is successfully initialized!");
+            updateStatus(ThingStatus.ONLINE);
+        } else {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
+                    "Refresh time value is invalid! Please change the thing configuration!");
+        }
+    }
+
+    private boolean isConfigurationValid() {
+        try {
+            refreshInterval = (BigDecimal) this.thing.getConfiguration().get(RUNTIME_REFRESH_TIME);
+            if (refreshInterval == null || refreshInterval.intValue() <= 0) {
+                throw new IllegalArgumentException("Refresh time must be positive number!");
+            }
+            logger.debug("Refresh time set to {} s", refreshInterval);
+            return true;
+        } catch (IllegalArgumentException e) {
+            logger.error("Refresh time value is invalid! Please change the thing configuration!", e);
+            return false;
+        } catch (ClassCastException e) {
+            logger.error("Thing configuration can not be read !");
+            return false;
+        }
+    }
+
+    private void scheduleUpdates() {
+        logger.debug("Schedule tasks at fixed rate {} s.", refreshInterval);
+        refreshTask = scheduler.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    publishData();
+                } catch (RuntimeException e) {
+                    logger.error("Unexpected error occurred while getting runtime information!", e);
+                }
+            }
+        }, WAIT_TIME_CHANNEL_ITEM_LINK_INIT, refreshInterval.intValue(), TimeUnit.SECONDS);
+    }
+
+    private synchronized void publishData() {
+        sample = new RuntimeSample(sample, eventCounter.getCount());
+        for (Channel channel : getThing().getChannels()) {
+            ChannelUID channelUID = channel.getUID();
+            if (isLinked(channelUID.getId())) {
+                updateState(channelUID, getInfoForChannel(channelUID, sample));
+            }
+        }
+    }
+
+    /**
+     * Gets the information for a channel from the sample.
+     *
+     * @param channelUID - the UID of the channel
+     * @param sample - the sample of the current refresh
+     * @return the state, {@link UnDefType#UNDEF} if there is no information
+     */
+    private State getInfoForChannel(ChannelUID channelUID, RuntimeSample sample) {
+        State state = null;
+        String channelID = channelUID.getId();
+
+        switch (channelID) {
+            case CHANNEL_RUNTIME_HEAP_USED:
+                state = sample.getHeapUsed();
+                break;
+            case CHANNEL_RUNTIME_HEAP_COMMITTED:
+                state = sample.getHeapCommitted();
+                break;
+            case CHANNEL_RUNTIME_HEAP_MAX:
+                state = sample.getHeapMax();
+                break;
+            case CHANNEL_RUNTIME_NON_HEAP_USED:
+                state = sample.getNonHeapUsed();
+                break;
+            case CHANNEL_RUNTIME_GC_COUNT:
+                state = sample.getGcCount();
+                break;
+            case CHANNEL_RUNTIME_GC_TIME:
+                state = sample.getGcTime();
+                break;
+            case CHANNEL_RUNTIME_GC_INTERVAL_TIME:
+                state = sample.getGcIntervalTime();
+                break;
+            case CHANNEL_RUNTIME_THREADS_COUNT:
+                state = sample.getThreadCount();
+                break;
+            case CHANNEL_RUNTIME_THREADS_PEAK:
+                state = sample.getThreadPeak();
+                break;
+            case CHANNEL_RUNTIME_THREADS_DAEMON:
+                state = sample.getThreadDaemon();
+                break;
+            case CHANNEL_RUNTIME_THREAD_POOL_ACTIVE:
+                state = sample.getThreadPoolActive(getPoolName(channelUID));
+                break;
+            case CHANNEL_RUNTIME_THREAD_POOL_QUEUED:
+                state = sample.getThreadPoolQueued(getPoolName(channelUID));
+                break;
+            case CHANNEL_RUNTIME_THREAD_POOL_SIZE:
+                state = sample.getThreadPoolSize(getPoolName(channelUID));
+                break;
+            case CHANNEL_RUNTIME_EVENTS_COUNT:
+                state = sample.getEventCount();
+                break;
+            case CHANNEL_RUNTIME_EVENTS_RATE:
+                state = sample.getEventRate();
+                break;
+            default:
+                logger.error("Channel with unknown ID: {} !", channelID);
+        }
+        return state != null ? state : UnDefType.UNDEF;
+    }
+
+    /**
+     * Gets the name of the thread pool tracked by the channel from the channel configuration
+     *
+     * @param channelUID - channel unique identifier
+     * @return the name of the pool
+     */
+    private String getPoolName(ChannelUID channelUID) {
+        Channel channel = this.thing.getChannel(channelUID.getId());
+        if (channel != null) {
+            Configuration channelProperties = channel.getConfiguration();
+            Object pool = channelProperties.get(POOL_PARAM);
+            if (pool instanceof String && !((String) pool).isEmpty()) {
+                return (String) pool;
+            }
+        }
+        logger.debug("Channel {} has no thread pool configured ! Fall back to default value.", channelUID);
+        return DEFAULT_POOL;
+    }
+
+    @Override
+    public void handleCommand(ChannelUID channelUID, Command command) {
+        if (command instanceof RefreshType) {
+            logger.debug("Refresh command received for channel {}!", channelUID);
+            synchronized (this) {
+                if (sample != null) {
+                    updateState(channelUID, getInfoForChannel(channelUID, sample));
+                }
+            }
+        } else {
+            logger.debug("Unsupported command {}! Supported commands: REFRESH", command);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (refreshTask != null) {
+            logger.debug("Runtime tasks will not be run anymore !");
+            refreshTask.cancel(true);
+        }
+    }
+}
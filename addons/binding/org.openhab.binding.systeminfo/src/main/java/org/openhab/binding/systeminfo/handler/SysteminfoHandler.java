@@ -237,8 +237,13 @@ public class SysteminfoHandler extends BaseThingHandler {
 
     }
 
-    private void publishData(Set<ChannelUID> channels) {
+    /**
+     * Publishes the state of the linked channels. The channels are served from one sample of each subsystem, taken
+     * by the first channel that needs it.
+     */
+    private synchronized void publishData(Set<ChannelUID> channels) {
         if (channels != null) {
+            systeminfo.newSample();
             Iterator<ChannelUID> iter = channels.iterator();
             while (iter.hasNext()) {
                 ChannelUID channeUID = iter.next();
@@ -249,7 +254,7 @@ public class SysteminfoHandler extends BaseThingHandler {
         }
     }
 
-    private void publishDataForChannel(ChannelUID channelUID) {
+    private synchronized void publishDataForChannel(ChannelUID channelUID) {
         State state = getInfoForChannel(channelUID);
         String channelID = channelUID.getId();
         if (state != null) {
@@ -400,6 +405,12 @@ public class SysteminfoHandler extends BaseThingHandler {
                 case CHANNEL_NETWORK_DATA_RECEIVED:
                     state = systeminfo.getNetworkDataReceived(deviceIndex);
                     break;
+                case CHANNEL_NETWORK_DATA_SENT_SPEED:
+                    state = systeminfo.getNetworkDataSentSpeed(deviceIndex);
+                    break;
+                case CHANNEL_NETWORK_DATA_RECEIVED_SPEED:
+                    state = systeminfo.getNetworkDataReceivedSpeed(deviceIndex);
+                    break;
                 case CHANNEL_NETWORK_PACKETS_RECEIVED:
                     state = systeminfo.getNetworkPacketsReceived(deviceIndex);
                     break;
@@ -492,7 +503,7 @@ public class SysteminfoHandler extends BaseThingHandler {
         if (thing.getStatus().equals(ThingStatus.ONLINE)) {
             if (command instanceof RefreshType) {
                 logger.debug("Refresh command received for channel {}!", channelUID);
-                publishDataForChannel(channelUID);
+                publishRefreshedDataForChannel(channelUID);
             } else {
                 logger.debug("Unsupported command {}! Supported commands: REFRESH", command);
             }
@@ -501,6 +512,11 @@ public class SysteminfoHandler extends BaseThingHandler {
         }
     }
 
+    private synchronized void publishRefreshedDataForChannel(ChannelUID channelUID) {
+        systeminfo.newSample();
+        publishDataForChannel(channelUID);
+    }
+
     private boolean isConfigurationKeyChanged(Configuration currentConfig, Configuration newConfig, String key) {
         if (currentConfig != null && newConfig != null) {
             Object currentValue = currentConfig.get(key);
@@ -10,14 +10,23 @@ package org.openhab.binding.systeminfo.internal;
 
 import static org.openhab.binding.systeminfo.SysteminfoBindingConstants.*;
 
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.Map;
 import java.util.Set;
 
-import org.openhab.binding.systeminfo.handler.SysteminfoHandler;
+import org.eclipse.smarthome.core.events.EventSubscriber;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
+import org.eclipse.smarthome.core.thing.ThingUID;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandlerFactory;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
+import org.openhab.binding.systeminfo.handler.RuntimeHandler;
+import org.openhab.binding.systeminfo.handler.SysteminfoHandler;
+import org.openhab.binding.systeminfo.model.EventCounter;
+import org.osgi.framework.ServiceRegistration;
+
+import com.google.common.collect.ImmutableSet;
 
 /**
  * The {@link SysteminfoHandlerFactory} is responsible for creating things and thing 
@@ -27,7 +36,13 @@ import org.eclipse.smarthome.core.thing.binding.ThingHandler;
  */
 public class SysteminfoHandlerFactory extends BaseThingHandlerFactory {
     
-    private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Collections.singleton(THING_TYPE_COMPUTER);
+    private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = ImmutableSet.of(THING_TYPE_COMPUTER,
+            THING_TYPE_RUNTIME);
+
+    /**
+     * The event counters of the runtime things, registered as {@link EventSubscriber}
+     */
+    private Map<ThingUID, ServiceRegistration<?>> eventCounterRegs = new HashMap<>();
     
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
@@ -43,7 +58,29 @@ public class SysteminfoHandlerFactory extends BaseThingHandlerFactory {
             return new SysteminfoHandler(thing);
         }
 
+        if (thingTypeUID.equals(THING_TYPE_RUNTIME)) {
+            EventCounter eventCounter = new EventCounter();
+            registerEventCounter(thing.getUID(), eventCounter);
+            return new RuntimeHandler(thing, eventCounter);
+        }
+
         return null;
     }
+
+    @Override
+    protected synchronized void removeHandler(ThingHandler thingHandler) {
+        ServiceRegistration<?> serviceReg = eventCounterRegs.remove(thingHandler.getThing().getUID());
+        if (serviceReg != null) {
+            serviceReg.unregister();
+        }
+    }
+
+    private synchronized void registerEventCounter(ThingUID thingUID, EventCounter eventCounter) {
+        ServiceRegistration<?> previousReg = eventCounterRegs.put(thingUID, bundleContext
+                .registerService(EventSubscriber.class.getName(), eventCounter, new Hashtable<String, Object>()));
+        if (previousReg != null) {
+            previousReg.unregister();
+        }
+    }
 }
 
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.systeminfo.model;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.smarthome.core.events.Event;
+import org.eclipse.smarthome.core.events.EventFilter;
+import org.eclipse.smarthome.core.events.EventSubscriber;
+
+/**
+ * Counts all events on the event bus. It has to be registered as {@link EventSubscriber} service.
+ *
+ * @author agent - Initial contribution
+ */
+public class EventCounter implements EventSubscriber {
+
+    private static final Set<String> SUBSCRIBED_EVENT_TYPES = Collections.singleton(EventSubscriber.ALL_EVENT_TYPES);
+
+    private final AtomicLong count = new AtomicLong();
+
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return SUBSCRIBED_EVENT_TYPES;
+    }
+
+    @Override
+    public EventFilter getEventFilter() {
+        return null;
+    }
+
+    @Override
+    public void receive(Event event) {
+        count.incrementAndGet();
+    }
+
+    /**
+     * @return the number of events received since the registration
+     */
+    public long getCount() {
+        return count.get();
+    }
+}
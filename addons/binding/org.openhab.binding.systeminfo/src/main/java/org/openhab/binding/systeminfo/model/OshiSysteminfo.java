@@ -9,6 +9,8 @@
 package org.openhab.binding.systeminfo.model;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.apache.commons.lang.ArrayUtils;
 import org.eclipse.smarthome.core.library.types.DecimalType;
@@ -31,6 +33,11 @@ import oshi.util.EdidUtil;
 /**
  * This implementation of {@link SysteminfoInterface} is using the open source library OSHI to provide system
  * information. OSHI is a free JNA-based (native) Operating System and Hardware Information library for Java.
+ * <p>
+ * Reading the dynamic information (CPU, memory, swap, storage, network and sensors) reads files like /proc on Linux,
+ * so it is sampled once per subsystem and refresh: the first channel of a subsystem takes the sample, the other
+ * channels are served from it until {@link #newSample()} is called. The speed of the network interfaces is computed
+ * from consecutive samples.
  *
  * @author Svilen Valkanov
  *
@@ -54,8 +61,21 @@ public class OshiSysteminfo implements SysteminfoInterface {
     private PowerSource[] powerSources;
     private HWDiskStore[] drives;
 
+    // Samples of the dynamic information, taken at the first request after newSample()
+    private MemorySample memorySample;
+    private CpuSample cpuSample;
+    private SensorsSample sensorsSample;
+    private boolean fileStoresSampled;
+    private Map<Integer, NetworkSample> networkSamples = new HashMap<>();
+    private Map<Integer, NetworkSample> previousNetworkSamples = new HashMap<>();
+
     public static final int PRECISION_AFTER_DECIMAl_SIGN = 1;
 
+    /**
+     * Samples of network interfaces taken less than this time apart are not used to compute the speed
+     */
+    private static final long MIN_SPEED_INTERVAL_MS = 1000;
+
     /**
      * Some of the methods used in this constructor execute native code and require execute permissions
      *
@@ -75,14 +95,77 @@ public class OshiSysteminfo implements SysteminfoInterface {
         updateStaticObjects();
     }
 
-    public void updateStaticObjects() {
+    public synchronized void updateStaticObjects() {
         // In OSHI 4.0.0. it is planed to change this mechanism - see https://github.com/oshi/oshi/issues/310
-        fileStores = operatingSystem.getFileSystem().getFileStores();
+        // The file stores are sampled with the other dynamic information, see getFileStore(int)
         powerSources = hal.getPowerSources();
         networks = hal.getNetworkIFs();
         drives = hal.getDiskStores();
     }
 
+    /**
+     * Discards the current samples, the next request of each subsystem takes a new sample. Should be called once at
+     * the beginning of each refresh.
+     */
+    public synchronized void newSample() {
+        memorySample = null;
+        cpuSample = null;
+        sensorsSample = null;
+        fileStoresSampled = false;
+        for (Map.Entry<Integer, NetworkSample> entry : networkSamples.entrySet()) {
+            NetworkSample sample = entry.getValue();
+            NetworkSample previous = previousNetworkSamples.get(entry.getKey());
+            // samples taken too close together would give an inaccurate speed
+            if (previous == null || sample.timeStamp - previous.timeStamp >= MIN_SPEED_INTERVAL_MS) {
+                if (previous != null) {
+                    previous.previous = null;
+                }
+                sample.previous = previous;
+                previousNetworkSamples.put(entry.getKey(), sample);
+            }
+        }
+        networkSamples.clear();
+    }
+
+    private synchronized MemorySample getMemorySample() {
+        if (memorySample == null) {
+            memorySample = new MemorySample(memory);
+        }
+        return memorySample;
+    }
+
+    private synchronized CpuSample getCpuSample() {
+        if (cpuSample == null) {
+            cpuSample = new CpuSample(cpu);
+        }
+        return cpuSample;
+    }
+
+    private synchronized SensorsSample getSensorsSample() {
+        if (sensorsSample == null) {
+            sensorsSample = new SensorsSample(sensors);
+        }
+        return sensorsSample;
+    }
+
+    private synchronized OSFileStore getFileStore(int index) throws DeviceNotFoundException {
+        if (!fileStoresSampled) {
+            fileStores = operatingSystem.getFileSystem().getFileStores();
+            fileStoresSampled = true;
+        }
+        return (OSFileStore) getDevice(fileStores, index);
+    }
+
+    private synchronized NetworkSample getNetworkSample(int index) throws DeviceNotFoundException {
+        NetworkSample sample = networkSamples.get(index);
+        if (sample == null) {
+            NetworkIF network = (NetworkIF) getDevice(networks, index);
+            sample = new NetworkSample(network);
+            networkSamples.put(index, sample);
+        }
+        return sample;
+    }
+
     @SuppressWarnings("null")
     private Object getDevice(Object[] devices, int index) throws DeviceNotFoundException {
         if ((devices != null) && (devices.length <= index)) {
@@ -152,29 +235,30 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getCpuLoad() {
-        double processorLoad = cpu.getSystemCpuLoad();
+        double processorLoad = getCpuSample().load;
         BigDecimal processorLoadPercent = getPercentsValue(processorLoad);
         return new DecimalType(processorLoadPercent);
     }
 
     @Override
     public DecimalType getMemoryTotal() {
-        long totalMemory = memory.getTotal();
+        long totalMemory = getMemorySample().total;
         totalMemory = getSizeInMB(totalMemory);
         return new DecimalType(totalMemory);
     }
 
     @Override
     public DecimalType getMemoryAvailable() {
-        long availableMemory = memory.getAvailable();
+        long availableMemory = getMemorySample().available;
         availableMemory = getSizeInMB(availableMemory);
         return new DecimalType(availableMemory);
     }
 
     @Override
     public DecimalType getMemoryUsed() {
-        long totalMemory = memory.getTotal();
-        long availableMemory = memory.getAvailable();
+        MemorySample sample = getMemorySample();
+        long totalMemory = sample.total;
+        long availableMemory = sample.available;
         long usedMemory = totalMemory - availableMemory;
         usedMemory = getSizeInMB(usedMemory);
         return new DecimalType(usedMemory);
@@ -182,7 +266,7 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getStorageTotal(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, index);
+        OSFileStore fileStore = getFileStore(index);
         long totalSpace = fileStore.getTotalSpace();
         totalSpace = getSizeInMB(totalSpace);
         return new DecimalType(totalSpace);
@@ -190,7 +274,7 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getStorageAvailable(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, index);
+        OSFileStore fileStore = getFileStore(index);
         long freeSpace = fileStore.getUsableSpace();
         freeSpace = getSizeInMB(freeSpace);
         return new DecimalType(freeSpace);
@@ -198,7 +282,7 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getStorageUsed(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, index);
+        OSFileStore fileStore = getFileStore(index);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         long usedSpace = totalSpace - freeSpace;
@@ -208,7 +292,7 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getStorageAvailablePercent(int deviceIndex) throws DeviceNotFoundException {
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, deviceIndex);
+        OSFileStore fileStore = getFileStore(deviceIndex);
         long freeStorage = fileStore.getUsableSpace();
         long totalStorage = fileStore.getTotalSpace();
         double freePercentDecimal = (double) freeStorage / (double) totalStorage;
@@ -218,21 +302,21 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public StringType getStorageName(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, index);
+        OSFileStore fileStore = getFileStore(index);
         String name = fileStore.getName();
         return new StringType(name);
     }
 
     @Override
     public StringType getStorageType(int deviceIndex) throws DeviceNotFoundException {
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, deviceIndex);
+        OSFileStore fileStore = getFileStore(deviceIndex);
         String type = fileStore.getType();
         return new StringType(type);
     }
 
     @Override
     public StringType getStorageDescription(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, index);
+        OSFileStore fileStore = getFileStore(index);
         String description = fileStore.getDescription();
         return new StringType(description);
     }
@@ -277,21 +361,21 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getSensorsCpuTemperature() {
-        BigDecimal cpuTemp = new BigDecimal(sensors.getCpuTemperature());
+        BigDecimal cpuTemp = new BigDecimal(getSensorsSample().cpuTemperature);
         cpuTemp = cpuTemp.setScale(PRECISION_AFTER_DECIMAl_SIGN, BigDecimal.ROUND_HALF_UP);
         return cpuTemp.signum() == 1 ? new DecimalType(cpuTemp) : null;
     }
 
     @Override
     public DecimalType getSensorsCpuVoltage() {
-        BigDecimal cpuVoltage = new BigDecimal(sensors.getCpuVoltage());
+        BigDecimal cpuVoltage = new BigDecimal(getSensorsSample().cpuVoltage);
         cpuVoltage = cpuVoltage.setScale(PRECISION_AFTER_DECIMAl_SIGN, BigDecimal.ROUND_HALF_UP);
         return cpuVoltage.signum() == 1 ? new DecimalType(cpuVoltage) : null;
     }
 
     @Override
     public DecimalType getSensorsFanSpeed(int index) throws DeviceNotFoundException {
-        int[] fanSpeeds = sensors.getFanSpeeds();
+        int[] fanSpeeds = getSensorsSample().fanSpeeds;
         int speed = (int) getDevice(ArrayUtils.toObject(fanSpeeds), index);
         return speed > 0 ? new DecimalType(speed) : null;
     }
@@ -322,8 +406,9 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getMemoryAvailablePercent() {
-        long availableMemory = memory.getAvailable();
-        long totalMemory = memory.getTotal();
+        MemorySample sample = getMemorySample();
+        long availableMemory = sample.available;
+        long totalMemory = sample.total;
         BigDecimal freePercent;
         if (totalMemory > 0) {
             double freePercentDecimal = (double) availableMemory / (double) totalMemory;
@@ -357,15 +442,16 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getSwapTotal() {
-        long swapTotal = memory.getSwapTotal();
+        long swapTotal = getMemorySample().swapTotal;
         swapTotal = getSizeInMB(swapTotal);
         return swapTotal > 0 ? new DecimalType(swapTotal) : null;
     }
 
     @Override
     public DecimalType getSwapAvailable() {
-        long swapTotal = memory.getSwapTotal();
-        long swapUsed = memory.getSwapUsed();
+        MemorySample sample = getMemorySample();
+        long swapTotal = sample.swapTotal;
+        long swapUsed = sample.swapUsed;
         long swapAvaialble = swapTotal - swapUsed;
         swapAvaialble = getSizeInMB(swapAvaialble);
         return swapAvaialble > 0 ? new DecimalType(swapAvaialble) : null;
@@ -373,15 +459,16 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getSwapUsed() {
-        long swapTotal = memory.getSwapUsed();
+        long swapTotal = getMemorySample().swapUsed;
         swapTotal = getSizeInMB(swapTotal);
         return swapTotal > 0 ? new DecimalType(swapTotal) : null;
     }
 
     @Override
     public DecimalType getSwapAvailablePercent() {
-        long usedSwap = memory.getSwapUsed();
-        long totalSwap = memory.getSwapTotal();
+        MemorySample sample = getMemorySample();
+        long usedSwap = sample.swapUsed;
+        long totalSwap = sample.swapTotal;
         long freeSwap = totalSwap - usedSwap;
         BigDecimal freePercent;
         if (totalSwap > 0) {
@@ -458,7 +545,7 @@ public class OshiSysteminfo implements SysteminfoInterface {
             default:
                 index = 2;
         }
-        double processorLoads[] = cpu.getSystemLoadAverage(index + 1);
+        double processorLoads[] = getCpuSample().loadAverages;
         BigDecimal result = new BigDecimal(processorLoads[index]);
         result = result.setScale(PRECISION_AFTER_DECIMAl_SIGN, BigDecimal.ROUND_HALF_UP);
         return result;
@@ -485,33 +572,25 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getNetworkPacketsReceived(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
-        network.updateNetworkStats();
-        long packRecv = network.getPacketsRecv();
+        long packRecv = getNetworkSample(networkIndex).packetsRecv;
         return new DecimalType(packRecv);
     }
 
     @Override
     public DecimalType getNetworkPacketsSent(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
-        network.updateNetworkStats();
-        long packSent = network.getPacketsSent();
+        long packSent = getNetworkSample(networkIndex).packetsSent;
         return new DecimalType(packSent);
     }
 
     @Override
     public DecimalType getNetworkDataSent(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
-        network.updateNetworkStats();
-        long bytesSent = network.getBytesSent();
+        long bytesSent = getNetworkSample(networkIndex).bytesSent;
         return new DecimalType(getSizeInMB(bytesSent));
     }
 
     @Override
     public DecimalType getNetworkDataReceived(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
-        network.updateNetworkStats();
-        long bytesRecv = network.getBytesRecv();
+        long bytesRecv = getNetworkSample(networkIndex).bytesRecv;
         return new DecimalType(getSizeInMB(bytesRecv));
     }
 
@@ -552,4 +631,121 @@ public class OshiSysteminfo implements SysteminfoInterface {
         return new DecimalType(threadCount);
     }
 
+    @Override
+    public synchronized DecimalType getNetworkDataSentSpeed(int networkIndex) throws DeviceNotFoundException {
+        NetworkSample sample = getNetworkSample(networkIndex);
+        NetworkSample previous = getPreviousNetworkSample(networkIndex, sample);
+        if (previous == null) {
+            return null;
+        }
+        return getSpeedInKBPerSecond(previous.bytesSent, sample.bytesSent, previous.timeStamp, sample.timeStamp);
+    }
+
+    @Override
+    public synchronized DecimalType getNetworkDataReceivedSpeed(int networkIndex) throws DeviceNotFoundException {
+        NetworkSample sample = getNetworkSample(networkIndex);
+        NetworkSample previous = getPreviousNetworkSample(networkIndex, sample);
+        if (previous == null) {
+            return null;
+        }
+        return getSpeedInKBPerSecond(previous.bytesRecv, sample.bytesRecv, previous.timeStamp, sample.timeStamp);
+    }
+
+    /**
+     * Returns the last sample of the network which was taken at least {@link #MIN_SPEED_INTERVAL_MS} before the
+     * given sample, or null if there is none
+     */
+    private NetworkSample getPreviousNetworkSample(int networkIndex, NetworkSample sample) {
+        NetworkSample previous = previousNetworkSamples.get(networkIndex);
+        if (previous != null && sample.timeStamp - previous.timeStamp < MIN_SPEED_INTERVAL_MS) {
+            previous = previous.previous;
+        }
+        // the network with this index may have changed
+        if (previous == null || !previous.name.equals(sample.name)) {
+            return null;
+        }
+        return previous;
+    }
+
+    private DecimalType getSpeedInKBPerSecond(long previousBytes, long bytes, long previousTimeStamp,
+            long timeStamp) {
+        long intervalInMillis = timeStamp - previousTimeStamp;
+        // the counters are reset when the interface is restarted
+        if (intervalInMillis <= 0 || bytes < previousBytes) {
+            return null;
+        }
+        BigDecimal speed = new BigDecimal((double) (bytes - previousBytes) / intervalInMillis * 1000 / 1024);
+        speed = speed.setScale(PRECISION_AFTER_DECIMAl_SIGN, BigDecimal.ROUND_HALF_UP);
+        return new DecimalType(speed);
+    }
+
+    /**
+     * Memory and swap information read at the same time
+     */
+    private static class MemorySample {
+        final long total;
+        final long available;
+        final long swapTotal;
+        final long swapUsed;
+
+        MemorySample(GlobalMemory memory) {
+            total = memory.getTotal();
+            available = memory.getAvailable();
+            swapTotal = memory.getSwapTotal();
+            swapUsed = memory.getSwapUsed();
+        }
+    }
+
+    /**
+     * The CPU load and the load averages for the last 1, 5 and 15 minutes read at the same time
+     */
+    private static class CpuSample {
+        final double load;
+        final double[] loadAverages;
+
+        CpuSample(CentralProcessor cpu) {
+            load = cpu.getSystemCpuLoad();
+            loadAverages = cpu.getSystemLoadAverage(3);
+        }
+    }
+
+    /**
+     * Sensor values read at the same time
+     */
+    private static class SensorsSample {
+        final double cpuTemperature;
+        final double cpuVoltage;
+        final int[] fanSpeeds;
+
+        SensorsSample(Sensors sensors) {
+            cpuTemperature = sensors.getCpuTemperature();
+            cpuVoltage = sensors.getCpuVoltage();
+            fanSpeeds = sensors.getFanSpeeds();
+        }
+    }
+
+    /**
+     * The statistics of a network interface read at the same time
+     */
+    private static class NetworkSample {
+        final String name;
+        final long bytesSent;
+        final long bytesRecv;
+        final long packetsSent;
+        final long packetsRecv;
+        final long timeStamp;
+        // the sample before this one, if this sample is one of the previous samples
+        NetworkSample previous;
+
+        NetworkSample(NetworkIF network) {
+            network.updateNetworkStats();
+            name = network.getName();
+            bytesSent = network.getBytesSent();
+            bytesRecv = network.getBytesRecv();
+            packetsSent = network.getPacketsSent();
+            packetsRecv = network.getPacketsRecv();
+            timeStamp = System.currentTimeMillis();
+        }
+    }
+
 }
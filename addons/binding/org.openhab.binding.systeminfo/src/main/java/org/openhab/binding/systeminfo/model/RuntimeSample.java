@@ -0,0 +1,226 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.systeminfo.model;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.eclipse.smarthome.core.library.types.DecimalType;
+
+/**
+ * A snapshot of the Java runtime openHAB is running in - memory, garbage collection, threads and the event bus. All
+ * values of a snapshot are read at the same time, the values per interval are computed from the previous snapshot.
+ * The statistics of a thread pool are read on the first request of the pool through the public API of the
+ * {@link ThreadPoolManager}, which creates a pool that doesn't exist yet. An unknown pool name therefore adds an
+ * empty scheduled pool, its threads are only started when a task is submitted to it.
+ *
+ * @author agent - Initial contribution
+ */
+public class RuntimeSample {
+
+    private final long timeStamp;
+    private final MemoryUsage heap;
+    private final MemoryUsage nonHeap;
+    private final long gcCount;
+    private final long gcTime;
+    private final int threadCount;
+    private final int threadPeak;
+    private final int threadDaemon;
+    private final long eventCount;
+    private final Map<String, ThreadPoolSample> threadPools = new HashMap<>();
+
+    // values of the previous snapshot, the time stamp is 0 if there is none
+    private final long previousTimeStamp;
+    private final long previousGcTime;
+    private final long previousEventCount;
+
+    /**
+     * Takes a new snapshot
+     *
+     * @param previous - the previous snapshot or null, if this is the first one
+     * @param eventCount - the number of events counted on the event bus so far
+     */
+    public RuntimeSample(RuntimeSample previous, long eventCount) {
+        this.timeStamp = System.currentTimeMillis();
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        this.heap = memory.getHeapMemoryUsage();
+        this.nonHeap = memory.getNonHeapMemoryUsage();
+
+        long count = 0;
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            // -1 if not available for this collector
+            count += Math.max(gc.getCollectionCount(), 0);
+            time += Math.max(gc.getCollectionTime(), 0);
+        }
+        this.gcCount = count;
+        this.gcTime = time;
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        this.threadCount = threads.getThreadCount();
+        this.threadPeak = threads.getPeakThreadCount();
+        this.threadDaemon = threads.getDaemonThreadCount();
+
+        this.eventCount = eventCount;
+
+        this.previousTimeStamp = previous != null ? previous.timeStamp : 0;
+        this.previousGcTime = previous != null ? previous.gcTime : 0;
+        this.previousEventCount = previous != null ? previous.eventCount : 0;
+    }
+
+    public DecimalType getHeapUsed() {
+        return new DecimalType(getSizeInMB(heap.getUsed()));
+    }
+
+    public DecimalType getHeapCommitted() {
+        return new DecimalType(getSizeInMB(heap.getCommitted()));
+    }
+
+    /**
+     * @return the maximum heap size or null, if it is not defined
+     */
+    public DecimalType getHeapMax() {
+        return heap.getMax() < 0 ? null : new DecimalType(getSizeInMB(heap.getMax()));
+    }
+
+    public DecimalType getNonHeapUsed() {
+        return new DecimalType(getSizeInMB(nonHeap.getUsed()));
+    }
+
+    /**
+     * @return the number of garbage collections since the start
+     */
+    public DecimalType getGcCount() {
+        return new DecimalType(gcCount);
+    }
+
+    /**
+     * @return the time spent in garbage collections since the start in ms
+     */
+    public DecimalType getGcTime() {
+        return new DecimalType(gcTime);
+    }
+
+    /**
+     * @return the time spent in garbage collections since the previous snapshot in ms, or null if there is no
+     *         previous snapshot
+     */
+    public DecimalType getGcIntervalTime() {
+        return previousTimeStamp == 0 ? null : new DecimalType(gcTime - previousGcTime);
+    }
+
+    public DecimalType getThreadCount() {
+        return new DecimalType(threadCount);
+    }
+
+    public DecimalType getThreadPeak() {
+        return new DecimalType(threadPeak);
+    }
+
+    public DecimalType getThreadDaemon() {
+        return new DecimalType(threadDaemon);
+    }
+
+    /**
+     * @return the number of events counted on the event bus
+     */
+    public DecimalType getEventCount() {
+        return new DecimalType(eventCount);
+    }
+
+    /**
+     * @return the events per second since the previous snapshot, or null if there is no previous snapshot
+     */
+    public DecimalType getEventRate() {
+        if (previousTimeStamp == 0 || timeStamp <= previousTimeStamp) {
+            return null;
+        }
+        BigDecimal rate = new BigDecimal(
+                (double) (eventCount - previousEventCount) * 1000 / (timeStamp - previousTimeStamp));
+        rate = rate.setScale(OshiSysteminfo.PRECISION_AFTER_DECIMAl_SIGN, BigDecimal.ROUND_HALF_UP);
+        return new DecimalType(rate);
+    }
+
+    /**
+     * @param poolName - the name of the pool at the {@link ThreadPoolManager}
+     * @return the number of threads running a task in the pool or null, if the statistics are not available
+     */
+    public DecimalType getThreadPoolActive(String poolName) {
+        ThreadPoolSample pool = getThreadPool(poolName);
+        return pool == null ? null : new DecimalType(pool.active);
+    }
+
+    /**
+     * @param poolName - the name of the pool at the {@link ThreadPoolManager}
+     * @return the number of tasks waiting in the queue of the pool or null, if the statistics are not available
+     */
+    public DecimalType getThreadPoolQueued(String poolName) {
+        ThreadPoolSample pool = getThreadPool(poolName);
+        return pool == null ? null : new DecimalType(pool.queued);
+    }
+
+    /**
+     * @param poolName - the name of the pool at the {@link ThreadPoolManager}
+     * @return the number of threads of the pool or null, if the statistics are not available
+     */
+    public DecimalType getThreadPoolSize(String poolName) {
+        ThreadPoolSample pool = getThreadPool(poolName);
+        return pool == null ? null : new DecimalType(pool.size);
+    }
+
+    private synchronized ThreadPoolSample getThreadPool(String poolName) {
+        if (!threadPools.containsKey(poolName)) {
+            ExecutorService pool = getExecutor(poolName);
+            threadPools.put(poolName,
+                    pool instanceof ThreadPoolExecutor ? new ThreadPoolSample((ThreadPoolExecutor) pool) : null);
+        }
+        return threadPools.get(poolName);
+    }
+
+    private long getSizeInMB(long sizeInBytes) {
+        return sizeInBytes / (1024 * 1024);
+    }
+
+    /**
+     * Gets the pool as a scheduled pool first, so a pool created here can still be requested as scheduled pool by its
+     * user later on. A pool that already exists as a plain pool is rejected as scheduled pool and requested as such.
+     */
+    private static ExecutorService getExecutor(String poolName) {
+        try {
+            return ThreadPoolManager.getScheduledPool(poolName);
+        } catch (IllegalArgumentException | ClassCastException e) {
+            return ThreadPoolManager.getPool(poolName);
+        }
+    }
+
+    /**
+     * The statistics of a thread pool read at the same time
+     */
+    private static class ThreadPoolSample {
+        final int active;
+        final int queued;
+        final int size;
+
+        ThreadPoolSample(ThreadPoolExecutor pool) {
+            active = pool.getActiveCount();
+            queued = pool.getQueue().size();
+            size = pool.getPoolSize();
+        }
+    }
+}
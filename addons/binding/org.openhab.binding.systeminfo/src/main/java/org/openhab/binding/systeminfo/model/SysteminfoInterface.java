@@ -308,6 +308,24 @@ public interface SysteminfoInterface {
      */
     public DecimalType getNetworkDataReceived(int networkIndex) throws DeviceNotFoundException;
 
+    /**
+     * Get the speed of the data sent in kB/s for this network, computed from the last two samples
+     *
+     * @param networkIndex - the index of the network
+     * @return the speed or null, if there is only one sample yet
+     * @throws DeviceNotFoundException
+     */
+    public DecimalType getNetworkDataSentSpeed(int networkIndex) throws DeviceNotFoundException;
+
+    /**
+     * Get the speed of the data received in kB/s for this network, computed from the last two samples
+     *
+     * @param networkIndex - the index of the network
+     * @return the speed or null, if there is only one sample yet
+     * @throws DeviceNotFoundException
+     */
+    public DecimalType getNetworkDataReceivedSpeed(int networkIndex) throws DeviceNotFoundException;
+
     // Display info
     /**
      * Get information about the display device as product number, manufacturer, serial number, width and height in cm";
@@ -15,11 +15,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.net.SocketTimeoutException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
@@ -96,6 +100,10 @@ public class TeslaHandler extends BaseThingHandler {
     public static final int CONNECT_RETRY_INTERVAL = 15000;
     public static final int MAXIMUM_ERRORS_IN_INTERVAL = 2;
     public static final int ERROR_INTERVAL_SECONDS = 15;
+    public static final int EVENT_STATISTICS_INTERVAL = 60000;
+
+    // The columns of the event stream in the order of EventKeys, resolved once
+    protected static final TeslaChannelSelector[] EVENT_SELECTORS = getEventSelectors();
 
     private Logger logger = LoggerFactory.getLogger(TeslaHandler.class);
 
@@ -136,6 +144,9 @@ public class TeslaHandler extends BaseThingHandler {
     private JsonParser parser = new JsonParser();
     private TokenResponse logonToken;
 
+    // Last state of each channel, the event stream only updates channels whose state changed
+    protected Map<String, State> channelStates = new ConcurrentHashMap<>();
+
     public TeslaHandler(Thing thing, StorageService storageService) {
         super(thing);
         this.storageService = storageService;
@@ -148,6 +159,7 @@ public class TeslaHandler extends BaseThingHandler {
 
         updateStatus(ThingStatus.UNKNOWN);
 
+        channelStates.clear();
         lock = new ReentrantLock();
 
         lock.lock();
@@ -215,6 +227,7 @@ public class TeslaHandler extends BaseThingHandler {
             lock.unlock();
         }
 
+        channelStates.clear();
     }
 
     @Override
@@ -224,6 +237,8 @@ public class TeslaHandler extends BaseThingHandler {
         TeslaChannelSelector selector = TeslaChannelSelector.getValueSelectorFromChannelID(channelID);
 
         if (command instanceof RefreshType) {
+            // Forget the last states so that the next event updates every channel again
+            channelStates.clear();
             if (isAwake()) {
                 // Request the state of all known variables. This is sub-optimal, but the requests get scheduled and
                 // throttled so we are safe not to break the Tesla SLA
@@ -546,10 +561,10 @@ public class TeslaHandler extends BaseThingHandler {
                                     .getValueSelectorFromRESTID(entry.getKey());
                             if (!selector.isProperty()) {
                                 if (!entry.getValue().isJsonNull()) {
-                                    updateState(selector.getChannelID(), teslaChannelSelectorProxy
+                                    updateChannelState(selector.getChannelID(), teslaChannelSelectorProxy
                                             .getState(entry.getValue().getAsString(), selector, editProperties()));
                                 } else {
-                                    updateState(selector.getChannelID(), UnDefType.UNDEF);
+                                    updateChannelState(selector.getChannelID(), UnDefType.UNDEF);
                                 }
                             } else {
                                 if (!entry.getValue().isJsonNull()) {
@@ -570,6 +585,30 @@ public class TeslaHandler extends BaseThingHandler {
         }
     }
 
+    protected void updateChannelState(String channelID, State state) {
+        if (state != null) {
+            channelStates.put(channelID, state);
+        } else {
+            channelStates.remove(channelID);
+        }
+        updateState(channelID, state);
+    }
+
+    protected void updateChangedChannelState(String channelID, State state) {
+        if (state == null || !state.equals(channelStates.get(channelID))) {
+            updateChannelState(channelID, state);
+        }
+    }
+
+    private static TeslaChannelSelector[] getEventSelectors() {
+        EventKeys[] keys = EventKeys.values();
+        TeslaChannelSelector[] selectors = new TeslaChannelSelector[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            selectors[i] = TeslaChannelSelector.getValueSelectorFromRESTID(keys[i].toString());
+        }
+        return selectors;
+    }
+
     protected boolean isAwake() {
         return (vehicle != null) ? (vehicle.state != "asleep" && vehicle.vehicle_id != null) : false;
     }
@@ -873,6 +912,9 @@ public class TeslaHandler extends BaseThingHandler {
         long lastEventSystemTime = 0;
         long lastEventStreamEstablishedTime = 0;
         String lastEventTimeStamp = "";
+        long statisticsStartTime = System.currentTimeMillis();
+        long eventCount = 0;
+        long eventProcessingTime = 0;
         Response eventResponse;
         BufferedReader eventBufferedReader;
         InputStreamReader eventInputStreamReader;
@@ -913,6 +955,62 @@ public class TeslaHandler extends BaseThingHandler {
             }
         }
 
+        protected void processEvent(String[] vals) {
+            // Several columns can update the same channel (e.g. location), so only the final state is sent
+            Map<String, State> eventStates = new LinkedHashMap<>();
+            Map<String, String> properties = getThing().getProperties();
+            for (int i = 0; i < Math.min(vals.length, EVENT_SELECTORS.length); i++) {
+                TeslaChannelSelector selector = EVENT_SELECTORS[i];
+                try {
+                    if (!selector.isProperty()) {
+                        State newState = null;
+                        if (!vals[i].equals("")) {
+                            newState = teslaChannelSelectorProxy.getState(vals[i], selector, properties);
+                        }
+                        eventStates.put(selector.getChannelID(), newState != null ? newState : UnDefType.UNDEF);
+                    } else {
+                        String value = (selector.getState(vals[i])).toString();
+                        if (!value.equals(properties.get(selector.getChannelID()))) {
+                            Map<String, String> newProperties = editProperties();
+                            newProperties.put(selector.getChannelID(), value);
+                            updateProperties(newProperties);
+                            properties = getThing().getProperties();
+                        }
+                    }
+                } catch (Exception e) {
+                    logger.warn(
+                            "Event Stream : An exception occurred while processing an event received from the vehicle; '{}'",
+                            e.getMessage());
+                }
+            }
+
+            for (Map.Entry<String, State> entry : eventStates.entrySet()) {
+                updateChangedChannelState(entry.getKey(), entry.getValue());
+            }
+        }
+
+        protected void publishEventStatistics() {
+            long interval = System.currentTimeMillis() - statisticsStartTime;
+            if (interval < EVENT_STATISTICS_INTERVAL) {
+                return;
+            }
+
+            // Events per minute and the average processing time of an event in milliseconds
+            updateChangedChannelState(TeslaChannelSelector.EVENT_RATE.getChannelID(),
+                    new DecimalType(new BigDecimal(eventCount * 60000.0 / interval).setScale(1, RoundingMode.HALF_UP)));
+            if (eventCount > 0) {
+                updateChangedChannelState(TeslaChannelSelector.EVENT_PROCESSING_TIME.getChannelID(),
+                        new DecimalType(new BigDecimal(eventProcessingTime / eventCount)
+                                .divide(BigDecimal.valueOf(1000000), 3, RoundingMode.HALF_UP)));
+            } else {
+                updateChangedChannelState(TeslaChannelSelector.EVENT_PROCESSING_TIME.getChannelID(), UnDefType.UNDEF);
+            }
+
+            statisticsStartTime = System.currentTimeMillis();
+            eventCount = 0;
+            eventProcessingTime = 0;
+        }
+
         @Override
         public void run() {
             try {
@@ -958,35 +1056,14 @@ public class TeslaHandler extends BaseThingHandler {
                                     emptyLineCounter = 0;
                                     lastEventSystemTime = System.currentTimeMillis();
                                     logger.debug("Event Stream : Received an event: '{}'", line);
-                                    String vals[] = line.split(",");
+                                    long eventStartTime = System.nanoTime();
+                                    String vals[] = line.split(",", -1);
                                     if (!vals[0].equals(lastEventTimeStamp)) {
                                         lastEventTimeStamp = vals[0];
-                                        for (int i = 0; i < EventKeys.values().length; i++) {
-                                            try {
-                                                TeslaChannelSelector selector = TeslaChannelSelector
-                                                        .getValueSelectorFromRESTID((EventKeys.values()[i]).toString());
-                                                if (!selector.isProperty()) {
-                                                    State newState = teslaChannelSelectorProxy.getState(vals[i],
-                                                            selector, editProperties());
-                                                    if (newState != null && !vals[i].equals("")) {
-                                                        updateState(selector.getChannelID(), newState);
-                                                    } else {
-                                                        updateState(selector.getChannelID(), UnDefType.UNDEF);
-
-                                                    }
-                                                } else {
-                                                    Map<String, String> properties = editProperties();
-                                                    properties.put(selector.getChannelID(),
-                                                            (selector.getState(vals[i])).toString());
-                                                    updateProperties(properties);
-                                                }
-                                            } catch (Exception e) {
-                                                logger.warn(
-                                                        "Event Stream : An exception occurred while processing an event received from the vehicle; '{}'",
-                                                        e.getMessage());
-                                            }
-                                        }
+                                        processEvent(vals);
                                     }
+                                    eventCount++;
+                                    eventProcessingTime += System.nanoTime() - eventStartTime;
                                 } else {
                                     emptyLineCounter++;
                                     logger.trace("Event Stream : Empty Line # {}", emptyLineCounter);
@@ -1009,6 +1086,8 @@ public class TeslaHandler extends BaseThingHandler {
                             vehicle = queryVehicle();
                         }
                     }
+
+                    publishEventStatistics();
                 } else {
                     isEstablished = false;
                 }
@@ -8,10 +8,7 @@
  */
 package org.openhab.binding.tesla.internal;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.util.Calendar;
 import java.util.Map;
 
 import org.eclipse.smarthome.core.library.types.DateTimeType;
@@ -323,6 +320,8 @@ public class TeslaChannelSelectorProxy {
                 return super.getState(s);
             }
         },
+        EVENT_PROCESSING_TIME(null, "eventprocessingtime", DecimalType.class, false),
+        EVENT_RATE(null, "eventrate", DecimalType.class, false),
         FAN_STATUS("fan_status", "fan", DecimalType.class, false),
         FAST_CHARGER("fast_charger_present", "fastcharger", OnOffType.class, true) {
             @Override
@@ -869,11 +868,10 @@ public class TeslaChannelSelectorProxy {
         TIMESTAMP("timestamp", "eventstamp", DateTimeType.class, false) {
             @Override
             public State getState(String s, TeslaChannelSelectorProxy proxy, Map<String, String> properties) {
-                Date date = new Date();
-                SimpleDateFormat DATE_FORMATTER = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
-
-                date.setTime(Long.valueOf(s));
-                return super.getState(DATE_FORMATTER.format(date));
+                Calendar calendar = Calendar.getInstance();
+                calendar.setTimeInMillis(Long.valueOf(s));
+                calendar.set(Calendar.MILLISECOND, 0);
+                return new DateTimeType(calendar);
             }
         },
         TRIP_CARGING("trip_charging", "tripcharging", OnOffType.class, false) {
@@ -971,15 +969,20 @@ public class TeslaChannelSelectorProxy {
 
         public State getState(String s) {
             try {
-                Method valueOf = typeClass.getMethod("valueOf", String.class);
-                State state = (State) valueOf.invoke(typeClass, s);
-                if (state != null) {
-                    return state;
+                if (typeClass == DecimalType.class) {
+                    return DecimalType.valueOf(s);
+                } else if (typeClass == OnOffType.class) {
+                    return OnOffType.valueOf(s);
+                } else if (typeClass == StringType.class) {
+                    return StringType.valueOf(s);
+                } else if (typeClass == PercentType.class) {
+                    return PercentType.valueOf(s);
+                } else if (typeClass == OpenClosedType.class) {
+                    return OpenClosedType.valueOf(s);
+                } else if (typeClass == DateTimeType.class) {
+                    return DateTimeType.valueOf(s);
                 }
-            } catch (NoSuchMethodException e) {
             } catch (IllegalArgumentException e) {
-            } catch (IllegalAccessException e) {
-            } catch (InvocationTargetException e) {
             }
 
             return null;
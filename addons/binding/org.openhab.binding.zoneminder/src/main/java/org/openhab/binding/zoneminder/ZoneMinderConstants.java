@@ -46,6 +46,8 @@ public class ZoneMinderConstants {
     // Channel Id's for the ZoneMinder Server
     public static final String CHANNEL_SERVER_DISKUSAGE = "disk-usage";
     public static final String CHANNEL_SERVER_CPULOAD = "cpu-load";
+    public static final String CHANNEL_SERVER_API_REQUESTS = "api-requests";
+    public static final String CHANNEL_SERVER_API_LATENCY = "api-latency";
 
     // Parameters for the ZoneMinder Server
     public static final String PARAM_HOSTNAME = "hostname";
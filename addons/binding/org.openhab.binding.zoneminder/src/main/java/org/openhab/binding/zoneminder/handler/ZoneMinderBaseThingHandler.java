@@ -160,7 +160,19 @@ public abstract class ZoneMinderBaseThingHandler extends BaseThingHandler implem
         return ch.getUID();
     }
 
-    protected abstract void onFetchData();
+    protected abstract void onFetchData(DataRefreshPriorityEnum refreshPriority);
+
+    /**
+     * Records a request to the ZoneMinder API in the statistics of the bridge.
+     *
+     * @param startTime the value of {@link System#nanoTime()} before the request was sent
+     */
+    protected void recordRequest(long startTime) {
+        ZoneMinderServerBridgeHandler bridge = getZoneMinderBridgeHandler();
+        if (bridge != null) {
+            bridge.recordRequest(startTime);
+        }
+    }
 
     /**
      * Method to Refresh Thing Handler.
@@ -183,7 +195,7 @@ public abstract class ZoneMinderBaseThingHandler extends BaseThingHandler implem
                 logger.debug("{}: refreshThing(): Bridge '{}' Found for Thing '{}'!", getLogIdentifier(),
                         getThing().getUID(), this.getThing().getUID());
 
-                onFetchData();
+                onFetchData(refreshPriority);
             }
         }
 
@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.security.GeneralSecurityException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +44,7 @@ import org.openhab.binding.zoneminder.ZoneMinderConstants;
 import org.openhab.binding.zoneminder.ZoneMinderProperties;
 import org.openhab.binding.zoneminder.discovery.ZoneMinderDiscoveryService;
 import org.openhab.binding.zoneminder.internal.DataRefreshPriorityEnum;
+import org.openhab.binding.zoneminder.internal.ZoneMinderRequestStatistics;
 import org.openhab.binding.zoneminder.internal.config.ZoneMinderBridgeServerConfig;
 import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
@@ -73,6 +75,11 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
 
     public static final int TELNET_TIMEOUT = 5000;
 
+    /**
+     * A monitor snapshot younger than this is reused by the next refresh cycle (in milliseconds)
+     */
+    private static final long MONITOR_SNAPSHOT_MAX_AGE = 500;
+
     public static final Set<ThingTypeUID> SUPPORTED_THING_TYPES = Sets
             .newHashSet(ZoneMinderConstants.THING_TYPE_BRIDGE_ZONEMINDER_SERVER);
 
@@ -123,6 +130,16 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
     private String channelCpuLoad = "";
     private String channelDiskUsage = "";
 
+    /**
+     * Data of all monitors, fetched with one request per refresh cycle and shared by the monitor things. The map is
+     * replaced and never modified, monitor things read it without locking the bridge.
+     */
+    private volatile Map<String, IZoneMinderMonitorData> monitorSnapshot = new HashMap<>();
+    private volatile long monitorSnapshotTime = 0;
+    private final Object monitorSnapshotLock = new Object();
+
+    private final ZoneMinderRequestStatistics requestStatistics = new ZoneMinderRequestStatistics();
+
     Boolean isInitialized = false;
 
     private IZoneMinderSession zoneMinderSession = null;
@@ -191,6 +208,15 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
         @Override
         public void run() {
             try {
+                // Only fetch the monitor snapshot if any monitor is refreshed in this cycle
+                for (Thing thing : getThing().getThings()) {
+                    ZoneMinderBaseThingHandler thingHandler = (ZoneMinderBaseThingHandler) thing.getHandler();
+                    if ((thingHandler != null)
+                            && (thingHandler.getRefreshPriority() == DataRefreshPriorityEnum.HIGH_PRIORITY)) {
+                        refreshMonitorSnapshot(zoneMinderSession);
+                        break;
+                    }
+                }
 
                 // Make sure priority updates is done
                 for (Thing thing : getThing().getThings()) {
@@ -420,6 +446,9 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
         List<Channel> channels = getThing().getChannels();
         List<Thing> things = getThing().getThings();
 
+        // The API statistics are published per refresh interval
+        requestStatistics.nextInterval();
+
         IZoneMinderServer zoneMinderServerProxy = ZoneMinderFactory.getServerProxy(session);
         if (zoneMinderServerProxy == null) {
             logger.warn("{}:  Could not obtain ZonerMinderServerProxy ", getLogIdentifier());
@@ -434,7 +463,9 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
              */
             IZoneMinderHostLoad hostLoad = null;
             try {
+                long startTime = System.nanoTime();
                 hostLoad = zoneMinderServerProxy.getHostCpuLoad();
+                recordRequest(startTime);
                 logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
                         zoneMinderServerProxy.getHttpUrl(), zoneMinderServerProxy.getHttpResponseCode(),
                         zoneMinderServerProxy.getHttpResponseMessage());
@@ -458,7 +489,9 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
             if (fetchDiskUsage) {
                 IZoneMinderDiskUsage diskUsage = null;
                 try {
+                    long startTime = System.nanoTime();
                     diskUsage = zoneMinderServerProxy.getHostDiskUsage();
+                    recordRequest(startTime);
                     logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
                             zoneMinderServerProxy.getHttpUrl(), zoneMinderServerProxy.getHttpResponseCode(),
                             zoneMinderServerProxy.getHttpResponseMessage());
@@ -496,6 +529,7 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
         /*
          * Request Things attached to Bridge to refresh
          */
+        refreshMonitorSnapshot(session);
         for (Thing thing : things) {
             try {
 
@@ -913,6 +947,14 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
                     state = getServerCpuLoadState();
                     break;
 
+                case ZoneMinderConstants.CHANNEL_SERVER_API_REQUESTS:
+                    state = new DecimalType(requestStatistics.getRequestCount());
+                    break;
+
+                case ZoneMinderConstants.CHANNEL_SERVER_API_LATENCY:
+                    state = new DecimalType(requestStatistics.getAverageLatency());
+                    break;
+
                 default:
                     logger.warn("{}: updateChannel(): Server '{}': No handler defined for channel='{}'",
                             getLogIdentifier(), thing.getLabel(), channel.getAsString());
@@ -1131,13 +1173,82 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
         if (isOnline()) {
 
             IZoneMinderServer serverProxy = ZoneMinderFactory.getServerProxy(zoneMinderSession);
+            long startTime = System.nanoTime();
             ArrayList<IZoneMinderMonitorData> result = serverProxy.getMonitors();
+            recordRequest(startTime);
 
             return result;
         }
         return new ArrayList<IZoneMinderMonitorData>();
     }
 
+    /**
+     * Fetches the data of all monitors with one request, unless the current snapshot was taken within
+     * {@link #MONITOR_SNAPSHOT_MAX_AGE}. If the request fails the snapshot is cleared, so that the monitor things
+     * fall back to fetching their own data.
+     */
+    protected void refreshMonitorSnapshot(IZoneMinderSession session) {
+        // Checked outside of the snapshot lock, the bridge lock must not be taken while holding it
+        boolean connected = (session != null) && isConnected();
+        synchronized (monitorSnapshotLock) {
+            if ((System.currentTimeMillis() - monitorSnapshotTime) < MONITOR_SNAPSHOT_MAX_AGE) {
+                return;
+            }
+
+            invalidateMonitorSnapshot();
+            if (!connected) {
+                return;
+            }
+
+            IZoneMinderServer serverProxy = ZoneMinderFactory.getServerProxy(session);
+            long startTime = System.nanoTime();
+            ArrayList<IZoneMinderMonitorData> monitors = serverProxy.getMonitors();
+            recordRequest(startTime);
+            logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                    serverProxy.getHttpUrl(), serverProxy.getHttpResponseCode(), serverProxy.getHttpResponseMessage());
+
+            if (monitors == null) {
+                logger.warn("{}: Monitor snapshot could not be obtained (HTTP Response: Code='{}', Message='{}')",
+                        getLogIdentifier(), serverProxy.getHttpResponseCode(), serverProxy.getHttpResponseMessage());
+                return;
+            }
+
+            Map<String, IZoneMinderMonitorData> snapshot = new HashMap<String, IZoneMinderMonitorData>();
+            for (IZoneMinderMonitorData monitor : monitors) {
+                snapshot.put(monitor.getId(), monitor);
+            }
+            monitorSnapshot = snapshot;
+            monitorSnapshotTime = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Returns the data of a monitor from the snapshot of the current refresh cycle.
+     *
+     * @param zoneMinderId Id of the monitor in ZoneMinder
+     * @return monitor data or null if the monitor is not part of the snapshot
+     */
+    public IZoneMinderMonitorData getMonitorSnapshot(String zoneMinderId) {
+        return monitorSnapshot.get(zoneMinderId);
+    }
+
+    /**
+     * Discards the monitor snapshot, must be called after a monitor was changed.
+     */
+    public void invalidateMonitorSnapshot() {
+        monitorSnapshot = new HashMap<String, IZoneMinderMonitorData>();
+        monitorSnapshotTime = 0;
+    }
+
+    /**
+     * Records a request to the ZoneMinder API for the statistics of the bridge.
+     *
+     * @param startTime the value of {@link System#nanoTime()} before the request was sent
+     */
+    public void recordRequest(long startTime) {
+        requestStatistics.recordRequest(startTime);
+    }
+
     /*
      * This is experimental
      * Try to add different properties
@@ -252,10 +252,13 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
                         IZoneMinderMonitor monitorProxy = ZoneMinderFactory.getMonitorProxy(aquireSession(),
                                 getZoneMinderId());
                         try {
+                            long startTime = System.nanoTime();
                             monitorProxy.SetEnabled(newState);
+                            recordRequest(startTime);
                         } finally {
                             releaseSession();
                         }
+                        invalidateMonitorSnapshot();
 
                         channelEnabled = newState;
 
@@ -275,10 +278,13 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
                         IZoneMinderMonitor monitorProxy = ZoneMinderFactory.getMonitorProxy(aquireSession(),
                                 getZoneMinderId());
                         try {
+                            long startTime = System.nanoTime();
                             monitorProxy.SetFunction(commandString);
+                            recordRequest(startTime);
                         } finally {
                             releaseSession();
                         }
+                        invalidateMonitorSnapshot();
 
                         // Make sure local copy is set to new value
                         channelFunction = ZoneMinderMonitorFunctionEnum.getEnum(command.toString());
@@ -722,43 +728,65 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
     }
 
     @Override
-    protected void onFetchData() {
+    protected void onFetchData(DataRefreshPriorityEnum refreshPriority) {
 
         IZoneMinderSession session = null;
 
         session = aquireSession();
         try {
             IZoneMinderMonitor monitorProxy = ZoneMinderFactory.getMonitorProxy(session, getZoneMinderId());
+            ZoneMinderServerBridgeHandler bridge = getZoneMinderBridgeHandler();
 
             IZoneMinderMonitorData data = null;
             IZoneMinderDaemonStatus captureDaemon = null;
             IZoneMinderDaemonStatus analysisDaemon = null;
             IZoneMinderDaemonStatus frameDaemon = null;
+            long startTime;
 
-            data = monitorProxy.getMonitorData();
-            logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
-                    monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
-                    monitorProxy.getHttpResponseMessage());
-
-            captureDaemon = monitorProxy.getCaptureDaemonStatus();
-            logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
-                    monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
-                    monitorProxy.getHttpResponseMessage());
-
-            analysisDaemon = monitorProxy.getAnalysisDaemonStatus();
-            logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
-                    monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
-                    monitorProxy.getHttpResponseMessage());
+            // Monitor data is shared by all monitors, the bridge fetches it once per refresh cycle
+            if (bridge != null) {
+                data = bridge.getMonitorSnapshot(getZoneMinderId());
+            }
+            boolean dataValid = (data != null);
+            if (data == null) {
+                startTime = System.nanoTime();
+                data = monitorProxy.getMonitorData();
+                recordRequest(startTime);
+                logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                        monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
+                        monitorProxy.getHttpResponseMessage());
+                dataValid = (data.getHttpResponseCode() == 200);
+            }
 
-            frameDaemon = monitorProxy.getFrameDaemonStatus();
-            logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
-                    monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
-                    monitorProxy.getHttpResponseMessage());
+            // The daemons are only checked by the scheduled refresh, the priority refresh follows the alarm state
+            boolean fetchDaemons = (refreshPriority != DataRefreshPriorityEnum.HIGH_PRIORITY);
+            if (fetchDaemons) {
+                startTime = System.nanoTime();
+                captureDaemon = monitorProxy.getCaptureDaemonStatus();
+                recordRequest(startTime);
+                logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                        monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
+                        monitorProxy.getHttpResponseMessage());
+
+                startTime = System.nanoTime();
+                analysisDaemon = monitorProxy.getAnalysisDaemonStatus();
+                recordRequest(startTime);
+                logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                        monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
+                        monitorProxy.getHttpResponseMessage());
+
+                startTime = System.nanoTime();
+                frameDaemon = monitorProxy.getFrameDaemonStatus();
+                recordRequest(startTime);
+                logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                        monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
+                        monitorProxy.getHttpResponseMessage());
+            }
 
-            if ((data.getHttpResponseCode() != 200) || (captureDaemon.getHttpResponseCode() != 200)
-                    || (analysisDaemon.getHttpResponseCode() != 200) || (frameDaemon.getHttpResponseCode() != 200)) {
+            if (!dataValid || (fetchDaemons && ((captureDaemon.getHttpResponseCode() != 200)
+                    || (analysisDaemon.getHttpResponseCode() != 200) || (frameDaemon.getHttpResponseCode() != 200)))) {
 
-                if (data.getHttpResponseCode() != 200) {
+                if (!dataValid) {
                     logger.warn("{}: HTTP Response MonitorData: Code='{}', Message'{}'", getLogIdentifier(),
                             data.getHttpResponseCode(), data.getHttpResponseMessage());
 
@@ -767,19 +795,19 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
                     channelEnabled = false;
                     channelEventCause = "";
                 }
-                if (captureDaemon.getHttpResponseCode() != 200) {
+                if (fetchDaemons && (captureDaemon.getHttpResponseCode() != 200)) {
                     channelDaemonCapture = false;
                     logger.warn("{}: HTTP Response CaptureDaemon: Code='{}', Message'{}'", getLogIdentifier(),
                             captureDaemon.getHttpResponseCode(), captureDaemon.getHttpResponseMessage());
 
                 }
-                if (analysisDaemon.getHttpResponseCode() != 200) {
+                if (fetchDaemons && (analysisDaemon.getHttpResponseCode() != 200)) {
                     channelDaemonAnalysis = false;
 
                     logger.warn("{}: HTTP Response AnalysisDaemon: Code='{}', Message='{}'", getLogIdentifier(),
                             analysisDaemon.getHttpResponseCode(), analysisDaemon.getHttpResponseMessage());
                 }
-                if (frameDaemon.getHttpResponseCode() != 200) {
+                if (fetchDaemons && (frameDaemon.getHttpResponseCode() != 200)) {
                     channelDaemonFrame = false;
                     logger.warn("{}: HTTP Response MonitorData: Code='{}', Message'{}'", getLogIdentifier(),
                             frameDaemon.getHttpResponseCode(), frameDaemon.getHttpResponseMessage());
@@ -787,23 +815,35 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
 
             } else {
                 if (isConnected()) {
+                    startTime = System.nanoTime();
                     channelMonitorStatus = monitorProxy.getMonitorDetailedStatus();
+                    recordRequest(startTime);
                     logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
                             monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
                             monitorProxy.getHttpResponseMessage());
 
                     channelFunction = data.getFunction();
                     channelEnabled = data.getEnabled();
-                    IZoneMinderEventData event = monitorProxy.getLastEvent();
-                    if (event != null) {
-                        channelEventCause = event.getCause();
-                    } else {
+
+                    // An idle monitor has no active event, RecalculateChannelStates() clears the cause
+                    if (channelMonitorStatus == ZoneMinderMonitorStatusEnum.IDLE) {
                         channelEventCause = "";
+                    } else {
+                        startTime = System.nanoTime();
+                        IZoneMinderEventData event = monitorProxy.getLastEvent();
+                        recordRequest(startTime);
+                        if (event != null) {
+                            channelEventCause = event.getCause();
+                        } else {
+                            channelEventCause = "";
+                        }
                     }
 
-                    channelDaemonCapture = captureDaemon.getStatus();
-                    channelDaemonAnalysis = analysisDaemon.getStatus();
-                    channelDaemonFrame = frameDaemon.getStatus();
+                    if (fetchDaemons) {
+                        channelDaemonCapture = captureDaemon.getStatus();
+                        channelDaemonAnalysis = analysisDaemon.getStatus();
+                        channelDaemonFrame = frameDaemon.getStatus();
+                    }
                 } else {
                     channelMonitorStatus = ZoneMinderMonitorStatusEnum.UNKNOWN;
                     channelFunction = ZoneMinderMonitorFunctionEnum.NONE;
@@ -827,6 +867,16 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
 
     }
 
+    /**
+     * The monitor was changed, so the snapshot of the bridge must not be used by the next refresh.
+     */
+    private void invalidateMonitorSnapshot() {
+        ZoneMinderServerBridgeHandler bridge = getZoneMinderBridgeHandler();
+        if (bridge != null) {
+            bridge.invalidateMonitorSnapshot();
+        }
+    }
+
     protected State getDetailedStatus() {
         State state = UnDefType.UNDEF;
 
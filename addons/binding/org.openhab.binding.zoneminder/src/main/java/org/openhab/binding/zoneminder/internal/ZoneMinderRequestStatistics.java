@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.zoneminder.internal;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the HTTP requests sent to the ZoneMinder API and their response time. The values are collected per
+ * refresh interval, {@link #nextInterval()} closes the current interval and makes its values available.
+ *
+ * @author agent - Initial contribution
+ */
+public class ZoneMinderRequestStatistics {
+
+    private int requestCount = 0;
+    private long requestTimeNanos = 0;
+
+    private int lastRequestCount = 0;
+    private long lastAverageLatency = 0;
+
+    /**
+     * Records one request.
+     *
+     * @param startTime the value of {@link System#nanoTime()} before the request was sent
+     */
+    public synchronized void recordRequest(long startTime) {
+        requestCount++;
+        requestTimeNanos += System.nanoTime() - startTime;
+    }
+
+    /**
+     * Closes the current interval and starts a new one.
+     */
+    public synchronized void nextInterval() {
+        lastRequestCount = requestCount;
+        lastAverageLatency = (requestCount == 0) ? 0
+                : TimeUnit.NANOSECONDS.toMillis(requestTimeNanos / requestCount);
+        requestCount = 0;
+        requestTimeNanos = 0;
+    }
+
+    /**
+     * @return number of requests in the last closed interval
+     */
+    public synchronized int getRequestCount() {
+        return lastRequestCount;
+    }
+
+    /**
+     * @return average response time in milliseconds of the requests in the last closed interval
+     */
+    public synchronized long getAverageLatency() {
+        return lastAverageLatency;
+    }
+}
@@ -33,4 +33,19 @@ public interface Homekit {
      * @param allow boolean indicating whether or not to allow unauthenticated requests
      */
     void allowUnauthenticatedRequests(boolean allow);
+
+    /**
+     * @return the number of characteristic change notifications sent to HomeKit clients
+     */
+    long getSentNotifications();
+
+    /**
+     * @return the number of characteristic changes merged into an already pending notification
+     */
+    long getCoalescedNotifications();
+
+    /**
+     * @return the number of pending notifications discarded because the characteristic was unsubscribed
+     */
+    long getDroppedNotifications();
 }
@@ -39,13 +39,15 @@ class HomekitAccessoryRegistry {
 
     private final Logger logger = LoggerFactory.getLogger(HomekitAccessoryRegistry.class);
 
-    public void remove(HomekitTaggedItem taggedItem) {
+    public synchronized void remove(HomekitTaggedItem taggedItem) {
         Iterator<HomekitAccessory> i = createdAccessories.iterator();
         while (i.hasNext()) {
             HomekitAccessory accessory = i.next();
             if (accessory.getId() == taggedItem.getId()) {
                 logger.debug("Removed accessory {}", accessory.getId());
-                bridge.removeAccessory(accessory);
+                if (bridge != null) {
+                    bridge.removeAccessory(accessory);
+                }
                 i.remove();
             }
         }
@@ -53,14 +55,19 @@ class HomekitAccessoryRegistry {
 
     public synchronized void clear() {
         while (!createdAccessories.isEmpty()) {
-            bridge.removeAccessory(createdAccessories.remove(0));
+            HomekitAccessory accessory = createdAccessories.remove(0);
+            if (bridge != null) {
+                bridge.removeAccessory(accessory);
+            }
         }
         createdIds.clear();
     }
 
     public synchronized void setBridge(HomekitRoot bridge) {
         this.bridge = bridge;
-        createdAccessories.forEach(accessory -> bridge.addAccessory(accessory));
+        if (bridge != null) {
+            createdAccessories.forEach(accessory -> bridge.addAccessory(accessory));
+        }
     }
 
     public synchronized void addRootDevice(HomekitAccessory accessory) {
@@ -10,7 +10,12 @@ package org.openhab.io.homekit.internal;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.items.GenericItem;
 import org.eclipse.smarthome.core.items.Item;
 import org.eclipse.smarthome.core.items.StateChangeListener;
@@ -26,12 +31,24 @@ import com.beowulfe.hap.HomekitCharacteristicChangeCallback;
  * Homekit library takes care of insuring only a single subscription exists for
  * each accessory.
  *
+ * Notifications are sent from a separate thread and are rate limited per subscription:
+ * changes arriving within the minimum notification interval are coalesced into a single
+ * notification. As Homekit reads the current value when the notification is sent, the
+ * latest value always wins.
+ *
  * @author Andy Lintner
  */
 public class HomekitAccessoryUpdater {
 
+    private static final String THREADPOOL_NAME = "homekit";
+
     private Logger logger = LoggerFactory.getLogger(HomekitAccessoryUpdater.class);
     private final ConcurrentMap<ItemKey, Subscription> subscriptionsByName = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(THREADPOOL_NAME);
+    private final AtomicLong sentNotifications = new AtomicLong();
+    private final AtomicLong coalescedNotifications = new AtomicLong();
+    private final AtomicLong droppedNotifications = new AtomicLong();
+    private volatile long minimumNotificationInterval = HomekitSettings.DEFAULT_MINIMUM_NOTIFICATION_INTERVAL;
 
     public void subscribe(GenericItem item, HomekitCharacteristicChangeCallback callback) {
         subscribe(item, null, callback);
@@ -50,7 +67,7 @@ public class HomekitAccessoryUpdater {
                 logger.error("Received duplicate subscription on {}", item.getName());
                 unsubscribe(item, key);
             }
-            Subscription subscription = (changedItem, oldState, newState) -> callback.changed();
+            Subscription subscription = new Subscription(callback);
             item.addStateChangeListener(subscription);
             return subscription;
         });
@@ -66,20 +83,105 @@ public class HomekitAccessoryUpdater {
         }
         subscriptionsByName.computeIfPresent(new ItemKey(item, key), (k, v) -> {
             item.removeStateChangeListener(v);
+            v.cancel();
             return null;
         });
     }
 
-    @FunctionalInterface
-    private static interface Subscription extends StateChangeListener {
+    /**
+     * Sets the minimum time between two notifications of the same characteristic
+     *
+     * @param minimumNotificationInterval interval in milliseconds, 0 disables coalescing
+     */
+    public void setMinimumNotificationInterval(long minimumNotificationInterval) {
+        this.minimumNotificationInterval = Math.max(0, minimumNotificationInterval);
+    }
+
+    /**
+     * @return the number of change notifications sent to Homekit
+     */
+    public long getSentNotifications() {
+        return sentNotifications.get();
+    }
+
+    /**
+     * @return the number of changes which were merged into an already pending notification
+     */
+    public long getCoalescedNotifications() {
+        return coalescedNotifications.get();
+    }
+
+    /**
+     * @return the number of pending notifications which were discarded on unsubscribe
+     */
+    public long getDroppedNotifications() {
+        return droppedNotifications.get();
+    }
+
+    /**
+     * Moves all subscriptions of an item to a new instance of the same item, as happens when an item
+     * is updated in the registry without changes relevant to Homekit.
+     *
+     * @param oldItem
+     * @param newItem
+     */
+    public void transferSubscriptions(GenericItem oldItem, GenericItem newItem) {
+        for (ItemKey itemKey : subscriptionsByName.keySet()) {
+            if (itemKey.item == oldItem) {
+                Subscription subscription = subscriptionsByName.remove(itemKey);
+                if (subscription != null) {
+                    oldItem.removeStateChangeListener(subscription);
+                    newItem.addStateChangeListener(subscription);
+                    subscriptionsByName.put(new ItemKey(newItem, itemKey.key), subscription);
+                }
+            }
+        }
+    }
+
+    private class Subscription implements StateChangeListener {
+        private final HomekitCharacteristicChangeCallback callback;
+        private ScheduledFuture<?> pendingNotification;
+        private long lastNotification;
+
+        public Subscription(HomekitCharacteristicChangeCallback callback) {
+            this.callback = callback;
+        }
 
         @Override
-        void stateChanged(Item item, State oldState, State newState);
+        public synchronized void stateChanged(Item item, State oldState, State newState) {
+            if (pendingNotification != null) {
+                coalescedNotifications.incrementAndGet();
+                return;
+            }
+            long delay = Math.max(0, lastNotification + minimumNotificationInterval - System.currentTimeMillis());
+            pendingNotification = scheduler.schedule(() -> notifyChanged(), delay, TimeUnit.MILLISECONDS);
+        }
 
         @Override
-        default void stateUpdated(Item item, State state) {
+        public void stateUpdated(Item item, State state) {
             // Do nothing on non-change update
         }
+
+        public synchronized void cancel() {
+            if (pendingNotification != null) {
+                pendingNotification.cancel(false);
+                pendingNotification = null;
+                droppedNotifications.incrementAndGet();
+            }
+        }
+
+        private void notifyChanged() {
+            synchronized (this) {
+                pendingNotification = null;
+                lastNotification = System.currentTimeMillis();
+            }
+            try {
+                callback.changed();
+                sentNotifications.incrementAndGet();
+            } catch (Exception e) {
+                logger.debug("Could not notify homekit of change: {}", e.getMessage(), e);
+            }
+        }
     }
 
     private static class ItemKey {
@@ -9,7 +9,16 @@
 package org.openhab.io.homekit.internal;
 
 import java.util.Collection;
-
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.eclipse.smarthome.core.items.GenericItem;
 import org.eclipse.smarthome.core.items.Item;
 import org.eclipse.smarthome.core.items.ItemRegistry;
 import org.eclipse.smarthome.core.items.ItemRegistryChangeListener;
@@ -23,27 +32,34 @@ import com.beowulfe.hap.HomekitRoot;
  * Listens for changes to the item registry. When changes are detected, check
  * for Homekit tags and, if present, add the items to the HomekitAccessoryRegistry.
  *
+ * Changes are staged and applied in a single batch once the registry has been quiet for
+ * {@link #COMMIT_DELAY} milliseconds, as every accessory change on a running bridge makes the
+ * clients reload the accessory database. Staged changes are committed at the latest
+ * {@link #MAX_COMMIT_DELAY} milliseconds after the first one, even if the registry keeps changing.
+ *
  * @author Andy Lintner
  */
 public class HomekitChangeListener implements ItemRegistryChangeListener {
 
+    private static final String THREADPOOL_NAME = "homekit";
+    private static final long COMMIT_DELAY = 1000;
+    private static final long MAX_COMMIT_DELAY = 10000;
+
     private ItemRegistry itemRegistry;
     private HomekitAccessoryUpdater updater = new HomekitAccessoryUpdater();
     private Logger logger = LoggerFactory.getLogger(HomekitChangeListener.class);
     private final HomekitAccessoryRegistry accessoryRegistry = new HomekitAccessoryRegistry();
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(THREADPOOL_NAME);
+    private final Map<String, Item> pendingRemovals = new LinkedHashMap<>();
+    private final Map<String, Item> pendingAdditions = new LinkedHashMap<>();
+    private ScheduledFuture<?> commitJob;
+    private long firstPendingChange = 0;
     private HomekitSettings settings;
 
     @Override
     public synchronized void added(Item item) {
-        HomekitTaggedItem taggedItem = new HomekitTaggedItem(item, itemRegistry);
-        if (taggedItem.isTagged()) {
-            if (taggedItem.isRootDevice()) {
-                createRootDevice(taggedItem);
-            }
-            if (taggedItem.isCharacteristic()) {
-                createCharacteristic(taggedItem);
-            }
-        }
+        pendingAdditions.put(item.getName(), item);
+        scheduleCommit();
     }
 
     @Override
@@ -53,19 +69,74 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     @Override
     public synchronized void removed(Item item) {
-        HomekitTaggedItem taggedItem = new HomekitTaggedItem(item, itemRegistry);
-        if (taggedItem.isTagged()) {
-            accessoryRegistry.remove(taggedItem);
+        String name = item.getName();
+        // an item added and removed within the same batch was never committed
+        if (pendingAdditions.remove(name) == null && !pendingRemovals.containsKey(name)) {
+            pendingRemovals.put(name, item);
         }
+        scheduleCommit();
     }
 
     @Override
-    public void updated(Item oldElement, Item element) {
-        removed(oldElement);
-        added(element);
+    public synchronized void updated(Item oldElement, Item element) {
+        String name = element.getName();
+        // only the committed version of the item has to be removed
+        if (!pendingAdditions.containsKey(name) && !pendingRemovals.containsKey(name)) {
+            pendingRemovals.put(name, oldElement);
+        }
+        pendingAdditions.put(name, element);
+        scheduleCommit();
+    }
+
+    /**
+     * Applies all staged item changes to the accessory registry. Updates which do not change the
+     * accessory structure only move the state subscriptions to the new item instance.
+     */
+    public synchronized void commit() {
+        if (commitJob != null) {
+            commitJob.cancel(false);
+            commitJob = null;
+        }
+        firstPendingChange = 0;
+        if (pendingRemovals.isEmpty() && pendingAdditions.isEmpty()) {
+            return;
+        }
+        Set<String> names = new LinkedHashSet<>(pendingRemovals.keySet());
+        names.addAll(pendingAdditions.keySet());
+        logger.debug("Committing {} homekit item changes", names.size());
+        for (String name : names) {
+            Item oldItem = pendingRemovals.get(name);
+            Item newItem = pendingAdditions.get(name);
+            if (oldItem != null && newItem != null && isStructurallyEqual(oldItem, newItem)) {
+                logger.trace("Skipping structurally identical update of {}", name);
+                if (oldItem instanceof GenericItem && newItem instanceof GenericItem) {
+                    updater.transferSubscriptions((GenericItem) oldItem, (GenericItem) newItem);
+                }
+                pendingAdditions.remove(name);
+            } else if (oldItem != null) {
+                HomekitTaggedItem taggedItem = new HomekitTaggedItem(oldItem, itemRegistry);
+                if (taggedItem.isTagged()) {
+                    accessoryRegistry.remove(taggedItem);
+                }
+            }
+        }
+        for (Item item : pendingAdditions.values()) {
+            HomekitTaggedItem taggedItem = new HomekitTaggedItem(item, itemRegistry);
+            if (taggedItem.isTagged()) {
+                if (taggedItem.isRootDevice()) {
+                    createRootDevice(taggedItem);
+                }
+                if (taggedItem.isCharacteristic()) {
+                    createCharacteristic(taggedItem);
+                }
+            }
+        }
+        pendingRemovals.clear();
+        pendingAdditions.clear();
     }
 
     public synchronized void clearAccessories() {
+        cancelCommit();
         accessoryRegistry.clear();
     }
 
@@ -77,20 +148,57 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         this.itemRegistry = itemRegistry;
         itemRegistry.addRegistryChangeListener(this);
         itemRegistry.getAll().forEach(item -> added(item));
+        commit();
     }
 
     public void setUpdater(HomekitAccessoryUpdater updater) {
         this.updater = updater;
     }
 
+    public HomekitAccessoryUpdater getUpdater() {
+        return updater;
+    }
+
     public void setSettings(HomekitSettings settings) {
         this.settings = settings;
+        updater.setMinimumNotificationInterval(settings.getMinimumNotificationInterval());
     }
 
     public void stop() {
         if (this.itemRegistry != null) {
             this.itemRegistry.removeRegistryChangeListener(this);
         }
+        synchronized (this) {
+            cancelCommit();
+        }
+    }
+
+    private void scheduleCommit() {
+        long now = System.currentTimeMillis();
+        if (firstPendingChange == 0) {
+            firstPendingChange = now;
+        }
+        if (commitJob != null) {
+            commitJob.cancel(false);
+        }
+        long delay = Math.max(0, Math.min(COMMIT_DELAY, firstPendingChange + MAX_COMMIT_DELAY - now));
+        commitJob = scheduler.schedule(() -> commit(), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelCommit() {
+        if (commitJob != null) {
+            commitJob.cancel(false);
+            commitJob = null;
+        }
+        firstPendingChange = 0;
+        pendingRemovals.clear();
+        pendingAdditions.clear();
+    }
+
+    private boolean isStructurallyEqual(Item oldItem, Item newItem) {
+        HomekitTaggedItem oldTaggedItem = new HomekitTaggedItem(oldItem, itemRegistry);
+        HomekitTaggedItem newTaggedItem = new HomekitTaggedItem(newItem, itemRegistry);
+        return oldTaggedItem.isStructurallyEqual(newTaggedItem);
     }
 
     private void createRootDevice(HomekitTaggedItem taggedItem) {
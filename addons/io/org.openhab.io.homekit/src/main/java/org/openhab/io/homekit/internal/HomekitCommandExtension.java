@@ -27,6 +27,7 @@ public class HomekitCommandExtension extends AbstractConsoleCommandExtension {
 
     private static final String SUBCMD_CLEAR_PAIRINGS = "clearPairings";
     private static final String SUBCMD_ALLOW_UNAUTHENTICATED = "allowUnauthenticated";
+    private static final String SUBCMD_NOTIFICATION_STATS = "notificationStats";
 
     private final Logger logger = LoggerFactory.getLogger(HomekitCommandExtension.class);
     private StorageService storageService;
@@ -54,6 +55,10 @@ public class HomekitCommandExtension extends AbstractConsoleCommandExtension {
                     }
                     break;
 
+                case SUBCMD_NOTIFICATION_STATS:
+                    printNotificationStatistics(console);
+                    break;
+
                 default:
                     console.println("Unknown command '" + subCommand + "'");
                     printUsage(console);
@@ -67,7 +72,9 @@ public class HomekitCommandExtension extends AbstractConsoleCommandExtension {
         return Arrays.asList(
                 new String[] { buildCommandUsage(SUBCMD_CLEAR_PAIRINGS, "removes all pairings with Homekit clients"),
                         buildCommandUsage(SUBCMD_ALLOW_UNAUTHENTICATED + " <boolean>",
-                                "enables or disables unauthenticated access to facilitate debugging") });
+                                "enables or disables unauthenticated access to facilitate debugging"),
+                        buildCommandUsage(SUBCMD_NOTIFICATION_STATS,
+                                "shows the number of sent, coalesced and dropped change notifications") });
     }
 
     public void setStorageService(StorageService storageService) {
@@ -93,4 +100,10 @@ public class HomekitCommandExtension extends AbstractConsoleCommandExtension {
         console.println((allow ? "Enabled " : "Disabled ") + "unauthenticated homekit access");
     }
 
+    private void printNotificationStatistics(Console console) {
+        console.println("Sent notifications:      " + homekit.getSentNotifications());
+        console.println("Coalesced notifications: " + homekit.getCoalescedNotifications());
+        console.println("Dropped notifications:   " + homekit.getDroppedNotifications());
+    }
+
 }
@@ -88,11 +88,27 @@ public class HomekitImpl implements Homekit {
         }
     }
 
+    @Override
+    public long getSentNotifications() {
+        return changeListener.getUpdater().getSentNotifications();
+    }
+
+    @Override
+    public long getCoalescedNotifications() {
+        return changeListener.getUpdater().getCoalescedNotifications();
+    }
+
+    @Override
+    public long getDroppedNotifications() {
+        return changeListener.getUpdater().getDroppedNotifications();
+    }
+
     private void start() throws IOException, InvalidAlgorithmParameterException {
         homekit = new HomekitServer(settings.getNetworkInterface(), settings.getPort());
         bridge = homekit.createBridge(new HomekitAuthInfoImpl(storageService, settings.getPin()), settings.getName(),
                 settings.getManufacturer(), settings.getModel(), settings.getSerialNumber());
-        bridge.start();
+        // add the accessories before starting, so the bridge publishes its accessory database only once
         changeListener.setBridge(bridge);
+        bridge.start();
     }
 }
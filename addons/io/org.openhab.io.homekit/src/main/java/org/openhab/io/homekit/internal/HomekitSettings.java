@@ -24,6 +24,7 @@ public class HomekitSettings {
     private static final String NAME = "openHAB";
     private static final String MANUFACTURER = "openHAB";
     private static final String SERIAL_NUMBER = "none";
+    static final long DEFAULT_MINIMUM_NOTIFICATION_INTERVAL = 500;
 
     private int port = 9123;
     private String pin = "031-45-154";
@@ -35,6 +36,7 @@ public class HomekitSettings {
     private String thermostatAutoMode = "Auto";
     private String thermostatOffMode = "Off";
     private InetAddress networkInterface;
+    private long minimumNotificationInterval = DEFAULT_MINIMUM_NOTIFICATION_INTERVAL;
 
     public void fill(Dictionary<String, ?> properties) throws UnknownHostException {
         Object port = properties.get("port");
@@ -69,6 +71,11 @@ public class HomekitSettings {
         this.thermostatAutoMode = (String) properties.get("thermostatAutoMode");
         this.thermostatOffMode = (String) properties.get("thermostatOffMode");
 
+        Object minimumNotificationInterval = properties.get("minimumNotificationInterval");
+        if (minimumNotificationInterval != null) {
+            this.minimumNotificationInterval = Long.parseLong(minimumNotificationInterval.toString());
+        }
+
         String networkInterface = (String) properties.get("networkInterface");
         if (networkInterface == null) {
             this.networkInterface = InetAddress.getLocalHost();
@@ -137,6 +144,10 @@ public class HomekitSettings {
         return thermostatOffMode;
     }
 
+    public long getMinimumNotificationInterval() {
+        return minimumNotificationInterval;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -146,6 +157,7 @@ public class HomekitSettings {
         result = prime * result + (int) (temp ^ (temp >>> 32));
         temp = Double.doubleToLongBits(minimumTemperature);
         result = prime * result + (int) (temp ^ (temp >>> 32));
+        result = prime * result + (int) (minimumNotificationInterval ^ (minimumNotificationInterval >>> 32));
         result = prime * result + ((pin == null) ? 0 : pin.hashCode());
         result = prime * result + port;
         result = prime * result + ((thermostatAutoMode == null) ? 0 : thermostatAutoMode.hashCode());
@@ -174,6 +186,9 @@ public class HomekitSettings {
         if (Double.doubleToLongBits(minimumTemperature) != Double.doubleToLongBits(other.minimumTemperature)) {
             return false;
         }
+        if (minimumNotificationInterval != other.minimumNotificationInterval) {
+            return false;
+        }
         if (pin == null) {
             if (other.pin != null) {
                 return false;
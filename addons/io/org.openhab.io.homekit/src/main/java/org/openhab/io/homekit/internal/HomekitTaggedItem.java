@@ -9,9 +9,11 @@
 package org.openhab.io.homekit.internal;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.eclipse.smarthome.core.items.GroupItem;
 import org.eclipse.smarthome.core.items.Item;
 import org.eclipse.smarthome.core.items.ItemRegistry;
 import org.eclipse.smarthome.core.library.items.ColorItem;
@@ -99,6 +101,29 @@ public class HomekitTaggedItem {
         return id;
     }
 
+    /**
+     * Checks whether the other tagged item results in the same accessory or characteristic, i.e. only
+     * attributes that are not exposed to Homekit differ.
+     *
+     * @param other
+     * @return true if both tagged items would create identical accessories
+     */
+    public boolean isStructurallyEqual(HomekitTaggedItem other) {
+        return id == other.id && homekitDeviceType == other.homekitDeviceType
+                && homekitCharacteristicType == other.homekitCharacteristicType
+                && item.getClass() == other.item.getClass() && Objects.equals(item.getLabel(), other.item.getLabel())
+                && Objects.equals(item.getTags(), other.item.getTags())
+                && Objects.equals(item.getGroupNames(), other.item.getGroupNames())
+                && Objects.equals(getBaseItemClass(item), getBaseItemClass(other.item));
+    }
+
+    private static Class<?> getBaseItemClass(Item item) {
+        if (item instanceof GroupItem && ((GroupItem) item).getBaseItem() != null) {
+            return ((GroupItem) item).getBaseItem().getClass();
+        }
+        return null;
+    }
+
     private int calculateId(Item item) {
         int id = new HashCodeBuilder().append(item.getName()).hashCode();
         if (id < 0) {
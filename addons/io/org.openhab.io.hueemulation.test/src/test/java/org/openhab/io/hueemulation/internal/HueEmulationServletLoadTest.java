@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.hueemulation.internal;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.smarthome.core.events.Event;
+import org.eclipse.smarthome.core.events.EventPublisher;
+import org.eclipse.smarthome.core.items.GroupItem;
+import org.eclipse.smarthome.core.items.Item;
+import org.eclipse.smarthome.core.items.ItemNotFoundException;
+import org.eclipse.smarthome.core.items.ItemRegistry;
+import org.eclipse.smarthome.core.library.items.SwitchItem;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local load test of the {@link HueEmulationServlet}. Switches a group of lights off the way an Amazon Echo does, by
+ * one PUT per light, and compares it with a single PUT to the action of the group.
+ *
+ * @author agent - Initial contribution
+ * @since 2.1.0
+ */
+public class HueEmulationServletLoadTest {
+    private static final String USER = "loadtest";
+    private static final String GROUP = "Downstairs";
+    private static final String OFF = "{\"on\":false}";
+    private static final int LIGHTS = 50;
+    private static final int ROUNDS = 200;
+
+    private final Logger logger = LoggerFactory.getLogger(HueEmulationServletLoadTest.class);
+
+    private final Map<String, Item> items = new HashMap<>();
+    private final AtomicInteger events = new AtomicInteger();
+    private final EventPublisher eventPublisher = new EventPublisher() {
+        @Override
+        public void post(Event event) {
+            events.incrementAndGet();
+        }
+    };
+    private HueEmulationServlet servlet;
+
+    @Before
+    public void setUp() throws Exception {
+        GroupItem group = new GroupItem(GROUP, new SwitchItem(GROUP));
+        group.addTag("Lighting");
+        items.put(GROUP, group);
+        for (int i = 0; i < LIGHTS; i++) {
+            SwitchItem light = new SwitchItem("Light" + i);
+            light.addTag("Lighting");
+            group.addMember(light);
+            items.put(light.getName(), light);
+        }
+
+        servlet = new HueEmulationServlet();
+        servlet.setItemRegistry(proxy(ItemRegistry.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if ("getItem".equals(method.getName())) {
+                    Item item = items.get(args[0]);
+                    if (item == null) {
+                        throw new ItemNotFoundException((String) args[0]);
+                    }
+                    return item;
+                }
+                if ("getItems".equals(method.getName()) && method.getParameterTypes().length == 0) {
+                    return new ArrayList<>(items.values());
+                }
+                throw new UnsupportedOperationException(method.getName());
+            }
+        }));
+        servlet.setEventPublisher(eventPublisher);
+
+        // the user file is not touched as long as pairing is disabled
+        Field userNames = HueEmulationServlet.class.getDeclaredField("userNames");
+        userNames.setAccessible(true);
+        @SuppressWarnings("unchecked")
+        List<String> names = (List<String>) userNames.get(servlet);
+        names.add(USER);
+    }
+
+    @Test
+    public void testGroupActionComparedWithLightPuts() throws Exception {
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < LIGHTS; i++) {
+                assertSuccess(put("/api/" + USER + "/lights/Light" + i + "/state", OFF));
+            }
+        }
+        long lightNanos = System.nanoTime() - start;
+        // posts the commands still held back by the coalescer
+        servlet.unsetEventPublisher(eventPublisher);
+        int lightEvents = events.getAndSet(0);
+
+        servlet.setEventPublisher(eventPublisher);
+        start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            assertSuccess(put("/api/" + USER + "/groups/" + GROUP + "/action", OFF));
+        }
+        long groupNanos = System.nanoTime() - start;
+        servlet.unsetEventPublisher(eventPublisher);
+        int groupEvents = events.getAndSet(0);
+
+        logger.info("{} rounds of {} light PUTs: {} ms, {} requests/s, {} commands posted", ROUNDS, LIGHTS,
+                lightNanos / 1000000, perSecond(ROUNDS * LIGHTS, lightNanos), lightEvents);
+        logger.info("{} group action PUTs: {} ms, {} requests/s, {} commands posted", ROUNDS, groupNanos / 1000000,
+                perSecond(ROUNDS, groupNanos), groupEvents);
+
+        // every light is switched at least once, repeated commands within the coalescing delay are dropped
+        assertTrue(lightEvents >= LIGHTS);
+        assertTrue(lightEvents <= ROUNDS * LIGHTS);
+        // one command per group action, whatever the number of lights
+        assertEquals(ROUNDS, groupEvents);
+    }
+
+    private static long perSecond(int requests, long nanos) {
+        return nanos > 0 ? requests * 1000000000L / nanos : requests;
+    }
+
+    private static void assertSuccess(String response) {
+        assertTrue(response, response.contains("\"success\""));
+    }
+
+    /**
+     * Sends a PUT request to the servlet
+     *
+     * @param uri
+     * @param body
+     * @return
+     *         the response body
+     */
+    private String put(final String uri, final String body) throws Exception {
+        HttpServletRequest req = proxy(HttpServletRequest.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "getRequestURI":
+                        return uri;
+                    case "getMethod":
+                        return "PUT";
+                    case "getReader":
+                        return new BufferedReader(new StringReader(body));
+                    case "getRemoteAddr":
+                        return "127.0.0.1";
+                    default:
+                        return null;
+                }
+            }
+        });
+        final StringWriter content = new StringWriter();
+        final PrintWriter writer = new PrintWriter(content);
+        HttpServletResponse resp = proxy(HttpServletResponse.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                return "getWriter".equals(method.getName()) ? writer : null;
+            }
+        });
+        servlet.service(req, resp);
+        writer.flush();
+        return content.toString();
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(HueEmulationServletLoadTest.class.getClassLoader(),
+                new Class<?>[] { type }, handler));
+    }
+}
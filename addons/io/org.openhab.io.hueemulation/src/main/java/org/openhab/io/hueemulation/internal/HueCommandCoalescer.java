@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.hueemulation.internal;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.smarthome.core.events.EventPublisher;
+import org.eclipse.smarthome.core.items.events.ItemEventFactory;
+import org.eclipse.smarthome.core.types.Command;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects item commands sent through the Hue API and posts them to the event bus after a short delay. Commands for
+ * the same item that arrive within the delay replace each other, so only the latest one is posted.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class HueCommandCoalescer {
+    private Logger logger = LoggerFactory.getLogger(HueCommandCoalescer.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final long delay;
+    private final Map<String, Command> pendingCommands = new LinkedHashMap<String, Command>();
+    private EventPublisher eventPublisher;
+    private ScheduledFuture<?> flushJob;
+
+    /**
+     * @param scheduler
+     *            The scheduler used to post pending commands
+     * @param delay
+     *            Time in milliseconds a command is held back to wait for further commands
+     */
+    public HueCommandCoalescer(ScheduledExecutorService scheduler, long delay) {
+        this.scheduler = scheduler;
+        this.delay = delay;
+    }
+
+    public synchronized void setEventPublisher(EventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Queues a command for an item, replacing any pending command for the same item
+     *
+     * @param itemName
+     * @param command
+     */
+    public synchronized void send(String itemName, Command command) {
+        if (pendingCommands.put(itemName, command) != null) {
+            logger.trace("Replaced pending command for {} with {}", itemName, command);
+        }
+        if (flushJob == null) {
+            flushJob = scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    flush();
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Posts a command for an item immediately, dropping pending commands of the given items which are superseded by
+     * it
+     *
+     * @param itemName
+     * @param command
+     * @param supersededItems
+     */
+    public synchronized void sendNow(String itemName, Command command, Collection<String> supersededItems) {
+        pendingCommands.keySet().removeAll(supersededItems);
+        pendingCommands.remove(itemName);
+        post(itemName, command);
+    }
+
+    /**
+     * Posts all pending commands to the event bus
+     */
+    public synchronized void flush() {
+        flushJob = null;
+        for (Map.Entry<String, Command> entry : pendingCommands.entrySet()) {
+            post(entry.getKey(), entry.getValue());
+        }
+        pendingCommands.clear();
+    }
+
+    /**
+     * Cancels the scheduled flush and posts all pending commands
+     */
+    public synchronized void shutdown() {
+        if (flushJob != null) {
+            flushJob.cancel(false);
+        }
+        flush();
+    }
+
+    private void post(String itemName, Command command) {
+        if (eventPublisher == null) {
+            logger.debug("No event publisher available, dropping command {} for {}", command, itemName);
+            return;
+        }
+        logger.debug("sending {} to {}", command, itemName);
+        eventPublisher.post(ItemEventFactory.createCommandEvent(itemName, command));
+    }
+}
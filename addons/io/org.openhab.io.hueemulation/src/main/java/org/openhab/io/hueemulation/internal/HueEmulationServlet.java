@@ -14,6 +14,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.net.InetAddress;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Dictionary;
 import java.util.HashMap;
@@ -33,11 +34,12 @@ import javax.servlet.http.HttpServletResponse;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.ArrayUtils;
 import org.eclipse.smarthome.config.core.ConfigConstants;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.events.EventPublisher;
+import org.eclipse.smarthome.core.items.GroupItem;
 import org.eclipse.smarthome.core.items.Item;
 import org.eclipse.smarthome.core.items.ItemNotFoundException;
 import org.eclipse.smarthome.core.items.ItemRegistry;
-import org.eclipse.smarthome.core.items.events.ItemEventFactory;
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.HSBType;
 import org.eclipse.smarthome.core.library.types.OnOffType;
@@ -76,6 +78,14 @@ public class HueEmulationServlet extends HttpServlet {
     private static final String CHARSET = "utf-8";
     private static final String NEW_CLIENT_RESP = "[{\"success\":{\"username\": \"%s\"}}]";
     private static final String STATE_RESP = "[{\"success\":{\"/lights/%s/state/on\":%s}}]";
+    private static final String GROUP_STATE_RESP = "[{\"success\":{\"/groups/%s/action/on\":%s}}]";
+    private static final String GROUP_ZERO = "0";
+    private static final String THREADPOOL_NAME = "hueemulation";
+    /**
+     * Devices like the Amazon Echo switch a set of lights by sending one request per light, commands arriving
+     * within this time (in ms) are collected and only the latest command per item is sent.
+     */
+    private static final long COMMAND_COALESCE_DELAY = 50;
     private static final File USER_FILE = new File(
             ConfigConstants.getUserDataFolder() + File.separator + "hueemulation" + File.separator + "usernames");
     private static final File UDN_FILE = new File(
@@ -91,6 +101,8 @@ public class HueEmulationServlet extends HttpServlet {
     private String udn;
     private String xmlDoc;
     private CopyOnWriteArrayList<String> userNames = new CopyOnWriteArrayList<String>();
+    private HueCommandCoalescer commandCoalescer = new HueCommandCoalescer(
+            ThreadPoolManager.getScheduledPool(THREADPOOL_NAME), COMMAND_COALESCE_DELAY);
 
     private boolean pairingEnabled = false;
 
@@ -151,6 +163,7 @@ public class HueEmulationServlet extends HttpServlet {
         if (disco != null) {
             disco.shutdown();
         }
+        commandCoalescer.shutdown();
     }
 
     protected void setItemRegistry(ItemRegistry itemRegistry) {
@@ -163,9 +176,12 @@ public class HueEmulationServlet extends HttpServlet {
 
     protected void setEventPublisher(EventPublisher eventPublisher) {
         this.eventPublisher = eventPublisher;
+        commandCoalescer.setEventPublisher(eventPublisher);
     }
 
     protected void unsetEventPublisher(EventPublisher eventPublisher) {
+        commandCoalescer.shutdown();
+        commandCoalescer.setEventPublisher(null);
         this.eventPublisher = null;
     }
 
@@ -254,16 +270,29 @@ public class HueEmulationServlet extends HttpServlet {
                     switch (pathParts.length) {
                         case 2:
                             /**
-                             * /api/{username}/group
+                             * /api/{username}/groups
                              */
-                            emptyResponse(req, resp);
+                            apiGroups(req, resp);
                             break;
                         case 3:
                             /**
-                             * /api/{username}/group/{id}
+                             * /api/{username}/groups/{id}
                              */
-                            if ("0".equals(pathParts[2])) {
+                            if (GROUP_ZERO.equals(pathParts[2])) {
                                 apiGroupZero(req, resp);
+                            } else {
+                                apiGroup(pathParts[2], req, resp);
+                            }
+                            break;
+                        case 4:
+                            /**
+                             * /api/{username}/groups/{id}/action
+                             */
+                            if ("action".equals(pathParts[3])) {
+                                apiGroupAction(pathParts[2], req, resp);
+                            } else {
+                                apiServerError(req, resp, HueErrorResponse.NOT_AVAILABLE,
+                                        "Hue resource not available");
                             }
                             break;
                         default:
@@ -293,33 +322,9 @@ public class HueEmulationServlet extends HttpServlet {
             // will throw exception if not found
             Item item = itemRegistry.getItem(id);
             HueState state = gson.fromJson(req.getReader(), HueState.class);
-            HSBType hsb = state.toHSBType();
-            logger.debug("HuState {}", state);
-            logger.debug("HSBType {}", hsb);
-            Command command = null;
-            if (hsb.getBrightness().intValue() > 0) {
-                // if state is on then send HSB, Brightness or ON
-                if (item.getAcceptedCommandTypes().contains(HSBType.class)) {
-                    command = hsb;
-                } else {
-                    // try and set the brightness level first
-                    command = TypeParser.parseCommand(item.getAcceptedCommandTypes(), hsb.getBrightness().toString());
-                    if (command == null) {
-                        // if the item does not accept a number or String type, try ON
-                        command = TypeParser.parseCommand(item.getAcceptedCommandTypes(), "ON");
-                    }
-                }
-            } else {
-                // if state is off, then send 0 or 0FF
-                command = TypeParser.parseCommand(item.getAcceptedCommandTypes(), "0");
-                if (command == null) {
-                    command = TypeParser.parseCommand(item.getAcceptedCommandTypes(), "OFF");
-                }
-            }
-
+            Command command = toCommand(item, state);
             if (command != null) {
-                logger.debug("sending {} to {}", command, id);
-                eventPublisher.post(ItemEventFactory.createCommandEvent(id, command));
+                commandCoalescer.send(id, command);
                 PrintWriter out = resp.getWriter();
                 out.write(String.format(STATE_RESP, id, String.valueOf(state.on)));
                 out.close();
@@ -334,6 +339,92 @@ public class HueEmulationServlet extends HttpServlet {
         }
     }
 
+    /**
+     * Hue API call to set the state of all lights of a group. Groups are backed by tagged openHAB group items, so a
+     * single command is sent to the group item instead of one command per light. Group 0 contains all lights and
+     * has no group item, so each light receives the command.
+     *
+     * @param id
+     * @param req
+     * @param resp
+     * @throws IOException
+     */
+    private void apiGroupAction(String id, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        if (!req.getMethod().equals(METHOD_PUT)) {
+            apiServerError(req, resp, HueErrorResponse.METHOD_NOT_AVAILABLE, "Only PUT allowed for this resource");
+            return;
+        }
+        HueState state = gson.fromJson(req.getReader(), HueState.class);
+        if (GROUP_ZERO.equals(id)) {
+            for (Item item : getTaggedItems()) {
+                Command command = toCommand(item, state);
+                if (command != null) {
+                    commandCoalescer.send(item.getName(), command);
+                } else {
+                    logger.debug("Item {} does not accept Decimal, ON/OFF or String types", item.getName());
+                }
+            }
+        } else {
+            GroupItem group = getTaggedGroupItem(id);
+            if (group == null) {
+                logger.debug("Group not found: {}", id);
+                apiServerError(req, resp, HueErrorResponse.NOT_AVAILABLE, "The Hue group could not be found");
+                return;
+            }
+            Command command = toCommand(group, state);
+            if (command == null) {
+                logger.error("Group {} does not accept Decimal, ON/OFF or String types", id);
+                apiServerError(req, resp, HueErrorResponse.INTERNAL_ERROR,
+                        "The Hue group does not respond to that command");
+                return;
+            }
+            // pending commands of the member lights are overruled by the group command
+            Collection<String> memberNames = new ArrayList<String>();
+            for (Item member : group.getAllMembers()) {
+                memberNames.add(member.getName());
+            }
+            commandCoalescer.sendNow(id, command, memberNames);
+        }
+        PrintWriter out = resp.getWriter();
+        out.write(String.format(GROUP_STATE_RESP, id, String.valueOf(state.on)));
+        out.close();
+    }
+
+    /**
+     * Converts a requested Hue state into a command the item accepts
+     *
+     * @param item
+     * @param state
+     * @return
+     *         the command or null if the item does not accept any matching command type
+     */
+    private Command toCommand(Item item, HueState state) {
+        HSBType hsb = state.toHSBType();
+        logger.debug("HuState {}", state);
+        logger.debug("HSBType {}", hsb);
+        Command command = null;
+        if (hsb.getBrightness().intValue() > 0) {
+            // if state is on then send HSB, Brightness or ON
+            if (item.getAcceptedCommandTypes().contains(HSBType.class)) {
+                command = hsb;
+            } else {
+                // try and set the brightness level first
+                command = TypeParser.parseCommand(item.getAcceptedCommandTypes(), hsb.getBrightness().toString());
+                if (command == null) {
+                    // if the item does not accept a number or String type, try ON
+                    command = TypeParser.parseCommand(item.getAcceptedCommandTypes(), "ON");
+                }
+            }
+        } else {
+            // if state is off, then send 0 or 0FF
+            command = TypeParser.parseCommand(item.getAcceptedCommandTypes(), "0");
+            if (command == null) {
+                command = TypeParser.parseCommand(item.getAcceptedCommandTypes(), "OFF");
+            }
+        }
+        return command;
+    }
+
     /**
      * Hue API call to get the state of a single light
      *
@@ -367,6 +458,39 @@ public class HueEmulationServlet extends HttpServlet {
         out.close();
     }
 
+    /**
+     * Hue API call to get a listing of all groups
+     *
+     * @param req
+     * @param resp
+     * @throws IOException
+     */
+    public void apiGroups(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        PrintWriter out = resp.getWriter();
+        out.write(gson.toJson(getHueGroups()));
+        out.close();
+    }
+
+    /**
+     * Hue API call to get a single group
+     *
+     * @param id
+     * @param req
+     * @param resp
+     * @throws IOException
+     */
+    public void apiGroup(String id, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        GroupItem group = getTaggedGroupItem(id);
+        if (group == null) {
+            logger.debug("Group not found: {}", id);
+            apiServerError(req, resp, HueErrorResponse.NOT_AVAILABLE, "Group not found " + id);
+            return;
+        }
+        PrintWriter out = resp.getWriter();
+        out.write(gson.toJson(groupItemToGroup(group)));
+        out.close();
+    }
+
     /**
      * Hue API call to get a listing of Group 0
      *
@@ -393,6 +517,7 @@ public class HueEmulationServlet extends HttpServlet {
         PrintWriter out = resp.getWriter();
         HueDataStore ds = new HueDataStore();
         ds.lights = getHueDevices();
+        ds.groups = getHueGroups();
         out.write(gson.toJson(ds));
     }
 
@@ -511,6 +636,60 @@ public class HueEmulationServlet extends HttpServlet {
         return devices;
     }
 
+    /**
+     * Returns a map of all group items that have voice tags.
+     *
+     * @return
+     *         Map <item name, HueGroup>
+     */
+    private Map<String, HueGroup> getHueGroups() {
+        Map<String, HueGroup> groups = new HashMap<String, HueGroup>();
+        for (Item item : getTaggedItems()) {
+            if (item instanceof GroupItem) {
+                groups.put(item.getName(), groupItemToGroup((GroupItem) item));
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Returns the tagged group item with the given name
+     *
+     * @param name
+     * @return
+     *         GroupItem or null if there is no such tagged group item
+     */
+    private GroupItem getTaggedGroupItem(String name) {
+        try {
+            Item item = itemRegistry.getItem(name);
+            if (item instanceof GroupItem && isTagged(item)) {
+                return (GroupItem) item;
+            }
+        } catch (ItemNotFoundException e) {
+            // handled by the caller
+        }
+        return null;
+    }
+
+    /**
+     * Converts a GroupItem to a HueGroup, only tagged members are listed as lights of the group
+     *
+     * @param group
+     * @return
+     *         HueGroup
+     */
+    private HueGroup groupItemToGroup(GroupItem group) {
+        List<String> lights = new ArrayList<String>();
+        for (Item member : group.getAllMembers()) {
+            if (isTagged(member)) {
+                lights.add(member.getName());
+            }
+        }
+        HueGroup hueGroup = new HueGroup(group.getLabel(), lights.toArray(new String[0]),
+                itemToDevice(group).state);
+        return hueGroup;
+    }
+
     /**
      * Converts an Item to a HueDevice
      *
@@ -546,16 +725,28 @@ public class HueEmulationServlet extends HttpServlet {
     private Collection<Item> getTaggedItems() {
         Collection<Item> items = new LinkedList<Item>();
         for (Item item : itemRegistry.getItems()) {
-            for (String tag : item.getTags()) {
-                if (ArrayUtils.contains(SUPPORTED_TAGS, tag)) {
-                    items.add(item);
-                    break;
-                }
+            if (isTagged(item)) {
+                items.add(item);
             }
         }
         return items;
     }
 
+    /**
+     * Checks if the item has one of our tags
+     *
+     * @param item
+     * @return
+     */
+    private boolean isTagged(Item item) {
+        for (String tag : item.getTags()) {
+            if (ArrayUtils.contains(SUPPORTED_TAGS, tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Checks if the username exists in our user list
      *
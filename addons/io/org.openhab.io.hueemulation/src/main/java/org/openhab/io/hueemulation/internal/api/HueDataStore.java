@@ -18,4 +18,5 @@ import java.util.Map;
  */
 public class HueDataStore {
     public Map<String, HueDevice> lights;
+    public Map<String, HueGroup> groups;
 }
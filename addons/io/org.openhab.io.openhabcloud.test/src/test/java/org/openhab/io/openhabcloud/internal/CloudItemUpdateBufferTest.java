@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Test for the rate limiting of {@link CloudItemUpdateBuffer}
+ *
+ * @author agent - Initial contribution
+ * @since 2.1.0
+ */
+public class CloudItemUpdateBufferTest {
+
+    private static class RecordingCloudClient extends CloudClient {
+        private final List<String> sentItems = new ArrayList<>();
+
+        RecordingCloudClient() {
+            super("uuid", "secret", "https://localhost", "http://localhost:8080", false,
+                    Collections.<String> emptySet());
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public int sendItemUpdate(String itemName, String itemState) {
+            sentItems.add(itemName);
+            return itemName.length() + itemState.length();
+        }
+    }
+
+    @Test
+    public void testUnlimitedRateSendsAllUpdates() {
+        RecordingCloudClient client = new RecordingCloudClient();
+        CloudItemUpdateBuffer buffer = new CloudItemUpdateBuffer(client, 1000, 0);
+        buffer.update("Item1", "ON");
+        buffer.update("Item2", "OFF");
+        buffer.update("Item1", "OFF");
+        buffer.flush();
+
+        assertEquals(2, client.sentItems.size());
+        assertEquals(1, buffer.getCoalescedUpdates());
+    }
+
+    @Test
+    public void testRateBelowOneMessagePerSecond() {
+        RecordingCloudClient client = new RecordingCloudClient();
+        CloudItemUpdateBuffer buffer = new CloudItemUpdateBuffer(client, 1000, 0.5);
+        long now = System.currentTimeMillis();
+        buffer.update("Item1", "ON");
+        buffer.update("Item2", "ON");
+        buffer.flush(now);
+        assertEquals(1, client.sentItems.size());
+
+        buffer.flush(now + 1000);
+        assertEquals(1, client.sentItems.size());
+
+        // one message every two seconds
+        buffer.flush(now + 2000);
+        assertEquals(2, client.sentItems.size());
+        assertEquals("Item2", client.sentItems.get(1));
+        assertEquals(2, buffer.getSentMessages());
+    }
+
+    @Test
+    public void testRateLimitDelaysUpdates() {
+        RecordingCloudClient client = new RecordingCloudClient();
+        CloudItemUpdateBuffer buffer = new CloudItemUpdateBuffer(client, 1000, 2);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            buffer.update("Item" + i, "ON");
+        }
+        buffer.flush(now);
+        assertEquals(2, client.sentItems.size());
+
+        buffer.flush(now + 500);
+        assertEquals(3, client.sentItems.size());
+
+        // the bucket holds at most two tokens
+        buffer.flush(now + 5000);
+        assertEquals(5, client.sentItems.size());
+        assertEquals(5, buffer.getSentMessages());
+        assertEquals(5 * "Item0ON".length(), buffer.getSentBytes());
+    }
+}
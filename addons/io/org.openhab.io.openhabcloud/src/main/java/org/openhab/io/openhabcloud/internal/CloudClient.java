@@ -14,18 +14,20 @@ import java.net.URISyntaxException;
 import java.net.URLEncoder;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.api.Request.FailureListener;
 import org.eclipse.jetty.client.api.Response;
-import org.eclipse.jetty.client.api.Response.ContentListener;
+import org.eclipse.jetty.client.api.Response.AsyncContentListener;
 import org.eclipse.jetty.client.api.Response.HeadersListener;
 import org.eclipse.jetty.client.api.Result;
 import org.eclipse.jetty.client.util.BytesContentProvider;
@@ -33,7 +35,7 @@ import org.eclipse.jetty.http.HttpField;
 import org.eclipse.jetty.http.HttpFields;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
-import org.eclipse.jetty.util.BufferUtil;
+import org.eclipse.jetty.util.Callback;
 import org.eclipse.jetty.util.URIUtil;
 import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.json.JSONException;
@@ -77,6 +79,26 @@ public class CloudClient {
      */
     private static final int HTTP_CLIENT_TIMEOUT = 30000;
 
+    /*
+     * Response content is collected into chunks of this size (in bytes) before it is sent
+     * to the openHAB Cloud, instead of sending every buffer received from Jetty
+     */
+    private static final int RESPONSE_CHUNK_SIZE = 32 * 1024;
+
+    /*
+     * A partially filled chunk is sent after this delay (in ms) if no further content arrives,
+     * so streaming and long polling responses are not held back
+     */
+    private static final int RESPONSE_CHUNK_FLUSH_DELAY = 50;
+
+    /*
+     * Number of chunks a request may have sent before the Socket.IO transport has drained. When
+     * the limit is reached, reading the local response is paused until the transport has caught up
+     */
+    private static final int RESPONSE_CHUNK_CREDITS = 4;
+
+    private static final String THREADPOOL_OPENHABCLOUD = "openhabcloud";
+
     /*
      * This variable holds base URL for the openHAB Cloud connections
      */
@@ -103,9 +125,24 @@ public class CloudClient {
     private HttpClient jettyClient;
 
     /*
-     * This hashmap holds HTTP requests to local openHAB which are currently running
+     * This map holds HTTP requests to local openHAB which are currently running. It is accessed from
+     * Socket.IO and Jetty threads
+     */
+    private final Map<Integer, Request> runningRequests = new ConcurrentHashMap<Integer, Request>();
+
+    /*
+     * This map holds the response listeners of the running requests to return their credits
+     * when the Socket.IO transport has drained
+     */
+    private final Map<Integer, ResponseListener> runningResponses = new ConcurrentHashMap<Integer, ResponseListener>();
+
+    /*
+     * Statistics of the proxied requests
      */
-    private HashMap<Integer, Request> runningRequests;
+    private final AtomicLong proxiedRequests = new AtomicLong();
+    private final AtomicLong proxiedBytes = new AtomicLong();
+    private final AtomicLong proxiedChunks = new AtomicLong();
+    private final AtomicLong proxiedRequestsDuration = new AtomicLong();
 
     /*
      * This variable indicates if connection to the openHAB Cloud is currently in an established state
@@ -148,7 +185,6 @@ public class CloudClient {
         this.localBaseUrl = localBaseUrl;
         this.remoteAccessEnabled = remoteAccessEnabled;
         this.exposedItems = exposedItems;
-        runningRequests = new HashMap<Integer, Request>();
         jettyClient = new HttpClient();
         jettyClient.setMaxConnectionsPerDestination(HTTP_CLIENT_MAX_CONNECTIONS_PER_DEST);
         jettyClient.setConnectTimeout(HTTP_CLIENT_TIMEOUT);
@@ -182,6 +218,13 @@ public class CloudClient {
                         headers.put("remoteaccess", Arrays.asList(((Boolean) remoteAccessEnabled).toString()));
                     }
                 });
+                transport.on(Transport.EVENT_DRAIN, new Emitter.Listener() {
+                    @Override
+                    public void call(Object... args) {
+                        logger.trace("Transport.EVENT_DRAIN");
+                        onDrain();
+                    }
+                });
             }
         });
         socket.on(Socket.EVENT_CONNECT, new Emitter.Listener() {
@@ -257,8 +300,20 @@ public class CloudClient {
             }
         }
         // And clean up the list of running requests
-        if (runningRequests != null) {
-            runningRequests.clear();
+        runningRequests.clear();
+        for (ResponseListener responseListener : runningResponses.values()) {
+            responseListener.cancel();
+        }
+        runningResponses.clear();
+    }
+
+    /**
+     * Callback method for the Socket.IO transport which is called when all written packets have been sent.
+     * Returns the credits of all running responses.
+     */
+    private void onDrain() {
+        for (ResponseListener responseListener : runningResponses.values()) {
+            responseListener.resetCredits();
         }
     }
 
@@ -345,7 +400,9 @@ public class CloudClient {
                 return;
             }
             ResponseListener listener = new ResponseListener(requestId);
-            request.onResponseHeaders(listener).onResponseContent(listener).onRequestFailure(listener).send(listener);
+            runningResponses.put(requestId, listener);
+            request.onResponseHeaders(listener).onResponseContentAsync(listener).onRequestFailure(listener)
+                    .send(listener);
             // If successfully submitted request to http client, add it to the list of currently
             // running requests to be able to cancel it if needed
             runningRequests.put(requestId, request);
@@ -382,10 +439,9 @@ public class CloudClient {
             int requestId = data.getInt("id");
             logger.debug("Received cancel for request {}", requestId);
             // Find and abort running request
-            if (runningRequests.containsKey(requestId)) {
-                Request request = runningRequests.get(requestId);
+            Request request = runningRequests.remove(requestId);
+            if (request != null) {
                 request.abort(new InterruptedException());
-                runningRequests.remove(requestId);
             }
         } catch (JSONException e) {
             logger.error("{}", e.getMessage());
@@ -487,9 +543,10 @@ public class CloudClient {
      *
      * @param itemName the name of the item
      * @param itemState updated item state
+     * @return the size of the sent message in bytes, 0 if it was not sent
      *
      */
-    public void sendItemUpdate(String itemName, String itemState) {
+    public int sendItemUpdate(String itemName, String itemState) {
         if (isConnected()) {
             logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
             JSONObject itemUpdateMessage = new JSONObject();
@@ -497,12 +554,14 @@ public class CloudClient {
                 itemUpdateMessage.put("itemName", itemName);
                 itemUpdateMessage.put("itemStatus", itemState);
                 socket.emit("itemupdate", itemUpdateMessage);
+                return itemUpdateMessage.toString().length();
             } catch (JSONException e) {
                 logger.error("{}", e.getMessage());
             }
         } else {
             logger.debug("No connection, Item update is not sent");
         }
+        return 0;
     }
 
     /**
@@ -537,15 +596,65 @@ public class CloudClient {
         this.listener = listener;
     }
 
+    /**
+     * Returns the number of proxied requests which are currently running
+     */
+    public int getRunningRequestCount() {
+        return runningRequests.size();
+    }
+
+    /**
+     * Returns the number of completed proxied requests
+     */
+    public long getProxiedRequests() {
+        return proxiedRequests.get();
+    }
+
+    /**
+     * Returns the number of response body bytes sent to the openHAB Cloud
+     */
+    public long getProxiedBytes() {
+        return proxiedBytes.get();
+    }
+
+    /**
+     * Returns the number of response body chunks sent to the openHAB Cloud
+     */
+    public long getProxiedChunks() {
+        return proxiedChunks.get();
+    }
+
+    /**
+     * Returns the summed up duration in milliseconds of all completed proxied requests
+     */
+    public long getProxiedRequestsDuration() {
+        return proxiedRequestsDuration.get();
+    }
+
     /*
-     * An internal class which forwards response headers and data back to the openHAB Cloud
+     * An internal class which forwards response headers and data back to the openHAB Cloud.
+     * Response content is collected into chunks of RESPONSE_CHUNK_SIZE. Every chunk sent uses up one
+     * credit, when no credits are left the content callback is held back so Jetty stops reading the
+     * local response until the Socket.IO transport has drained.
      */
     private class ResponseListener
-            implements Response.CompleteListener, HeadersListener, ContentListener, FailureListener {
+            implements Response.CompleteListener, HeadersListener, AsyncContentListener, FailureListener {
 
-        private static final String THREADPOOL_OPENHABCLOUD = "openhabcloud";
         private int mRequestId;
         private boolean mHeadersSent = false;
+        private byte[] mChunk;
+        private int mChunkLength;
+        private int mCredits = RESPONSE_CHUNK_CREDITS;
+        private Callback mPendingCallback;
+        private ScheduledFuture<?> mFlushJob;
+
+        // statistics of this request
+        private final long mStartTime = System.currentTimeMillis();
+        private long mHeadersTime;
+        private long mBytesSent;
+        private int mChunksSent;
+        private int mMaxChunksInFlight;
+        private int mPausedCount;
 
         public ResponseListener(int requestId) {
             mRequestId = requestId;
@@ -567,12 +676,22 @@ public class CloudClient {
         public void onComplete(Result result) {
             // Remove this request from list of running requests
             runningRequests.remove(mRequestId);
+            runningResponses.remove(mRequestId);
             if (result.isFailed() && result.getResponse().getStatus() != HttpStatus.OK_200) {
                 logger.warn("Jetty request {} failed: {}", mRequestId, result.getFailure().getMessage());
                 logger.warn("{}", result.getRequestFailure().getMessage());
                 logger.warn("{}", result.getResponseFailure().getMessage());
             }
 
+            Callback pendingCallback;
+            synchronized (this) {
+                // send the last chunk before finishing the response
+                sendChunk();
+                pendingCallback = takePendingCallback();
+                logStatistics();
+            }
+            release(pendingCallback);
+
             /**
              * What is this? In some cases where latency is very low the myopenhab service
              * can receive responseFinished before the headers or content are received and I
@@ -608,16 +727,39 @@ public class CloudClient {
         }
 
         @Override
-        public void onContent(Response response, ByteBuffer content) {
+        public void onContent(Response response, ByteBuffer content, Callback callback) {
             logger.debug("Jetty received response content of size {}", String.valueOf(content.remaining()));
-            JSONObject responseJson = new JSONObject();
-            try {
-                responseJson.put("id", mRequestId);
-                responseJson.put("body", BufferUtil.toArray(content));
-                socket.emit("responseContentBinary", responseJson);
-                logger.debug("Sent content to request {}", mRequestId);
-            } catch (JSONException e) {
-                logger.error("{}", e.getMessage());
+            boolean paused;
+            synchronized (this) {
+                while (content.hasRemaining()) {
+                    if (mChunk == null) {
+                        mChunk = new byte[RESPONSE_CHUNK_SIZE];
+                    }
+                    int length = Math.min(content.remaining(), mChunk.length - mChunkLength);
+                    content.get(mChunk, mChunkLength, length);
+                    mChunkLength += length;
+                    if (mChunkLength == mChunk.length) {
+                        sendChunk();
+                    }
+                }
+                if (mChunkLength > 0 && mFlushJob == null) {
+                    mFlushJob = ThreadPoolManager.getScheduledPool(THREADPOOL_OPENHABCLOUD)
+                            .schedule(new Runnable() {
+                                @Override
+                                public void run() {
+                                    flush();
+                                }
+                            }, RESPONSE_CHUNK_FLUSH_DELAY, TimeUnit.MILLISECONDS);
+                }
+                paused = mCredits <= 0;
+                if (paused) {
+                    logger.trace("Request {} has no credits left, pausing response content", mRequestId);
+                    mPendingCallback = callback;
+                    mPausedCount++;
+                }
+            }
+            if (!paused) {
+                callback.succeeded();
             }
         }
 
@@ -627,6 +769,7 @@ public class CloudClient {
                 logger.debug("Jetty finished receiving response header");
                 JSONObject responseJson = new JSONObject();
                 mHeadersSent = true;
+                mHeadersTime = System.currentTimeMillis();
                 try {
                     responseJson.put("id", mRequestId);
                     responseJson.put("headers", getJSONHeaders(response.getHeaders()));
@@ -642,5 +785,97 @@ public class CloudClient {
                 // We should not send headers for the second time...
             }
         }
+
+        /**
+         * Returns all credits of this request, called when the Socket.IO transport has drained
+         */
+        public void resetCredits() {
+            Callback pendingCallback;
+            synchronized (this) {
+                mCredits = RESPONSE_CHUNK_CREDITS;
+                pendingCallback = takePendingCallback();
+            }
+            release(pendingCallback);
+        }
+
+        /**
+         * Releases a paused content callback, called when the connection to the openHAB Cloud is lost
+         */
+        public void cancel() {
+            Callback pendingCallback;
+            synchronized (this) {
+                if (mFlushJob != null) {
+                    mFlushJob.cancel(false);
+                    mFlushJob = null;
+                }
+                mChunk = null;
+                mChunkLength = 0;
+                pendingCallback = takePendingCallback();
+            }
+            release(pendingCallback);
+        }
+
+        private synchronized void flush() {
+            mFlushJob = null;
+            sendChunk();
+        }
+
+        /**
+         * Removes the paused content callback, it has to be released by {@link #release(Callback)} once the lock on
+         * this listener is given up
+         */
+        private Callback takePendingCallback() {
+            Callback callback = mPendingCallback;
+            mPendingCallback = null;
+            return callback;
+        }
+
+        private void release(Callback callback) {
+            if (callback != null) {
+                // Jetty continues reading the response on its own threads
+                callback.succeeded();
+            }
+        }
+
+        private void sendChunk() {
+            if (mFlushJob != null) {
+                mFlushJob.cancel(false);
+                mFlushJob = null;
+            }
+            if (mChunkLength == 0) {
+                return;
+            }
+            byte[] body = mChunkLength == mChunk.length ? mChunk : Arrays.copyOf(mChunk, mChunkLength);
+            mChunk = null;
+            mChunkLength = 0;
+            JSONObject responseJson = new JSONObject();
+            try {
+                responseJson.put("id", mRequestId);
+                responseJson.put("body", body);
+                socket.emit("responseContentBinary", responseJson);
+                logger.debug("Sent content of size {} to request {}", body.length, mRequestId);
+            } catch (JSONException e) {
+                logger.error("{}", e.getMessage());
+            }
+            mCredits--;
+            mBytesSent += body.length;
+            mChunksSent++;
+            mMaxChunksInFlight = Math.max(mMaxChunksInFlight, RESPONSE_CHUNK_CREDITS - mCredits);
+        }
+
+        private void logStatistics() {
+            long duration = System.currentTimeMillis() - mStartTime;
+            proxiedRequests.incrementAndGet();
+            proxiedBytes.addAndGet(mBytesSent);
+            proxiedChunks.addAndGet(mChunksSent);
+            proxiedRequestsDuration.addAndGet(duration);
+            if (logger.isDebugEnabled()) {
+                logger.debug(
+                        "Request {} finished after {} ms (headers after {} ms): {} bytes in {} chunks, {} bytes/s, max {} chunks in flight, paused {} times",
+                        mRequestId, duration, mHeadersTime > 0 ? mHeadersTime - mStartTime : -1, mBytesSent,
+                        mChunksSent, duration > 0 ? mBytesSent * 1000 / duration : mBytesSent, mMaxChunksInFlight,
+                        mPausedCount);
+            }
+        }
     }
 }
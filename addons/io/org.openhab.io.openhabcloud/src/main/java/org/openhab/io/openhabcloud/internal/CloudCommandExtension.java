@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.smarthome.io.console.Console;
+import org.eclipse.smarthome.io.console.extensions.AbstractConsoleCommandExtension;
+
+/**
+ * Console commands for showing the statistics of the openHAB Cloud connection
+ *
+ * @author agent - Initial contribution
+ */
+public class CloudCommandExtension extends AbstractConsoleCommandExtension {
+
+    private static final String SUBCMD_PROXY_STATS = "proxyStats";
+    private static final String SUBCMD_UPDATE_STATS = "updateStats";
+
+    private CloudService cloudService;
+
+    public CloudCommandExtension() {
+        super("openhabcloud", "Show the statistics of the openHAB Cloud connection.");
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length > 0) {
+            String subCommand = args[0];
+            switch (subCommand) {
+                case SUBCMD_PROXY_STATS:
+                    printProxyStatistics(console);
+                    break;
+
+                case SUBCMD_UPDATE_STATS:
+                    printUpdateStatistics(console);
+                    break;
+
+                default:
+                    console.println("Unknown command '" + subCommand + "'");
+                    printUsage(console);
+                    break;
+            }
+        } else {
+            printUsage(console);
+        }
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return Arrays.asList(new String[] {
+                buildCommandUsage(SUBCMD_PROXY_STATS,
+                        "shows the number, throughput and latency of the requests proxied for the openHAB Cloud"),
+                buildCommandUsage(SUBCMD_UPDATE_STATS,
+                        "shows the number and rate of the item update messages sent to the openHAB Cloud") });
+    }
+
+    public void setCloudService(CloudService cloudService) {
+        this.cloudService = cloudService;
+    }
+
+    public void unsetCloudService(CloudService cloudService) {
+        this.cloudService = null;
+    }
+
+    private void printProxyStatistics(Console console) {
+        CloudClient client = cloudService != null ? cloudService.getCloudClient() : null;
+        if (client == null) {
+            console.println("The openHAB Cloud connector is not started");
+            return;
+        }
+        long requests = client.getProxiedRequests();
+        long bytes = client.getProxiedBytes();
+        long duration = client.getProxiedRequestsDuration();
+        console.println("Running requests:   " + client.getRunningRequestCount());
+        console.println("Completed requests: " + requests);
+        console.println("Sent bytes:         " + bytes);
+        console.println("Sent chunks:        " + client.getProxiedChunks());
+        console.println("Average duration:   " + (requests > 0 ? duration / requests : 0) + " ms");
+        console.println("Throughput:         " + (duration > 0 ? bytes * 1000 / duration : bytes) + " bytes/s");
+    }
+
+    private void printUpdateStatistics(Console console) {
+        CloudItemUpdateBuffer buffer = cloudService != null ? cloudService.getItemUpdateBuffer() : null;
+        if (buffer == null) {
+            console.println("The openHAB Cloud connector is not started");
+            return;
+        }
+        long seconds = Math.max(1, (System.currentTimeMillis() - buffer.getStartTime()) / 1000);
+        long messages = buffer.getSentMessages();
+        long bytes = buffer.getSentBytes();
+        console.println("Sent messages:     " + messages + " (" + messages / seconds + " messages/s)");
+        console.println("Sent bytes:        " + bytes + " (" + bytes / seconds + " bytes/s)");
+        console.println("Coalesced updates: " + buffer.getCoalescedUpdates());
+    }
+
+}
@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class buffers item updates which are sent to the openHAB Cloud. Only the latest state of each
+ * item is kept and the buffer is flushed in a fixed interval. The number of uplink messages is limited
+ * by a token bucket, updates which exceed the limit stay in the buffer for the next flush.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class CloudItemUpdateBuffer {
+
+    /*
+     * Interval in ms in which the uplink statistics are logged
+     */
+    private static final long STATISTICS_INTERVAL = 60000;
+
+    private Logger logger = LoggerFactory.getLogger(CloudItemUpdateBuffer.class);
+
+    private final CloudClient cloudClient;
+    private final long flushInterval;
+    private final double maxMessagesPerSecond;
+    // Holds at least one token, otherwise a rate below one message per second would never send anything
+    private final double bucketSize;
+    private final Map<String, String> pendingUpdates = new LinkedHashMap<String, String>();
+    private ScheduledFuture<?> flushJob;
+
+    private double tokens;
+    private long lastRefill;
+
+    private final long startTime;
+    private long sentMessages;
+    private long sentBytes;
+    private long coalescedUpdates;
+    private long statisticsStart;
+    private long statisticsMessages;
+    private long statisticsBytes;
+
+    /**
+     * Constructor of CloudItemUpdateBuffer
+     *
+     * @param cloudClient the client to send the item updates with
+     * @param flushInterval the interval in ms in which buffered updates are sent
+     * @param maxMessagesPerSecond maximum number of item update messages per second, 0 for no limit
+     */
+    public CloudItemUpdateBuffer(CloudClient cloudClient, long flushInterval, double maxMessagesPerSecond) {
+        this.cloudClient = cloudClient;
+        this.flushInterval = flushInterval;
+        this.maxMessagesPerSecond = maxMessagesPerSecond;
+        this.bucketSize = Math.max(1, maxMessagesPerSecond);
+        this.tokens = bucketSize;
+        this.startTime = System.currentTimeMillis();
+        this.lastRefill = startTime;
+        this.statisticsStart = startTime;
+    }
+
+    /**
+     * Starts flushing the buffer in the configured interval
+     */
+    public synchronized void start(ScheduledExecutorService scheduler) {
+        if (flushJob == null) {
+            flushJob = scheduler.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    flush();
+                }
+            }, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops flushing, buffered updates are discarded
+     */
+    public synchronized void stop() {
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            flushJob = null;
+        }
+        pendingUpdates.clear();
+    }
+
+    /**
+     * Buffers an item update, replacing a buffered update of the same item
+     *
+     * @param itemName the name of the item
+     * @param itemState updated item state
+     */
+    public synchronized void update(String itemName, String itemState) {
+        if (pendingUpdates.put(itemName, itemState) != null) {
+            coalescedUpdates++;
+        }
+    }
+
+    /**
+     * Sends the buffered updates as far as the rate limit allows
+     */
+    public void flush() {
+        flush(System.currentTimeMillis());
+    }
+
+    /**
+     * Sends the buffered updates as far as the rate limit allows at the given time
+     *
+     * @param now the current time in ms
+     */
+    synchronized void flush(long now) {
+        if (maxMessagesPerSecond > 0) {
+            tokens = Math.min(bucketSize, tokens + (now - lastRefill) * maxMessagesPerSecond / 1000);
+        }
+        lastRefill = now;
+        if (!pendingUpdates.isEmpty()) {
+            if (!cloudClient.isConnected()) {
+                logger.debug("No connection, {} item updates are not sent", pendingUpdates.size());
+                pendingUpdates.clear();
+            } else {
+                Iterator<Map.Entry<String, String>> iterator = pendingUpdates.entrySet().iterator();
+                while (iterator.hasNext() && (maxMessagesPerSecond <= 0 || tokens >= 1)) {
+                    Map.Entry<String, String> update = iterator.next();
+                    iterator.remove();
+                    int bytes = cloudClient.sendItemUpdate(update.getKey(), update.getValue());
+                    tokens--;
+                    sentMessages++;
+                    sentBytes += bytes;
+                    statisticsMessages++;
+                    statisticsBytes += bytes;
+                }
+                if (!pendingUpdates.isEmpty()) {
+                    logger.debug("Item update rate limit reached, {} updates are delayed", pendingUpdates.size());
+                }
+            }
+        }
+        if (now - statisticsStart >= STATISTICS_INTERVAL) {
+            long seconds = (now - statisticsStart) / 1000;
+            logger.debug("Item update uplink: {} messages/s, {} bytes/s, {} updates coalesced in total",
+                    statisticsMessages / seconds, statisticsBytes / seconds, coalescedUpdates);
+            statisticsStart = now;
+            statisticsMessages = 0;
+            statisticsBytes = 0;
+        }
+    }
+
+    /**
+     * Returns the time in ms at which this buffer was created
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Returns the number of item update messages sent to the openHAB Cloud
+     */
+    public synchronized long getSentMessages() {
+        return sentMessages;
+    }
+
+    /**
+     * Returns the number of bytes of the item update messages sent to the openHAB Cloud
+     */
+    public synchronized long getSentBytes() {
+        return sentBytes;
+    }
+
+    /**
+     * Returns the number of item updates which were replaced by a newer update before being sent
+     */
+    public synchronized long getCoalescedUpdates() {
+        return coalescedUpdates;
+    }
+}
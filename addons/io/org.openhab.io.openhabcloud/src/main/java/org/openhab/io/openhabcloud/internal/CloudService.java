@@ -24,6 +24,7 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.RandomStringUtils;
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.smarthome.config.core.ConfigConstants;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.events.Event;
 import org.eclipse.smarthome.core.events.EventFilter;
 import org.eclipse.smarthome.core.events.EventPublisher;
@@ -60,13 +61,19 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     private static final String CFG_EXPOSE = "expose";
     private static final String CFG_BASE_URL = "baseURL";
     private static final String CFG_MODE = "mode";
+    private static final String CFG_ITEM_UPDATE_INTERVAL = "itemUpdateInterval";
+    private static final String CFG_ITEM_UPDATE_RATE = "itemUpdateRate";
     private static final String SECRET_FILE_NAME = "openhabcloud" + File.separator + "secret";
     private static final String DEFAULT_URL = "https://myopenhab.org/";
+    private static final long DEFAULT_ITEM_UPDATE_INTERVAL = 1000;
+    private static final double DEFAULT_ITEM_UPDATE_RATE = 10;
+    private static final String THREADPOOL_OPENHABCLOUD = "openhabcloud";
 
     private Logger logger = LoggerFactory.getLogger(CloudService.class);
 
     public static String clientVersion = null;
     private CloudClient cloudClient;
+    private CloudItemUpdateBuffer itemUpdateBuffer;
     private String cloudBaseUrl = null;
     protected ItemRegistry itemRegistry = null;
     protected EventPublisher eventPublisher = null;
@@ -149,6 +156,9 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
 
     protected void deactivate() {
         logger.debug("openHAB Cloud connector deactivated");
+        if (itemUpdateBuffer != null) {
+            itemUpdateBuffer.stop();
+        }
         cloudClient.shutdown();
     }
 
@@ -184,8 +194,30 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
             }
         }
 
+        long itemUpdateInterval = DEFAULT_ITEM_UPDATE_INTERVAL;
+        if (config.get(CFG_ITEM_UPDATE_INTERVAL) != null) {
+            try {
+                itemUpdateInterval = Long.parseLong(config.get(CFG_ITEM_UPDATE_INTERVAL).toString());
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid item update interval '{}', using {} ms", config.get(CFG_ITEM_UPDATE_INTERVAL),
+                        DEFAULT_ITEM_UPDATE_INTERVAL);
+            }
+        }
+        double itemUpdateRate = DEFAULT_ITEM_UPDATE_RATE;
+        if (config.get(CFG_ITEM_UPDATE_RATE) != null) {
+            try {
+                itemUpdateRate = Double.parseDouble(config.get(CFG_ITEM_UPDATE_RATE).toString());
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid item update rate '{}', using {} messages per second",
+                        config.get(CFG_ITEM_UPDATE_RATE), DEFAULT_ITEM_UPDATE_RATE);
+            }
+        }
+
         logger.debug("UUID = {}, secret = {}", InstanceUUID.get(), getSecret());
 
+        if (itemUpdateBuffer != null) {
+            itemUpdateBuffer.stop();
+        }
         if (cloudClient != null) {
             cloudClient.shutdown();
         }
@@ -196,6 +228,8 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
         cloudClient.setOpenHABVersion(OpenHAB.getVersion());
         cloudClient.connect();
         cloudClient.setListener(this);
+        itemUpdateBuffer = new CloudItemUpdateBuffer(cloudClient, Math.max(100, itemUpdateInterval), itemUpdateRate);
+        itemUpdateBuffer.start(ThreadPoolManager.getScheduledPool(THREADPOOL_OPENHABCLOUD));
         NotificationAction.cloudService = this;
     }
 
@@ -304,6 +338,24 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
         }
     }
 
+    /**
+     * Returns the client of the current openHAB Cloud connection
+     *
+     * @return the client or null if the connector has not been started
+     */
+    public CloudClient getCloudClient() {
+        return cloudClient;
+    }
+
+    /**
+     * Returns the buffer of the item updates sent to the openHAB Cloud
+     *
+     * @return the buffer or null if the connector has not been started
+     */
+    public CloudItemUpdateBuffer getItemUpdateBuffer() {
+        return itemUpdateBuffer;
+    }
+
     public void setItemRegistry(ItemRegistry itemRegistry) {
         this.itemRegistry = itemRegistry;
     }
@@ -334,7 +386,7 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     public void receive(Event event) {
         ItemStateEvent ise = (ItemStateEvent) event;
         if (exposedItems != null && exposedItems.contains(ise.getItemName())) {
-            cloudClient.sendItemUpdate(ise.getItemName(), ise.getItemState().toString());
+            itemUpdateBuffer.update(ise.getItemName(), ise.getItemState().toString());
         }
     }
 
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.socket;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Frames bytes delivered in several reads the way {@link SocketChannelSession} does: the framer continues the search
+ * where the previous read stopped and the remaining bytes stay at the start of the buffer.
+ *
+ * @author agent - Initial contribution
+ */
+class FramerTestUtil {
+    private final ResponseFramer framer;
+    private final List<String> responses = new ArrayList<>();
+    private byte[] buffer = new byte[0];
+    private int scanPosition;
+
+    FramerTestUtil(ResponseFramer framer) {
+        this.framer = framer;
+    }
+
+    /**
+     * Adds the bytes of a read and returns all responses framed so far
+     */
+    List<String> read(byte[] bytes) {
+        final int end = buffer.length + bytes.length;
+        buffer = Arrays.copyOf(buffer, end);
+        System.arraycopy(bytes, 0, buffer, end - bytes.length, bytes.length);
+
+        int start = 0;
+        int from = scanPosition;
+        int responseEnd;
+        while (start < end && (responseEnd = framer.findEnd(buffer, start, from, end)) >= 0) {
+            responses.add(framer.decode(buffer, start, responseEnd));
+            start = responseEnd;
+            from = responseEnd;
+        }
+
+        buffer = Arrays.copyOfRange(buffer, start, end);
+        scanPosition = buffer.length;
+        return responses;
+    }
+
+    List<String> read(String... reads) {
+        for (String read : reads) {
+            read(read.getBytes(StandardCharsets.ISO_8859_1));
+        }
+        return responses;
+    }
+
+    /**
+     * Returns the number of bytes that are not part of a response yet
+     */
+    int getRemaining() {
+        return buffer.length;
+    }
+}
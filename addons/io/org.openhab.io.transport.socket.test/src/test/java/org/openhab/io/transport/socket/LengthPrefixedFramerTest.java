@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.socket;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+/**
+ * Tests the framing of length prefixed messages by {@link LengthPrefixedFramer}, with a plain length prefix and with
+ * the 16 byte header of eISCP.
+ *
+ * @author agent - Initial contribution
+ */
+public class LengthPrefixedFramerTest {
+    private static final byte[] EISCP_HEADER = { 'I', 'S', 'C', 'P', 0, 0, 0, 0x10, 0, 0, 0, 0, 1, 0, 0, 0 };
+
+    @Test
+    public void testEncodePrefixesLength() {
+        assertArrayEquals(new byte[] { 3, 'a', 'b', 'c' }, new LengthPrefixedFramer(1).encode("abc"));
+        assertArrayEquals(new byte[] { 0, 0, 1, 2, 'x' }, trim(new LengthPrefixedFramer(4).encode(repeat('x', 258))));
+        assertArrayEquals(new byte[] { 0, 0 }, new LengthPrefixedFramer(2).encode(""));
+    }
+
+    @Test
+    public void testEncodeAndFrameRoundTrip() {
+        LengthPrefixedFramer framer = new LengthPrefixedFramer(2);
+        String longMessage = repeat('y', 300);
+
+        FramerTestUtil util = new FramerTestUtil(framer);
+        util.read(framer.encode("one"));
+        util.read(framer.encode(""));
+        util.read(framer.encode(longMessage));
+
+        assertEquals(Arrays.asList("one", "", longMessage), util.read());
+        assertEquals(0, util.getRemaining());
+    }
+
+    @Test
+    public void testMessageSplitOverReads() {
+        LengthPrefixedFramer framer = new LengthPrefixedFramer(2);
+        byte[] bytes = framer.encode("hello");
+        FramerTestUtil util = new FramerTestUtil(framer);
+
+        // the prefix itself is split
+        assertEquals(Collections.emptyList(), util.read(Arrays.copyOfRange(bytes, 0, 1)));
+        assertEquals(Collections.emptyList(), util.read(Arrays.copyOfRange(bytes, 1, 4)));
+        assertEquals(Arrays.asList("hello"), util.read(Arrays.copyOfRange(bytes, 4, bytes.length)));
+    }
+
+    @Test
+    public void testLengthIsUnsigned() {
+        LengthPrefixedFramer framer = new LengthPrefixedFramer(1);
+        String message = repeat('z', 200);
+        byte[] bytes = framer.encode(message);
+
+        assertEquals((byte) 200, bytes[0]);
+        assertEquals(Arrays.asList(message), new FramerTestUtil(framer).read(bytes));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCommandTooLongForPrefixIsRejected() {
+        new LengthPrefixedFramer(1).encode(repeat('a', 256));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPrefixLengthIsChecked() {
+        new LengthPrefixedFramer(5);
+    }
+
+    @Test
+    public void testEncodeFillsLengthIntoHeader() {
+        byte[] bytes = new LengthPrefixedFramer(EISCP_HEADER, 8, 4).encode("!1PWRQSTN\r");
+
+        assertEquals(16 + 10, bytes.length);
+        assertArrayEquals(Arrays.copyOf(EISCP_HEADER, 8), Arrays.copyOf(bytes, 8));
+        assertArrayEquals(new byte[] { 0, 0, 0, 10, 1, 0, 0, 0 }, Arrays.copyOfRange(bytes, 8, 16));
+        assertEquals("!1PWRQSTN\r", new String(bytes, 16, 10, StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    public void testHeaderSplitOverReads() {
+        LengthPrefixedFramer framer = new LengthPrefixedFramer(EISCP_HEADER, 8, 4);
+        byte[] bytes = framer.encode("!1PWR01\u001a\r\n");
+        FramerTestUtil util = new FramerTestUtil(framer);
+
+        assertEquals(Collections.emptyList(), util.read(Arrays.copyOfRange(bytes, 0, 3)));
+        assertEquals(Collections.emptyList(), util.read(Arrays.copyOfRange(bytes, 3, 12)));
+        assertEquals(Collections.emptyList(), util.read(Arrays.copyOfRange(bytes, 12, 20)));
+        assertEquals(Arrays.asList("!1PWR01\u001a\r\n"), util.read(Arrays.copyOfRange(bytes, 20, bytes.length)));
+        assertEquals(0, util.getRemaining());
+    }
+
+    @Test
+    public void testGarbageBeforeMagicIsSkipped() {
+        LengthPrefixedFramer framer = new LengthPrefixedFramer(EISCP_HEADER, 8, 4);
+        FramerTestUtil util = new FramerTestUtil(framer);
+
+        util.read("xxIS".getBytes(StandardCharsets.ISO_8859_1));
+        util.read(framer.encode("!1MVL20\u001a"));
+
+        // "IS" may be the start of the magic until the next read shows it isn't
+        assertEquals(Arrays.asList("xx", "IS", "!1MVL20\u001a"), util.read());
+        assertEquals(0, util.getRemaining());
+    }
+
+    @Test
+    public void testPartialMagicIsKept() {
+        FramerTestUtil util = new FramerTestUtil(new LengthPrefixedFramer(EISCP_HEADER, 8, 4));
+
+        assertEquals(Arrays.asList("junk"), util.read("junkISC"));
+        assertEquals(3, util.getRemaining());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLengthOutsideHeaderIsRejected() {
+        new LengthPrefixedFramer(EISCP_HEADER, 14, 4);
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    private static byte[] trim(byte[] bytes) {
+        return Arrays.copyOf(bytes, 5);
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.socket;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+/**
+ * Tests the framing of lines and prompts by {@link LineFramer}.
+ *
+ * @author agent - Initial contribution
+ */
+public class LineFramerTest {
+    private final LineFramer framer = new LineFramer(LineFramer.CRLF, LineFramer.CRLF, "login: ", "password: ");
+
+    @Test
+    public void testLinesInOneRead() {
+        assertEquals(Arrays.asList("first", "", "second"),
+                new FramerTestUtil(framer).read("first\r\n\r\nsecond\r\n"));
+    }
+
+    @Test
+    public void testLineSplitOverReads() {
+        FramerTestUtil util = new FramerTestUtil(framer);
+
+        assertEquals(Collections.emptyList(), util.read("N C[1].Z[", "1].volume"));
+        assertEquals(Arrays.asList("N C[1].Z[1].volume=\"10\""), util.read("=\"10\"\r\nS C[1]"));
+        assertEquals(6, util.getRemaining());
+    }
+
+    @Test
+    public void testDelimiterSplitOverReads() {
+        FramerTestUtil util = new FramerTestUtil(framer);
+
+        assertEquals(Collections.emptyList(), util.read("line\r"));
+        assertEquals(Arrays.asList("line"), util.read("\n"));
+        assertEquals(0, util.getRemaining());
+    }
+
+    @Test
+    public void testBareLineFeedIsNotADelimiter() {
+        assertEquals(Arrays.asList("one\ntwo"), new FramerTestUtil(framer).read("one\ntwo\r\n"));
+    }
+
+    @Test
+    public void testPrompts() {
+        FramerTestUtil util = new FramerTestUtil(framer);
+
+        assertEquals(Arrays.asList("Welcome", "login"), util.read("Welcome\r\nlogin: "));
+        assertEquals(Arrays.asList("Welcome", "login", "password"), util.read("pass", "word: "));
+        assertEquals(0, util.getRemaining());
+    }
+
+    @Test
+    public void testCustomDelimiters() {
+        LineFramer squeezeFramer = new LineFramer("\n", "\n");
+
+        assertEquals(Arrays.asList("players 0", "listen 1"),
+                new FramerTestUtil(squeezeFramer).read("players 0\nlis", "ten 1\n"));
+        assertArrayEquals("listen 1\n".getBytes(StandardCharsets.ISO_8859_1), squeezeFramer.encode("listen 1"));
+    }
+
+    @Test
+    public void testEncodeAppendsCommandDelimiter() {
+        assertArrayEquals("?OUTPUT,1\r\n".getBytes(StandardCharsets.ISO_8859_1), framer.encode("?OUTPUT,1"));
+        assertArrayEquals("PWR01".getBytes(StandardCharsets.ISO_8859_1), new LineFramer("\r", "").encode("PWR01"));
+    }
+
+    @Test
+    public void testNonAsciiBytesAreKept() {
+        byte[] bytes = { 'a', (byte) 0xe9, (byte) 0xff, '\r', '\n' };
+        assertEquals(Arrays.asList("a\u00e9\u00ff"), new FramerTestUtil(framer).read(bytes));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyDelimiterIsRejected() {
+        new LineFramer("", LineFramer.CRLF);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyPromptIsRejected() {
+        new LineFramer(LineFramer.CRLF, LineFramer.CRLF, "");
+    }
+}
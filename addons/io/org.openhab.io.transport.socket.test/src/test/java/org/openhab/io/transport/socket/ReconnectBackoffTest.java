@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.socket;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Tests the delays of {@link ReconnectBackoff}.
+ *
+ * @author agent - Initial contribution
+ */
+public class ReconnectBackoffTest {
+
+    @Test
+    public void testDelayDoublesUpToMaximum() {
+        ReconnectBackoff backoff = new ReconnectBackoff(10, 300);
+
+        long[] expected = { 10, 20, 40, 80, 160, 300, 300, 300 };
+        for (long delay : expected) {
+            assertEquals(delay, backoff.nextDelay());
+        }
+    }
+
+    @Test
+    public void testResetStartsOver() {
+        ReconnectBackoff backoff = new ReconnectBackoff(5, 60);
+        backoff.nextDelay();
+        backoff.nextDelay();
+        backoff.nextDelay();
+
+        backoff.reset();
+
+        assertEquals(5, backoff.nextDelay());
+        assertEquals(10, backoff.nextDelay());
+    }
+
+    @Test
+    public void testMaximumEqualToInitialDelayKeepsDelay() {
+        ReconnectBackoff backoff = new ReconnectBackoff(30, 30);
+
+        assertEquals(30, backoff.nextDelay());
+        assertEquals(30, backoff.nextDelay());
+    }
+
+    @Test
+    public void testDelayDoesNotOverflow() {
+        ReconnectBackoff backoff = new ReconnectBackoff(Long.MAX_VALUE / 2 + 1, Long.MAX_VALUE);
+
+        assertEquals(Long.MAX_VALUE / 2 + 1, backoff.nextDelay());
+        assertEquals(Long.MAX_VALUE, backoff.nextDelay());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroInitialDelayIsRejected() {
+        new ReconnectBackoff(0, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaximumBelowInitialDelayIsRejected() {
+        new ReconnectBackoff(10, 5);
+    }
+}
@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.socket;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests a {@link SocketChannelSession} against a local server: responses split over several reads, a response that
+ * doesn't fit in the read buffer, commands written to the server and the metrics of the session.
+ *
+ * @author agent - Initial contribution
+ */
+public class SocketChannelSessionTest {
+    private static final long TIMEOUT = 5000;
+
+    private final BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+    private ServerSocket server;
+    private Socket device;
+    private SocketChannelSession session;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new ServerSocket(0);
+        session = new SocketChannelSession("127.0.0.1", server.getLocalPort(),
+                new LineFramer(LineFramer.CRLF, LineFramer.CRLF, "login: "), "sockettest");
+        session.addListener(new SocketSessionListener() {
+            @Override
+            public void responseReceived(String response) {
+                received.add(response);
+            }
+
+            @Override
+            public void responseException(Exception e) {
+                received.add(e);
+            }
+        });
+        session.connect();
+        device = server.accept();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        session.disconnect();
+        device.close();
+        server.close();
+    }
+
+    @Test
+    public void testResponsesSplitOverReads() throws Exception {
+        write("login");
+        Thread.sleep(100);
+        write(": N C[1].Z[1]");
+        Thread.sleep(100);
+        write(".volume=\"10\"\r");
+        Thread.sleep(100);
+        write("\nE Invalid\r\n");
+
+        assertEquals("login", next());
+        assertEquals("N C[1].Z[1].volume=\"10\"", next());
+        assertEquals("E Invalid", next());
+        assertEquals(3, session.getMetrics().getResponses());
+        assertTrue(session.getMetrics().getLastResponseTime() > 0);
+    }
+
+    @Test
+    public void testResponseLargerThanBufferIsDiscarded() throws Exception {
+        byte[] junk = new byte[70 * 1024];
+        Arrays.fill(junk, (byte) 'x');
+        device.getOutputStream().write(junk);
+        write("\r\nok\r\n");
+
+        // the first 64k are discarded, the rest of the line is still framed
+        Object tail = next();
+        assertEquals(70 * 1024 - 64 * 1024, ((String) tail).length());
+        assertEquals("ok", next());
+        assertEquals(64 * 1024, session.getMetrics().getBytesDiscarded());
+        assertEquals(70 * 1024 + 6, session.getMetrics().getBytesRead());
+    }
+
+    @Test
+    public void testCommandsAreWritten() throws Exception {
+        session.sendCommand("?OUTPUT,1");
+        session.sendCommand("#OUTPUT,1,1,100");
+
+        byte[] expected = "?OUTPUT,1\r\n#OUTPUT,1,1,100\r\n".getBytes(StandardCharsets.ISO_8859_1);
+        byte[] actual = new byte[expected.length];
+        InputStream in = device.getInputStream();
+        device.setSoTimeout((int) TIMEOUT);
+        for (int read = 0; read < actual.length;) {
+            read += in.read(actual, read, actual.length - read);
+        }
+
+        assertArrayEquals(expected, actual);
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (session.getMetrics().getCommands() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, session.getMetrics().getCommands());
+        assertEquals(expected.length, session.getMetrics().getBytesWritten());
+
+        Map<String, String> properties = session.getMetrics().toProperties();
+        assertEquals("1", properties.get(SocketSessionMetrics.PROPERTY_CONNECTS));
+        assertEquals("2", properties.get(SocketSessionMetrics.PROPERTY_COMMANDS));
+        assertEquals(String.valueOf(expected.length), properties.get(SocketSessionMetrics.PROPERTY_BYTES_WRITTEN));
+    }
+
+    @Test
+    public void testClosedConnectionIsReported() throws Exception {
+        device.close();
+
+        assertTrue(next() instanceof IOException);
+        assertEquals(1, session.getMetrics().getConnects());
+        assertEquals(1, session.getMetrics().getDisconnects());
+    }
+
+    @Test
+    public void testConnectsFromLocalAddress() throws Exception {
+        SocketChannelSession bound = new SocketChannelSession("127.0.0.1", server.getLocalPort(),
+                new LineFramer(LineFramer.CRLF, LineFramer.CRLF), "sockettest");
+        bound.setLocalAddress(InetAddress.getByName("127.0.0.1"));
+        bound.setConnectTimeout(1000);
+        bound.connect();
+        try (Socket accepted = server.accept()) {
+            assertEquals(InetAddress.getByName("127.0.0.1"), accepted.getInetAddress());
+            assertTrue(bound.isConnected());
+        } finally {
+            bound.disconnect();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeConnectTimeoutIsRejected() {
+        session.setConnectTimeout(-1);
+    }
+
+    private void write(String data) throws IOException {
+        OutputStream out = device.getOutputStream();
+        out.write(data.getBytes(StandardCharsets.ISO_8859_1));
+        out.flush();
+    }
+
+    private Object next() throws InterruptedException {
+        Object response = received.poll(TIMEOUT, TimeUnit.MILLISECONDS);
+        assertNotNull("no response received", response);
+        return response;
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.socket;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link ResponseFramer} for protocols that prefix each message with a header holding its length. The length is an
+ * unsigned, big endian number of 1 to 4 bytes that counts the bytes following the header. The header is not part of
+ * the response.
+ * <p>
+ * The header is either just the length or a fixed template (like the 16 byte header of Onkyo's eISCP) with the length
+ * at a given offset. The bytes of the template in front of the length are the magic of the protocol: bytes that don't
+ * start with the magic are returned as a response of their own, up to the next possible start of the magic, so the
+ * framer gets back in step after garbage. The bytes of the template after the length are sent but not checked.
+ * Responses longer than the maximum read buffer of the session are discarded by the session.
+ *
+ * @author agent - Initial contribution
+ */
+public class LengthPrefixedFramer implements ResponseFramer {
+    /**
+     * The template of the header sent in front of each command
+     */
+    private final byte[] _header;
+
+    /**
+     * The offset of the length in the {@link #_header}, which is also the length of the magic
+     */
+    private final int _lengthOffset;
+
+    /**
+     * The number of bytes of the length
+     */
+    private final int _lengthSize;
+
+    /**
+     * Creates the framer for a header that is just the length
+     *
+     * @param prefixLength the number of bytes of the length prefix, between 1 and 4
+     */
+    public LengthPrefixedFramer(int prefixLength) {
+        this(new byte[Math.max(prefixLength, 0)], 0, prefixLength);
+    }
+
+    /**
+     * Creates the framer for a fixed header with the length at the given offset
+     *
+     * @param header the non-null template of the header, the bytes of the length are ignored
+     * @param lengthOffset the offset of the length in the header
+     * @param lengthSize the number of bytes of the length, between 1 and 4
+     */
+    public LengthPrefixedFramer(byte[] header, int lengthOffset, int lengthSize) {
+        if (header == null) {
+            throw new IllegalArgumentException("header cannot be null");
+        }
+        if (lengthSize < 1 || lengthSize > 4) {
+            throw new IllegalArgumentException("lengthSize must be between 1 and 4");
+        }
+        if (lengthOffset < 0 || lengthOffset + lengthSize > header.length) {
+            throw new IllegalArgumentException("the length must be within the header");
+        }
+        _header = header.clone();
+        _lengthOffset = lengthOffset;
+        _lengthSize = lengthSize;
+    }
+
+    @Override
+    public int findEnd(byte[] buffer, int start, int from, int end) {
+        if (!startsWithMagic(buffer, start, end)) {
+            for (int i = start + 1; i < end; i++) {
+                if (startsWithMagic(buffer, i, end)) {
+                    return i;
+                }
+            }
+            return end;
+        }
+
+        if (end - start < _header.length) {
+            return -1;
+        }
+
+        long length = 0;
+        for (int i = 0; i < _lengthSize; i++) {
+            length = (length << 8) | (buffer[start + _lengthOffset + i] & 0xff);
+        }
+
+        final long responseEnd = start + _header.length + length;
+        return responseEnd <= end ? (int) responseEnd : -1;
+    }
+
+    @Override
+    public String decode(byte[] buffer, int start, int end) {
+        if (end - start < _header.length || !startsWithMagic(buffer, start, end)) {
+            // garbage skipped to get back in step
+            return new String(buffer, start, end - start, StandardCharsets.ISO_8859_1);
+        }
+        return new String(buffer, start + _header.length, end - start - _header.length, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public byte[] encode(String command) {
+        final byte[] payload = command.getBytes(StandardCharsets.ISO_8859_1);
+        if (_lengthSize < 4 && payload.length >= 1L << (8 * _lengthSize)) {
+            throw new IllegalArgumentException("command is too long for a " + _lengthSize + " byte length");
+        }
+
+        final byte[] bytes = new byte[_header.length + payload.length];
+        System.arraycopy(_header, 0, bytes, 0, _header.length);
+        for (int i = 0; i < _lengthSize; i++) {
+            bytes[_lengthOffset + i] = (byte) (payload.length >>> (8 * (_lengthSize - 1 - i)));
+        }
+        System.arraycopy(payload, 0, bytes, _header.length, payload.length);
+        return bytes;
+    }
+
+    /**
+     * Whether the bytes from start start with the magic of the header. Bytes missing at the end are assumed to match.
+     *
+     * @param buffer the non-null bytes
+     * @param start the start of the bytes to check
+     * @param end the end of the bytes read so far
+     * @return true if the available bytes match the magic
+     */
+    private boolean startsWithMagic(byte[] buffer, int start, int end) {
+        final int length = Math.min(_lengthOffset, end - start);
+        for (int i = 0; i < length; i++) {
+            if (buffer[start + i] != _header[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
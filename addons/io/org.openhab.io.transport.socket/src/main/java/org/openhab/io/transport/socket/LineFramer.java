@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.socket;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link ResponseFramer} for the line based (telnet-like) protocols. A response is anything that ends with the
+ * delimiter (like a carriage-return/newline combo). Additionally, prompts (like "Login: ") that are not followed by a
+ * delimiter can be treated as responses for purposes of logging in. The delimiter and the trailing colon and spaces of
+ * a prompt are not part of the response.
+ *
+ * @author agent - Initial contribution
+ */
+public class LineFramer implements ResponseFramer {
+    /**
+     * The carriage-return/newline combo used by most devices
+     */
+    public static final String CRLF = "\r\n";
+
+    /**
+     * The delimiter that ends a response
+     */
+    private final byte[] _delimiter;
+
+    /**
+     * The delimiter appended to each command
+     */
+    private final String _commandDelimiter;
+
+    /**
+     * The prompts that are treated as responses
+     */
+    private final byte[][] _prompts;
+
+    /**
+     * Creates the framer
+     *
+     * @param delimiter a non-null, non-empty delimiter that ends a response
+     * @param commandDelimiter a non-null, possibly empty delimiter appended to each command
+     * @param prompts the non-null, non-empty prompts that are treated as responses
+     */
+    public LineFramer(String delimiter, String commandDelimiter, String... prompts) {
+        if (delimiter == null || delimiter.isEmpty()) {
+            throw new IllegalArgumentException("delimiter cannot be null or empty");
+        }
+        if (commandDelimiter == null) {
+            throw new IllegalArgumentException("commandDelimiter cannot be null");
+        }
+
+        _delimiter = delimiter.getBytes(StandardCharsets.ISO_8859_1);
+        _commandDelimiter = commandDelimiter;
+        _prompts = new byte[prompts.length][];
+        for (int i = 0; i < prompts.length; i++) {
+            if (prompts[i] == null || prompts[i].isEmpty()) {
+                throw new IllegalArgumentException("prompts cannot be null or empty");
+            }
+            _prompts[i] = prompts[i].getBytes(StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    @Override
+    public int findEnd(byte[] buffer, int start, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (endsWith(buffer, start, i + 1, _delimiter)) {
+                return i + 1;
+            }
+            for (byte[] prompt : _prompts) {
+                if (endsWith(buffer, start, i + 1, prompt)) {
+                    return i + 1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String decode(byte[] buffer, int start, int end) {
+        int length = end - start;
+        if (endsWith(buffer, start, end, _delimiter)) {
+            length -= _delimiter.length;
+        } else {
+            while (length > 0 && (buffer[start + length - 1] == ' ' || buffer[start + length - 1] == ':')) {
+                length--;
+            }
+        }
+        return new String(buffer, start, length, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public byte[] encode(String command) {
+        return (command + _commandDelimiter).getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Whether the bytes from start (inclusive) to end (exclusive) end with the suffix. The bytes are compared from the
+     * end, so the common case of a mismatching last byte is decided by the first comparison.
+     *
+     * @param buffer the non-null bytes
+     * @param start the start of the bytes to check
+     * @param end the end of the bytes to check
+     * @param suffix the non-null suffix to look for
+     * @return true if the bytes end with the suffix
+     */
+    private static boolean endsWith(byte[] buffer, int start, int end, byte[] suffix) {
+        if (end - start < suffix.length) {
+            return false;
+        }
+        for (int i = 1; i <= suffix.length; i++) {
+            if (buffer[end - i] != suffix[suffix.length - i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.socket;
+
+/**
+ * Computes the delays between reconnection attempts. The delay starts at the initial delay and doubles with every
+ * failed attempt until it reaches the maximum delay. It starts over at the initial delay once {@link #reset()} is
+ * called after a successful connection. The unit of the delays is up to the caller.
+ *
+ * @author agent - Initial contribution
+ */
+public class ReconnectBackoff {
+    /**
+     * The delay before the first attempt
+     */
+    private final long _initialDelay;
+
+    /**
+     * The maximum delay between two attempts
+     */
+    private final long _maxDelay;
+
+    /**
+     * The delay before the next attempt
+     */
+    private long _nextDelay;
+
+    /**
+     * Creates the backoff
+     *
+     * @param initialDelay the delay before the first attempt, at least 1
+     * @param maxDelay the maximum delay between two attempts, at least the initial delay
+     */
+    public ReconnectBackoff(long initialDelay, long maxDelay) {
+        if (initialDelay < 1) {
+            throw new IllegalArgumentException("initialDelay must be at least 1");
+        }
+        if (maxDelay < initialDelay) {
+            throw new IllegalArgumentException("maxDelay cannot be less than initialDelay");
+        }
+        _initialDelay = initialDelay;
+        _maxDelay = maxDelay;
+        _nextDelay = initialDelay;
+    }
+
+    /**
+     * Returns the delay before the next attempt and doubles the delay for the attempt after that
+     *
+     * @return the delay before the next attempt
+     */
+    public synchronized long nextDelay() {
+        final long delay = _nextDelay;
+        _nextDelay = _nextDelay > _maxDelay / 2 ? _maxDelay : _nextDelay * 2;
+        return delay;
+    }
+
+    /**
+     * Starts over with the initial delay. Should be called once a connection has been established.
+     */
+    public synchronized void reset() {
+        _nextDelay = _initialDelay;
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.socket;
+
+/**
+ * Defines how a {@link SocketChannelSession} splits the bytes read from the socket into responses and how commands are
+ * turned into bytes. The framer works in place on the read buffer of the session, so only complete responses are
+ * converted to strings. Implementations must be stateless since one framer may be shared by many sessions.
+ *
+ * @author agent - Initial contribution
+ */
+public interface ResponseFramer {
+    /**
+     * Searches the bytes from start (inclusive) to end (exclusive) for the end of the next response. The bytes before
+     * from have already been searched, without finding the end of the response, by a previous call.
+     *
+     * @param buffer the non-null bytes read from the socket
+     * @param start the start of the next response
+     * @param from the position to continue the search at (between start and end)
+     * @param end the end of the bytes read so far
+     * @return the position after the last byte (including any delimiter) of the response or -1 if the response is not
+     *         complete yet
+     */
+    int findEnd(byte[] buffer, int start, int from, int end);
+
+    /**
+     * Converts the response found by {@link #findEnd(byte[], int, int, int)} to a string
+     *
+     * @param buffer the non-null bytes read from the socket
+     * @param start the start of the response
+     * @param end the end of the response, as returned by {@link #findEnd(byte[], int, int, int)}
+     * @return the non-null response without any delimiter
+     */
+    String decode(byte[] buffer, int start, int end);
+
+    /**
+     * Converts the command to the bytes to send, including any delimiter
+     *
+     * @param command a non-null command
+     * @return the non-null bytes to send
+     */
+    byte[] encode(String command);
+}
@@ -0,0 +1,25 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.socket;
+
+/**
+ * Determines the route of a response, so a {@link SocketChannelSession} only has to call the listeners added for that
+ * route (see {@link SocketSession#addListener(SocketSessionListener, String)}) instead of all listeners.
+ *
+ * @author agent - Initial contribution
+ */
+public interface ResponseRouter {
+    /**
+     * Returns the route of the response
+     *
+     * @param response a non-null response
+     * @return the route of the response or null if the response should go to all listeners
+     */
+    String getRoute(String response);
+}
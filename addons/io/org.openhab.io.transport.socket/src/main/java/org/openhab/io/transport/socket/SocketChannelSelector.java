@@ -0,0 +1,229 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.socket;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The single I/O thread shared by all {@link SocketChannelSession}s, whatever binding they belong to. The thread waits
+ * on one {@link Selector} for the registered {@link SocketChannel}s to have data to read or room to write and hands
+ * them to {@link SocketChannelSession#read(SocketChannel)} and {@link SocketChannelSession#write(SocketChannel)}. The
+ * thread is started with the first registered channel and ends when the last channel is unregistered.
+ *
+ * @author agent - Initial contribution
+ */
+public final class SocketChannelSelector implements Runnable {
+    private static final SocketChannelSelector INSTANCE = new SocketChannelSelector();
+
+    private final Logger logger = LoggerFactory.getLogger(SocketChannelSelector.class);
+
+    /**
+     * The channels waiting to be registered with the {@link #_selector} by the I/O thread
+     */
+    private final Map<SocketChannel, SocketChannelSession> _pending = new ConcurrentHashMap<>();
+
+    /**
+     * The channels that have commands waiting to be written
+     */
+    private final Queue<SocketChannel> _writeRequests = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The selector used by the I/O thread. Will be null if the thread is not running
+     */
+    private Selector _selector;
+
+    /**
+     * The number of registered channels (including the {@link #_pending} ones)
+     */
+    private int _registrations;
+
+    private SocketChannelSelector() {
+    }
+
+    /**
+     * Returns the selector shared by all sessions
+     *
+     * @return the non-null {@link SocketChannelSelector}
+     */
+    public static SocketChannelSelector getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the number of channels currently registered
+     *
+     * @return the number of registered channels
+     */
+    public synchronized int getRegistrations() {
+        return _registrations;
+    }
+
+    /**
+     * Registers the channel to be read by the I/O thread, starting the thread if needed
+     *
+     * @param channel a non-null, connected, non-blocking {@link SocketChannel}
+     * @param session the non-null {@link SocketChannelSession} to hand the channel to
+     * @throws IOException if the selector could not be opened
+     */
+    synchronized void register(SocketChannel channel, SocketChannelSession session) throws IOException {
+        if (_selector == null) {
+            _selector = Selector.open();
+            final Thread thread = new Thread(this, "Socket transport I/O");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        _registrations++;
+        _pending.put(channel, session);
+        _selector.wakeup();
+    }
+
+    /**
+     * Unregisters the channel, the I/O thread ends if this was the last channel
+     *
+     * @param channel a non-null {@link SocketChannel} previously registered
+     */
+    synchronized void unregister(SocketChannel channel) {
+        if (_selector == null) {
+            return;
+        }
+        if (_pending.remove(channel) == null) {
+            final SelectionKey key = channel.keyFor(_selector);
+            if (key != null) {
+                key.cancel();
+            }
+        }
+        _registrations--;
+        _selector.wakeup();
+    }
+
+    /**
+     * Asks the I/O thread to write the commands waiting to be sent on the registered channel
+     *
+     * @param channel a non-null {@link SocketChannel} previously registered
+     */
+    void requestWrite(SocketChannel channel) {
+        _writeRequests.add(channel);
+        synchronized (this) {
+            if (_selector != null) {
+                _selector.wakeup();
+            }
+        }
+    }
+
+    /**
+     * Waits for data on all registered channels until the last one has been unregistered
+     */
+    @Override
+    public void run() {
+        final Selector selector;
+        synchronized (this) {
+            selector = _selector;
+        }
+
+        while (true) {
+            try {
+                synchronized (this) {
+                    if (_registrations <= 0) {
+                        _selector = null;
+                        _registrations = 0;
+                        _writeRequests.clear();
+                        selector.close();
+                        return;
+                    }
+                    registerPending(selector);
+                }
+                addWriteInterest(selector);
+
+                selector.select();
+
+                final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key);
+                }
+            } catch (IOException e) {
+                logger.warn("Exception occurred waiting for data: {}", e.getMessage(), e);
+            } catch (RuntimeException e) {
+                logger.warn("Uncaught exception reading data: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Hands the channel of a selected key to its session
+     *
+     * @param key the non-null selected key
+     */
+    private void handle(SelectionKey key) {
+        final SocketChannel channel = (SocketChannel) key.channel();
+        final SocketChannelSession session = (SocketChannelSession) key.attachment();
+        try {
+            if (key.isValid() && key.isReadable()) {
+                session.read(channel);
+            }
+            if (key.isValid() && key.isWritable() && session.write(channel)) {
+                key.interestOps(SelectionKey.OP_READ);
+            }
+        } catch (CancelledKeyException e) {
+            logger.debug("Channel was unregistered while being handled");
+        }
+    }
+
+    /**
+     * Registers the {@link #_pending} channels with the selector
+     *
+     * @param selector the non-null selector of the I/O thread
+     */
+    private void registerPending(Selector selector) {
+        for (Iterator<Map.Entry<SocketChannel, SocketChannelSession>> it = _pending.entrySet().iterator(); it
+                .hasNext();) {
+            final Map.Entry<SocketChannel, SocketChannelSession> entry = it.next();
+            it.remove();
+            try {
+                entry.getKey().register(selector, SelectionKey.OP_READ, entry.getValue());
+            } catch (ClosedChannelException e) {
+                logger.debug("Channel was closed before it could be registered");
+            }
+        }
+    }
+
+    /**
+     * Adds the interest in writing to the channels of the {@link #_writeRequests}. Requests for channels that have
+     * been unregistered in the meantime are ignored.
+     *
+     * @param selector the non-null selector of the I/O thread
+     */
+    private void addWriteInterest(Selector selector) {
+        SocketChannel channel;
+        while ((channel = _writeRequests.poll()) != null) {
+            final SelectionKey key = channel.keyFor(selector);
+            try {
+                if (key != null && key.isValid()) {
+                    key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                }
+            } catch (CancelledKeyException e) {
+                logger.debug("Channel was unregistered before it could be written");
+            }
+        }
+    }
+}
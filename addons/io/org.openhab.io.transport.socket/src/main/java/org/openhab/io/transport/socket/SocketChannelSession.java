@@ -0,0 +1,622 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.socket;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Represents a restartable socket connection to the underlying device. Commands can be sent via
+ * {@link #sendCommand(String)} and responses will be received on any {@link SocketSessionListener}. This implementation
+ * of {@link SocketSession} communicates using a non-blocking {@link SocketChannel} connection that is read and written
+ * by the {@link SocketChannelSelector} thread shared by all sessions. Responses are framed in place in the read buffer
+ * by the {@link ResponseFramer} of the session and dispatched, in order, on the thread pool given by the binding.
+ * Commands are queued in a bounded write queue, {@link #sendCommand(String)} waits for room when the device doesn't
+ * keep up.
+ *
+ * @author Tim Roberts - Initial contribution
+ * @author agent - Moved to the socket transport, added framers, the write queue and metrics
+ */
+public class SocketChannelSession implements SocketSession {
+    private final Logger logger = LoggerFactory.getLogger(SocketChannelSession.class);
+
+    /**
+     * The initial and the maximum size of the {@link #_readBuffer}
+     */
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final int MAX_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The maximum number of commands waiting to be sent
+     */
+    private static final int WRITE_QUEUE_SIZE = 64;
+
+    /**
+     * The time to wait for room in the {@link #_writeQueue} when sending a command
+     */
+    private static final long WRITE_TIMEOUT = 5000;
+
+    /**
+     * The host/ip address to connect to
+     */
+    private final String _host;
+
+    /**
+     * The port to connect to
+     */
+    private final int _port;
+
+    /**
+     * The framer that splits the bytes read into responses and turns commands into bytes
+     */
+    private final ResponseFramer _framer;
+
+    /**
+     * The name of the thread pool the responses are dispatched on
+     */
+    private final String _threadPoolName;
+
+    /**
+     * The router of the responses to the listeners of a route. Null if all listeners receive all responses
+     */
+    private volatile ResponseRouter _router;
+
+    /**
+     * The local address the socket is bound to. Null to let the system choose
+     */
+    private volatile InetAddress _localAddress;
+
+    /**
+     * The time to wait for the connection to be established, in milliseconds. 0 to wait as long as the system does
+     */
+    private volatile int _connectTimeout;
+
+    /**
+     * The counters of this session
+     */
+    private final SocketSessionMetrics _metrics = new SocketSessionMetrics();
+
+    /**
+     * The actual socket being used. Will be null if not connected
+     */
+    private final AtomicReference<SocketChannel> _socketChannel = new AtomicReference<SocketChannel>();
+
+    /**
+     * Whether the {@link #_socketChannel} is registered with the {@link SocketChannelSelector}
+     */
+    private final AtomicBoolean _isReading = new AtomicBoolean(false);
+
+    /**
+     * The bytes read from the socket that are not yet part of a response. Only used by the I/O thread
+     */
+    private ByteBuffer _readBuffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+
+    /**
+     * The channel the {@link #_readBuffer} holds the bytes of. Only used by the I/O thread
+     */
+    private SocketChannel _readChannel;
+
+    /**
+     * The position in {@link #_readBuffer} up to which it has been searched for the end of a response
+     */
+    private int _scanPosition;
+
+    /**
+     * The commands waiting to be written to the socket
+     */
+    private final BlockingQueue<ByteBuffer> _writeQueue = new ArrayBlockingQueue<ByteBuffer>(WRITE_QUEUE_SIZE);
+
+    /**
+     * The command being written. Only used by the I/O thread
+     */
+    private ByteBuffer _writeBuffer;
+
+    /**
+     * The channel the {@link #_writeBuffer} is written to. Only used by the I/O thread
+     */
+    private SocketChannel _writeChannel;
+
+    /**
+     * The channel that still has the rest of a command to be written. Null if the I/O thread isn't in the middle of a
+     * command
+     */
+    private volatile SocketChannel _busyChannel;
+
+    /**
+     * The responses read from the socket, waiting to be dispatched
+     */
+    private final Queue<Object> _responses = new ConcurrentLinkedQueue<Object>();
+
+    /**
+     * The dispatcher of responses from {@link #_responses}
+     */
+    private final Dispatcher _dispatcher = new Dispatcher();
+
+    /**
+     * Whether the {@link #_dispatcher} is scheduled or running
+     */
+    private final AtomicBoolean _isDispatching = new AtomicBoolean(false);
+
+    /**
+     * The {@link SocketSessionListener} that the {@link #_dispatcher} will call
+     */
+    private final List<SocketSessionListener> _listeners = new CopyOnWriteArrayList<SocketSessionListener>();
+
+    /**
+     * The {@link SocketSessionListener} that were added without a route and receive all responses
+     */
+    private final List<SocketSessionListener> _unroutedListeners = new CopyOnWriteArrayList<SocketSessionListener>();
+
+    /**
+     * The {@link SocketSessionListener} that were added with a route, by route
+     */
+    private final Map<String, List<SocketSessionListener>> _routedListeners = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the socket session from the given host and port
+     *
+     * @param host a non-null, non-empty host/ip address
+     * @param port the port number between 1 and 65535
+     * @param framer the non-null {@link ResponseFramer} of the protocol
+     * @param threadPoolName the non-null, non-empty name of the thread pool to dispatch the responses on
+     */
+    public SocketChannelSession(String host, int port, ResponseFramer framer, String threadPoolName) {
+        if (host == null || host.trim().length() == 0) {
+            throw new IllegalArgumentException("Host cannot be null or empty");
+        }
+
+        if (port < 1 || port > 65535) {
+            throw new IllegalArgumentException("Port must be between 1 and 65535");
+        }
+
+        if (framer == null) {
+            throw new IllegalArgumentException("framer cannot be null");
+        }
+
+        if (threadPoolName == null || threadPoolName.trim().length() == 0) {
+            throw new IllegalArgumentException("threadPoolName cannot be null or empty");
+        }
+        _host = host;
+        _port = port;
+        _framer = framer;
+        _threadPoolName = threadPoolName;
+    }
+
+    /**
+     * Sets the {@link ResponseRouter} used to find the listeners added with a route. Without a router, all listeners
+     * receive all responses.
+     *
+     * @param router a possibly null {@link ResponseRouter}
+     */
+    public void setResponseRouter(ResponseRouter router) {
+        _router = router;
+    }
+
+    /**
+     * Sets the local address the socket is bound to when connecting, for hosts with several network interfaces
+     *
+     * @param localAddress a possibly null local address, null to let the system choose
+     */
+    public void setLocalAddress(InetAddress localAddress) {
+        _localAddress = localAddress;
+    }
+
+    /**
+     * Sets the time to wait for the connection to be established when connecting
+     *
+     * @param connectTimeout the timeout in milliseconds, 0 to wait as long as the system does
+     */
+    public void setConnectTimeout(int connectTimeout) {
+        if (connectTimeout < 0) {
+            throw new IllegalArgumentException("connectTimeout cannot be negative");
+        }
+        _connectTimeout = connectTimeout;
+    }
+
+    @Override
+    public void addListener(SocketSessionListener listener) {
+        addListener(listener, null);
+    }
+
+    @Override
+    public synchronized void addListener(SocketSessionListener listener, String route) {
+        if (listener == null) {
+            throw new IllegalArgumentException("listener cannot be null");
+        }
+        if (route == null) {
+            _unroutedListeners.add(listener);
+        } else {
+            List<SocketSessionListener> listeners = _routedListeners.get(route);
+            if (listeners == null) {
+                listeners = new CopyOnWriteArrayList<SocketSessionListener>();
+                _routedListeners.put(route, listeners);
+            }
+            listeners.add(listener);
+        }
+        _listeners.add(listener);
+        scheduleDispatch();
+    }
+
+    @Override
+    public synchronized void clearListeners() {
+        _listeners.clear();
+        _unroutedListeners.clear();
+        _routedListeners.clear();
+    }
+
+    @Override
+    public synchronized boolean removeListener(SocketSessionListener listener) {
+        _unroutedListeners.remove(listener);
+        for (List<SocketSessionListener> listeners : _routedListeners.values()) {
+            listeners.remove(listener);
+        }
+        return _listeners.remove(listener);
+    }
+
+    /**
+     * Returns the listeners for the response: the listeners of its route and the listeners without a route. Responses
+     * without a route (like errors) go to all listeners.
+     *
+     * @param response a non-null response
+     * @return a non-null, possibly empty list of listeners
+     */
+    private List<SocketSessionListener> getListeners(String response) {
+        final ResponseRouter router = _router;
+        final String route = router == null ? null : router.getRoute(response);
+        if (route == null) {
+            return _listeners;
+        }
+
+        final List<SocketSessionListener> routed = _routedListeners.get(route);
+        if (routed == null || routed.isEmpty()) {
+            return _unroutedListeners;
+        }
+        if (_unroutedListeners.isEmpty()) {
+            return routed;
+        }
+
+        final List<SocketSessionListener> listeners = new ArrayList<SocketSessionListener>(routed);
+        listeners.addAll(_unroutedListeners);
+        return listeners;
+    }
+
+    @Override
+    public void connect() throws IOException {
+        disconnect();
+
+        logger.debug("Connecting to {}:{}", _host, _port);
+        final SocketChannel channel = SocketChannel.open();
+        try {
+            if (_localAddress != null) {
+                channel.bind(new InetSocketAddress(_localAddress, 0));
+            }
+            channel.socket().connect(new InetSocketAddress(_host, _port), _connectTimeout);
+            channel.socket().setKeepAlive(true);
+            channel.configureBlocking(false);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        _responses.clear();
+        _writeQueue.clear();
+        _isReading.set(true);
+        SocketChannelSelector.getInstance().register(channel, this);
+        // only published once registered, so the selector knows the channel when the first command is queued
+        _socketChannel.set(channel);
+        _metrics.connected();
+    }
+
+    @Override
+    public void disconnect() throws IOException {
+        if (isConnected()) {
+            logger.debug("Disconnecting from {}:{} ({})", _host, _port, _metrics);
+
+            final SocketChannel channel = _socketChannel.getAndSet(null);
+            flush(channel);
+            stopReading(channel);
+            channel.close();
+
+            _responses.clear();
+            _writeQueue.clear();
+        }
+    }
+
+    @Override
+    public boolean isConnected() {
+        final SocketChannel channel = _socketChannel.get();
+        return channel != null && channel.isConnected();
+    }
+
+    @Override
+    public void sendCommand(String command) throws IOException {
+        if (command == null) {
+            throw new IllegalArgumentException("command cannot be null");
+        }
+
+        final SocketChannel channel = _socketChannel.get();
+        if (channel == null || !channel.isConnected()) {
+            throw new IOException("Cannot send message - disconnected");
+        }
+
+        logger.debug("Sending Command: '{}'", command);
+        try {
+            if (!_writeQueue.offer(ByteBuffer.wrap(_framer.encode(command)), WRITE_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                throw new IOException("Timed out sending to " + _host + ":" + _port + " - " + _writeQueue.size()
+                        + " commands are waiting to be sent");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted sending to " + _host + ":" + _port);
+        }
+        _metrics.commandQueued(_writeQueue.size());
+        SocketChannelSelector.getInstance().requestWrite(channel);
+    }
+
+    @Override
+    public SocketSessionMetrics getMetrics() {
+        return _metrics;
+    }
+
+    /**
+     * Waits until the commands queued before disconnecting (like a logout) have been written, at most
+     * {@link #WRITE_TIMEOUT}
+     *
+     * @param channel a non-null {@link SocketChannel}
+     */
+    private void flush(SocketChannel channel) {
+        final long deadline = System.currentTimeMillis() + WRITE_TIMEOUT;
+        synchronized (_writeQueue) {
+            long remaining = WRITE_TIMEOUT;
+            while (_isReading.get() && (!_writeQueue.isEmpty() || _busyChannel == channel) && remaining > 0) {
+                try {
+                    _writeQueue.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                remaining = deadline - System.currentTimeMillis();
+            }
+        }
+    }
+
+    /**
+     * Unregisters the channel from the {@link SocketChannelSelector}, if not already done
+     *
+     * @param channel a non-null {@link SocketChannel}
+     */
+    private void stopReading(SocketChannel channel) {
+        if (_isReading.getAndSet(false)) {
+            SocketChannelSelector.getInstance().unregister(channel);
+            _metrics.disconnected();
+        }
+    }
+
+    /**
+     * Called by the {@link SocketChannelSelector} thread when data is available on the channel. Reads the data and
+     * queues any complete responses (or the exception) for dispatching.
+     *
+     * @param channel the non-null {@link SocketChannel} of this session
+     */
+    void read(SocketChannel channel) {
+        if (channel != _readChannel) {
+            // first read after (re)connecting - drop anything left from the previous connection
+            _readChannel = channel;
+            _readBuffer.clear();
+            _scanPosition = 0;
+        }
+
+        try {
+            final int bytesRead = channel.read(_readBuffer);
+            if (bytesRead == -1) {
+                stopReading(channel);
+                queue(new IOException("server closed connection"));
+            } else if (bytesRead > 0) {
+                _metrics.bytesRead(bytesRead);
+                frameResponses();
+            }
+        } catch (IOException e) {
+            stopReading(channel);
+            if (channel.isOpen()) {
+                queue(e);
+            }
+        }
+    }
+
+    /**
+     * Called by the {@link SocketChannelSelector} thread when the channel can take more data. Writes the queued
+     * commands until the socket is full or no command is left.
+     *
+     * @param channel the non-null {@link SocketChannel} of this session
+     * @return true if all commands have been written, false if the socket is full
+     */
+    boolean write(SocketChannel channel) {
+        if (channel != _writeChannel) {
+            // first write after (re)connecting - drop the rest of a command from the previous connection
+            _writeChannel = channel;
+            _writeBuffer = null;
+        }
+
+        try {
+            while (true) {
+                if (_writeBuffer == null) {
+                    _writeBuffer = _writeQueue.poll();
+                    if (_writeBuffer == null) {
+                        written();
+                        return true;
+                    }
+                }
+
+                _metrics.bytesWritten(channel.write(_writeBuffer));
+                if (_writeBuffer.hasRemaining()) {
+                    _busyChannel = channel;
+                    return false;
+                }
+                _writeBuffer = null;
+                _metrics.commandWritten();
+            }
+        } catch (IOException e) {
+            _writeBuffer = null;
+            stopReading(channel);
+            written();
+            if (channel.isOpen()) {
+                queue(e);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Wakes up a {@link #flush(SocketChannel)} waiting for the commands to be written
+     */
+    private void written() {
+        _busyChannel = null;
+        synchronized (_writeQueue) {
+            _writeQueue.notifyAll();
+        }
+    }
+
+    /**
+     * Lets the {@link #_framer} search the bytes added to {@link #_readBuffer} since the last call for the end of a
+     * response and queues all complete responses. Only the complete responses are converted to strings, the remaining
+     * bytes are moved to the start of the buffer.
+     */
+    private void frameResponses() {
+        final byte[] buffer = _readBuffer.array();
+        final int end = _readBuffer.position();
+        int start = 0;
+        int from = _scanPosition;
+
+        int responseEnd;
+        while (start < end && (responseEnd = _framer.findEnd(buffer, start, from, end)) >= 0) {
+            _metrics.responseFramed();
+            queue(_framer.decode(buffer, start, responseEnd));
+            start = responseEnd;
+            from = responseEnd;
+        }
+
+        if (start > 0) {
+            System.arraycopy(buffer, start, buffer, 0, end - start);
+            _readBuffer.position(end - start);
+        }
+        _scanPosition = _readBuffer.position();
+
+        if (!_readBuffer.hasRemaining()) {
+            if (_readBuffer.capacity() >= MAX_BUFFER_SIZE) {
+                logger.warn("Discarding {} bytes from {}:{} without the end of a response", _readBuffer.position(),
+                        _host, _port);
+                _metrics.bytesDiscarded(_readBuffer.position());
+                _readBuffer.clear();
+                _scanPosition = 0;
+            } else {
+                final ByteBuffer larger = ByteBuffer.allocate(_readBuffer.capacity() * 2);
+                _readBuffer.flip();
+                larger.put(_readBuffer);
+                _readBuffer = larger;
+            }
+        }
+    }
+
+    /**
+     * Queues a response (or exception) and schedules the {@link #_dispatcher}
+     *
+     * @param response a non-null {@link String} or {@link Exception}
+     */
+    private void queue(Object response) {
+        _responses.add(response);
+        scheduleDispatch();
+    }
+
+    /**
+     * Schedules the {@link #_dispatcher} on the thread pool if there are listeners and it isn't already scheduled.
+     * Since the dispatcher is ONLY scheduled when a listener is set, responses may pile up in the queue and be
+     * dispatched when a listener is set.
+     */
+    private void scheduleDispatch() {
+        if (!_listeners.isEmpty() && !_responses.isEmpty() && _isDispatching.compareAndSet(false, true)) {
+            ThreadPoolManager.getPool(_threadPoolName).execute(_dispatcher);
+        }
+    }
+
+    /**
+     * The dispatcher runnable is responsible for reading the response queue and dispatching it to the current
+     * listeners. Only one dispatcher runs per session at a time, so the responses are dispatched in the order they were
+     * received.
+     *
+     * @author Tim Roberts - Initial contribution
+     */
+    private class Dispatcher implements Runnable {
+        /**
+         * Runs the logic to dispatch the queued responses to the current listeners
+         */
+        @Override
+        public void run() {
+            try {
+                Object response;
+                while (!_listeners.isEmpty() && (response = _responses.poll()) != null) {
+                    dispatch(response);
+                }
+            } finally {
+                _isDispatching.set(false);
+            }
+
+            // pick up the responses queued after the last poll
+            scheduleDispatch();
+        }
+
+        /**
+         * Dispatches a single response (or exception) to the listeners
+         *
+         * @param response a non-null response
+         */
+        private void dispatch(Object response) {
+            if (response instanceof String) {
+                try {
+                    logger.debug("Dispatching response: {}", response);
+                    for (SocketSessionListener listener : getListeners((String) response)) {
+                        listener.responseReceived((String) response);
+                    }
+                } catch (Exception e) {
+                    logger.warn("Exception occurred processing the response '{}': {}", response, e);
+                }
+            } else if (response instanceof Exception) {
+                logger.debug("Dispatching exception: {}", response);
+                try {
+                    for (SocketSessionListener listener : _listeners) {
+                        listener.responseException((Exception) response);
+                    }
+                } catch (Exception e) {
+                    logger.warn("Exception occurred processing the exception '{}': {}", response, e);
+                }
+            } else {
+                logger.warn("Unknown response class: {}", response);
+            }
+        }
+    }
+}
@@ -6,7 +6,7 @@
  * which accompanies this distribution, and is available at
  * http://www.eclipse.org/legal/epl-v10.html
  */
-package org.openhab.binding.atlona.internal.net;
+package org.openhab.io.transport.socket;
 
 import java.io.IOException;
 
@@ -14,8 +14,8 @@ import java.io.IOException;
  * This is a socket session interface that defines the contract for a socket session. A socket session will initiate
  * communications with the underlying device and provide message back via the {@link SocketSessionListener}
  *
- * @author Tim Roberts
- *
+ * @author Tim Roberts - Initial contribution
+ * @author agent - Moved to the socket transport
  */
 public interface SocketSession {
 
@@ -26,6 +26,16 @@ public interface SocketSession {
      */
     void addListener(SocketSessionListener listener);
 
+    /**
+     * Adds a {@link SocketSessionListener} that will only receive the responses the {@link ResponseRouter} of the
+     * session routes to the given route, the responses without a route and exceptions. A null route is the same as
+     * {@link #addListener(SocketSessionListener)}
+     *
+     * @param listener a non-null {@link SocketSessionListener} to use
+     * @param route a possibly null route of the responses to receive
+     */
+    void addListener(SocketSessionListener listener, String route);
+
     /**
      * Clears all listeners
      */
@@ -40,37 +50,42 @@ public interface SocketSession {
     boolean removeListener(SocketSessionListener listener);
 
     /**
-     * Will attempt to connect to the {@link #_host} on port {@link #_port}. If we are current connected, will
-     * {@link #disconnect()} first. Once connected, the {@link #_writer} and {@link #_reader} will be created, the
-     * {@link #_dispatcher} and {@link #_responseReader} will be started.
+     * Will attempt to connect to the host and port of the session. If we are currently connected, will
+     * {@link #disconnect()} first. Responses queued or commands waiting to be sent from a previous connection are
+     * dropped.
      *
      * @throws java.io.IOException if an exception occurs during the connection attempt
      */
     void connect() throws IOException;
 
     /**
-     * Disconnects from the {@link #_host} if we are {@link #isConnected()}. The {@link #_writer}, {@link #_reader} and
-     * {@link #_client}
-     * will be closed and set to null. The {@link #_dispatcher} and {@link #_responseReader} will be stopped, the
-     * {@link #_listeners} will be nulled and the {@link #_responses} will be cleared.
+     * Disconnects from the host if we are {@link #isConnected()}. The commands already queued are written first (for a
+     * limited time), responses not yet dispatched are dropped. The listeners are kept.
      *
      * @throws java.io.IOException if an exception occurs during the disconnect attempt
      */
     void disconnect() throws IOException;
 
     /**
-     * Returns true if we are connected ({@link #_client} is not null and is connected)
+     * Returns true if we are connected
      *
      * @return true if connected, false otherwise
      */
     boolean isConnected();
 
     /**
-     * Sends the specified command to the underlying socket
+     * Queues the specified command to be sent to the underlying socket. Waits for room if too many commands are
+     * already waiting to be sent.
      *
      * @param command a non-null, non-empty command
-     * @throws java.io.IOException an exception that occurred while sending
+     * @throws java.io.IOException if disconnected or the command could not be queued in time
      */
     void sendCommand(String command) throws IOException;
 
-}
\ No newline at end of file
+    /**
+     * Returns the metrics of this session
+     *
+     * @return the non-null {@link SocketSessionMetrics}
+     */
+    SocketSessionMetrics getMetrics();
+}
@@ -6,13 +6,14 @@
  * which accompanies this distribution, and is available at
  * http://www.eclipse.org/legal/epl-v10.html
  */
-package org.openhab.binding.russound.internal.net;
+package org.openhab.io.transport.socket;
 
 /**
  * Interface defining a listener to a {@link SocketSession} that will receive responses and/or exceptions from the
  * socket
  *
- * @author Tim Roberts
+ * @author Tim Roberts - Initial contribution
+ * @author agent - Moved to the socket transport
  */
 public interface SocketSessionListener {
     /**
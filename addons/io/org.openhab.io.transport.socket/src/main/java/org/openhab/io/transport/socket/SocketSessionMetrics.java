@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.socket;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The counters of a {@link SocketSession}. The counters are updated by the session and cover all connections made by
+ * the session, they are never reset.
+ *
+ * @author agent - Initial contribution
+ */
+public class SocketSessionMetrics {
+    /**
+     * The names of the thing properties returned by {@link #toProperties()}
+     */
+    public static final String PROPERTY_CONNECTS = "socketConnects";
+    public static final String PROPERTY_DISCONNECTS = "socketDisconnects";
+    public static final String PROPERTY_BYTES_READ = "socketBytesRead";
+    public static final String PROPERTY_BYTES_WRITTEN = "socketBytesWritten";
+    public static final String PROPERTY_BYTES_DISCARDED = "socketBytesDiscarded";
+    public static final String PROPERTY_RESPONSES = "socketResponses";
+    public static final String PROPERTY_COMMANDS = "socketCommands";
+    public static final String PROPERTY_MAX_QUEUED_COMMANDS = "socketMaxQueuedCommands";
+
+    private final AtomicLong _connects = new AtomicLong();
+    private final AtomicLong _disconnects = new AtomicLong();
+    private final AtomicLong _bytesRead = new AtomicLong();
+    private final AtomicLong _bytesWritten = new AtomicLong();
+    private final AtomicLong _bytesDiscarded = new AtomicLong();
+    private final AtomicLong _responses = new AtomicLong();
+    private final AtomicLong _commands = new AtomicLong();
+    private final AtomicLong _lastResponseTime = new AtomicLong();
+    private final AtomicInteger _maxQueuedCommands = new AtomicInteger();
+
+    /**
+     * Returns the number of successful connection attempts
+     *
+     * @return the number of connections
+     */
+    public long getConnects() {
+        return _connects.get();
+    }
+
+    /**
+     * Returns the number of connections that were closed, by the device or the session
+     *
+     * @return the number of closed connections
+     */
+    public long getDisconnects() {
+        return _disconnects.get();
+    }
+
+    /**
+     * Returns the number of bytes read from the socket
+     *
+     * @return the number of bytes read
+     */
+    public long getBytesRead() {
+        return _bytesRead.get();
+    }
+
+    /**
+     * Returns the number of bytes written to the socket
+     *
+     * @return the number of bytes written
+     */
+    public long getBytesWritten() {
+        return _bytesWritten.get();
+    }
+
+    /**
+     * Returns the number of bytes that were discarded because they didn't fit in the read buffer
+     *
+     * @return the number of bytes discarded
+     */
+    public long getBytesDiscarded() {
+        return _bytesDiscarded.get();
+    }
+
+    /**
+     * Returns the number of responses framed from the bytes read
+     *
+     * @return the number of responses
+     */
+    public long getResponses() {
+        return _responses.get();
+    }
+
+    /**
+     * Returns the number of commands completely written to the socket
+     *
+     * @return the number of commands
+     */
+    public long getCommands() {
+        return _commands.get();
+    }
+
+    /**
+     * Returns the time the last response was framed
+     *
+     * @return the time in milliseconds since the epoch, 0 if no response has been received yet
+     */
+    public long getLastResponseTime() {
+        return _lastResponseTime.get();
+    }
+
+    /**
+     * Returns the largest number of commands that were waiting to be sent at the same time
+     *
+     * @return the high water mark of the write queue
+     */
+    public int getMaxQueuedCommands() {
+        return _maxQueuedCommands.get();
+    }
+
+    /**
+     * Returns the counters as thing properties, so the bridges using the session can show them. The time of the last
+     * response is left out, as it would change the properties with every response.
+     *
+     * @return a non-null, modifiable map of the property names to the counters
+     */
+    public Map<String, String> toProperties() {
+        final Map<String, String> properties = new LinkedHashMap<>();
+        properties.put(PROPERTY_CONNECTS, String.valueOf(getConnects()));
+        properties.put(PROPERTY_DISCONNECTS, String.valueOf(getDisconnects()));
+        properties.put(PROPERTY_BYTES_READ, String.valueOf(getBytesRead()));
+        properties.put(PROPERTY_BYTES_WRITTEN, String.valueOf(getBytesWritten()));
+        properties.put(PROPERTY_BYTES_DISCARDED, String.valueOf(getBytesDiscarded()));
+        properties.put(PROPERTY_RESPONSES, String.valueOf(getResponses()));
+        properties.put(PROPERTY_COMMANDS, String.valueOf(getCommands()));
+        properties.put(PROPERTY_MAX_QUEUED_COMMANDS, String.valueOf(getMaxQueuedCommands()));
+        return properties;
+    }
+
+    void connected() {
+        _connects.incrementAndGet();
+    }
+
+    void disconnected() {
+        _disconnects.incrementAndGet();
+    }
+
+    void bytesRead(int count) {
+        _bytesRead.addAndGet(count);
+    }
+
+    void bytesWritten(int count) {
+        _bytesWritten.addAndGet(count);
+    }
+
+    void bytesDiscarded(int count) {
+        _bytesDiscarded.addAndGet(count);
+    }
+
+    void responseFramed() {
+        _responses.incrementAndGet();
+        _lastResponseTime.set(System.currentTimeMillis());
+    }
+
+    void commandWritten() {
+        _commands.incrementAndGet();
+    }
+
+    void commandQueued(int queued) {
+        int max;
+        while (queued > (max = _maxQueuedCommands.get()) && !_maxQueuedCommands.compareAndSet(max, queued)) {
+            // retry with the new maximum
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "connects=" + getConnects() + ", disconnects=" + getDisconnects() + ", bytesRead=" + getBytesRead()
+                + ", bytesWritten=" + getBytesWritten() + ", bytesDiscarded=" + getBytesDiscarded() + ", responses="
+                + getResponses() + ", commands=" + getCommands() + ", maxQueuedCommands=" + getMaxQueuedCommands();
+    }
+}